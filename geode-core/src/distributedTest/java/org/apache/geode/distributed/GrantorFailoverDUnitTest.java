@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.DistributionManager;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.test.dunit.AsyncInvocation;
@@ -43,6 +44,11 @@ public class GrantorFailoverDUnitTest {
 
   public static final String SERVICE_NAME = "serviceName";
 
+  public static final String CACHING_SERVICE_NAME = "cachingServiceName";
+
+  private static final String CACHE_LEASES_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "DLockService.cacheLeases";
+
   @Before
   public void before() {
     locators.add(clusterStartupRule.startLocatorVM(0));
@@ -59,7 +65,12 @@ public class GrantorFailoverDUnitTest {
   @After
   public void cleanup() {
     for (MemberVM locator : locators) {
-      locator.invoke(() -> DistributedLockService.destroy(SERVICE_NAME));
+      locator.invoke(() -> {
+        DistributedLockService.destroy(SERVICE_NAME);
+        if (DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME) != null) {
+          DistributedLockService.destroy(CACHING_SERVICE_NAME);
+        }
+      });
     }
   }
 
@@ -172,6 +183,64 @@ public class GrantorFailoverDUnitTest {
     lock3SuccessfulRelease.get();
   }
 
+  @Test
+  public void cachedLeaseIsNotGrantedAfterGrantorDies() {
+    final String lock1 = "lock 1";
+
+    for (MemberVM locator : locators) {
+      locator.invoke(() -> {
+        System.setProperty(CACHE_LEASES_PROPERTY, "true");
+        try {
+          DistributedLockService.create(CACHING_SERVICE_NAME,
+              ClusterStartupRule.getCache().getDistributedSystem());
+        } finally {
+          System.clearProperty(CACHE_LEASES_PROPERTY);
+        }
+      });
+    }
+
+    locators.get(0).invoke(GrantorFailoverDUnitTest::assertIsElderAndGetId);
+
+    // Grantor but not the elder
+    final MemberVM grantorVM = locators.get(1);
+    final MemberVM survivor1 = locators.get(0);
+    final MemberVM survivor2 = locators.get(2);
+    grantorVM.invoke(() -> {
+      DistributedLockService.becomeLockGrantor(CACHING_SERVICE_NAME);
+      await().untilAsserted(
+          () -> assertThat(DistributedLockService.isLockGrantor(CACHING_SERVICE_NAME)).isTrue());
+    });
+
+    // leaves the lease of lock1 cached in survivor1
+    survivor1.invoke(() -> {
+      DistributedLockService service = DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME);
+      assertThat(service.lock(lock1, 20_000, -1)).isTrue();
+      service.unlock(lock1);
+    });
+
+    clusterStartupRule.crashVM(1);
+
+    locators.remove(grantorVM);
+
+    assertThat(survivor2.invoke(
+        () -> DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME).lock(lock1, 20_000, -1)))
+            .isTrue();
+
+    // the cached lease must not be granted while the new grantor has lock1 granted to survivor2
+    assertThat(survivor1.invoke(
+        () -> DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME).lock(lock1, 2, -1)))
+            .isFalse();
+
+    survivor2
+        .invoke(() -> DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME).unlock(lock1));
+
+    survivor1.invoke(() -> {
+      DistributedLockService service = DistributedLockService.getServiceNamed(CACHING_SERVICE_NAME);
+      assertThat(service.lock(lock1, 20_000, -1)).isTrue();
+      service.unlock(lock1);
+    });
+  }
+
   private static InternalDistributedMember assertIsElderAndGetId() {
     DistributionManager distributionManager =
         ClusterStartupRule.getCache().getInternalDistributedSystem().getDistributionManager();
@@ -83,6 +83,13 @@ public class AcceptorImplIntegrationTest {
     assertThat(acceptor1.getServerInetAddress().isAnyLocalAddress()).isTrue();
   }
 
+  @Test
+  public void acceptorUsesThreadPerConnectionByDefault() throws Exception {
+    acceptor1 = createAcceptor();
+
+    assertThat(acceptor1.isSelector()).isFalse();
+  }
+
   /**
    * If a CacheServer is stopped but the cache is still open we need to inform other members
    * of the cluster that the server component no longer exists. Partitioned Region bucket
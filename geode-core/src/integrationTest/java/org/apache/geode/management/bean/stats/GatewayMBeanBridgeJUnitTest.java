@@ -23,6 +23,7 @@ import org.mockito.Mockito;
 
 import org.apache.geode.internal.NanoTimer;
 import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
+import org.apache.geode.internal.cache.wan.AbstractGatewaySenderEventProcessor;
 import org.apache.geode.internal.cache.wan.GatewaySenderStats;
 import org.apache.geode.management.internal.beans.GatewaySenderMBeanBridge;
 import org.apache.geode.test.junit.categories.JMXTest;
@@ -70,10 +71,36 @@ public class GatewayMBeanBridgeJUnitTest extends MBeanStatsTestCase {
     assertTrue(getEventsExceedingAlertThreshold() > 0);
   }
 
+  @Test
+  public void testCurrentBatchSettings() {
+    Mockito.when(sender.getBatchSize()).thenReturn(100);
+    Mockito.when(sender.getBatchTimeInterval()).thenReturn(1000);
+
+    assertEquals(100, getCurrentBatchSize());
+    assertEquals(1000, getCurrentBatchTimeInterval());
+
+    AbstractGatewaySenderEventProcessor eventProcessor =
+        Mockito.mock(AbstractGatewaySenderEventProcessor.class);
+    Mockito.when(eventProcessor.getCurrentBatchSize()).thenReturn(50);
+    Mockito.when(eventProcessor.getCurrentBatchTimeInterval()).thenReturn(20);
+    Mockito.when(sender.getEventProcessor()).thenReturn(eventProcessor);
+
+    assertEquals(50, getCurrentBatchSize());
+    assertEquals(20, getCurrentBatchTimeInterval());
+  }
+
   private int getTotalBatchesRedistributed() {
     return bridge.getTotalBatchesRedistributed();
   }
 
+  private int getCurrentBatchSize() {
+    return bridge.getCurrentBatchSize();
+  }
+
+  private int getCurrentBatchTimeInterval() {
+    return bridge.getCurrentBatchTimeInterval();
+  }
+
   private int getTotalEventsConflated() {
     return bridge.getTotalEventsConflated();
   }
@@ -16,7 +16,10 @@
  */
 package org.apache.geode.internal;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -32,11 +35,15 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
+import org.apache.geode.DataSerializable;
 import org.apache.geode.DataSerializer;
-
+import org.apache.geode.distributed.internal.ReplyMessage;
 
 /**
- * Test throughput of InternalDataSerializer.readString
+ * Test throughput of InternalDataSerializer.readString and of reading DataSerializableFixedID and
+ * DataSerializable objects. readDSFIDReflectivelyBenchmark creates the DSFID instance with its
+ * constructor, as DSFIDFactory did before fixed ID classes were registered with a factory, so it
+ * can be compared with readDSFIDBenchmark.
  */
 
 @State(Scope.Thread)
@@ -45,6 +52,8 @@ public class InternalDataSerializerBenchmark {
 
   private final ByteArrayDataInput dataInput = new ByteArrayDataInput();
   private byte[] serializedBytes;
+  private byte[] serializedDSFID;
+  private byte[] serializedDataSerializable;
 
   @Setup(Level.Trial)
   public void setup() throws IOException {
@@ -56,6 +65,16 @@ public class InternalDataSerializerBenchmark {
           "expected first byte to be " + DSCODE.STRING_BYTES.toByte() + " but it was " + bytes[0]);
     }
     serializedBytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+
+    ReplyMessage replyMessage = new ReplyMessage();
+    replyMessage.setProcessorId(42);
+    hdos = new HeapDataOutputStream(Version.CURRENT);
+    InternalDataSerializer.writeDSFID(replyMessage, hdos);
+    serializedDSFID = hdos.toByteArray();
+
+    hdos = new HeapDataOutputStream(Version.CURRENT);
+    DataSerializer.writeObject(new Point(3, 4), hdos);
+    serializedDataSerializable = hdos.toByteArray();
   }
 
   @Benchmark
@@ -69,4 +88,61 @@ public class InternalDataSerializerBenchmark {
     return result;
   }
 
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object readDSFIDBenchmark() throws IOException, ClassNotFoundException {
+    dataInput.initialize(serializedDSFID, Version.CURRENT);
+    return InternalDataSerializer.readDSFID(dataInput);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object readDSFIDReflectivelyBenchmark() throws Exception {
+    dataInput.initialize(serializedDSFID, Version.CURRENT);
+    dataInput.readByte(); // DSCODE.DS_FIXED_ID_BYTE
+    Constructor<?> cons = DSFIDFactory.getDsfidmap()[dataInput.readByte() + Byte.MAX_VALUE + 1];
+    Object ds = cons.newInstance();
+    InternalDataSerializer.invokeFromData(ds, dataInput);
+    return ds;
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Object readDataSerializableBenchmark() throws IOException, ClassNotFoundException {
+    dataInput.initialize(serializedDataSerializable, Version.CURRENT);
+    return DataSerializer.readObject(dataInput);
+  }
+
+  public static class Point implements DataSerializable {
+    private int x;
+    private int y;
+
+    public Point() {}
+
+    Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public void toData(DataOutput out) throws IOException {
+      out.writeInt(x);
+      out.writeInt(y);
+    }
+
+    @Override
+    public void fromData(DataInput in) throws IOException {
+      x = in.readInt();
+      y = in.readInt();
+    }
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+
+/**
+ * Measures the throughput of statistics that all threads of the machine update at once, the way
+ * the statistics of cache operations are updated. Compares the locking {@link LocalStatisticsImpl},
+ * {@link AtomicStatisticsImpl} and {@link StripedStatisticsImpl}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(Threads.MAX)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StatisticsContentionBenchmark {
+
+  @Param({"local", "atomic", "striped"})
+  public String implementation;
+
+  private Statistics statistics;
+  private int countId;
+  private int timeId;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
+    StatisticDescriptor[] descriptors = {
+        f.createLongCounter("count", "operations", "operations"),
+        f.createLongCounter("time", "time spent in operations", "nanoseconds")};
+    StatisticsType type = new StatisticsTypeImpl("StatisticsContentionBenchmark",
+        "benchmark statistics", descriptors, "striped".equals(implementation));
+    StatisticsManager statisticsManager = mock(StatisticsManager.class);
+
+    if ("local".equals(implementation)) {
+      statistics = new LocalStatisticsImpl(type, "benchmark", 1, 1, true, 0, statisticsManager);
+    } else {
+      statistics = StatisticsImpl.createAtomicNoOS(type, "benchmark", 1, 1, statisticsManager);
+    }
+    countId = type.nameToId("count");
+    timeId = type.nameToId("time");
+  }
+
+  @Benchmark
+  public void incrementCounters() {
+    statistics.incLong(countId, 1);
+    statistics.incLong(timeId, 100);
+  }
+}
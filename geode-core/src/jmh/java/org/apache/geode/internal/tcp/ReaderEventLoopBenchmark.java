@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reading many channels with a thread per channel, as receiving p2p connections do by
+ * default, against reading them with a {@link ReaderEventLoop}. Each operation writes a small
+ * message to every channel and waits until all of them have been read.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReaderEventLoopBenchmark {
+
+  private static final int MESSAGE_SIZE = 128;
+
+  @Param({"THREAD_PER_CHANNEL", "EVENT_LOOP"})
+  public String transport;
+
+  @Param({"64", "512"})
+  public int channels;
+
+  private final List<Pipe> pipes = new ArrayList<>();
+  private final List<Thread> readerThreads = new ArrayList<>();
+  private final AtomicLong bytesRead = new AtomicLong();
+  private ReaderEventLoop eventLoop;
+  private ByteBuffer message;
+  private long bytesWritten;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    message = ByteBuffer.allocate(MESSAGE_SIZE);
+    if ("EVENT_LOOP".equals(transport)) {
+      eventLoop = new ReaderEventLoop("benchmark", 2, channels, 60);
+    }
+    for (int i = 0; i < channels; i++) {
+      Pipe pipe = Pipe.open();
+      pipes.add(pipe);
+      if (eventLoop != null) {
+        eventLoop.register(pipe.source(), new ReaderEventLoop.Reader() {
+          private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+          @Override
+          public boolean readAvailable() {
+            try {
+              for (;;) {
+                buffer.clear();
+                int read = pipe.source().read(buffer);
+                if (read <= 0) {
+                  return read == 0;
+                }
+                bytesRead.addAndGet(read);
+              }
+            } catch (IOException e) {
+              return false;
+            }
+          }
+
+          @Override
+          public void readerStopped() {}
+        });
+      } else {
+        Thread thread = new Thread(() -> {
+          ByteBuffer buffer = ByteBuffer.allocate(8192);
+          try {
+            int read;
+            while ((read = pipe.source().read(buffer)) >= 0) {
+              bytesRead.addAndGet(read);
+              buffer.clear();
+            }
+          } catch (IOException ignore) {
+            // closed
+          }
+        }, "benchmark reader " + i);
+        thread.setDaemon(true);
+        thread.start();
+        readerThreads.add(thread);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    for (Pipe pipe : pipes) {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+    if (eventLoop != null) {
+      eventLoop.close();
+    }
+  }
+
+  @Benchmark
+  public long sendToAllChannels() throws IOException {
+    for (Pipe pipe : pipes) {
+      message.clear();
+      while (message.hasRemaining()) {
+        pipe.sink().write(message);
+      }
+      bytesWritten += MESSAGE_SIZE;
+    }
+    while (bytesRead.get() < bytesWritten) {
+      Thread.yield();
+    }
+    return bytesWritten;
+  }
+}
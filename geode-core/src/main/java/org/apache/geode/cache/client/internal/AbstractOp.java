@@ -87,6 +87,7 @@ public abstract class AbstractOp implements Op {
     }
     getMessage().setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(),
         cnx.getCommBuffer(), cnx.getStats());
+    getMessage().setCompression(cnx.getWireCompression());
     try {
       sendMessage(cnx);
     } finally {
@@ -190,6 +191,7 @@ public abstract class AbstractOp implements Op {
     if (msg != null) {
       msg.setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(),
           cnx.getCommBuffer(), cnx.getStats());
+      msg.setCompression(cnx.getWireCompression());
       if (msg instanceof ChunkedMessage) {
         try {
           return processResponse(msg, cnx);
@@ -63,6 +63,7 @@ import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
 import org.apache.geode.internal.cache.tier.sockets.EncryptorImpl;
 import org.apache.geode.internal.cache.tier.sockets.Handshake;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.security.AuthenticationFailedException;
 import org.apache.geode.security.AuthenticationRequiredException;
@@ -83,6 +84,12 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
 
   private final byte replyCode;
 
+  /** the compression asked of servers, or null if messages should not be compressed */
+  private final WireCompression requestedWireCompression;
+
+  /** the compression asked of gateway receivers, or null to ask for the client's compression */
+  private final WireCompression requestedGatewayWireCompression;
+
   @Override
   protected byte getReplyCode() {
     return replyCode;
@@ -99,6 +106,13 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
     setOverrides();
     this.credentials = null;
     this.encryptor = new EncryptorImpl(distributedSystem.getSecurityLogWriter());
+    this.requestedWireCompression = WireCompression.create(
+        System.getProperty(WIRE_COMPRESSOR_PROPERTY),
+        Integer.getInteger(WIRE_COMPRESSION_THRESHOLD_PROPERTY, WireCompression.DEFAULT_THRESHOLD));
+    this.requestedGatewayWireCompression = WireCompression.create(
+        System.getProperty(GATEWAY_WIRE_COMPRESSOR_PROPERTY),
+        Integer.getInteger(GATEWAY_WIRE_COMPRESSION_THRESHOLD_PROPERTY,
+            WireCompression.DEFAULT_THRESHOLD));
   }
 
   /**
@@ -108,6 +122,8 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
     super(handshake);
     this.multiuserSecureMode = handshake.multiuserSecureMode;
     this.replyCode = handshake.getReplyCode();
+    this.requestedWireCompression = handshake.requestedWireCompression;
+    this.requestedGatewayWireCompression = handshake.requestedGatewayWireCompression;
   }
 
   public static void setVersionForTesting(short ver) {
@@ -119,6 +135,27 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
     }
   }
 
+  /**
+   * Compression is negotiated with servers of the version that introduced it, or a later one.
+   * Older servers refuse to talk to newer clients, so no server is sent a request it can't read.
+   */
+  private boolean negotiatesWireCompression() {
+    short ordinal =
+        overrideClientVersion > 0 ? overrideClientVersion : currentClientVersion.ordinal();
+    return ordinal >= Version.GEODE_1_10_0.ordinal();
+  }
+
+  /**
+   * Returns the compression to ask of servers connected to in the given mode. Gateway senders can
+   * compress their batches with a different compressor than the clients in the same member.
+   */
+  private WireCompression getRequestedWireCompression(CommunicationMode communicationMode) {
+    if (communicationMode.isWAN() && this.requestedGatewayWireCompression != null) {
+      return this.requestedGatewayWireCompression;
+    }
+    return this.requestedWireCompression;
+  }
+
   private void setOverrides() {
     this.clientConflation = determineClientConflation();
 
@@ -258,6 +295,10 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
         serverQStatus.setPdxSize(remotePdxSize);
       }
 
+      if (negotiatesWireCompression() && dis.readBoolean()) {
+        serverQStatus.setWireCompression(getRequestedWireCompression(communicationMode));
+      }
+
       return serverQStatus;
     } catch (IOException ex) {
       CancelCriterion stopper = this.system.getCancelCriterion();
@@ -406,6 +447,11 @@ public class ClientSideHandshakeImpl extends Handshake implements ClientSideHand
         }
       }
 
+      // subscription feeds are not compressed
+      if (!isCallbackConnection && negotiatesWireCompression()) {
+        WireCompression.writeRequest(getRequestedWireCompression(communicationMode), hdos);
+      }
+
       if (isCallbackConnection || communicationMode.isWAN()) {
         if (isCallbackConnection && this.multiuserSecureMode && !communicationMode.isWAN()) {
           hdos.writeByte(SECURITY_MULTIUSER_NOTIFICATIONCHANNEL);
@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import org.apache.geode.InternalGemFireException;
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
+import org.apache.geode.internal.net.WireCompression;
 
 /**
  * Represents a connection from a client to a server. Instances are created, kept, and used by
@@ -113,4 +114,14 @@ public interface Connection {
    * @throws InternalGemFireException when the connection is already passive
    */
   default void passivate(boolean accessed) {}
+
+  /**
+   * Returns the compression negotiated with the server for the messages sent over this
+   * connection.
+   *
+   * @return the compression, or null if messages are not compressed
+   */
+  default WireCompression getWireCompression() {
+    return null;
+  }
 }
@@ -32,12 +32,15 @@ import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.wan.GatewaySender;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ServerLocation;
+import org.apache.geode.internal.ConnectionWatcher;
 import org.apache.geode.internal.cache.tier.ClientSideHandshake;
 import org.apache.geode.internal.cache.tier.CommunicationMode;
 import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.SocketCreator;
+import org.apache.geode.internal.net.WireCompression;
 
 /**
  * A single client to server connection.
@@ -87,8 +90,9 @@ public class ConnectionImpl implements Connection {
       ClientSideHandshake handshake, int socketBufferSize, int handshakeTimeout, int readTimeout,
       CommunicationMode communicationMode, GatewaySender sender, SocketCreator sc)
       throws IOException {
+    TlsHandshakeWatcher tlsHandshakeWatcher = new TlsHandshakeWatcher();
     theSocket = sc.connectForClient(location.getHostName(), location.getPort(), handshakeTimeout,
-        socketBufferSize);
+        socketBufferSize, tlsHandshakeWatcher);
     theSocket.setTcpNoDelay(true);
     theSocket.setSendBufferSize(socketBufferSize);
 
@@ -100,14 +104,20 @@ public class ConnectionImpl implements Connection {
     out = theSocket.getOutputStream();
     in = theSocket.getInputStream();
     status = handshake.handshakeWithServer(this, location, communicationMode);
-    commBuffer = ServerConnection.allocateCommBuffer(socketBufferSize, theSocket);
+    BufferPool commBufferPool = ds.getCommBufferPool();
+    commBuffer = ServerConnection.allocateCommBuffer(commBufferPool, socketBufferSize, theSocket);
     if (sender != null) {
-      commBufferForAsyncRead = ServerConnection.allocateCommBuffer(socketBufferSize, theSocket);
+      commBufferForAsyncRead =
+          ServerConnection.allocateCommBuffer(commBufferPool, socketBufferSize, theSocket);
     }
     theSocket.setSoTimeout(readTimeout);
     endpoint = endpointManager.referenceEndpoint(location, status.getMemberId());
     connectFinished = true;
     endpoint.getStats().incConnections(1);
+    if (tlsHandshakeWatcher.handshakeNanos >= 0) {
+      endpoint.getStats().endTlsHandshake(tlsHandshakeWatcher.handshakeNanos,
+          tlsHandshakeWatcher.resumed);
+    }
     return status;
   }
 
@@ -188,15 +198,20 @@ public class ConnectionImpl implements Connection {
     ByteBuffer bb = commBuffer;
     if (bb != null) {
       commBuffer = null;
-      ServerConnection.releaseCommBuffer(bb);
+      ServerConnection.releaseCommBuffer(ds.getCommBufferPool(), bb);
     }
     bb = commBufferForAsyncRead;
     if (bb != null) {
       commBufferForAsyncRead = null;
-      ServerConnection.releaseCommBuffer(bb);
+      ServerConnection.releaseCommBuffer(ds.getCommBufferPool(), bb);
     }
   }
 
+  @Override
+  public WireCompression getWireCompression() {
+    return status == null ? null : status.getWireCompression();
+  }
+
   @Override
   public ByteBuffer getCommBuffer() throws SocketException {
     if (isDestroyed()) {
@@ -334,4 +349,25 @@ public class ConnectionImpl implements Connection {
               requestedBufferSize});
     }
   }
+
+  /**
+   * Remembers how the TLS handshake went so that it can be recorded in the stats of the endpoint,
+   * which is only known once the server has responded to the client handshake.
+   */
+  private static class TlsHandshakeWatcher implements ConnectionWatcher {
+    private long handshakeNanos = -1;
+    private boolean resumed;
+
+    @Override
+    public void beforeConnect(Socket socket) {}
+
+    @Override
+    public void afterConnect(Socket socket) {}
+
+    @Override
+    public void afterTlsHandshake(Socket socket, long handshakeNanos, boolean resumed) {
+      this.handshakeNanos = handshakeNanos;
+      this.resumed = resumed;
+    }
+  }
 }
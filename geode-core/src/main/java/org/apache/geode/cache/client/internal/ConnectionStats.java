@@ -379,6 +379,9 @@ public class ConnectionStats implements MessageStats {
   private static final int connectionsId;
   private static final int connectsId;
   private static final int disconnectsId;
+  private static final int tlsHandshakesId;
+  private static final int tlsHandshakesResumedId;
+  private static final int tlsHandshakeTimeId;
   private static final int messagesBeingReceivedId;
   private static final int messageBytesBeingReceivedId;
   private static final int receivedBytesId;
@@ -794,6 +797,15 @@ public class ConnectionStats implements MessageStats {
                   "connects"),
               f.createIntCounter("disconnects",
                   "Total number of times a connection has been destroyed.", "disconnects"),
+              f.createLongCounter("tlsHandshakes",
+                  "Total number of TLS handshakes done to create connections.", "handshakes"),
+              f.createLongCounter("tlsHandshakesResumed",
+                  "Total number of TLS handshakes that resumed an earlier session instead of "
+                      + "negotiating a new one.",
+                  "handshakes"),
+              f.createLongCounter("tlsHandshakeTime",
+                  "Total amount of time, in nanoseconds, spent doing TLS handshakes.",
+                  "nanoseconds"),
               f.createIntGauge("putAllsInProgress", "Current number of putAlls being executed",
                   "putAlls"),
               f.createIntCounter("putAlls", "Total number of putAlls completed successfully",
@@ -1628,6 +1640,9 @@ public class ConnectionStats implements MessageStats {
       connectionsId = type.nameToId("connections");
       connectsId = type.nameToId("connects");
       disconnectsId = type.nameToId("disconnects");
+      tlsHandshakesId = type.nameToId("tlsHandshakes");
+      tlsHandshakesResumedId = type.nameToId("tlsHandshakesResumed");
+      tlsHandshakeTimeId = type.nameToId("tlsHandshakeTime");
 
       receivedBytesId = type.nameToId("receivedBytes");
       sentBytesId = type.nameToId("sentBytes");
@@ -3196,6 +3211,24 @@ public class ConnectionStats implements MessageStats {
     this.poolStats.incConnections(delta);
   }
 
+  /**
+   * Records a completed TLS handshake.
+   *
+   * @param nanos how long the handshake took
+   * @param resumed whether an earlier session was resumed
+   */
+  public void endTlsHandshake(long nanos, boolean resumed) {
+    this.stats.incLong(tlsHandshakesId, 1);
+    if (resumed) {
+      this.stats.incLong(tlsHandshakesResumedId, 1);
+    }
+    this.stats.incLong(tlsHandshakeTimeId, nanos);
+  }
+
+  public long getTlsHandshakes() {
+    return this.stats.getLong(tlsHandshakesId);
+  }
+
   private void startClientOp() {
     this.poolStats.startClientOp();
   }
@@ -748,6 +748,10 @@ public class PoolImpl implements InternalPool {
     return stats;
   }
 
+  public InternalDistributedSystem getInternalDistributedSystem() {
+    return distributedSystem;
+  }
+
 
   /**
    * Execute the given op on the servers that this pool connects to. This method is responsible for
@@ -30,6 +30,7 @@ import org.apache.geode.cache.client.internal.pooling.ConnectionDestroyedExcepti
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.net.WireCompression;
 
 
 /**
@@ -136,6 +137,11 @@ public class QueueConnectionImpl implements Connection {
     return getConnection().getCommBuffer();
   }
 
+  @Override
+  public WireCompression getWireCompression() {
+    return getConnection().getWireCompression();
+  }
+
   @Override
   public Endpoint getEndpoint() {
     return this.endpoint;
@@ -29,6 +29,7 @@ import org.apache.geode.cache.client.internal.Endpoint;
 import org.apache.geode.cache.client.internal.Op;
 import org.apache.geode.distributed.internal.ServerLocation;
 import org.apache.geode.internal.cache.tier.sockets.ServerQueueStatus;
+import org.apache.geode.internal.net.WireCompression;
 
 /**
  * A connection managed by the connection manager. Keeps track of the current state of the
@@ -308,6 +309,11 @@ public class PooledConnection implements Connection {
     return getConnection().getCommBuffer();
   }
 
+  @Override
+  public WireCompression getWireCompression() {
+    return getConnection().getWireCompression();
+  }
+
   @Override
   public Socket getSocket() {
     return getConnection().getSocket();
@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.cq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.internal.CompiledComparison;
+import org.apache.geode.cache.query.internal.CompiledID;
+import org.apache.geode.cache.query.internal.CompiledIteratorDef;
+import org.apache.geode.cache.query.internal.CompiledJunction;
+import org.apache.geode.cache.query.internal.CompiledLiteral;
+import org.apache.geode.cache.query.internal.CompiledPath;
+import org.apache.geode.cache.query.internal.CompiledSelect;
+import org.apache.geode.cache.query.internal.CompiledValue;
+import org.apache.geode.cache.query.internal.DefaultQuery;
+import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
+import org.apache.geode.pdx.internal.PdxString;
+
+/**
+ * An index of the CQs registered on a region by the predicates of their WHERE clauses, used to find
+ * the CQs that an event value may satisfy without evaluating every CQ query against it.
+ *
+ * Each CQ is indexed by one term of the AND conjuncts of its WHERE clause that compares a field of
+ * the iterator with a literal. Number literals compared with =, &lt;, &lt;=, &gt; or &gt;= are
+ * indexed as intervals in an interval tree per field, and string literals compared with = are
+ * indexed in a hash map per field. LIKE and other specialized comparisons are never indexed. CQs
+ * without such a term are not indexed and are always candidates.
+ *
+ * The index only rules CQs out; the candidates must still be evaluated. The bounds of the intervals
+ * are inclusive, so a value equal to the bound of a strict comparison is a candidate. Whenever a
+ * field cannot be read or has a value of an unexpected type, all the CQs indexed on that field are
+ * candidates.
+ *
+ * An index is immutable and is built from a snapshot of the CQs of a region.
+ */
+public class CqPredicateIndex {
+
+  /**
+   * Reads an attribute of a value the way the query engine does.
+   */
+  @FunctionalInterface
+  public interface AttributeReader {
+    Object read(Object target, String attribute) throws QueryException;
+  }
+
+  private final Set<ServerCQ> indexedCqs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private final List<FieldIndex> fields = new ArrayList<>();
+
+  public CqPredicateIndex(Collection<ServerCQ> cqs) {
+    Map<List<String>, FieldIndex> fieldsByPath = new LinkedHashMap<>();
+    Map<List<String>, List<NumericRange>> rangesByPath = new HashMap<>();
+    for (ServerCQ cq : cqs) {
+      Predicate predicate = getPredicate(cq);
+      if (predicate == null) {
+        continue;
+      }
+      this.indexedCqs.add(cq);
+      FieldIndex field = fieldsByPath.computeIfAbsent(predicate.path, FieldIndex::new);
+      if (predicate.range != null) {
+        field.numericCqs.add(cq);
+        // an unsatisfiable range matches nothing, but stays a candidate if the field is unreadable
+        if (predicate.range.lower <= predicate.range.upper) {
+          rangesByPath.computeIfAbsent(predicate.path, k -> new ArrayList<>())
+              .add(predicate.range);
+        }
+      } else {
+        field.stringCqs.add(cq);
+        field.stringEquals.computeIfAbsent(predicate.string, k -> new ArrayList<>()).add(cq);
+      }
+    }
+    for (FieldIndex field : fieldsByPath.values()) {
+      List<NumericRange> ranges = rangesByPath.get(field.path);
+      if (ranges != null) {
+        field.ranges = new IntervalTree(ranges);
+      }
+      this.fields.add(field);
+    }
+  }
+
+  /**
+   * Returns the number of CQs that are indexed by a predicate.
+   */
+  public int getIndexedCqCount() {
+    return this.indexedCqs.size();
+  }
+
+  /**
+   * Returns the CQs that the given event value may satisfy.
+   */
+  public Candidates getCandidates(Object value, AttributeReader reader) {
+    Set<ServerCQ> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (FieldIndex field : this.fields) {
+      Object fieldValue;
+      try {
+        fieldValue = readField(value, field.path, reader);
+      } catch (QueryException | RuntimeException e) {
+        matches.addAll(field.numericCqs);
+        matches.addAll(field.stringCqs);
+        continue;
+      }
+      if (!field.numericCqs.isEmpty()) {
+        double number =
+            fieldValue instanceof Number ? ((Number) fieldValue).doubleValue() : Double.NaN;
+        if (Double.isNaN(number)) {
+          matches.addAll(field.numericCqs);
+        } else if (field.ranges != null) {
+          field.ranges.findContaining(number, matches);
+        }
+      }
+      if (!field.stringCqs.isEmpty()) {
+        if (fieldValue instanceof String || fieldValue instanceof PdxString) {
+          List<ServerCQ> equal = field.stringEquals.get(fieldValue.toString());
+          if (equal != null) {
+            matches.addAll(equal);
+          }
+        } else {
+          matches.addAll(field.stringCqs);
+        }
+      }
+    }
+    return new Candidates(this.indexedCqs, matches);
+  }
+
+  private static Object readField(Object value, List<String> path, AttributeReader reader)
+      throws QueryException {
+    Object target = value;
+    for (String attribute : path) {
+      if (target == null) {
+        return null;
+      }
+      target = reader.read(target, attribute);
+    }
+    return target;
+  }
+
+  /**
+   * Returns the predicate that indexes the given CQ, or null if the CQ cannot be indexed.
+   */
+  static Predicate getPredicate(ServerCQ cq) {
+    Query query = cq.getQuery();
+    if (!(query instanceof DefaultQuery)) {
+      return null;
+    }
+    CompiledSelect select = ((DefaultQuery) query).getSimpleSelect();
+    if (select == null || select.getWhereClause() == null || select.getIterators().size() != 1) {
+      return null;
+    }
+    String iteratorName = ((CompiledIteratorDef) select.getIterators().get(0)).getName();
+
+    List<CompiledComparison> terms = new ArrayList<>();
+    collectConjuncts(select.getWhereClause(), terms);
+
+    Map<List<String>, NumericRange> ranges = new LinkedHashMap<>();
+    for (CompiledComparison term : terms) {
+      CompiledValue left = (CompiledValue) term.getChildren().get(0);
+      CompiledValue right = (CompiledValue) term.getChildren().get(1);
+      int operator = term.getOperator();
+      List<String> path = getPath(left, iteratorName);
+      Object literal = getLiteral(right);
+      if (path == null || literal == null) {
+        // the literal may be on the left, so flip the comparison
+        path = getPath(right, iteratorName);
+        literal = getLiteral(left);
+        operator = flip(operator);
+      }
+      if (path == null || literal == null || operator == OQLLexerTokenTypes.TOK_NE) {
+        continue;
+      }
+      if (literal instanceof String) {
+        if (operator == OQLLexerTokenTypes.TOK_EQ) {
+          // string equality is the most selective predicate
+          return new Predicate(path, null, (String) literal);
+        }
+      } else if (literal instanceof Number) {
+        double number = ((Number) literal).doubleValue();
+        if (!Double.isNaN(number)) {
+          NumericRange range = ranges.computeIfAbsent(path, k -> new NumericRange(cq));
+          range.restrict(operator, number);
+        }
+      }
+    }
+    Predicate best = null;
+    for (Map.Entry<List<String>, NumericRange> entry : ranges.entrySet()) {
+      if (best == null || entry.getValue().boundCount() > best.range.boundCount()) {
+        best = new Predicate(entry.getKey(), entry.getValue(), null);
+      }
+    }
+    return best;
+  }
+
+  private static void collectConjuncts(CompiledValue value, List<CompiledComparison> terms) {
+    if (value != null && value.getClass() == CompiledComparison.class) {
+      // subclasses such as CompiledLike compare differently than their operator says
+      terms.add((CompiledComparison) value);
+    } else if (value instanceof CompiledJunction
+        && ((CompiledJunction) value).getOperator() == OQLLexerTokenTypes.LITERAL_and) {
+      for (Object operand : value.getChildren()) {
+        collectConjuncts((CompiledValue) operand, terms);
+      }
+    }
+  }
+
+  /**
+   * Returns the attribute path of the iterator that the given value reads, or null if it is not a
+   * plain attribute path.
+   */
+  private static List<String> getPath(CompiledValue value, String iteratorName) {
+    if (value instanceof CompiledID) {
+      String id = ((CompiledID) value).getId();
+      if (id.equals(iteratorName)) {
+        return new ArrayList<>();
+      }
+      // an implicit attribute of the iterator
+      List<String> path = new ArrayList<>();
+      path.add(id);
+      return path;
+    }
+    if (value instanceof CompiledPath) {
+      List<String> path = getPath(((CompiledPath) value).getReceiver(), iteratorName);
+      if (path != null) {
+        path.add(((CompiledPath) value).getTailID());
+      }
+      return path;
+    }
+    return null;
+  }
+
+  private static Object getLiteral(CompiledValue value) {
+    if (!(value instanceof CompiledLiteral)) {
+      return null;
+    }
+    try {
+      return value.evaluate(null);
+    } catch (QueryException e) {
+      return null;
+    }
+  }
+
+  private static int flip(int operator) {
+    switch (operator) {
+      case OQLLexerTokenTypes.TOK_LT:
+        return OQLLexerTokenTypes.TOK_GT;
+      case OQLLexerTokenTypes.TOK_LE:
+        return OQLLexerTokenTypes.TOK_GE;
+      case OQLLexerTokenTypes.TOK_GT:
+        return OQLLexerTokenTypes.TOK_LT;
+      case OQLLexerTokenTypes.TOK_GE:
+        return OQLLexerTokenTypes.TOK_LE;
+      default:
+        return operator;
+    }
+  }
+
+  /**
+   * The CQs that an event value may satisfy.
+   */
+  public static class Candidates {
+    private final Set<ServerCQ> indexedCqs;
+    private final Set<ServerCQ> matches;
+
+    Candidates(Set<ServerCQ> indexedCqs, Set<ServerCQ> matches) {
+      this.indexedCqs = indexedCqs;
+      this.matches = matches;
+    }
+
+    /**
+     * Returns false if the event value cannot satisfy the query of the given CQ.
+     */
+    public boolean mayMatch(ServerCQ cq) {
+      return this.matches.contains(cq) || !this.indexedCqs.contains(cq);
+    }
+  }
+
+  static class Predicate {
+    final List<String> path;
+    final NumericRange range;
+    final String string;
+
+    Predicate(List<String> path, NumericRange range, String string) {
+      this.path = path;
+      this.range = range;
+      this.string = string;
+    }
+  }
+
+  /**
+   * An inclusive interval of the numbers that satisfy the terms of a CQ on one field. Comparing
+   * the double values is safe because converting numbers to doubles preserves their order.
+   */
+  static class NumericRange {
+    final ServerCQ cq;
+    double lower = Double.NEGATIVE_INFINITY;
+    double upper = Double.POSITIVE_INFINITY;
+
+    NumericRange(ServerCQ cq) {
+      this.cq = cq;
+    }
+
+    void restrict(int operator, double bound) {
+      if (operator == OQLLexerTokenTypes.TOK_EQ || operator == OQLLexerTokenTypes.TOK_GT
+          || operator == OQLLexerTokenTypes.TOK_GE) {
+        this.lower = Math.max(this.lower, bound);
+      }
+      if (operator == OQLLexerTokenTypes.TOK_EQ || operator == OQLLexerTokenTypes.TOK_LT
+          || operator == OQLLexerTokenTypes.TOK_LE) {
+        this.upper = Math.min(this.upper, bound);
+      }
+    }
+
+    int boundCount() {
+      if (this.lower == this.upper) {
+        return 3;
+      }
+      return (this.lower > Double.NEGATIVE_INFINITY ? 1 : 0)
+          + (this.upper < Double.POSITIVE_INFINITY ? 1 : 0);
+    }
+  }
+
+  private static class FieldIndex {
+    final List<String> path;
+    final List<ServerCQ> numericCqs = new ArrayList<>();
+    final List<ServerCQ> stringCqs = new ArrayList<>();
+    final Map<String, List<ServerCQ>> stringEquals = new HashMap<>();
+    IntervalTree ranges;
+
+    FieldIndex(List<String> path) {
+      this.path = path;
+    }
+  }
+
+  /**
+   * A centered interval tree. Each node holds the ranges that contain its center, sorted by their
+   * lower and by their upper bounds, and the ranges below and above the center are in its
+   * subtrees.
+   */
+  static class IntervalTree {
+    private final double center;
+    private final NumericRange[] byLower;
+    private final NumericRange[] byUpper;
+    private final IntervalTree below;
+    private final IntervalTree above;
+
+    IntervalTree(List<NumericRange> ranges) {
+      double[] bounds = new double[ranges.size() * 2];
+      int i = 0;
+      for (NumericRange range : ranges) {
+        bounds[i++] = range.lower;
+        bounds[i++] = range.upper;
+      }
+      Arrays.sort(bounds);
+      // the center is a bound of some range, so that range is held by this node
+      this.center = bounds[bounds.length / 2];
+
+      List<NumericRange> here = new ArrayList<>();
+      List<NumericRange> lower = new ArrayList<>();
+      List<NumericRange> higher = new ArrayList<>();
+      for (NumericRange range : ranges) {
+        if (range.upper < this.center) {
+          lower.add(range);
+        } else if (range.lower > this.center) {
+          higher.add(range);
+        } else {
+          here.add(range);
+        }
+      }
+      this.byLower = here.toArray(new NumericRange[0]);
+      Arrays.sort(this.byLower, Comparator.comparingDouble((NumericRange range) -> range.lower));
+      this.byUpper = here.toArray(new NumericRange[0]);
+      Arrays.sort(this.byUpper, Comparator.comparingDouble((NumericRange range) -> -range.upper));
+      this.below = lower.isEmpty() ? null : new IntervalTree(lower);
+      this.above = higher.isEmpty() ? null : new IntervalTree(higher);
+    }
+
+    void findContaining(double number, Collection<ServerCQ> result) {
+      if (number < this.center) {
+        for (NumericRange range : this.byLower) {
+          if (range.lower > number) {
+            break;
+          }
+          result.add(range.cq);
+        }
+        if (this.below != null) {
+          this.below.findContaining(number, result);
+        }
+      } else if (number > this.center) {
+        for (NumericRange range : this.byUpper) {
+          if (range.upper < number) {
+            break;
+          }
+          result.add(range.cq);
+        }
+        if (this.above != null) {
+          this.above.findContaining(number, result);
+        }
+      } else {
+        for (NumericRange range : this.byLower) {
+          result.add(range.cq);
+        }
+      }
+    }
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
 import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.cache.query.internal.CompiledBindArgument;
+import org.apache.geode.cache.query.internal.CompiledID;
 import org.apache.geode.cache.query.internal.CompiledIteratorDef;
 import org.apache.geode.cache.query.internal.CompiledLiteral;
 import org.apache.geode.cache.query.internal.CompiledPath;
@@ -63,6 +64,7 @@ import org.apache.geode.cache.query.internal.types.StructTypeImpl;
 import org.apache.geode.cache.query.internal.types.TypeUtils;
 import org.apache.geode.cache.query.types.ObjectType;
 import org.apache.geode.cache.query.types.StructType;
+import org.apache.geode.internal.cache.CachedDeserializable;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.LocalRegion;
 import org.apache.geode.internal.cache.NonTXEntry;
@@ -71,6 +73,11 @@ import org.apache.geode.internal.cache.RegionEntryContext;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryHeap;
 import org.apache.geode.internal.cache.persistence.query.CloseableIterator;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.offheap.OffHeapHelper;
+import org.apache.geode.internal.offheap.StoredObject;
+import org.apache.geode.internal.offheap.annotations.Retained;
+import org.apache.geode.pdx.internal.PdxField;
+import org.apache.geode.pdx.internal.PdxFieldAccessor;
 import org.apache.geode.pdx.internal.PdxString;
 
 /**
@@ -1148,6 +1155,10 @@ public class CompactRangeIndex extends AbstractIndex {
     private boolean hasIndxUpdateOccurredOnce = false;
     private ExecutionContext initContext = null;
     private int iteratorSize = -1;
+    // The name of the field the index is on if the indexed expression reads a field of the region
+    // values, otherwise null. Index updates read such a field directly from a serialized pdx value.
+    private String pdxFieldName = null;
+    private final ThreadLocal<PdxFieldAccessor> pdxFieldAccessor = new ThreadLocal<>();
 
     /** Creates a new instance of IMQEvaluator */
     IMQEvaluator(IndexCreationHelper helper) {
@@ -1182,6 +1193,14 @@ public class CompactRangeIndex extends AbstractIndex {
           indexStore.setIndexOnValues(true);
         }
       }
+      if (indexOnValues && this.fromIterators.size() == 1
+          && this.indexedExpr instanceof CompiledPath) {
+        CompiledValue receiver = this.indexedExpr.getReceiver();
+        String iterName = ((CompiledIteratorDef) this.fromIterators.get(0)).getName();
+        if (receiver instanceof CompiledID && ((CompiledID) receiver).getId().equals(iterName)) {
+          this.pdxFieldName = ((CompiledPath) this.indexedExpr).getTailID();
+        }
+      }
     }
 
     @Override
@@ -1363,6 +1382,13 @@ public class CompactRangeIndex extends AbstractIndex {
     @Override
     public void evaluate(RegionEntry target, boolean add) throws IMQException {
       assert !target.isInvalid() : "value in RegionEntry should not be INVALID";
+      if (this.pdxFieldName != null) {
+        Object indexKey = readPdxIndexKey(target);
+        if (indexKey != PdxFieldAccessor.NOT_READ) {
+          applyIndexKey(indexKey, target, add);
+          return;
+        }
+      }
       DummyQRegion dQRegion = new DummyQRegion(rgn);
       dQRegion.setEntry(target);
       Object params[] = {dQRegion};
@@ -1414,6 +1440,49 @@ public class CompactRangeIndex extends AbstractIndex {
       }
     }
 
+    /**
+     * Reads the indexed field from the value of the entry without deserializing it, which is
+     * possible if the value is serialized pdx that would be read as a PdxInstance.
+     *
+     * @return the index key, or {@link PdxFieldAccessor#NOT_READ} if the key has to be computed by
+     *         evaluating the indexed expression
+     */
+    private Object readPdxIndexKey(RegionEntry target) {
+      if (!this.cache.getPdxReadSerializedByAnyGemFireServices()) {
+        return PdxFieldAccessor.NOT_READ;
+      }
+      PdxFieldAccessor accessor = this.pdxFieldAccessor.get();
+      if (accessor == null) {
+        accessor = new PdxFieldAccessor(this.cache.getPdxRegistry());
+        this.pdxFieldAccessor.set(accessor);
+      }
+      @Retained
+      Object value = target.getValueRetain((RegionEntryContext) this.rgn, true);
+      try {
+        boolean isPdx;
+        if (value instanceof StoredObject) {
+          isPdx = accessor.reset((StoredObject) value);
+        } else if (value instanceof CachedDeserializable) {
+          Object serialized = ((CachedDeserializable) value).getValue();
+          isPdx = serialized instanceof byte[] && accessor.reset((byte[]) serialized);
+        } else {
+          isPdx = false;
+        }
+        if (!isPdx) {
+          return PdxFieldAccessor.NOT_READ;
+        }
+        // a field that is missing from this version of the type is left to the query engine
+        PdxField field = accessor.getPdxType().getPdxField(this.pdxFieldName);
+        if (field == null) {
+          return PdxFieldAccessor.NOT_READ;
+        }
+        return accessor.readRawField(field);
+      } finally {
+        accessor.clear();
+        OffHeapHelper.release(value);
+      }
+    }
+
     /**
      * This function is used for creating Index data at the start
      */
@@ -1552,6 +1621,15 @@ public class CompactRangeIndex extends AbstractIndex {
         throws FunctionDomainException, TypeMismatchException, NameResolutionException,
         QueryInvocationTargetException, IMQException {
       Object indexKey = indexedExpr.evaluate(context);
+      RegionEntry entry = ((DummyQRegion) context.getBindArgument(1)).getEntry();
+      applyIndexKey(indexKey, entry, add);
+    }
+
+    /**
+     * @param add true if adding, false if removing from index
+     */
+    private void applyIndexKey(Object indexKey, RegionEntry entry, boolean add)
+        throws IMQException {
       if (indexKey == null) {
         indexKey = IndexManager.NULL;
       }
@@ -1561,7 +1639,6 @@ public class CompactRangeIndex extends AbstractIndex {
         setPdxStringFlag(indexKey);
       }
       indexKey = getPdxStringForIndexedPdxKeys(indexKey);
-      RegionEntry entry = ((DummyQRegion) context.getBindArgument(1)).getEntry();
       // Get thread local reverse map if available.
       OldKeyValuePair oldKeyValuePair = null;
       if (oldKeyValue != null) {
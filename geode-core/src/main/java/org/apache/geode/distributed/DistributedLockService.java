@@ -17,6 +17,7 @@ package org.apache.geode.distributed;
 
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.locks.DLockService;
+import org.apache.geode.distributed.internal.locks.ShardedDLockService;
 
 /**
  * <p>
@@ -51,6 +52,10 @@ public abstract class DistributedLockService {
   public static DistributedLockService create(String serviceName, DistributedSystem ds)
       throws IllegalArgumentException {
     DLockService.validateServiceName(serviceName);
+    int shards = ShardedDLockService.getConfiguredShards();
+    if (shards > 1) {
+      return ShardedDLockService.create(serviceName, (InternalDistributedSystem) ds, shards);
+    }
     return DLockService.create(serviceName, (InternalDistributedSystem) ds, true /* distributed */,
         true /* destroyOnDisconnect */, false /* automateFreeResources */);
   }
@@ -65,6 +70,10 @@ public abstract class DistributedLockService {
    *         this VM.
    */
   public static DistributedLockService getServiceNamed(String serviceName) {
+    ShardedDLockService sharded = ShardedDLockService.getServiceNamed(serviceName);
+    if (sharded != null) {
+      return sharded;
+    }
     return DLockService.getServiceNamed(serviceName);
   }
 
@@ -81,6 +90,9 @@ public abstract class DistributedLockService {
    *         the given <code>serviceName</code> and <code>dm</code>.
    */
   public static void destroy(String serviceName) throws IllegalArgumentException {
+    if (ShardedDLockService.destroyServiceNamed(serviceName)) {
+      return;
+    }
     DLockService.destroyServiceNamed(serviceName);
   }
 
@@ -313,6 +325,11 @@ public abstract class DistributedLockService {
    * @see org.apache.geode.distributed.DistributedLockService#becomeLockGrantor()
    */
   public static void becomeLockGrantor(String serviceName) throws IllegalArgumentException {
+    ShardedDLockService sharded = ShardedDLockService.getServiceNamed(serviceName);
+    if (sharded != null) {
+      sharded.becomeLockGrantor();
+      return;
+    }
     DLockService.becomeLockGrantor(serviceName);
   }
 
@@ -343,6 +360,10 @@ public abstract class DistributedLockService {
    * @see org.apache.geode.distributed.DistributedLockService#isLockGrantor()
    */
   public static boolean isLockGrantor(String serviceName) throws IllegalArgumentException {
+    ShardedDLockService sharded = ShardedDLockService.getServiceNamed(serviceName);
+    if (sharded != null) {
+      return sharded.isLockGrantor();
+    }
     return DLockService.isLockGrantor(serviceName);
   }
 
@@ -141,6 +141,14 @@ public interface DMStats {
 
   void incBatchFlushTime(long start);
 
+  /**
+   * Records a socket write of coalesced messages.
+   *
+   * @param messages the number of messages written
+   * @param delayNanos the total time the messages waited to be coalesced
+   */
+  void endCoalescedWrite(int messages, long delayNanos);
+
   /**
    * Increments the total number of nanoseconds spent scheduling messages to be processed.
    */
@@ -541,6 +549,34 @@ public interface DMStats {
    */
   void incSenderBufferSize(int inc, boolean direct);
 
+  /**
+   * Increments the number of buffer requests satisfied by a pooled buffer.
+   */
+  void incBufferPoolHits();
+
+  /**
+   * Increments the number of buffer requests that allocated a new buffer.
+   */
+  void incBufferPoolMisses();
+
+  /**
+   * Adjusts the number of pooled buffers that have been acquired and not released.
+   */
+  void incBufferPoolOutstanding(int delta);
+
+  /**
+   * Adjusts the number of bytes held by idle pooled buffers.
+   */
+  void incBufferPoolIdleBytes(long delta);
+
+  /**
+   * Records a completed TLS handshake.
+   *
+   * @param nanos how long the handshake took
+   * @param resumed whether an earlier session was resumed
+   */
+  void endTlsHandshake(long nanos, boolean resumed);
+
   /**
    * @since GemFire 5.0.2.4
    */
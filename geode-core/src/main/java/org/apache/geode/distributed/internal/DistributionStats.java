@@ -157,6 +157,9 @@ public class DistributionStats implements DMStats {
   private static final int batchCopyTimeId;
   private static final int batchWaitTimeId;
   private static final int batchFlushTimeId;
+  private static final int coalescedWritesId;
+  private static final int coalescedMessagesId;
+  private static final int coalescedSendDelayId;
 
   private static final int threadOwnedReceiversId;
   private static final int threadOwnedReceiversId2;
@@ -199,6 +202,13 @@ public class DistributionStats implements DMStats {
   private static final int receiverHeapBufferSizeId;
   private static final int senderDirectBufferSizeId;
   private static final int senderHeapBufferSizeId;
+  private static final int bufferPoolHitsId;
+  private static final int bufferPoolMissesId;
+  private static final int bufferPoolOutstandingId;
+  private static final int bufferPoolIdleBytesId;
+  private static final int tlsHandshakesId;
+  private static final int tlsHandshakesResumedId;
+  private static final int tlsHandshakeTimeId;
 
   private static final int messagesBeingReceivedId;
   private static final int messageBytesBeingReceivedId;
@@ -607,6 +617,17 @@ public class DistributionStats implements DMStats {
         f.createLongCounter("batchFlushTime",
             "Total amount of time, in nanoseconds, spent flushing batched messages to the network",
             "nanoseconds"),
+        f.createLongCounter("coalescedWrites",
+            "Total number of socket writes done by connections that coalesce sent messages",
+            "writes"),
+        f.createLongCounter("coalescedMessages",
+            "Total number of messages sent in coalesced socket writes. Divide by coalescedWrites "
+                + "to get the average number of messages per write.",
+            "messages"),
+        f.createLongCounter("coalescedSendDelay",
+            "Total amount of time, in nanoseconds, that sent messages waited to be coalesced with "
+                + "other messages before being written",
+            "nanoseconds"),
 
         f.createIntGauge("asyncSocketWritesInProgress",
             "Current number of non-blocking socket write calls in progress.", "writes"),
@@ -659,6 +680,25 @@ public class DistributionStats implements DMStats {
         f.createLongGauge("receiverHeapBufferSize", receiverHeapBufferSizeDesc, "bytes"),
         f.createLongGauge("senderDirectBufferSize", senderDirectBufferSizeDesc, "bytes"),
         f.createLongGauge("senderHeapBufferSize", senderHeapBufferSizeDesc, "bytes"),
+        f.createLongCounter("bufferPoolHits",
+            "Total number of direct buffer requests satisfied by a pooled buffer.", "buffers"),
+        f.createLongCounter("bufferPoolMisses",
+            "Total number of direct buffer requests that had to allocate a new buffer.",
+            "buffers"),
+        f.createLongGauge("bufferPoolOutstanding",
+            "Current number of pooled buffers that have been acquired and not yet released.",
+            "buffers"),
+        f.createLongGauge("bufferPoolIdleBytes",
+            "Current number of bytes of direct memory held by idle pooled buffers.", "bytes"),
+        f.createLongCounter("tlsHandshakes",
+            "Total number of TLS handshakes done to create peer-to-peer connections.",
+            "handshakes"),
+        f.createLongCounter("tlsHandshakesResumed",
+            "Total number of TLS handshakes that resumed an earlier session instead of negotiating "
+                + "a new one.",
+            "handshakes"),
+        f.createLongCounter("tlsHandshakeTime",
+            "Total amount of time, in nanoseconds, spent doing TLS handshakes.", "nanoseconds"),
         f.createIntGauge("socketLocksInProgress",
             "Current number of threads waiting to lock a socket", "threads", false),
         f.createIntCounter("socketLocks", "Total number of times a socket has been locked.",
@@ -852,6 +892,9 @@ public class DistributionStats implements DMStats {
     batchCopyTimeId = type.nameToId("batchCopyTime");
     batchWaitTimeId = type.nameToId("batchWaitTime");
     batchFlushTimeId = type.nameToId("batchFlushTime");
+    coalescedWritesId = type.nameToId("coalescedWrites");
+    coalescedMessagesId = type.nameToId("coalescedMessages");
+    coalescedSendDelayId = type.nameToId("coalescedSendDelay");
 
     asyncSocketWritesInProgressId = type.nameToId("asyncSocketWritesInProgress");
     asyncSocketWritesId = type.nameToId("asyncSocketWrites");
@@ -886,6 +929,13 @@ public class DistributionStats implements DMStats {
     receiverHeapBufferSizeId = type.nameToId("receiverHeapBufferSize");
     senderDirectBufferSizeId = type.nameToId("senderDirectBufferSize");
     senderHeapBufferSizeId = type.nameToId("senderHeapBufferSize");
+    bufferPoolHitsId = type.nameToId("bufferPoolHits");
+    bufferPoolMissesId = type.nameToId("bufferPoolMisses");
+    bufferPoolOutstandingId = type.nameToId("bufferPoolOutstanding");
+    bufferPoolIdleBytesId = type.nameToId("bufferPoolIdleBytes");
+    tlsHandshakesId = type.nameToId("tlsHandshakes");
+    tlsHandshakesResumedId = type.nameToId("tlsHandshakesResumed");
+    tlsHandshakeTimeId = type.nameToId("tlsHandshakeTime");
 
     socketLocksInProgressId = type.nameToId("socketLocksInProgress");
     socketLocksId = type.nameToId("socketLocks");
@@ -2246,6 +2296,25 @@ public class DistributionStats implements DMStats {
     }
   }
 
+  @Override
+  public void endCoalescedWrite(int messages, long delayNanos) {
+    stats.incLong(coalescedWritesId, 1);
+    stats.incLong(coalescedMessagesId, messages);
+    stats.incLong(coalescedSendDelayId, delayNanos);
+  }
+
+  public long getCoalescedWrites() {
+    return stats.getLong(coalescedWritesId);
+  }
+
+  public long getCoalescedMessages() {
+    return stats.getLong(coalescedMessagesId);
+  }
+
+  public long getCoalescedSendDelay() {
+    return stats.getLong(coalescedSendDelayId);
+  }
+
   @Override
   public void incUcastRetransmits() {
     stats.incInt(ucastRetransmitsId, 1);
@@ -2299,6 +2368,47 @@ public class DistributionStats implements DMStats {
     }
   }
 
+  @Override
+  public void incBufferPoolHits() {
+    stats.incLong(bufferPoolHitsId, 1);
+  }
+
+  @Override
+  public void incBufferPoolMisses() {
+    stats.incLong(bufferPoolMissesId, 1);
+  }
+
+  @Override
+  public void incBufferPoolOutstanding(int delta) {
+    stats.incLong(bufferPoolOutstandingId, delta);
+  }
+
+  @Override
+  public void incBufferPoolIdleBytes(long delta) {
+    stats.incLong(bufferPoolIdleBytesId, delta);
+  }
+
+  public long getBufferPoolHits() {
+    return stats.getLong(bufferPoolHitsId);
+  }
+
+  public long getBufferPoolMisses() {
+    return stats.getLong(bufferPoolMissesId);
+  }
+
+  @Override
+  public void endTlsHandshake(long nanos, boolean resumed) {
+    stats.incLong(tlsHandshakesId, 1);
+    if (resumed) {
+      stats.incLong(tlsHandshakesResumedId, 1);
+    }
+    stats.incLong(tlsHandshakeTimeId, nanos);
+  }
+
+  public long getTlsHandshakes() {
+    return stats.getLong(tlsHandshakesId);
+  }
+
   @Override
   public void incMessagesBeingReceived(boolean newMsg, int bytes) {
     if (newMsg) {
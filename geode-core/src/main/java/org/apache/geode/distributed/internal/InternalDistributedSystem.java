@@ -106,6 +106,7 @@ import org.apache.geode.internal.logging.LogWriterFactory;
 import org.apache.geode.internal.logging.LoggingSession;
 import org.apache.geode.internal.logging.LoggingThread;
 import org.apache.geode.internal.logging.NullLoggingSession;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.SocketCreatorFactory;
 import org.apache.geode.internal.offheap.MemoryAllocator;
 import org.apache.geode.internal.offheap.OffHeapStorage;
@@ -619,6 +620,29 @@ public class InternalDistributedSystem extends DistributedSystem
     return offHeapStore;
   }
 
+  private volatile BufferPool commBufferPool;
+
+  private final Object commBufferPoolLock = new Object();
+
+  /**
+   * Returns the pool of the direct buffers used by the client/server connections of this system.
+   * Its use is recorded in the bufferPool statistics of the distribution manager; a loner has no
+   * distribution statistics, so on a client it is not recorded.
+   */
+  public BufferPool getCommBufferPool() {
+    BufferPool result = commBufferPool;
+    if (result == null) {
+      synchronized (commBufferPoolLock) {
+        result = commBufferPool;
+        if (result == null) {
+          result = new BufferPool(dm.getStats());
+          commBufferPool = result;
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Initialize any services that provided as extensions to the cache using the service loader
    * mechanism.
@@ -623,6 +623,9 @@ public class LonerDistributionManager implements DistributionManager {
     @Override
     public void incBatchFlushTime(long start) {}
 
+    @Override
+    public void endCoalescedWrite(int messages, long delayNanos) {}
+
     @Override
     public void incUcastWriteBytes(int bytesWritten) {}
 
@@ -824,6 +827,21 @@ public class LonerDistributionManager implements DistributionManager {
     @Override
     public void incSenderBufferSize(int inc, boolean direct) {}
 
+    @Override
+    public void incBufferPoolHits() {}
+
+    @Override
+    public void incBufferPoolMisses() {}
+
+    @Override
+    public void incBufferPoolOutstanding(int delta) {}
+
+    @Override
+    public void incBufferPoolIdleBytes(long delta) {}
+
+    @Override
+    public void endTlsHandshake(long nanos, boolean resumed) {}
+
     @Override
     public long startSocketLock() {
       return 0;
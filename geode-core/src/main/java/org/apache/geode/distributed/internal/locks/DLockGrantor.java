@@ -835,6 +835,7 @@ public class DLockGrantor {
       else if (request.isTryLock()) {
         cleanupSuspendState(request);
         request.respondWithTryLockFailed(request.getObjectName());
+        revokeCachedLease(grant);
       }
 
       // if request has timed out...
@@ -846,12 +847,49 @@ public class DLockGrantor {
       else {
         grant.schedule(request);
         this.thread.checkTimeToWait(calcWaitMillisFromNow(request), false);
+        revokeCachedLease(grant);
       }
     } finally {
       grant.decAccess();
     }
   }
 
+  /**
+   * Asks the lessee of a lock to release its lease if it caches the lease after unlocking, because
+   * another request for the lock has to wait for it.
+   * <p>
+   * Synchronizes on the grant token.
+   *
+   * @param grant the grant token of the lock
+   */
+  private void revokeCachedLease(DLockGrantToken grant) {
+    InternalDistributedMember lessee;
+    int leaseId;
+    synchronized (grant) {
+      leaseId = grant.startRevokingLease();
+      lessee = grant.getOwner();
+    }
+    if (leaseId > -1) {
+      DLockRevokeMessage.send(this.dm, lessee, this.dlock.getName(), grant.getName(), leaseId);
+    }
+  }
+
+  /**
+   * Asks the lessees of all locks to release the leases they cache, because a request to suspend
+   * locking has to wait for them.
+   * <p>
+   * Synchronizes on grantTokens and each grant token.
+   */
+  private void revokeCachedLeases() {
+    List grants;
+    synchronized (this.grantTokens) {
+      grants = new ArrayList(this.grantTokens.values());
+    }
+    for (Iterator iter = grants.iterator(); iter.hasNext();) {
+      revokeCachedLease((DLockGrantToken) iter.next());
+    }
+  }
+
   /**
    * Initializes this new grantor with previously held locks as provided during grantor recovery.
    * <p>
@@ -2159,6 +2197,7 @@ public class DLockGrantor {
    */
   private boolean acquireSuspendLockPermission(DLockRequestMessage request) {
     boolean permitLockRequest = false;
+    boolean waitForReadLocks = false;
     final RemoteThread rThread = request.getRemoteThread();
     Assert.assertTrue(rThread != null);
 
@@ -2173,6 +2212,7 @@ public class DLockGrantor {
       boolean othersHaveReadLocks = totalReadLockCount > readLockCount;
       final boolean isDebugEnabled_DLS = logger.isTraceEnabled(LogMarker.DLS_VERBOSE);
       if (isLockingSuspended() || writeLockWaiters > 0 || othersHaveReadLocks) {
+        waitForReadLocks = othersHaveReadLocks;
         writeLockWaiters++;
         suspendQueue.addLast(request);
         this.thread.checkTimeToWait(calcWaitMillisFromNow(request), false);
@@ -2196,6 +2236,9 @@ public class DLockGrantor {
             permitLockRequest, displayStatus(rThread, null));
       }
     } // suspendLock sync
+    if (waitForReadLocks) {
+      revokeCachedLeases();
+    }
     return permitLockRequest;
   }
 
@@ -2418,6 +2461,20 @@ public class DLockGrantor {
      */
     private RemoteThread lesseeThread = null;
 
+    /**
+     * The id of the current lease if the lessee caches it after unlocking until it is revoked
+     *
+     * guarded.By this
+     */
+    private int cacheableLeaseId = -1;
+
+    /**
+     * The id of the last lease that the lessee has been asked to release
+     *
+     * guarded.By this
+     */
+    private int revokedLeaseId = -1;
+
     /**
      * Instatiates a new instance of DLockGrantToken.
      *
@@ -2875,6 +2932,9 @@ public class DLockGrantor {
 
         grantLock(request.getSender(), newLeaseExpireTime, request.getLockId(),
             request.getRemoteThread());
+        if (request.isCacheLease()) {
+          this.cacheableLeaseId = request.getLockId();
+        }
 
         if (isSuspendLockingToken()) {
           synchronized (this.grantor.suspendLock) {
@@ -3211,6 +3271,23 @@ public class DLockGrantor {
       }
     }
 
+    /**
+     * Marks the current lease as revoked if the lessee caches it and it has not been revoked
+     * already.
+     * <p>
+     * Caller must synchronize on this grant token.
+     *
+     * @return the id of the lease the lessee has to be asked to release or -1 guarded.By this
+     */
+    int startRevokingLease() {
+      if (isLeaseHeld() && this.leaseId == this.cacheableLeaseId
+          && this.leaseId != this.revokedLeaseId) {
+        this.revokedLeaseId = this.leaseId;
+        return this.leaseId;
+      }
+      return -1;
+    }
+
     /**
      * Returns true if this lock is currently leased out.
      * <p>
@@ -39,6 +39,8 @@ import org.apache.geode.distributed.internal.ReplyMessage;
 import org.apache.geode.distributed.internal.ReplyProcessor21;
 import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
 import org.apache.geode.internal.Assert;
+import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.Version;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.log4j.LogMarker;
 
@@ -141,6 +143,14 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
     return new DLockRequestMessage();
   }
 
+  /**
+   * Asks the grantor to revoke the lease when another member requests the lock, so that the lease
+   * may be cached by this member after the lock is unlocked.
+   */
+  void requestCacheableLease() {
+    this.request.cacheLease = true;
+  }
+
   protected CancelCriterion getCancelCriterion(DistributionManager ignoreDM) {
     return this.svc.getCancelCriterion();
   }
@@ -421,6 +431,9 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
     /** serial number of the DLockService that originated this request */
     protected int dlsSerialNumber;
 
+    /** True if the requestor caches the lease until the grantor revokes it */
+    protected boolean cacheLease;
+
     protected transient DLockService svc;
     protected transient DLockGrantor grantor;
     private transient long statStart = -1;
@@ -479,6 +492,10 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
       return this.grantorSerialNumber;
     }
 
+    public boolean isCacheLease() {
+      return this.cacheLease;
+    }
+
     private final transient Object rThreadLock = new Object();
 
     public RemoteThread getRemoteThread() {
@@ -936,6 +953,10 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
       out.writeLong(this.grantorVersion);
       out.writeInt(this.grantorSerialNumber);
       out.writeInt(this.dlsSerialNumber);
+      if (InternalDataSerializer.getVersionForDataStream(out)
+          .compareTo(Version.GEODE_1_10_0) >= 0) {
+        out.writeBoolean(this.cacheLease);
+      }
     }
 
     @Override
@@ -954,6 +975,9 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
       this.grantorVersion = in.readLong();
       this.grantorSerialNumber = in.readInt();
       this.dlsSerialNumber = in.readInt();
+      if (InternalDataSerializer.getVersionForDataStream(in).compareTo(Version.GEODE_1_10_0) >= 0) {
+        this.cacheLease = in.readBoolean();
+      }
     }
 
     @Override
@@ -974,6 +998,7 @@ public class DLockRequestProcessor extends ReplyProcessor21 {
       sb.append(" grantorVersion=" + this.grantorVersion);
       sb.append(" grantorSerialNumber=" + this.grantorSerialNumber);
       sb.append(" dlsSerialNumber=" + this.dlsSerialNumber);
+      sb.append(" cacheLease=" + this.cacheLease);
       sb.append("}");
       return sb.toString();
     }
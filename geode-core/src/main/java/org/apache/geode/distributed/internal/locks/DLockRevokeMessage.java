@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.locks;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.CancelException;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.distributed.internal.ClusterDistributionManager;
+import org.apache.geode.distributed.internal.DistributionManager;
+import org.apache.geode.distributed.internal.HighPriorityDistributionMessage;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+
+/**
+ * Sent by the lock grantor to the lessee of a lock whose lease the lessee caches after unlocking,
+ * when another member has requested the lock. The lessee releases the lease right away if it has
+ * cached it, or else as soon as it unlocks the lock. There is no reply; the lessee releases the
+ * lease with a {@link DLockReleaseProcessor.DLockReleaseMessage}.
+ */
+public class DLockRevokeMessage extends HighPriorityDistributionMessage {
+  private static final Logger logger = LogService.getLogger();
+
+  /** The name of the DistributedLockService */
+  private String serviceName;
+
+  /** The name of the lock */
+  private Object objectName;
+
+  /** The id of the lease to release */
+  private int leaseId;
+
+  public DLockRevokeMessage() {}
+
+  /**
+   * Sends a revoke message to the lessee of a lock, or processes it in this member if the lessee
+   * is the grantor itself.
+   */
+  static void send(DistributionManager dm, InternalDistributedMember lessee, String serviceName,
+      Object objectName, int leaseId) {
+    DLockRevokeMessage msg = new DLockRevokeMessage();
+    msg.serviceName = serviceName;
+    msg.objectName = objectName;
+    msg.leaseId = leaseId;
+    msg.setRecipient(lessee);
+
+    if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+      logger.trace(LogMarker.DLS_VERBOSE, "DLockRevokeMessage sending {} to {}", msg, lessee);
+    }
+
+    if (lessee.equals(dm.getId())) {
+      msg.setSender(dm.getId());
+      msg.processLocally(dm);
+    } else {
+      dm.putOutgoing(msg);
+    }
+  }
+
+  @Override
+  protected void process(ClusterDistributionManager dm) {
+    processLocally(dm);
+  }
+
+  /**
+   * Releases the lease in the waiting pool, because releasing it waits for the grantor.
+   */
+  private void processLocally(DistributionManager dm) {
+    final DLockService svc = DLockService.getInternalServiceNamed(this.serviceName);
+    if (svc == null) {
+      return;
+    }
+    final InternalDistributedMember grantor = getSender();
+    try {
+      dm.getWaitingThreadPool().execute(() -> {
+        try {
+          svc.revokeCachedLease(this.objectName, this.leaseId, grantor);
+        } catch (CancelException e) {
+          if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+            logger.trace(LogMarker.DLS_VERBOSE, "DLockRevokeMessage ignored cancellation", e);
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+        logger.trace(LogMarker.DLS_VERBOSE, "DLockRevokeMessage rejected during shutdown", e);
+      }
+    }
+  }
+
+  @Override
+  public int getDSFID() {
+    return DLOCK_REVOKE_MESSAGE;
+  }
+
+  @Override
+  public void toData(DataOutput out) throws IOException {
+    super.toData(out);
+    out.writeUTF(this.serviceName);
+    DataSerializer.writeObject(this.objectName, out);
+    out.writeInt(this.leaseId);
+  }
+
+  @Override
+  public void fromData(DataInput in) throws IOException, ClassNotFoundException {
+    super.fromData(in);
+    this.serviceName = in.readUTF();
+    this.objectName = DataSerializer.readObject(in);
+    this.leaseId = in.readInt();
+  }
+
+  @Override
+  public String toString() {
+    return "DLockRevokeMessage (serviceName='" + this.serviceName + "' name=" + this.objectName
+        + " leaseId=" + this.leaseId + ")";
+  }
+}
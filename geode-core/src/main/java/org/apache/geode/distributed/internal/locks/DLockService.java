@@ -84,6 +84,14 @@ public class DLockService extends DistributedLockService {
   private static final boolean AUTOMATE_FREE_RESOURCES =
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "DLockService.automateFreeResources");
 
+  /**
+   * If true, a member keeps the lease on a lock that was granted without a lease time when it
+   * unlocks it, and grants the lock to its own threads again without asking the grantor until
+   * the grantor revokes the lease for another member.
+   */
+  static final String CACHE_LEASES_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "DLockService.cacheLeases";
+
   static final int INVALID_LEASE_ID = -1;
 
   /** Unique name for this instance of the named locking service */
@@ -152,6 +160,9 @@ public class DLockService extends DistributedLockService {
   /** True if this service should automatically freeResources */
   private final boolean automateFreeResources;
 
+  /** True if this service caches the leases of unlocked locks until the grantor revokes them */
+  private final boolean cacheLeases;
+
   /** Identifies the thread that is destroying this lock service. */
   private final ThreadLocal<Boolean> destroyingThread = new ThreadLocal<Boolean>();
 
@@ -1439,21 +1450,43 @@ public class DLockService extends DistributedLockService {
                 // loop back around due to expiration
                 continue;
               }
+              if (this.cacheLeases && isLeaseLongEnough(token, requestLeaseTime)) {
+                // the grantor would not change the lease, so don't ask it
+                token.grantLock(token.getLeaseExpireTime(), lockId, recursionBefore + 1,
+                    token.getLesseeThread());
+                getStats().incLocalLockGrants();
+                gotLock = true;
+                keepTrying = false;
+                continue;
+              }
             } // isLeaseHeldByCurrentThread
           } // token sync
 
           LockGrantorId theLockGrantorId = getLockGrantorId();
 
+          boolean cacheLease = false;
           if (reentrant) {
             Assert.assertTrue(lockId > -1, "Reentrant lock must have lockId > -1");
             // lockId = token.getLockId(); // keep lockId
           } else {
             // this thread is not current owner...
             lockId = -1; // reset lockId back to -1
+
+            if (this.cacheLeases
+                && grantCachedLease(name, token, threadId, requestLeaseTime, theLockGrantorId)) {
+              getStats().incLocalLockGrants();
+              gotLock = true;
+              keepTrying = false;
+              continue;
+            }
+            cacheLease = isLeaseCacheable(name, requestLeaseTime, theLockGrantorId);
           }
 
           DLockRequestProcessor processor = createRequestProcessor(theLockGrantorId, name, threadId,
               startTime, requestLeaseTime, requestWaitTime, reentrant, tryLock, disableAlerts);
+          if (cacheLease) {
+            processor.requestCacheableLease();
+          }
           if (reentrant) {
             // check for race condition... reentrant expired already...
             // related to bug 32765, but client-side... see bug 33402
@@ -1482,7 +1515,7 @@ public class DLockService extends DistributedLockService {
             int recursion = recursionBefore + 1;
 
             if (!grantLocalDLockAfterObtainingRemoteLock(name, token, threadId, leaseExpireTime,
-                lockId, theLockGrantorId, processor, recursion)) {
+                lockId, theLockGrantorId, processor, recursion, cacheLease)) {
               continue;
             }
 
@@ -1574,9 +1607,125 @@ public class DLockService extends DistributedLockService {
     }
   }
 
+  /**
+   * Returns true if the current lease on the token lasts at least as long as a lease of the
+   * requested time would, so that reentering the lock does not need to extend it. Caller must
+   * synchronize on the token.
+   */
+  private boolean isLeaseLongEnough(DLockToken token, long requestLeaseTime) {
+    long leaseExpireTime = token.getLeaseExpireTime();
+    if (leaseExpireTime == Long.MAX_VALUE) {
+      return true;
+    }
+    return requestLeaseTime < Long.MAX_VALUE
+        && token.getCurrentTime() + requestLeaseTime <= leaseExpireTime;
+  }
+
+  /**
+   * Returns true if the lease granted for a lock request may be cached by this member when the
+   * lock is unlocked. Only leases without a lease time are cached, and only if the grantor is able
+   * to revoke them.
+   */
+  private boolean isLeaseCacheable(Object name, long requestLeaseTime,
+      LockGrantorId theLockGrantorId) {
+    return this.cacheLeases && requestLeaseTime == Long.MAX_VALUE
+        && !SUSPEND_LOCKING_TOKEN.equals(name)
+        && theLockGrantorId.getLockGrantorMember().getVersionObject()
+            .compareTo(Version.GEODE_1_10_0) >= 0;
+  }
+
+  /**
+   * Grants the lock to the calling thread from the lease that this member cached when the lock was
+   * last unlocked, without asking the grantor. A cached lease that the current grantor did not
+   * grant is dropped, and one that can not be used for the request is released to the grantor so
+   * that the request isn't queued behind it.
+   *
+   * @return true if the lock has been granted from the cached lease
+   */
+  private boolean grantCachedLease(Object name, DLockToken token, int threadId,
+      long requestLeaseTime, LockGrantorId theLockGrantorId) {
+    int leaseIdToRelease;
+    Assert.assertHoldsLock(this.destroyLock, false);
+    synchronized (this.lockGrantorIdLock) {
+      synchronized (this.tokens) {
+        checkDestroyed();
+        synchronized (token) {
+          LockGrantorId cachedLeaseGrantor = token.getCachedLeaseGrantor();
+          if (cachedLeaseGrantor == null) {
+            return false;
+          }
+          int cachedLeaseId = token.removeCachedLease();
+          if (!checkLockGrantorId(cachedLeaseGrantor)) {
+            // the current grantor did not recover the cached lease
+            return false;
+          }
+          if (requestLeaseTime == Long.MAX_VALUE) {
+            RemoteThread rThread = new RemoteThread(getDistributionManager().getId(), threadId);
+            token.grantLock(Long.MAX_VALUE, cachedLeaseId, 0, rThread);
+            token.setCacheableLeaseGrantor(cachedLeaseGrantor);
+            if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+              logger.trace(LogMarker.DLS_VERBOSE, "{}, name: {} - granted cached lease: {}", this,
+                  name, token);
+            }
+            return true;
+          }
+          leaseIdToRelease = cachedLeaseId;
+        }
+      }
+    }
+    try {
+      callReleaseProcessor(theLockGrantorId.getLockGrantorMember(), name, false,
+          leaseIdToRelease);
+    } catch (LockGrantorDestroyedException e) {
+      // the next grantor will not know the cached lease
+    }
+    return false;
+  }
+
+  /**
+   * Releases the lease that this member cached for a lock, because the grantor has received a
+   * request for the lock from another member. If the lease is currently in use, it is released
+   * when the lock is unlocked instead of being cached again.
+   *
+   * @param name the name of the lock
+   * @param leaseId the id of the lease to release
+   * @param grantor the grantor that revoked the lease
+   */
+  void revokeCachedLease(Object name, int leaseId, InternalDistributedMember grantor) {
+    DLockToken token;
+    synchronized (this.tokens) {
+      if (this.destroyed) {
+        return;
+      }
+      token = basicGetToken(name);
+    }
+    if (token == null) {
+      return;
+    }
+    boolean release;
+    synchronized (token) {
+      release = token.revokeLease(leaseId);
+    }
+    if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+      logger.trace(LogMarker.DLS_VERBOSE, "{}, name: {} - lease {} revoked by {}, cached={}", this,
+          name, leaseId, grantor, release);
+    }
+    if (release) {
+      getStats().incCachedLeaseRevokes();
+      try {
+        callReleaseProcessor(grantor, name, false, leaseId);
+      } catch (LockGrantorDestroyedException | LockServiceDestroyedException e) {
+        // the grantor no longer has the lease
+      }
+      if (this.automateFreeResources && !isDestroyed()) {
+        freeResources(name);
+      }
+    }
+  }
+
   private boolean grantLocalDLockAfterObtainingRemoteLock(Object name, DLockToken token,
       int threadId, long leaseExpireTime, int lockId, LockGrantorId theLockGrantorId,
-      DLockRequestProcessor processor, int recursion) {
+      DLockRequestProcessor processor, int recursion, boolean cacheLease) {
     boolean needToReleaseOrphanedGrant = false;
 
     Assert.assertHoldsLock(this.destroyLock, false);
@@ -1602,6 +1751,12 @@ public class DLockService extends DistributedLockService {
           Assert.assertTrue(token == basicGetToken(name));
           RemoteThread rThread = new RemoteThread(getDistributionManager().getId(), threadId);
           token.grantLock(leaseExpireTime, lockId, recursion, rThread);
+          if (cacheLease) {
+            // under lockGrantorIdLock so that grantor recovery can't miss it
+            synchronized (token) {
+              token.setCacheableLeaseGrantor(theLockGrantorId);
+            }
+          }
           return true;
         } // tokens sync
       }
@@ -1736,6 +1891,7 @@ public class DLockService extends DistributedLockService {
     long statStart = getStats().startLockRelease();
 
     boolean hadRecursion = false;
+    boolean cachedLease = false;
     boolean unlocked = false;
     int lockId = -1;
     DLockToken token = null;
@@ -1776,13 +1932,17 @@ public class DLockService extends DistributedLockService {
           Assert.assertTrue(lockId > -1);
           if (hadRecursion) {
             unlocked = token.releaseLock(lockId, rThread);
+          } else if (token.cacheLease()) {
+            // the grantor keeps the lease until it revokes it
+            unlocked = true;
+            cachedLease = true;
           } else {
             token.setIgnoreForRecovery(true);
           }
         } // token sync
       } // tokens map sync
 
-      if (!hadRecursion) {
+      if (!hadRecursion && !cachedLease) {
         boolean lockBatch = false;
         boolean released = false;
 
@@ -1937,6 +2097,7 @@ public class DLockService extends DistributedLockService {
     this.isDistributed = isDistributed;
     this.destroyOnDisconnect = destroyOnDisconnect;
     this.automateFreeResources = automateFreeResources || AUTOMATE_FREE_RESOURCES;
+    this.cacheLeases = isDistributed && Boolean.getBoolean(CACHE_LEASES_PROPERTY);
   }
 
   // -------------------------------------------------------------------------
@@ -2353,6 +2514,10 @@ public class DLockService extends DistributedLockService {
   /**
    * Called by grantor recovery to return set of locks held by this process. Synchronizes on
    * lockGrantorIdLock, tokens map, and each lock token.
+   * <p>
+   * Cached leases are discarded, because the new grantor does not recover them and may grant
+   * their locks to other members. Held leases are released to the new grantor when they are
+   * unlocked instead of being cached.
    *
    * @param newlockGrantorId the newly recovering grantor
    */
@@ -2381,6 +2546,12 @@ public class DLockService extends DistributedLockService {
         // build up set of currently held locks
         for (DLockToken token : this.tokens.values()) {
           synchronized (token) {
+            if (token.removeCachedLease() > -1 && isDebugEnabled_DLS) {
+              logger.trace(LogMarker.DLS_VERBOSE,
+                  "getLockTokensForRecovery discarded cached lease {}", token);
+            }
+            token.setCacheableLeaseGrantor(null);
+
             if (token.isLeaseHeld()) {
 
               // skip over token if ignoreForRecovery is true
@@ -109,6 +109,8 @@ public class DLockStats implements DistributedLockStats {
   private static final int becomeGrantorRequestsId;
   private static final int freeResourcesCompletedId;
   private static final int freeResourcesFailedId;
+  private static final int localLockGrantsId;
+  private static final int cachedLeaseRevokesId;
 
   static {
     String statName = "DLockStats";
@@ -240,6 +242,10 @@ public class DLockStats implements DistributedLockStats {
         "Total number of times this member has freed resources for a distributed lock.";
     final String freeResourcesFailedDesc =
         "Total number of times this member has attempted to free resources for a distributed lock which remained in use.";
+    final String localLockGrantsDesc =
+        "Total number of distributed locks granted by this member without a request to the grantor, because the lock was reentered or its lease was cached.";
+    final String cachedLeaseRevokesDesc =
+        "Total number of cached leases this member has released because the grantor received a request for the lock.";
 
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
 
@@ -324,7 +330,9 @@ public class DLockStats implements DistributedLockStats {
         f.createLongCounter("lockReleaseTime", lockReleaseTimeDesc, "nanoseconds", false),
         f.createIntCounter("becomeGrantorRequests", becomeGrantorRequestsDesc, "operations"),
         f.createIntCounter("freeResourcesCompleted", freeResourcesCompletedDesc, "operations"),
-        f.createIntCounter("freeResourcesFailed", freeResourcesFailedDesc, "operations"),});
+        f.createIntCounter("freeResourcesFailed", freeResourcesFailedDesc, "operations"),
+        f.createIntCounter("localLockGrants", localLockGrantsDesc, "operations"),
+        f.createIntCounter("cachedLeaseRevokes", cachedLeaseRevokesDesc, "operations"),});
 
     // Initialize id fields
     grantorsId = type.nameToId("grantors");
@@ -394,6 +402,8 @@ public class DLockStats implements DistributedLockStats {
     becomeGrantorRequestsId = type.nameToId("becomeGrantorRequests");
     freeResourcesCompletedId = type.nameToId("freeResourcesCompleted");
     freeResourcesFailedId = type.nameToId("freeResourcesFailed");
+    localLockGrantsId = type.nameToId("localLockGrants");
+    cachedLeaseRevokesId = type.nameToId("cachedLeaseRevokes");
   } // static block
 
   /** The Statistics object that we delegate most behavior to */
@@ -1076,6 +1086,26 @@ public class DLockStats implements DistributedLockStats {
     this.stats.incInt(freeResourcesFailedId, 1);
   }
 
+  @Override
+  public int getLocalLockGrants() {
+    return this.stats.getInt(localLockGrantsId);
+  }
+
+  @Override
+  public void incLocalLockGrants() {
+    this.stats.incInt(localLockGrantsId, 1);
+  }
+
+  @Override
+  public int getCachedLeaseRevokes() {
+    return this.stats.getInt(cachedLeaseRevokesId);
+  }
+
+  @Override
+  public void incCachedLeaseRevokes() {
+    this.stats.incInt(cachedLeaseRevokesId, 1);
+  }
+
   // -------------------------------------------------------------------------
   // StatHelpers for dedicated dlock executors
   // -------------------------------------------------------------------------
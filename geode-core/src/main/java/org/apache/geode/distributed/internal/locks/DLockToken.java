@@ -101,6 +101,30 @@ public class DLockToken {
    */
   private boolean ignoreForRecovery = false;
 
+  /**
+   * The grantor of the current lease if the lease may be cached by this member when it is
+   * unlocked, or null if it has to be released to the grantor.
+   */
+  private LockGrantorId cacheableLeaseGrantor = null;
+
+  /**
+   * The id of a lease that this member kept after it was unlocked, or -1 if there is none. The
+   * grantor still considers this member the holder of the lock, so it can be granted to a local
+   * thread again without asking the grantor.
+   */
+  private int cachedLeaseId = -1;
+
+  /**
+   * The grantor of the cached lease.
+   */
+  private LockGrantorId cachedLeaseGrantor = null;
+
+  /**
+   * The id of the last lease that the grantor asked this member to release because another member
+   * requested the lock. A revoked lease is released to the grantor when it is unlocked.
+   */
+  private int revokedLeaseId = -1;
+
   // -------------------------------------------------------------------------
   // Constructors
   // -------------------------------------------------------------------------
@@ -322,6 +346,79 @@ public class DLockToken {
     }
   }
 
+  /**
+   * Allows the current lease to be cached by this member when it is unlocked. Caller must
+   * synchronize on this lock token.
+   *
+   * @param grantor the grantor that granted the current lease
+   */
+  void setCacheableLeaseGrantor(LockGrantorId grantor) {
+    this.cacheableLeaseGrantor = grantor;
+  }
+
+  /**
+   * Returns the grantor of the lease that this member cached when the lock was last unlocked, or
+   * null if there is no cached lease. Caller must synchronize on this lock token.
+   *
+   * @return the grantor of the cached lease or null
+   */
+  LockGrantorId getCachedLeaseGrantor() {
+    return this.cachedLeaseGrantor;
+  }
+
+  /**
+   * Ends the current lease locally but keeps it for this member instead of releasing it to the
+   * grantor, if the lease is cacheable and the grantor has not revoked it. A cached lease keeps
+   * using this lock token. Caller must synchronize on this lock token.
+   *
+   * @return true if the lease has been cached
+   */
+  boolean cacheLease() {
+    if (this.cacheableLeaseGrantor == null || this.leaseId == this.revokedLeaseId
+        || this.recursion > 0 || this.destroyed) {
+      return false;
+    }
+    this.cachedLeaseId = this.leaseId;
+    this.cachedLeaseGrantor = this.cacheableLeaseGrantor;
+    if (logger.isTraceEnabled(LogMarker.DLS_VERBOSE)) {
+      logger.trace(LogMarker.DLS_VERBOSE, "[DLockToken.cacheLease] caching lease: {}", this);
+    }
+    clearLease();
+    return true;
+  }
+
+  /**
+   * Removes the cached lease from this lock token. Caller must synchronize on this lock token.
+   *
+   * @return the id of the cached lease or -1 if there was none
+   */
+  int removeCachedLease() {
+    int removedLeaseId = this.cachedLeaseId;
+    if (removedLeaseId > -1) {
+      this.cachedLeaseId = -1;
+      this.cachedLeaseGrantor = null;
+      decUsage();
+    }
+    return removedLeaseId;
+  }
+
+  /**
+   * Handles a request of the grantor to release a lease. A cached lease is removed so that the
+   * caller can release it. If the lease is in use, or its grant has not been processed yet, it
+   * will be released when it is unlocked instead. Caller must synchronize on this lock token.
+   *
+   * @param revokedLeaseId the id of the lease to release
+   * @return true if the lease was cached and must now be released by the caller
+   */
+  boolean revokeLease(int revokedLeaseId) {
+    if (this.cachedLeaseId == revokedLeaseId) {
+      removeCachedLease();
+      return true;
+    }
+    this.revokedLeaseId = revokedLeaseId;
+    return false;
+  }
+
   /**
    * Returns true if there's currently a lease on this lock token. Synchronizes on this lock token.
    *
@@ -438,14 +535,21 @@ public class DLockToken {
           this);
     }
 
+    clearLease();
+    decUsage();
+  }
+
+  /**
+   * Nulls out current lease. Caller must be synchronized on this lock token.
+   */
+  private void clearLease() {
     this.leaseId = -1;
     this.lesseeThread = null;
     this.leaseExpireTime = -1;
     this.thread = null;
     this.recursion = 0;
     this.ignoreForRecovery = false;
-
-    decUsage();
+    this.cacheableLeaseGrantor = null;
   }
 
   // -------------------------------------------------------------------------
@@ -534,8 +638,8 @@ public class DLockToken {
           + ", thread: <" + getThreadName() + ">" + ", recursion: " + this.recursion
           + ", leaseExpireTime: " + this.leaseExpireTime + ", leaseId: " + this.leaseId
           + ", ignoreForRecovery: " + this.ignoreForRecovery + ", lesseeThread: "
-          + this.lesseeThread + ", usageCount: " + this.usageCount + ", currentTime: "
-          + getCurrentTime();
+          + this.lesseeThread + ", usageCount: " + this.usageCount + ", cachedLeaseId: "
+          + this.cachedLeaseId + ", currentTime: " + getCurrentTime();
     }
   }
 }
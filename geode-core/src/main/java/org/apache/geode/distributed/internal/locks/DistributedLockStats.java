@@ -267,4 +267,14 @@ public interface DistributedLockStats {
   int getFreeResourcesFailed();
 
   void incFreeResourcesFailed();
+
+  // total number of locks granted without a request to the grantor
+  int getLocalLockGrants();
+
+  void incLocalLockGrants();
+
+  // total number of cached leases released because the grantor revoked them
+  int getCachedLeaseRevokes();
+
+  void incCachedLeaseRevokes();
 }
@@ -473,6 +473,22 @@ public class DummyDLockStats implements DistributedLockStats {
   @Override
   public void incFreeResourcesFailed() {}
 
+  @Override
+  public int getLocalLockGrants() {
+    return -1;
+  }
+
+  @Override
+  public void incLocalLockGrants() {}
+
+  @Override
+  public int getCachedLeaseRevokes() {
+    return -1;
+  }
+
+  @Override
+  public void incCachedLeaseRevokes() {}
+
   public static class DummyPoolStatHelper implements PoolStatHelper {
     @Override
     public void startJob() {}
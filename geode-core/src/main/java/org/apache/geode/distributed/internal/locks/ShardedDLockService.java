@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.locks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.annotations.internal.MakeNotStatic;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.distributed.internal.membership.InternalDistributedMember;
+
+/**
+ * A distributed lock service whose locks are spread over several {@link DLockService} shards by
+ * the hash of their names. Every shard has its own grantor, so the grant requests of a busy service
+ * are not all served by one member.
+ *
+ * When a member creates the service it asks to become the grantor of the shards that fall to its
+ * rank among the members of the distributed system. A shard that already has a grantor keeps it,
+ * so a member that joins later does not take grantorship away from another member.
+ *
+ * Suspending locking suspends every shard, always in the same order so that two threads
+ * suspending the service can't deadlock.
+ */
+public class ShardedDLockService extends DistributedLockService {
+
+  /**
+   * The number of shards that the services created through
+   * {@link DistributedLockService#create(String, org.apache.geode.distributed.DistributedSystem)}
+   * are split into. A service is not sharded unless this is more than one.
+   */
+  static final String GRANTOR_SHARDS_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "DLockService.grantorShards";
+
+  private static final String SHARD_SEPARATOR = "#shard-";
+
+  @MakeNotStatic
+  private static final Map<String, ShardedDLockService> services = new ConcurrentHashMap<>();
+
+  private final String serviceName;
+
+  private final DLockService[] shards;
+
+  private ShardedDLockService(String serviceName, DLockService[] shards) {
+    this.serviceName = serviceName;
+    this.shards = shards;
+  }
+
+  /**
+   * @return the number of shards new application lock services are split into
+   */
+  public static int getConfiguredShards() {
+    return Integer.getInteger(GRANTOR_SHARDS_PROPERTY, 1);
+  }
+
+  /**
+   * Creates a sharded lock service with the given number of shards.
+   *
+   * @throws IllegalArgumentException if a service with the given name, or the name of one of its
+   *         shards, has already been created
+   */
+  public static ShardedDLockService create(String serviceName, InternalDistributedSystem ds,
+      int shardCount) throws IllegalArgumentException {
+    synchronized (services) {
+      ShardedDLockService existing = services.get(serviceName);
+      if (existing != null && !existing.isDestroyed()) {
+        throw new IllegalArgumentException(
+            String.format("Service named %s already created", serviceName));
+      }
+      DLockService[] shards = new DLockService[shardCount];
+      try {
+        for (int i = 0; i < shardCount; i++) {
+          shards[i] = (DLockService) DLockService.create(getShardName(serviceName, i), ds,
+              true /* distributed */, true /* destroyOnDisconnect */,
+              false /* automateFreeResources */);
+        }
+      } catch (RuntimeException e) {
+        for (DLockService shard : shards) {
+          if (shard != null) {
+            shard.destroyAndRemove();
+          }
+        }
+        throw e;
+      }
+      ShardedDLockService service = new ShardedDLockService(serviceName, shards);
+      services.put(serviceName, service);
+      service.claimGrantors(ds);
+      return service;
+    }
+  }
+
+  /**
+   * @return the sharded service with the given name, or null if there is none
+   */
+  public static ShardedDLockService getServiceNamed(String serviceName) {
+    ShardedDLockService service = services.get(serviceName);
+    if (service != null && service.isDestroyed()) {
+      // destroyed with the distributed system
+      services.remove(serviceName, service);
+      return null;
+    }
+    return service;
+  }
+
+  /**
+   * Destroys the sharded service with the given name.
+   *
+   * @return false if there is no sharded service with that name
+   */
+  public static boolean destroyServiceNamed(String serviceName) {
+    ShardedDLockService service = services.remove(serviceName);
+    if (service == null) {
+      return false;
+    }
+    for (DLockService shard : service.shards) {
+      if (!shard.isDestroyed()) {
+        shard.destroyAndRemove();
+      }
+    }
+    return true;
+  }
+
+  static String getShardName(String serviceName, int shard) {
+    return serviceName + SHARD_SEPARATOR + shard;
+  }
+
+  public String getName() {
+    return serviceName;
+  }
+
+  /**
+   * @return the shard that grants the lock with the given name
+   */
+  DLockService getShard(Object name) {
+    int hash = name == null ? 0 : name.hashCode();
+    return shards[Math.floorMod(hash, shards.length)];
+  }
+
+  int getShardCount() {
+    return shards.length;
+  }
+
+  boolean isDestroyed() {
+    for (DLockService shard : shards) {
+      if (shard.isDestroyed()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Asks to become the grantor of every shard whose index is this member's rank modulo the number
+   * of members. Getting the grantor of a shard only makes this member the grantor if the shard has
+   * none yet.
+   */
+  private void claimGrantors(InternalDistributedSystem ds) {
+    List<InternalDistributedMember> members =
+        new ArrayList<>(ds.getDistributionManager().getNormalDistributionManagerIds());
+    members.sort(InternalDistributedMember::compareTo);
+    int rank = members.indexOf(ds.getDistributedMember());
+    if (rank < 0) {
+      return;
+    }
+    for (int i = rank; i < shards.length; i += members.size()) {
+      shards[i].getLockGrantorId();
+    }
+  }
+
+  @Override
+  public boolean lock(Object name, long waitTimeMillis, long leaseTimeMillis) {
+    return getShard(name).lock(name, waitTimeMillis, leaseTimeMillis);
+  }
+
+  @Override
+  public boolean lockInterruptibly(Object name, long waitTimeMillis, long leaseTimeMillis)
+      throws InterruptedException {
+    return getShard(name).lockInterruptibly(name, waitTimeMillis, leaseTimeMillis);
+  }
+
+  @Override
+  public void unlock(Object name) {
+    getShard(name).unlock(name);
+  }
+
+  @Override
+  public boolean isHeldByCurrentThread(Object name) {
+    return getShard(name).isHeldByCurrentThread(name);
+  }
+
+  @Override
+  public void freeResources(Object name) {
+    getShard(name).freeResources(name);
+  }
+
+  @Override
+  public boolean suspendLockingInterruptibly(long waitTimeMillis) throws InterruptedException {
+    return suspendShards(waitTimeMillis, true);
+  }
+
+  @Override
+  public boolean suspendLocking(long waitTimeMillis) {
+    try {
+      return suspendShards(waitTimeMillis, false);
+    } catch (InterruptedException e) {
+      // only thrown if interruptible
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Suspends locking in every shard, in shard order, within the given wait time. If a shard can't
+   * be suspended in time the shards that were suspended are resumed again.
+   */
+  private boolean suspendShards(long waitTimeMillis, boolean interruptible)
+      throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + waitTimeMillis;
+    int suspended = 0;
+    try {
+      while (suspended < shards.length) {
+        long wait = waitTimeMillis < 0 ? waitTimeMillis
+            : Math.max(0, deadline - System.currentTimeMillis());
+        DLockService shard = shards[suspended];
+        if (!(interruptible ? shard.suspendLockingInterruptibly(wait)
+            : shard.suspendLocking(wait))) {
+          break;
+        }
+        suspended++;
+      }
+    } finally {
+      if (suspended < shards.length) {
+        for (int i = suspended - 1; i >= 0; i--) {
+          shards[i].resumeLocking();
+        }
+      }
+    }
+    return suspended == shards.length;
+  }
+
+  @Override
+  public void resumeLocking() {
+    for (int i = shards.length - 1; i >= 0; i--) {
+      shards[i].resumeLocking();
+    }
+  }
+
+  @Override
+  public boolean isLockingSuspendedByCurrentThread() {
+    for (DLockService shard : shards) {
+      if (!shard.isLockingSuspendedByCurrentThread()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Makes this member the grantor of every shard.
+   */
+  @Override
+  public void becomeLockGrantor() {
+    for (DLockService shard : shards) {
+      shard.becomeLockGrantor();
+    }
+  }
+
+  /**
+   * @return true if this member is the grantor of any shard
+   */
+  @Override
+  public boolean isLockGrantor() {
+    for (DLockService shard : shards) {
+      if (shard.isLockGrantor()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "ShardedDLockService[" + serviceName + "; shards=" + shards.length + "]";
+  }
+}
@@ -33,4 +33,13 @@ public interface ConnectionWatcher {
    * started by beforeConnect
    */
   void afterConnect(Socket socket);
+
+  /**
+   * this is invoked after the TLS handshake of a connected socket has completed, before
+   * afterConnect
+   *
+   * @param handshakeNanos how long the handshake took
+   * @param resumed whether an earlier TLS session was resumed instead of negotiating a new one
+   */
+  default void afterTlsHandshake(Socket socket, long handshakeNanos, boolean resumed) {}
 }
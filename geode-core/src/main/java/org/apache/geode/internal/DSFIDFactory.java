@@ -19,6 +19,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.function.Supplier;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 
@@ -78,6 +79,7 @@ import org.apache.geode.distributed.internal.locks.DLockRecoverGrantorProcessor.
 import org.apache.geode.distributed.internal.locks.DLockReleaseProcessor;
 import org.apache.geode.distributed.internal.locks.DLockRemoteToken;
 import org.apache.geode.distributed.internal.locks.DLockRequestProcessor;
+import org.apache.geode.distributed.internal.locks.DLockRevokeMessage;
 import org.apache.geode.distributed.internal.locks.DLockService;
 import org.apache.geode.distributed.internal.locks.DeposeGrantorProcessor;
 import org.apache.geode.distributed.internal.locks.ElderInitProcessor;
@@ -454,10 +456,37 @@ public class DSFIDFactory implements DataSerializableFixedID {
   @Immutable("This maybe should be wrapped in an unmodifiableMap?")
   private static final Int2ObjectOpenHashMap dsfidMap2 = new Int2ObjectOpenHashMap(800);
 
+  /**
+   * Factories that create instances of the fixed ID classes without reflection, indexed like
+   * dsfidMap and dsfidMap2. Classes registered without a factory are created with their
+   * constructor.
+   */
+  @Immutable
+  private static final Supplier<?>[] dsfidFactories = new Supplier<?>[256];
+
+  @Immutable("This maybe should be wrapped in an unmodifiableMap?")
+  private static final Int2ObjectOpenHashMap<Supplier<?>> dsfidFactories2 =
+      new Int2ObjectOpenHashMap<>(800);
+
   static {
     registerDSFIDTypes();
   }
 
+  /**
+   * Register a fixed ID class along with a factory, usually a constructor reference, that creates
+   * its instances. Deserializing an instance then invokes its constructor directly rather than
+   * reflectively.
+   */
+  public static <T> void registerDSFID(int dsfid, Class<T> dsfidClass,
+      Supplier<? extends T> factory) {
+    registerDSFID(dsfid, dsfidClass);
+    if (dsfid >= Byte.MIN_VALUE && dsfid <= Byte.MAX_VALUE) {
+      dsfidFactories[dsfid + Byte.MAX_VALUE + 1] = factory;
+    } else {
+      dsfidFactories2.put(dsfid, factory);
+    }
+  }
+
   /** Register the constructor for a fixed ID class. */
   public static void registerDSFID(int dsfid, Class dsfidClass) {
     try {
@@ -469,8 +498,10 @@ public class DSFIDFactory implements DataSerializableFixedID {
       }
       if (dsfid >= Byte.MIN_VALUE && dsfid <= Byte.MAX_VALUE) {
         dsfidMap[dsfid + Byte.MAX_VALUE + 1] = cons;
+        dsfidFactories[dsfid + Byte.MAX_VALUE + 1] = null;
       } else {
         dsfidMap2.put(dsfid, cons);
+        dsfidFactories2.remove(dsfid);
       }
     } catch (NoSuchMethodException nsme) {
       throw new InternalGemFireError(nsme);
@@ -482,468 +513,708 @@ public class DSFIDFactory implements DataSerializableFixedID {
   }
 
   private static void registerDSFIDTypes() {
-    registerDSFID(FINAL_CHECK_PASSED_MESSAGE, FinalCheckPassedMessage.class);
-    registerDSFID(NETWORK_PARTITION_MESSAGE, NetworkPartitionMessage.class);
-    registerDSFID(REMOVE_MEMBER_REQUEST, RemoveMemberMessage.class);
-    registerDSFID(HEARTBEAT_REQUEST, HeartbeatRequestMessage.class);
-    registerDSFID(HEARTBEAT_RESPONSE, HeartbeatMessage.class);
-    registerDSFID(SUSPECT_MEMBERS_MESSAGE, SuspectMembersMessage.class);
-    registerDSFID(LEAVE_REQUEST_MESSAGE, LeaveRequestMessage.class);
-    registerDSFID(VIEW_ACK_MESSAGE, ViewAckMessage.class);
-    registerDSFID(INSTALL_VIEW_MESSAGE, InstallViewMessage.class);
-    registerDSFID(GMSMEMBER, GMSMember.class);
-    registerDSFID(NETVIEW, NetView.class);
-    registerDSFID(GET_VIEW_REQ, GetViewRequest.class);
-    registerDSFID(GET_VIEW_RESP, GetViewResponse.class);
-    registerDSFID(FIND_COORDINATOR_REQ, FindCoordinatorRequest.class);
-    registerDSFID(FIND_COORDINATOR_RESP, FindCoordinatorResponse.class);
-    registerDSFID(JOIN_RESPONSE, JoinResponseMessage.class);
-    registerDSFID(JOIN_REQUEST, JoinRequestMessage.class);
-    registerDSFID(CLIENT_TOMBSTONE_MESSAGE, ClientTombstoneMessage.class);
-    registerDSFID(R_CLEAR_MSG, RemoteClearMessage.class);
-    registerDSFID(R_CLEAR_MSG_REPLY, RemoteClearReplyMessage.class);
-    registerDSFID(WAIT_FOR_VIEW_INSTALLATION, WaitForViewInstallation.class);
-    registerDSFID(DISPATCHED_AND_CURRENT_EVENTS, DispatchedAndCurrentEvents.class);
-    registerDSFID(DISTRIBUTED_MEMBER, InternalDistributedMember.class);
-    registerDSFID(UPDATE_MESSAGE, UpdateOperation.UpdateMessage.class);
-    registerDSFID(REPLY_MESSAGE, ReplyMessage.class);
-    registerDSFID(PR_DESTROY, DestroyMessage.class);
-    registerDSFID(CREATE_REGION_MESSAGE, CreateRegionProcessor.CreateRegionMessage.class);
-    registerDSFID(CREATE_REGION_REPLY_MESSAGE,
-        CreateRegionProcessor.CreateRegionReplyMessage.class);
-    registerDSFID(REGION_STATE_MESSAGE, InitialImageOperation.RegionStateMessage.class);
-    registerDSFID(QUERY_MESSAGE, SearchLoadAndWriteProcessor.QueryMessage.class);
-    registerDSFID(RESPONSE_MESSAGE, SearchLoadAndWriteProcessor.ResponseMessage.class);
+    registerDSFID(FINAL_CHECK_PASSED_MESSAGE, FinalCheckPassedMessage.class,
+        FinalCheckPassedMessage::new);
+    registerDSFID(NETWORK_PARTITION_MESSAGE, NetworkPartitionMessage.class,
+        NetworkPartitionMessage::new);
+    registerDSFID(REMOVE_MEMBER_REQUEST, RemoveMemberMessage.class, RemoveMemberMessage::new);
+    registerDSFID(HEARTBEAT_REQUEST, HeartbeatRequestMessage.class, HeartbeatRequestMessage::new);
+    registerDSFID(HEARTBEAT_RESPONSE, HeartbeatMessage.class, HeartbeatMessage::new);
+    registerDSFID(SUSPECT_MEMBERS_MESSAGE, SuspectMembersMessage.class, SuspectMembersMessage::new);
+    registerDSFID(LEAVE_REQUEST_MESSAGE, LeaveRequestMessage.class, LeaveRequestMessage::new);
+    registerDSFID(VIEW_ACK_MESSAGE, ViewAckMessage.class, ViewAckMessage::new);
+    registerDSFID(INSTALL_VIEW_MESSAGE, InstallViewMessage.class, InstallViewMessage::new);
+    registerDSFID(GMSMEMBER, GMSMember.class, GMSMember::new);
+    registerDSFID(NETVIEW, NetView.class, NetView::new);
+    registerDSFID(GET_VIEW_REQ, GetViewRequest.class, GetViewRequest::new);
+    registerDSFID(GET_VIEW_RESP, GetViewResponse.class, GetViewResponse::new);
+    registerDSFID(FIND_COORDINATOR_REQ, FindCoordinatorRequest.class, FindCoordinatorRequest::new);
+    registerDSFID(FIND_COORDINATOR_RESP, FindCoordinatorResponse.class,
+        FindCoordinatorResponse::new);
+    registerDSFID(JOIN_RESPONSE, JoinResponseMessage.class, JoinResponseMessage::new);
+    registerDSFID(JOIN_REQUEST, JoinRequestMessage.class, JoinRequestMessage::new);
+    registerDSFID(CLIENT_TOMBSTONE_MESSAGE, ClientTombstoneMessage.class,
+        ClientTombstoneMessage::new);
+    registerDSFID(R_CLEAR_MSG, RemoteClearMessage.class, RemoteClearMessage::new);
+    registerDSFID(R_CLEAR_MSG_REPLY, RemoteClearReplyMessage.class, RemoteClearReplyMessage::new);
+    registerDSFID(WAIT_FOR_VIEW_INSTALLATION, WaitForViewInstallation.class,
+        WaitForViewInstallation::new);
+    registerDSFID(DISPATCHED_AND_CURRENT_EVENTS, DispatchedAndCurrentEvents.class,
+        DispatchedAndCurrentEvents::new);
+    registerDSFID(DISTRIBUTED_MEMBER, InternalDistributedMember.class,
+        InternalDistributedMember::new);
+    registerDSFID(UPDATE_MESSAGE, UpdateOperation.UpdateMessage.class,
+        UpdateOperation.UpdateMessage::new);
+    registerDSFID(REPLY_MESSAGE, ReplyMessage.class, ReplyMessage::new);
+    registerDSFID(PR_DESTROY, DestroyMessage.class, DestroyMessage::new);
+    registerDSFID(CREATE_REGION_MESSAGE, CreateRegionProcessor.CreateRegionMessage.class,
+        CreateRegionProcessor.CreateRegionMessage::new);
+    registerDSFID(CREATE_REGION_REPLY_MESSAGE, CreateRegionProcessor.CreateRegionReplyMessage.class,
+        CreateRegionProcessor.CreateRegionReplyMessage::new);
+    registerDSFID(REGION_STATE_MESSAGE, InitialImageOperation.RegionStateMessage.class,
+        InitialImageOperation.RegionStateMessage::new);
+    registerDSFID(QUERY_MESSAGE, SearchLoadAndWriteProcessor.QueryMessage.class,
+        SearchLoadAndWriteProcessor.QueryMessage::new);
+    registerDSFID(RESPONSE_MESSAGE, SearchLoadAndWriteProcessor.ResponseMessage.class,
+        SearchLoadAndWriteProcessor.ResponseMessage::new);
     registerDSFID(NET_SEARCH_REQUEST_MESSAGE,
-        SearchLoadAndWriteProcessor.NetSearchRequestMessage.class);
-    registerDSFID(NET_SEARCH_REPLY_MESSAGE,
-        SearchLoadAndWriteProcessor.NetSearchReplyMessage.class);
-    registerDSFID(NET_LOAD_REQUEST_MESSAGE,
-        SearchLoadAndWriteProcessor.NetLoadRequestMessage.class);
-    registerDSFID(NET_LOAD_REPLY_MESSAGE, SearchLoadAndWriteProcessor.NetLoadReplyMessage.class);
+        SearchLoadAndWriteProcessor.NetSearchRequestMessage.class,
+        SearchLoadAndWriteProcessor.NetSearchRequestMessage::new);
+    registerDSFID(NET_SEARCH_REPLY_MESSAGE, SearchLoadAndWriteProcessor.NetSearchReplyMessage.class,
+        SearchLoadAndWriteProcessor.NetSearchReplyMessage::new);
+    registerDSFID(NET_LOAD_REQUEST_MESSAGE, SearchLoadAndWriteProcessor.NetLoadRequestMessage.class,
+        SearchLoadAndWriteProcessor.NetLoadRequestMessage::new);
+    registerDSFID(NET_LOAD_REPLY_MESSAGE, SearchLoadAndWriteProcessor.NetLoadReplyMessage.class,
+        SearchLoadAndWriteProcessor.NetLoadReplyMessage::new);
     registerDSFID(NET_WRITE_REQUEST_MESSAGE,
-        SearchLoadAndWriteProcessor.NetWriteRequestMessage.class);
-    registerDSFID(NET_WRITE_REPLY_MESSAGE, SearchLoadAndWriteProcessor.NetWriteReplyMessage.class);
-    registerDSFID(DLOCK_REQUEST_MESSAGE, DLockRequestProcessor.DLockRequestMessage.class);
-    registerDSFID(DLOCK_RESPONSE_MESSAGE, DLockRequestProcessor.DLockResponseMessage.class);
-    registerDSFID(DLOCK_RELEASE_MESSAGE, DLockReleaseProcessor.DLockReleaseMessage.class);
+        SearchLoadAndWriteProcessor.NetWriteRequestMessage.class,
+        SearchLoadAndWriteProcessor.NetWriteRequestMessage::new);
+    registerDSFID(NET_WRITE_REPLY_MESSAGE, SearchLoadAndWriteProcessor.NetWriteReplyMessage.class,
+        SearchLoadAndWriteProcessor.NetWriteReplyMessage::new);
+    registerDSFID(DLOCK_REQUEST_MESSAGE, DLockRequestProcessor.DLockRequestMessage.class,
+        DLockRequestProcessor.DLockRequestMessage::new);
+    registerDSFID(DLOCK_RESPONSE_MESSAGE, DLockRequestProcessor.DLockResponseMessage.class,
+        DLockRequestProcessor.DLockResponseMessage::new);
+    registerDSFID(DLOCK_RELEASE_MESSAGE, DLockReleaseProcessor.DLockReleaseMessage.class,
+        DLockReleaseProcessor.DLockReleaseMessage::new);
     registerDSFID(ADMIN_CACHE_EVENT_MESSAGE,
-        SystemMemberCacheEventProcessor.SystemMemberCacheMessage.class);
-    registerDSFID(CQ_ENTRY_EVENT, CqEntry.class);
-    registerDSFID(REQUEST_IMAGE_MESSAGE, InitialImageOperation.RequestImageMessage.class);
-    registerDSFID(IMAGE_REPLY_MESSAGE, InitialImageOperation.ImageReplyMessage.class);
-    registerDSFID(IMAGE_ENTRY, InitialImageOperation.Entry.class);
-    registerDSFID(CLOSE_CACHE_MESSAGE, CloseCacheMessage.class);
+        SystemMemberCacheEventProcessor.SystemMemberCacheMessage.class,
+        SystemMemberCacheEventProcessor.SystemMemberCacheMessage::new);
+    registerDSFID(CQ_ENTRY_EVENT, CqEntry.class, CqEntry::new);
+    registerDSFID(REQUEST_IMAGE_MESSAGE, InitialImageOperation.RequestImageMessage.class,
+        InitialImageOperation.RequestImageMessage::new);
+    registerDSFID(IMAGE_REPLY_MESSAGE, InitialImageOperation.ImageReplyMessage.class,
+        InitialImageOperation.ImageReplyMessage::new);
+    registerDSFID(IMAGE_ENTRY, InitialImageOperation.Entry.class, InitialImageOperation.Entry::new);
+    registerDSFID(CLOSE_CACHE_MESSAGE, CloseCacheMessage.class, CloseCacheMessage::new);
     registerDSFID(NON_GRANTOR_DESTROYED_MESSAGE,
-        NonGrantorDestroyedProcessor.NonGrantorDestroyedMessage.class);
-    registerDSFID(DLOCK_RELEASE_REPLY, DLockReleaseProcessor.DLockReleaseReplyMessage.class);
-    registerDSFID(GRANTOR_REQUEST_MESSAGE, GrantorRequestProcessor.GrantorRequestMessage.class);
-    registerDSFID(GRANTOR_INFO_REPLY_MESSAGE,
-        GrantorRequestProcessor.GrantorInfoReplyMessage.class);
-    registerDSFID(ELDER_INIT_MESSAGE, ElderInitProcessor.ElderInitMessage.class);
-    registerDSFID(ELDER_INIT_REPLY_MESSAGE, ElderInitProcessor.ElderInitReplyMessage.class);
-    registerDSFID(DEPOSE_GRANTOR_MESSAGE, DeposeGrantorProcessor.DeposeGrantorMessage.class);
-    registerDSFID(STARTUP_MESSAGE, StartupMessage.class);
-    registerDSFID(STARTUP_RESPONSE_MESSAGE, StartupResponseMessage.class);
-    registerDSFID(STARTUP_RESPONSE_WITHVERSION_MESSAGE, StartupResponseWithVersionMessage.class);
-    registerDSFID(SHUTDOWN_MESSAGE, ShutdownMessage.class);
-    registerDSFID(DESTROY_REGION_MESSAGE, DestroyRegionOperation.DestroyRegionMessage.class);
-    registerDSFID(PR_PUTALL_MESSAGE, PutAllPRMessage.class);
-    registerDSFID(PR_REMOVE_ALL_MESSAGE, RemoveAllPRMessage.class);
-    registerDSFID(PR_REMOVE_ALL_REPLY_MESSAGE, RemoveAllPRMessage.RemoveAllReplyMessage.class);
-    registerDSFID(REMOTE_REMOVE_ALL_MESSAGE, RemoteRemoveAllMessage.class);
+        NonGrantorDestroyedProcessor.NonGrantorDestroyedMessage.class,
+        NonGrantorDestroyedProcessor.NonGrantorDestroyedMessage::new);
+    registerDSFID(DLOCK_RELEASE_REPLY, DLockReleaseProcessor.DLockReleaseReplyMessage.class,
+        DLockReleaseProcessor.DLockReleaseReplyMessage::new);
+    registerDSFID(GRANTOR_REQUEST_MESSAGE, GrantorRequestProcessor.GrantorRequestMessage.class,
+        GrantorRequestProcessor.GrantorRequestMessage::new);
+    registerDSFID(GRANTOR_INFO_REPLY_MESSAGE, GrantorRequestProcessor.GrantorInfoReplyMessage.class,
+        GrantorRequestProcessor.GrantorInfoReplyMessage::new);
+    registerDSFID(ELDER_INIT_MESSAGE, ElderInitProcessor.ElderInitMessage.class,
+        ElderInitProcessor.ElderInitMessage::new);
+    registerDSFID(ELDER_INIT_REPLY_MESSAGE, ElderInitProcessor.ElderInitReplyMessage.class,
+        ElderInitProcessor.ElderInitReplyMessage::new);
+    registerDSFID(DEPOSE_GRANTOR_MESSAGE, DeposeGrantorProcessor.DeposeGrantorMessage.class,
+        DeposeGrantorProcessor.DeposeGrantorMessage::new);
+    registerDSFID(STARTUP_MESSAGE, StartupMessage.class, StartupMessage::new);
+    registerDSFID(STARTUP_RESPONSE_MESSAGE, StartupResponseMessage.class,
+        StartupResponseMessage::new);
+    registerDSFID(STARTUP_RESPONSE_WITHVERSION_MESSAGE, StartupResponseWithVersionMessage.class,
+        StartupResponseWithVersionMessage::new);
+    registerDSFID(SHUTDOWN_MESSAGE, ShutdownMessage.class, ShutdownMessage::new);
+    registerDSFID(DESTROY_REGION_MESSAGE, DestroyRegionOperation.DestroyRegionMessage.class,
+        DestroyRegionOperation.DestroyRegionMessage::new);
+    registerDSFID(PR_PUTALL_MESSAGE, PutAllPRMessage.class, PutAllPRMessage::new);
+    registerDSFID(PR_REMOVE_ALL_MESSAGE, RemoveAllPRMessage.class, RemoveAllPRMessage::new);
+    registerDSFID(PR_REMOVE_ALL_REPLY_MESSAGE, RemoveAllPRMessage.RemoveAllReplyMessage.class,
+        RemoveAllPRMessage.RemoveAllReplyMessage::new);
+    registerDSFID(REMOTE_REMOVE_ALL_MESSAGE, RemoteRemoveAllMessage.class,
+        RemoteRemoveAllMessage::new);
     registerDSFID(REMOTE_REMOVE_ALL_REPLY_MESSAGE,
-        RemoteRemoveAllMessage.RemoveAllReplyMessage.class);
-    registerDSFID(DISTTX_ROLLBACK_MESSAGE, DistTXRollbackMessage.class);
-    registerDSFID(DISTTX_COMMIT_MESSAGE, DistTXCommitMessage.class);
-    registerDSFID(DISTTX_PRE_COMMIT_MESSAGE, DistTXPrecommitMessage.class);
+        RemoteRemoveAllMessage.RemoveAllReplyMessage.class,
+        RemoteRemoveAllMessage.RemoveAllReplyMessage::new);
+    registerDSFID(DISTTX_ROLLBACK_MESSAGE, DistTXRollbackMessage.class, DistTXRollbackMessage::new);
+    registerDSFID(DISTTX_COMMIT_MESSAGE, DistTXCommitMessage.class, DistTXCommitMessage::new);
+    registerDSFID(DISTTX_PRE_COMMIT_MESSAGE, DistTXPrecommitMessage.class,
+        DistTXPrecommitMessage::new);
     registerDSFID(DISTTX_ROLLBACK_REPLY_MESSAGE,
-        DistTXRollbackMessage.DistTXRollbackReplyMessage.class);
-    registerDSFID(DISTTX_COMMIT_REPLY_MESSAGE, DistTXCommitMessage.DistTXCommitReplyMessage.class);
+        DistTXRollbackMessage.DistTXRollbackReplyMessage.class,
+        DistTXRollbackMessage.DistTXRollbackReplyMessage::new);
+    registerDSFID(DISTTX_COMMIT_REPLY_MESSAGE, DistTXCommitMessage.DistTXCommitReplyMessage.class,
+        DistTXCommitMessage.DistTXCommitReplyMessage::new);
     registerDSFID(DISTTX_PRE_COMMIT_REPLY_MESSAGE,
-        DistTXPrecommitMessage.DistTXPrecommitReplyMessage.class);
-    registerDSFID(PR_PUT_MESSAGE, PutMessage.class);
-    registerDSFID(INVALIDATE_MESSAGE, InvalidateOperation.InvalidateMessage.class);
-    registerDSFID(DESTROY_MESSAGE, DestroyOperation.DestroyMessage.class);
-    registerDSFID(DA_PROFILE, DistributionAdvisor.Profile.class);
-    registerDSFID(CACHE_PROFILE, CacheDistributionAdvisor.CacheProfile.class);
-    registerDSFID(HA_PROFILE, HARegion.HARegionAdvisor.HAProfile.class);
-    registerDSFID(ENTRY_EVENT, EntryEventImpl.class);
+        DistTXPrecommitMessage.DistTXPrecommitReplyMessage.class,
+        DistTXPrecommitMessage.DistTXPrecommitReplyMessage::new);
+    registerDSFID(PR_PUT_MESSAGE, PutMessage.class, PutMessage::new);
+    registerDSFID(INVALIDATE_MESSAGE, InvalidateOperation.InvalidateMessage.class,
+        InvalidateOperation.InvalidateMessage::new);
+    registerDSFID(DESTROY_MESSAGE, DestroyOperation.DestroyMessage.class,
+        DestroyOperation.DestroyMessage::new);
+    registerDSFID(DA_PROFILE, DistributionAdvisor.Profile.class, DistributionAdvisor.Profile::new);
+    registerDSFID(CACHE_PROFILE, CacheDistributionAdvisor.CacheProfile.class,
+        CacheDistributionAdvisor.CacheProfile::new);
+    registerDSFID(HA_PROFILE, HARegion.HARegionAdvisor.HAProfile.class,
+        HARegion.HARegionAdvisor.HAProfile::new);
+    registerDSFID(ENTRY_EVENT, EntryEventImpl.class, EntryEventImpl::new);
     registerDSFID(UPDATE_ATTRIBUTES_MESSAGE,
-        UpdateAttributesProcessor.UpdateAttributesMessage.class);
-    registerDSFID(PROFILE_REPLY_MESSAGE, UpdateAttributesProcessor.ProfileReplyMessage.class);
-    registerDSFID(PROFILES_REPLY_MESSAGE, UpdateAttributesProcessor.ProfilesReplyMessage.class);
-    registerDSFID(REGION_EVENT, RegionEventImpl.class);
-    registerDSFID(TX_COMMIT_MESSAGE, TXCommitMessage.class);
-    registerDSFID(COMMIT_PROCESS_FOR_LOCKID_MESSAGE, CommitProcessForLockIdMessage.class);
-    registerDSFID(COMMIT_PROCESS_FOR_TXID_MESSAGE, CommitProcessForTXIdMessage.class);
-    registerDSFID(FILTER_PROFILE, FilterProfile.class);
-    registerDSFID(REMOTE_PUTALL_REPLY_MESSAGE, RemotePutAllMessage.PutAllReplyMessage.class);
-    registerDSFID(REMOTE_PUTALL_MESSAGE, RemotePutAllMessage.class);
-    registerDSFID(VERSION_TAG, VMVersionTag.class);
-    registerDSFID(ADD_CACHESERVER_PROFILE_UPDATE, AddCacheServerProfileMessage.class);
-    registerDSFID(REMOVE_CACHESERVER_PROFILE_UPDATE, RemoveCacheServerProfileMessage.class);
-    registerDSFID(SERVER_INTEREST_REGISTRATION_MESSAGE, ServerInterestRegistrationMessage.class);
-    registerDSFID(FILTER_PROFILE_UPDATE, FilterProfile.OperationMessage.class);
-    registerDSFID(PR_GET_MESSAGE, GetMessage.class);
-    registerDSFID(R_FETCH_ENTRY_MESSAGE, RemoteFetchEntryMessage.class);
-    registerDSFID(R_FETCH_ENTRY_REPLY_MESSAGE,
-        RemoteFetchEntryMessage.FetchEntryReplyMessage.class);
-    registerDSFID(R_CONTAINS_MESSAGE, RemoteContainsKeyValueMessage.class);
+        UpdateAttributesProcessor.UpdateAttributesMessage.class,
+        UpdateAttributesProcessor.UpdateAttributesMessage::new);
+    registerDSFID(PROFILE_REPLY_MESSAGE, UpdateAttributesProcessor.ProfileReplyMessage.class,
+        UpdateAttributesProcessor.ProfileReplyMessage::new);
+    registerDSFID(PROFILES_REPLY_MESSAGE, UpdateAttributesProcessor.ProfilesReplyMessage.class,
+        UpdateAttributesProcessor.ProfilesReplyMessage::new);
+    registerDSFID(REGION_EVENT, RegionEventImpl.class, RegionEventImpl::new);
+    registerDSFID(TX_COMMIT_MESSAGE, TXCommitMessage.class, TXCommitMessage::new);
+    registerDSFID(COMMIT_PROCESS_FOR_LOCKID_MESSAGE, CommitProcessForLockIdMessage.class,
+        CommitProcessForLockIdMessage::new);
+    registerDSFID(COMMIT_PROCESS_FOR_TXID_MESSAGE, CommitProcessForTXIdMessage.class,
+        CommitProcessForTXIdMessage::new);
+    registerDSFID(FILTER_PROFILE, FilterProfile.class, FilterProfile::new);
+    registerDSFID(REMOTE_PUTALL_REPLY_MESSAGE, RemotePutAllMessage.PutAllReplyMessage.class,
+        RemotePutAllMessage.PutAllReplyMessage::new);
+    registerDSFID(REMOTE_PUTALL_MESSAGE, RemotePutAllMessage.class, RemotePutAllMessage::new);
+    registerDSFID(VERSION_TAG, VMVersionTag.class, VMVersionTag::new);
+    registerDSFID(ADD_CACHESERVER_PROFILE_UPDATE, AddCacheServerProfileMessage.class,
+        AddCacheServerProfileMessage::new);
+    registerDSFID(REMOVE_CACHESERVER_PROFILE_UPDATE, RemoveCacheServerProfileMessage.class,
+        RemoveCacheServerProfileMessage::new);
+    registerDSFID(SERVER_INTEREST_REGISTRATION_MESSAGE, ServerInterestRegistrationMessage.class,
+        ServerInterestRegistrationMessage::new);
+    registerDSFID(FILTER_PROFILE_UPDATE, FilterProfile.OperationMessage.class,
+        FilterProfile.OperationMessage::new);
+    registerDSFID(PR_GET_MESSAGE, GetMessage.class, GetMessage::new);
+    registerDSFID(R_FETCH_ENTRY_MESSAGE, RemoteFetchEntryMessage.class,
+        RemoteFetchEntryMessage::new);
+    registerDSFID(R_FETCH_ENTRY_REPLY_MESSAGE, RemoteFetchEntryMessage.FetchEntryReplyMessage.class,
+        RemoteFetchEntryMessage.FetchEntryReplyMessage::new);
+    registerDSFID(R_CONTAINS_MESSAGE, RemoteContainsKeyValueMessage.class,
+        RemoteContainsKeyValueMessage::new);
     registerDSFID(R_CONTAINS_REPLY_MESSAGE,
-        RemoteContainsKeyValueMessage.RemoteContainsKeyValueReplyMessage.class);
-    registerDSFID(R_DESTROY_MESSAGE, RemoteDestroyMessage.class);
-    registerDSFID(R_DESTROY_REPLY_MESSAGE, RemoteDestroyMessage.DestroyReplyMessage.class);
-    registerDSFID(R_INVALIDATE_MESSAGE, RemoteInvalidateMessage.class);
-    registerDSFID(R_INVALIDATE_REPLY_MESSAGE, RemoteInvalidateMessage.InvalidateReplyMessage.class);
-    registerDSFID(R_GET_MESSAGE, RemoteGetMessage.class);
-    registerDSFID(R_GET_REPLY_MESSAGE, RemoteGetMessage.GetReplyMessage.class);
-    registerDSFID(R_PUT_MESSAGE, RemotePutMessage.class);
-    registerDSFID(R_PUT_REPLY_MESSAGE, RemotePutMessage.PutReplyMessage.class);
-    registerDSFID(R_SIZE_MESSAGE, RemoteSizeMessage.class);
-    registerDSFID(R_SIZE_REPLY_MESSAGE, RemoteSizeMessage.SizeReplyMessage.class);
-    registerDSFID(PR_DESTROY_REPLY_MESSAGE, DestroyMessage.DestroyReplyMessage.class);
-    registerDSFID(CLI_FUNCTION_RESULT, CliFunctionResult.class);
-    registerDSFID(R_FETCH_KEYS_MESSAGE, RemoteFetchKeysMessage.class);
-    registerDSFID(R_FETCH_KEYS_REPLY, RemoteFetchKeysMessage.RemoteFetchKeysReplyMessage.class);
-    registerDSFID(R_REMOTE_COMMIT_REPLY_MESSAGE, TXRemoteCommitReplyMessage.class);
-    registerDSFID(TRANSACTION_LOCK_ID, TXLockIdImpl.class);
-    registerDSFID(PR_GET_REPLY_MESSAGE, GetReplyMessage.class);
-    registerDSFID(PR_NODE, Node.class);
-    registerDSFID(UPDATE_WITH_CONTEXT_MESSAGE, UpdateOperation.UpdateWithContextMessage.class);
-    registerDSFID(DESTROY_WITH_CONTEXT_MESSAGE, DestroyOperation.DestroyWithContextMessage.class);
+        RemoteContainsKeyValueMessage.RemoteContainsKeyValueReplyMessage.class,
+        RemoteContainsKeyValueMessage.RemoteContainsKeyValueReplyMessage::new);
+    registerDSFID(R_DESTROY_MESSAGE, RemoteDestroyMessage.class, RemoteDestroyMessage::new);
+    registerDSFID(R_DESTROY_REPLY_MESSAGE, RemoteDestroyMessage.DestroyReplyMessage.class,
+        RemoteDestroyMessage.DestroyReplyMessage::new);
+    registerDSFID(R_INVALIDATE_MESSAGE, RemoteInvalidateMessage.class,
+        RemoteInvalidateMessage::new);
+    registerDSFID(R_INVALIDATE_REPLY_MESSAGE, RemoteInvalidateMessage.InvalidateReplyMessage.class,
+        RemoteInvalidateMessage.InvalidateReplyMessage::new);
+    registerDSFID(R_GET_MESSAGE, RemoteGetMessage.class, RemoteGetMessage::new);
+    registerDSFID(R_GET_REPLY_MESSAGE, RemoteGetMessage.GetReplyMessage.class,
+        RemoteGetMessage.GetReplyMessage::new);
+    registerDSFID(R_PUT_MESSAGE, RemotePutMessage.class, RemotePutMessage::new);
+    registerDSFID(R_PUT_REPLY_MESSAGE, RemotePutMessage.PutReplyMessage.class,
+        RemotePutMessage.PutReplyMessage::new);
+    registerDSFID(R_SIZE_MESSAGE, RemoteSizeMessage.class, RemoteSizeMessage::new);
+    registerDSFID(R_SIZE_REPLY_MESSAGE, RemoteSizeMessage.SizeReplyMessage.class,
+        RemoteSizeMessage.SizeReplyMessage::new);
+    registerDSFID(PR_DESTROY_REPLY_MESSAGE, DestroyMessage.DestroyReplyMessage.class,
+        DestroyMessage.DestroyReplyMessage::new);
+    registerDSFID(CLI_FUNCTION_RESULT, CliFunctionResult.class, CliFunctionResult::new);
+    registerDSFID(R_FETCH_KEYS_MESSAGE, RemoteFetchKeysMessage.class, RemoteFetchKeysMessage::new);
+    registerDSFID(R_FETCH_KEYS_REPLY, RemoteFetchKeysMessage.RemoteFetchKeysReplyMessage.class,
+        RemoteFetchKeysMessage.RemoteFetchKeysReplyMessage::new);
+    registerDSFID(R_REMOTE_COMMIT_REPLY_MESSAGE, TXRemoteCommitReplyMessage.class,
+        TXRemoteCommitReplyMessage::new);
+    registerDSFID(TRANSACTION_LOCK_ID, TXLockIdImpl.class, TXLockIdImpl::new);
+    registerDSFID(PR_GET_REPLY_MESSAGE, GetReplyMessage.class, GetReplyMessage::new);
+    registerDSFID(PR_NODE, Node.class, Node::new);
+    registerDSFID(UPDATE_WITH_CONTEXT_MESSAGE, UpdateOperation.UpdateWithContextMessage.class,
+        UpdateOperation.UpdateWithContextMessage::new);
+    registerDSFID(DESTROY_WITH_CONTEXT_MESSAGE, DestroyOperation.DestroyWithContextMessage.class,
+        DestroyOperation.DestroyWithContextMessage::new);
     registerDSFID(INVALIDATE_WITH_CONTEXT_MESSAGE,
-        InvalidateOperation.InvalidateWithContextMessage.class);
-    registerDSFID(REGION_VERSION_VECTOR, VMRegionVersionVector.class);
-    registerDSFID(CLIENT_PROXY_MEMBERSHIPID, ClientProxyMembershipID.class);
-    registerDSFID(EVENT_ID, EventID.class);
-    registerDSFID(CLIENT_UPDATE_MESSAGE, ClientUpdateMessageImpl.class);
-    registerDSFID(CLEAR_REGION_MESSAGE_WITH_CONTEXT, ClearRegionWithContextMessage.class);
-    registerDSFID(CLIENT_INSTANTIATOR_MESSAGE, ClientInstantiatorMessage.class);
-    registerDSFID(CLIENT_DATASERIALIZER_MESSAGE, ClientDataSerializerMessage.class);
-    registerDSFID(REGISTRATION_MESSAGE, InternalInstantiator.RegistrationMessage.class);
+        InvalidateOperation.InvalidateWithContextMessage.class,
+        InvalidateOperation.InvalidateWithContextMessage::new);
+    registerDSFID(REGION_VERSION_VECTOR, VMRegionVersionVector.class, VMRegionVersionVector::new);
+    registerDSFID(CLIENT_PROXY_MEMBERSHIPID, ClientProxyMembershipID.class,
+        ClientProxyMembershipID::new);
+    registerDSFID(EVENT_ID, EventID.class, EventID::new);
+    registerDSFID(CLIENT_UPDATE_MESSAGE, ClientUpdateMessageImpl.class,
+        ClientUpdateMessageImpl::new);
+    registerDSFID(CLEAR_REGION_MESSAGE_WITH_CONTEXT, ClearRegionWithContextMessage.class,
+        ClearRegionWithContextMessage::new);
+    registerDSFID(CLIENT_INSTANTIATOR_MESSAGE, ClientInstantiatorMessage.class,
+        ClientInstantiatorMessage::new);
+    registerDSFID(CLIENT_DATASERIALIZER_MESSAGE, ClientDataSerializerMessage.class,
+        ClientDataSerializerMessage::new);
+    registerDSFID(REGISTRATION_MESSAGE, InternalInstantiator.RegistrationMessage.class,
+        InternalInstantiator.RegistrationMessage::new);
     registerDSFID(REGISTRATION_CONTEXT_MESSAGE,
-        InternalInstantiator.RegistrationContextMessage.class);
-    registerDSFID(RESULTS_COLLECTION_WRAPPER, ResultsCollectionWrapper.class);
-    registerDSFID(RESULTS_SET, ResultsSet.class);
-    registerDSFID(SORTED_RESULT_SET, SortedResultSet.class);
-    registerDSFID(SORTED_STRUCT_SET, SortedStructSet.class);
-    registerDSFID(NWAY_MERGE_RESULTS, NWayMergeResults.class);
-    registerDSFID(CUMULATIVE_RESULTS, CumulativeNonDistinctResults.class);
-    registerDSFID(UNDEFINED, Undefined.class);
-    registerDSFID(STRUCT_IMPL, StructImpl.class);
-    registerDSFID(STRUCT_SET, StructSet.class);
-    registerDSFID(END_OF_BUCKET, PRQueryProcessor.EndOfBucket.class);
-    registerDSFID(STRUCT_BAG, StructBag.class);
-    registerDSFID(LINKED_RESULTSET, LinkedResultSet.class);
-    registerDSFID(LINKED_STRUCTSET, LinkedStructSet.class);
-    registerDSFID(PR_BUCKET_BACKUP_MESSAGE, BucketBackupMessage.class);
-    registerDSFID(PR_BUCKET_PROFILE_UPDATE_MESSAGE, BucketProfileUpdateMessage.class);
-    registerDSFID(PR_ALL_BUCKET_PROFILES_UPDATE_MESSAGE, AllBucketProfilesUpdateMessage.class);
-    registerDSFID(PR_BUCKET_SIZE_MESSAGE, BucketSizeMessage.class);
-    registerDSFID(PR_CONTAINS_KEY_VALUE_MESSAGE, ContainsKeyValueMessage.class);
-    registerDSFID(PR_DUMP_ALL_PR_CONFIG_MESSAGE, DumpAllPRConfigMessage.class);
-    registerDSFID(PR_DUMP_BUCKETS_MESSAGE, DumpBucketsMessage.class);
-    registerDSFID(PR_FETCH_ENTRIES_MESSAGE, FetchEntriesMessage.class);
-    registerDSFID(PR_FETCH_ENTRY_MESSAGE, FetchEntryMessage.class);
-    registerDSFID(PR_FETCH_KEYS_MESSAGE, FetchKeysMessage.class);
-    registerDSFID(PR_FLUSH_MESSAGE, FlushMessage.class);
-    registerDSFID(PR_IDENTITY_REQUEST_MESSAGE, IdentityRequestMessage.class);
-    registerDSFID(PR_IDENTITY_UPDATE_MESSAGE, IdentityUpdateMessage.class);
-    registerDSFID(PR_INDEX_CREATION_MSG, IndexCreationMsg.class);
-    registerDSFID(PR_MANAGE_BUCKET_MESSAGE, ManageBucketMessage.class);
-    registerDSFID(PR_PRIMARY_REQUEST_MESSAGE, PrimaryRequestMessage.class);
-    registerDSFID(PR_PRIMARY_REQUEST_REPLY_MESSAGE, PrimaryRequestReplyMessage.class);
-    registerDSFID(PR_SANITY_CHECK_MESSAGE, PRSanityCheckMessage.class);
-    registerDSFID(PR_PUTALL_REPLY_MESSAGE, PutAllReplyMessage.class);
-    registerDSFID(PR_PUT_REPLY_MESSAGE, PutReplyMessage.class);
-    registerDSFID(PR_QUERY_MESSAGE, QueryMessage.class);
-    registerDSFID(PR_REMOVE_INDEXES_MESSAGE, RemoveIndexesMessage.class);
-    registerDSFID(PR_REMOVE_INDEXES_REPLY_MESSAGE, RemoveIndexesReplyMessage.class);
-    registerDSFID(PR_SIZE_MESSAGE, SizeMessage.class);
-    registerDSFID(PR_SIZE_REPLY_MESSAGE, SizeReplyMessage.class);
-    registerDSFID(PR_BUCKET_SIZE_REPLY_MESSAGE, BucketSizeReplyMessage.class);
-    registerDSFID(PR_CONTAINS_KEY_VALUE_REPLY_MESSAGE, ContainsKeyValueReplyMessage.class);
-    registerDSFID(PR_FETCH_ENTRIES_REPLY_MESSAGE, FetchEntriesReplyMessage.class);
-    registerDSFID(PR_FETCH_ENTRY_REPLY_MESSAGE, FetchEntryReplyMessage.class);
-    registerDSFID(PR_IDENTITY_REPLY_MESSAGE, IdentityReplyMessage.class);
-    registerDSFID(PR_INDEX_CREATION_REPLY_MSG, IndexCreationReplyMsg.class);
-    registerDSFID(PR_MANAGE_BUCKET_REPLY_MESSAGE, ManageBucketReplyMessage.class);
-    registerDSFID(PR_FETCH_KEYS_REPLY_MESSAGE, FetchKeysReplyMessage.class);
-    registerDSFID(PR_DUMP_B2N_REGION_MSG, DumpB2NRegion.class);
-    registerDSFID(PR_DUMP_B2N_REPLY_MESSAGE, DumpB2NReplyMessage.class);
-    registerDSFID(DESTROY_PARTITIONED_REGION_MESSAGE, DestroyPartitionedRegionMessage.class);
-    registerDSFID(INVALIDATE_PARTITIONED_REGION_MESSAGE, InvalidatePartitionedRegionMessage.class);
-    registerDSFID(COMMIT_PROCESS_QUERY_MESSAGE, CommitProcessQueryMessage.class);
-    registerDSFID(COMMIT_PROCESS_QUERY_REPLY_MESSAGE, CommitProcessQueryReplyMessage.class);
+        InternalInstantiator.RegistrationContextMessage.class,
+        InternalInstantiator.RegistrationContextMessage::new);
+    registerDSFID(RESULTS_COLLECTION_WRAPPER, ResultsCollectionWrapper.class,
+        ResultsCollectionWrapper::new);
+    registerDSFID(RESULTS_SET, ResultsSet.class, ResultsSet::new);
+    registerDSFID(SORTED_RESULT_SET, SortedResultSet.class, SortedResultSet::new);
+    registerDSFID(SORTED_STRUCT_SET, SortedStructSet.class, SortedStructSet::new);
+    registerDSFID(NWAY_MERGE_RESULTS, NWayMergeResults.class, NWayMergeResults::new);
+    registerDSFID(CUMULATIVE_RESULTS, CumulativeNonDistinctResults.class,
+        CumulativeNonDistinctResults::new);
+    registerDSFID(UNDEFINED, Undefined.class, Undefined::new);
+    registerDSFID(STRUCT_IMPL, StructImpl.class, StructImpl::new);
+    registerDSFID(STRUCT_SET, StructSet.class, StructSet::new);
+    registerDSFID(END_OF_BUCKET, PRQueryProcessor.EndOfBucket.class,
+        PRQueryProcessor.EndOfBucket::new);
+    registerDSFID(STRUCT_BAG, StructBag.class, StructBag::new);
+    registerDSFID(LINKED_RESULTSET, LinkedResultSet.class, LinkedResultSet::new);
+    registerDSFID(LINKED_STRUCTSET, LinkedStructSet.class, LinkedStructSet::new);
+    registerDSFID(PR_BUCKET_BACKUP_MESSAGE, BucketBackupMessage.class, BucketBackupMessage::new);
+    registerDSFID(PR_BUCKET_PROFILE_UPDATE_MESSAGE, BucketProfileUpdateMessage.class,
+        BucketProfileUpdateMessage::new);
+    registerDSFID(PR_ALL_BUCKET_PROFILES_UPDATE_MESSAGE, AllBucketProfilesUpdateMessage.class,
+        AllBucketProfilesUpdateMessage::new);
+    registerDSFID(PR_BUCKET_SIZE_MESSAGE, BucketSizeMessage.class, BucketSizeMessage::new);
+    registerDSFID(PR_CONTAINS_KEY_VALUE_MESSAGE, ContainsKeyValueMessage.class,
+        ContainsKeyValueMessage::new);
+    registerDSFID(PR_DUMP_ALL_PR_CONFIG_MESSAGE, DumpAllPRConfigMessage.class,
+        DumpAllPRConfigMessage::new);
+    registerDSFID(PR_DUMP_BUCKETS_MESSAGE, DumpBucketsMessage.class, DumpBucketsMessage::new);
+    registerDSFID(PR_FETCH_ENTRIES_MESSAGE, FetchEntriesMessage.class, FetchEntriesMessage::new);
+    registerDSFID(PR_FETCH_ENTRY_MESSAGE, FetchEntryMessage.class, FetchEntryMessage::new);
+    registerDSFID(PR_FETCH_KEYS_MESSAGE, FetchKeysMessage.class, FetchKeysMessage::new);
+    registerDSFID(PR_FLUSH_MESSAGE, FlushMessage.class, FlushMessage::new);
+    registerDSFID(PR_IDENTITY_REQUEST_MESSAGE, IdentityRequestMessage.class,
+        IdentityRequestMessage::new);
+    registerDSFID(PR_IDENTITY_UPDATE_MESSAGE, IdentityUpdateMessage.class,
+        IdentityUpdateMessage::new);
+    registerDSFID(PR_INDEX_CREATION_MSG, IndexCreationMsg.class, IndexCreationMsg::new);
+    registerDSFID(PR_MANAGE_BUCKET_MESSAGE, ManageBucketMessage.class, ManageBucketMessage::new);
+    registerDSFID(PR_PRIMARY_REQUEST_MESSAGE, PrimaryRequestMessage.class,
+        PrimaryRequestMessage::new);
+    registerDSFID(PR_PRIMARY_REQUEST_REPLY_MESSAGE, PrimaryRequestReplyMessage.class,
+        PrimaryRequestReplyMessage::new);
+    registerDSFID(PR_SANITY_CHECK_MESSAGE, PRSanityCheckMessage.class, PRSanityCheckMessage::new);
+    registerDSFID(PR_PUTALL_REPLY_MESSAGE, PutAllReplyMessage.class, PutAllReplyMessage::new);
+    registerDSFID(PR_PUT_REPLY_MESSAGE, PutReplyMessage.class, PutReplyMessage::new);
+    registerDSFID(PR_QUERY_MESSAGE, QueryMessage.class, QueryMessage::new);
+    registerDSFID(PR_REMOVE_INDEXES_MESSAGE, RemoveIndexesMessage.class, RemoveIndexesMessage::new);
+    registerDSFID(PR_REMOVE_INDEXES_REPLY_MESSAGE, RemoveIndexesReplyMessage.class,
+        RemoveIndexesReplyMessage::new);
+    registerDSFID(PR_SIZE_MESSAGE, SizeMessage.class, SizeMessage::new);
+    registerDSFID(PR_SIZE_REPLY_MESSAGE, SizeReplyMessage.class, SizeReplyMessage::new);
+    registerDSFID(PR_BUCKET_SIZE_REPLY_MESSAGE, BucketSizeReplyMessage.class,
+        BucketSizeReplyMessage::new);
+    registerDSFID(PR_CONTAINS_KEY_VALUE_REPLY_MESSAGE, ContainsKeyValueReplyMessage.class,
+        ContainsKeyValueReplyMessage::new);
+    registerDSFID(PR_FETCH_ENTRIES_REPLY_MESSAGE, FetchEntriesReplyMessage.class,
+        FetchEntriesReplyMessage::new);
+    registerDSFID(PR_FETCH_ENTRY_REPLY_MESSAGE, FetchEntryReplyMessage.class,
+        FetchEntryReplyMessage::new);
+    registerDSFID(PR_IDENTITY_REPLY_MESSAGE, IdentityReplyMessage.class, IdentityReplyMessage::new);
+    registerDSFID(PR_INDEX_CREATION_REPLY_MSG, IndexCreationReplyMsg.class,
+        IndexCreationReplyMsg::new);
+    registerDSFID(PR_MANAGE_BUCKET_REPLY_MESSAGE, ManageBucketReplyMessage.class,
+        ManageBucketReplyMessage::new);
+    registerDSFID(PR_FETCH_KEYS_REPLY_MESSAGE, FetchKeysReplyMessage.class,
+        FetchKeysReplyMessage::new);
+    registerDSFID(PR_DUMP_B2N_REGION_MSG, DumpB2NRegion.class, DumpB2NRegion::new);
+    registerDSFID(PR_DUMP_B2N_REPLY_MESSAGE, DumpB2NReplyMessage.class, DumpB2NReplyMessage::new);
+    registerDSFID(DESTROY_PARTITIONED_REGION_MESSAGE, DestroyPartitionedRegionMessage.class,
+        DestroyPartitionedRegionMessage::new);
+    registerDSFID(INVALIDATE_PARTITIONED_REGION_MESSAGE, InvalidatePartitionedRegionMessage.class,
+        InvalidatePartitionedRegionMessage::new);
+    registerDSFID(COMMIT_PROCESS_QUERY_MESSAGE, CommitProcessQueryMessage.class,
+        CommitProcessQueryMessage::new);
+    registerDSFID(COMMIT_PROCESS_QUERY_REPLY_MESSAGE, CommitProcessQueryReplyMessage.class,
+        CommitProcessQueryReplyMessage::new);
     registerDSFID(DESTROY_REGION_WITH_CONTEXT_MESSAGE,
-        DestroyRegionOperation.DestroyRegionWithContextMessage.class);
-    registerDSFID(PUT_ALL_MESSAGE, PutAllMessage.class);
-    registerDSFID(REMOVE_ALL_MESSAGE, RemoveAllMessage.class);
-    registerDSFID(CLEAR_REGION_MESSAGE, ClearRegionMessage.class);
-    registerDSFID(TOMBSTONE_MESSAGE, TombstoneMessage.class);
-    registerDSFID(INVALIDATE_REGION_MESSAGE, InvalidateRegionMessage.class);
-    registerDSFID(STATE_MARKER_MESSAGE, StateMarkerMessage.class);
-    registerDSFID(STATE_STABILIZATION_MESSAGE, StateStabilizationMessage.class);
-    registerDSFID(STATE_STABILIZED_MESSAGE, StateStabilizedMessage.class);
-    registerDSFID(CLIENT_MARKER_MESSAGE_IMPL, ClientMarkerMessageImpl.class);
-    registerDSFID(TX_LOCK_UPDATE_PARTICIPANTS_MESSAGE, TXLockUpdateParticipantsMessage.class);
-    registerDSFID(TX_ORIGINATOR_RECOVERY_MESSAGE, TXOriginatorRecoveryMessage.class);
-    registerDSFID(TX_ORIGINATOR_RECOVERY_REPLY_MESSAGE, TXOriginatorRecoveryReplyMessage.class);
-    registerDSFID(TX_REMOTE_COMMIT_MESSAGE, TXRemoteCommitMessage.class);
-    registerDSFID(TX_REMOTE_ROLLBACK_MESSAGE, TXRemoteRollbackMessage.class);
-    registerDSFID(JTA_BEFORE_COMPLETION_MESSAGE, JtaBeforeCompletionMessage.class);
-    registerDSFID(JTA_AFTER_COMPLETION_MESSAGE, JtaAfterCompletionMessage.class);
-    registerDSFID(QUEUE_REMOVAL_MESSAGE, QueueRemovalMessage.class);
-    registerDSFID(DLOCK_RECOVER_GRANTOR_MESSAGE, DLockRecoverGrantorMessage.class);
-    registerDSFID(DLOCK_RECOVER_GRANTOR_REPLY_MESSAGE, DLockRecoverGrantorReplyMessage.class);
-    registerDSFID(NON_GRANTOR_DESTROYED_REPLY_MESSAGE, NonGrantorDestroyedReplyMessage.class);
-    registerDSFID(IDS_REGISTRATION_MESSAGE, InternalDataSerializer.RegistrationMessage.class);
-    registerDSFID(PR_FETCH_PARTITION_DETAILS_MESSAGE, FetchPartitionDetailsMessage.class);
-    registerDSFID(PR_FETCH_PARTITION_DETAILS_REPLY, FetchPartitionDetailsReplyMessage.class);
-    registerDSFID(PR_DEPOSE_PRIMARY_BUCKET_MESSAGE, DeposePrimaryBucketMessage.class);
-    registerDSFID(PR_DEPOSE_PRIMARY_BUCKET_REPLY, DeposePrimaryBucketReplyMessage.class);
-    registerDSFID(PR_BECOME_PRIMARY_BUCKET_MESSAGE, BecomePrimaryBucketMessage.class);
-    registerDSFID(PR_BECOME_PRIMARY_BUCKET_REPLY, BecomePrimaryBucketReplyMessage.class);
-    registerDSFID(PR_REMOVE_BUCKET_MESSAGE, RemoveBucketMessage.class);
-    registerDSFID(EXPIRE_CLIENT_TRANSACTIONS, ExpireDisconnectedClientTransactionsMessage.class);
-    registerDSFID(PR_REMOVE_BUCKET_REPLY, RemoveBucketReplyMessage.class);
-    registerDSFID(PR_MOVE_BUCKET_MESSAGE, MoveBucketMessage.class);
-    registerDSFID(PR_MOVE_BUCKET_REPLY, MoveBucketReplyMessage.class);
-    registerDSFID(ADD_HEALTH_LISTENER_REQUEST, AddHealthListenerRequest.class);
-    registerDSFID(ADD_HEALTH_LISTENER_RESPONSE, AddHealthListenerResponse.class);
-    registerDSFID(ADD_STAT_LISTENER_REQUEST, AddStatListenerRequest.class);
-    registerDSFID(ADD_STAT_LISTENER_RESPONSE, AddStatListenerResponse.class);
-    registerDSFID(ADMIN_CONSOLE_DISCONNECT_MESSAGE, AdminConsoleDisconnectMessage.class);
-    registerDSFID(ADMIN_CONSOLE_MESSAGE, AdminConsoleMessage.class);
-    registerDSFID(MANAGER_STARTUP_MESSAGE, ManagerStartupMessage.class);
-    registerDSFID(JMX_MANAGER_LOCATOR_REQUEST, JmxManagerLocatorRequest.class);
-    registerDSFID(JMX_MANAGER_LOCATOR_RESPONSE, JmxManagerLocatorResponse.class);
-    registerDSFID(ADMIN_FAILURE_RESPONSE, AdminFailureResponse.class);
-    registerDSFID(ALERT_LEVEL_CHANGE_MESSAGE, AlertLevelChangeMessage.class);
-    registerDSFID(ALERT_LISTENER_MESSAGE, AlertListenerMessage.class);
-    registerDSFID(APP_CACHE_SNAPSHOT_MESSAGE, AppCacheSnapshotMessage.class);
-    registerDSFID(BRIDGE_SERVER_REQUEST, BridgeServerRequest.class);
-    registerDSFID(BRIDGE_SERVER_RESPONSE, BridgeServerResponse.class);
-    registerDSFID(CACHE_CONFIG_REQUEST, CacheConfigRequest.class);
-    registerDSFID(CACHE_CONFIG_RESPONSE, CacheConfigResponse.class);
-    registerDSFID(CACHE_INFO_REQUEST, CacheInfoRequest.class);
-    registerDSFID(CACHE_INFO_RESPONSE, CacheInfoResponse.class);
-    registerDSFID(CANCELLATION_MESSAGE, CancellationMessage.class);
-    registerDSFID(CANCEL_STAT_LISTENER_REQUEST, CancelStatListenerRequest.class);
-    registerDSFID(CANCEL_STAT_LISTENER_RESPONSE, CancelStatListenerResponse.class);
-    registerDSFID(DESTROY_ENTRY_MESSAGE, DestroyEntryMessage.class);
-    registerDSFID(ADMIN_DESTROY_REGION_MESSAGE, DestroyRegionMessage.class);
-    registerDSFID(FETCH_DIST_LOCK_INFO_REQUEST, FetchDistLockInfoRequest.class);
-    registerDSFID(FETCH_DIST_LOCK_INFO_RESPONSE, FetchDistLockInfoResponse.class);
-    registerDSFID(FETCH_HEALTH_DIAGNOSIS_REQUEST, FetchHealthDiagnosisRequest.class);
-    registerDSFID(FETCH_HEALTH_DIAGNOSIS_RESPONSE, FetchHealthDiagnosisResponse.class);
-    registerDSFID(FETCH_HOST_REQUEST, FetchHostRequest.class);
-    registerDSFID(FETCH_HOST_RESPONSE, FetchHostResponse.class);
-    registerDSFID(FETCH_RESOURCE_ATTRIBUTES_REQUEST, FetchResourceAttributesRequest.class);
-    registerDSFID(FETCH_RESOURCE_ATTRIBUTES_RESPONSE, FetchResourceAttributesResponse.class);
-    registerDSFID(FETCH_STATS_REQUEST, FetchStatsRequest.class);
-    registerDSFID(FETCH_STATS_RESPONSE, FetchStatsResponse.class);
-    registerDSFID(FETCH_SYS_CFG_REQUEST, FetchSysCfgRequest.class);
-    registerDSFID(FETCH_SYS_CFG_RESPONSE, FetchSysCfgResponse.class);
-    registerDSFID(FLUSH_APP_CACHE_SNAPSHOT_MESSAGE, FlushAppCacheSnapshotMessage.class);
-    registerDSFID(HEALTH_LISTENER_MESSAGE, HealthListenerMessage.class);
-    registerDSFID(OBJECT_DETAILS_REQUEST, ObjectDetailsRequest.class);
-    registerDSFID(OBJECT_DETAILS_RESPONSE, ObjectDetailsResponse.class);
-    registerDSFID(OBJECT_NAMES_REQUEST, ObjectNamesRequest.class);
-    registerDSFID(LICENSE_INFO_REQUEST, LicenseInfoRequest.class);
-    registerDSFID(LICENSE_INFO_RESPONSE, LicenseInfoResponse.class);
-    registerDSFID(OBJECT_NAMES_RESPONSE, ObjectNamesResponse.class);
-    registerDSFID(REGION_ATTRIBUTES_REQUEST, RegionAttributesRequest.class);
-    registerDSFID(REGION_ATTRIBUTES_RESPONSE, RegionAttributesResponse.class);
-    registerDSFID(REGION_REQUEST, RegionRequest.class);
-    registerDSFID(REGION_RESPONSE, RegionResponse.class);
-    registerDSFID(REGION_SIZE_REQUEST, RegionSizeRequest.class);
-    registerDSFID(REGION_SIZE_RESPONSE, RegionSizeResponse.class);
-    registerDSFID(REGION_STATISTICS_REQUEST, RegionStatisticsRequest.class);
-    registerDSFID(REGION_STATISTICS_RESPONSE, RegionStatisticsResponse.class);
-    registerDSFID(REMOVE_HEALTH_LISTENER_REQUEST, RemoveHealthListenerRequest.class);
-    registerDSFID(REMOVE_HEALTH_LISTENER_RESPONSE, RemoveHealthListenerResponse.class);
-    registerDSFID(RESET_HEALTH_STATUS_REQUEST, ResetHealthStatusRequest.class);
-    registerDSFID(RESET_HEALTH_STATUS_RESPONSE, ResetHealthStatusResponse.class);
-    registerDSFID(ROOT_REGION_REQUEST, RootRegionRequest.class);
-    registerDSFID(ROOT_REGION_RESPONSE, RootRegionResponse.class);
-    registerDSFID(SNAPSHOT_RESULT_MESSAGE, SnapshotResultMessage.class);
-    registerDSFID(STAT_LISTENER_MESSAGE, StatListenerMessage.class);
-    registerDSFID(STORE_SYS_CFG_REQUEST, StoreSysCfgRequest.class);
-    registerDSFID(STORE_SYS_CFG_RESPONSE, StoreSysCfgResponse.class);
-    registerDSFID(SUB_REGION_REQUEST, SubRegionRequest.class);
-    registerDSFID(SUB_REGION_RESPONSE, SubRegionResponse.class);
-    registerDSFID(TAIL_LOG_REQUEST, TailLogRequest.class);
-    registerDSFID(TAIL_LOG_RESPONSE, TailLogResponse.class);
-    registerDSFID(VERSION_INFO_REQUEST, VersionInfoRequest.class);
-    registerDSFID(VERSION_INFO_RESPONSE, VersionInfoResponse.class);
-    registerDSFID(HIGH_PRIORITY_ACKED_MESSAGE, HighPriorityAckedMessage.class);
-    registerDSFID(SERIAL_ACKED_MESSAGE, SerialAckedMessage.class);
-    registerDSFID(BUCKET_PROFILE, BucketAdvisor.BucketProfile.class);
-    registerDSFID(SERVER_BUCKET_PROFILE, BucketAdvisor.ServerBucketProfile.class);
-    registerDSFID(PARTITION_PROFILE, RegionAdvisor.PartitionProfile.class);
-    registerDSFID(GATEWAY_SENDER_PROFILE, GatewaySenderAdvisor.GatewaySenderProfile.class);
-    registerDSFID(ROLE_EVENT, RoleEventImpl.class);
-    registerDSFID(CLIENT_REGION_EVENT, ClientRegionEventImpl.class);
-    registerDSFID(PR_INVALIDATE_MESSAGE, InvalidateMessage.class);
-    registerDSFID(PR_INVALIDATE_REPLY_MESSAGE, InvalidateMessage.InvalidateReplyMessage.class);
+        DestroyRegionOperation.DestroyRegionWithContextMessage.class,
+        DestroyRegionOperation.DestroyRegionWithContextMessage::new);
+    registerDSFID(PUT_ALL_MESSAGE, PutAllMessage.class, PutAllMessage::new);
+    registerDSFID(REMOVE_ALL_MESSAGE, RemoveAllMessage.class, RemoveAllMessage::new);
+    registerDSFID(CLEAR_REGION_MESSAGE, ClearRegionMessage.class, ClearRegionMessage::new);
+    registerDSFID(TOMBSTONE_MESSAGE, TombstoneMessage.class, TombstoneMessage::new);
+    registerDSFID(INVALIDATE_REGION_MESSAGE, InvalidateRegionMessage.class,
+        InvalidateRegionMessage::new);
+    registerDSFID(STATE_MARKER_MESSAGE, StateMarkerMessage.class, StateMarkerMessage::new);
+    registerDSFID(STATE_STABILIZATION_MESSAGE, StateStabilizationMessage.class,
+        StateStabilizationMessage::new);
+    registerDSFID(STATE_STABILIZED_MESSAGE, StateStabilizedMessage.class,
+        StateStabilizedMessage::new);
+    registerDSFID(CLIENT_MARKER_MESSAGE_IMPL, ClientMarkerMessageImpl.class,
+        ClientMarkerMessageImpl::new);
+    registerDSFID(TX_LOCK_UPDATE_PARTICIPANTS_MESSAGE, TXLockUpdateParticipantsMessage.class,
+        TXLockUpdateParticipantsMessage::new);
+    registerDSFID(TX_ORIGINATOR_RECOVERY_MESSAGE, TXOriginatorRecoveryMessage.class,
+        TXOriginatorRecoveryMessage::new);
+    registerDSFID(TX_ORIGINATOR_RECOVERY_REPLY_MESSAGE, TXOriginatorRecoveryReplyMessage.class,
+        TXOriginatorRecoveryReplyMessage::new);
+    registerDSFID(TX_REMOTE_COMMIT_MESSAGE, TXRemoteCommitMessage.class,
+        TXRemoteCommitMessage::new);
+    registerDSFID(TX_REMOTE_ROLLBACK_MESSAGE, TXRemoteRollbackMessage.class,
+        TXRemoteRollbackMessage::new);
+    registerDSFID(JTA_BEFORE_COMPLETION_MESSAGE, JtaBeforeCompletionMessage.class,
+        JtaBeforeCompletionMessage::new);
+    registerDSFID(JTA_AFTER_COMPLETION_MESSAGE, JtaAfterCompletionMessage.class,
+        JtaAfterCompletionMessage::new);
+    registerDSFID(QUEUE_REMOVAL_MESSAGE, QueueRemovalMessage.class, QueueRemovalMessage::new);
+    registerDSFID(DLOCK_RECOVER_GRANTOR_MESSAGE, DLockRecoverGrantorMessage.class,
+        DLockRecoverGrantorMessage::new);
+    registerDSFID(DLOCK_RECOVER_GRANTOR_REPLY_MESSAGE, DLockRecoverGrantorReplyMessage.class,
+        DLockRecoverGrantorReplyMessage::new);
+    registerDSFID(NON_GRANTOR_DESTROYED_REPLY_MESSAGE, NonGrantorDestroyedReplyMessage.class,
+        NonGrantorDestroyedReplyMessage::new);
+    registerDSFID(IDS_REGISTRATION_MESSAGE, InternalDataSerializer.RegistrationMessage.class,
+        InternalDataSerializer.RegistrationMessage::new);
+    registerDSFID(PR_FETCH_PARTITION_DETAILS_MESSAGE, FetchPartitionDetailsMessage.class,
+        FetchPartitionDetailsMessage::new);
+    registerDSFID(PR_FETCH_PARTITION_DETAILS_REPLY, FetchPartitionDetailsReplyMessage.class,
+        FetchPartitionDetailsReplyMessage::new);
+    registerDSFID(PR_DEPOSE_PRIMARY_BUCKET_MESSAGE, DeposePrimaryBucketMessage.class,
+        DeposePrimaryBucketMessage::new);
+    registerDSFID(PR_DEPOSE_PRIMARY_BUCKET_REPLY, DeposePrimaryBucketReplyMessage.class,
+        DeposePrimaryBucketReplyMessage::new);
+    registerDSFID(PR_BECOME_PRIMARY_BUCKET_MESSAGE, BecomePrimaryBucketMessage.class,
+        BecomePrimaryBucketMessage::new);
+    registerDSFID(PR_BECOME_PRIMARY_BUCKET_REPLY, BecomePrimaryBucketReplyMessage.class,
+        BecomePrimaryBucketReplyMessage::new);
+    registerDSFID(PR_REMOVE_BUCKET_MESSAGE, RemoveBucketMessage.class, RemoveBucketMessage::new);
+    registerDSFID(EXPIRE_CLIENT_TRANSACTIONS, ExpireDisconnectedClientTransactionsMessage.class,
+        ExpireDisconnectedClientTransactionsMessage::new);
+    registerDSFID(PR_REMOVE_BUCKET_REPLY, RemoveBucketReplyMessage.class,
+        RemoveBucketReplyMessage::new);
+    registerDSFID(PR_MOVE_BUCKET_MESSAGE, MoveBucketMessage.class, MoveBucketMessage::new);
+    registerDSFID(PR_MOVE_BUCKET_REPLY, MoveBucketReplyMessage.class, MoveBucketReplyMessage::new);
+    registerDSFID(ADD_HEALTH_LISTENER_REQUEST, AddHealthListenerRequest.class,
+        AddHealthListenerRequest::new);
+    registerDSFID(ADD_HEALTH_LISTENER_RESPONSE, AddHealthListenerResponse.class,
+        AddHealthListenerResponse::new);
+    registerDSFID(ADD_STAT_LISTENER_REQUEST, AddStatListenerRequest.class,
+        AddStatListenerRequest::new);
+    registerDSFID(ADD_STAT_LISTENER_RESPONSE, AddStatListenerResponse.class,
+        AddStatListenerResponse::new);
+    registerDSFID(ADMIN_CONSOLE_DISCONNECT_MESSAGE, AdminConsoleDisconnectMessage.class,
+        AdminConsoleDisconnectMessage::new);
+    registerDSFID(ADMIN_CONSOLE_MESSAGE, AdminConsoleMessage.class, AdminConsoleMessage::new);
+    registerDSFID(MANAGER_STARTUP_MESSAGE, ManagerStartupMessage.class, ManagerStartupMessage::new);
+    registerDSFID(JMX_MANAGER_LOCATOR_REQUEST, JmxManagerLocatorRequest.class,
+        JmxManagerLocatorRequest::new);
+    registerDSFID(JMX_MANAGER_LOCATOR_RESPONSE, JmxManagerLocatorResponse.class,
+        JmxManagerLocatorResponse::new);
+    registerDSFID(ADMIN_FAILURE_RESPONSE, AdminFailureResponse.class, AdminFailureResponse::new);
+    registerDSFID(ALERT_LEVEL_CHANGE_MESSAGE, AlertLevelChangeMessage.class,
+        AlertLevelChangeMessage::new);
+    registerDSFID(ALERT_LISTENER_MESSAGE, AlertListenerMessage.class, AlertListenerMessage::new);
+    registerDSFID(APP_CACHE_SNAPSHOT_MESSAGE, AppCacheSnapshotMessage.class,
+        AppCacheSnapshotMessage::new);
+    registerDSFID(BRIDGE_SERVER_REQUEST, BridgeServerRequest.class, BridgeServerRequest::new);
+    registerDSFID(BRIDGE_SERVER_RESPONSE, BridgeServerResponse.class, BridgeServerResponse::new);
+    registerDSFID(CACHE_CONFIG_REQUEST, CacheConfigRequest.class, CacheConfigRequest::new);
+    registerDSFID(CACHE_CONFIG_RESPONSE, CacheConfigResponse.class, CacheConfigResponse::new);
+    registerDSFID(CACHE_INFO_REQUEST, CacheInfoRequest.class, CacheInfoRequest::new);
+    registerDSFID(CACHE_INFO_RESPONSE, CacheInfoResponse.class, CacheInfoResponse::new);
+    registerDSFID(CANCELLATION_MESSAGE, CancellationMessage.class, CancellationMessage::new);
+    registerDSFID(CANCEL_STAT_LISTENER_REQUEST, CancelStatListenerRequest.class,
+        CancelStatListenerRequest::new);
+    registerDSFID(CANCEL_STAT_LISTENER_RESPONSE, CancelStatListenerResponse.class,
+        CancelStatListenerResponse::new);
+    registerDSFID(DESTROY_ENTRY_MESSAGE, DestroyEntryMessage.class, DestroyEntryMessage::new);
+    registerDSFID(ADMIN_DESTROY_REGION_MESSAGE, DestroyRegionMessage.class,
+        DestroyRegionMessage::new);
+    registerDSFID(FETCH_DIST_LOCK_INFO_REQUEST, FetchDistLockInfoRequest.class,
+        FetchDistLockInfoRequest::new);
+    registerDSFID(FETCH_DIST_LOCK_INFO_RESPONSE, FetchDistLockInfoResponse.class,
+        FetchDistLockInfoResponse::new);
+    registerDSFID(FETCH_HEALTH_DIAGNOSIS_REQUEST, FetchHealthDiagnosisRequest.class,
+        FetchHealthDiagnosisRequest::new);
+    registerDSFID(FETCH_HEALTH_DIAGNOSIS_RESPONSE, FetchHealthDiagnosisResponse.class,
+        FetchHealthDiagnosisResponse::new);
+    registerDSFID(FETCH_HOST_REQUEST, FetchHostRequest.class, FetchHostRequest::new);
+    registerDSFID(FETCH_HOST_RESPONSE, FetchHostResponse.class, FetchHostResponse::new);
+    registerDSFID(FETCH_RESOURCE_ATTRIBUTES_REQUEST, FetchResourceAttributesRequest.class,
+        FetchResourceAttributesRequest::new);
+    registerDSFID(FETCH_RESOURCE_ATTRIBUTES_RESPONSE, FetchResourceAttributesResponse.class,
+        FetchResourceAttributesResponse::new);
+    registerDSFID(FETCH_STATS_REQUEST, FetchStatsRequest.class, FetchStatsRequest::new);
+    registerDSFID(FETCH_STATS_RESPONSE, FetchStatsResponse.class, FetchStatsResponse::new);
+    registerDSFID(FETCH_SYS_CFG_REQUEST, FetchSysCfgRequest.class, FetchSysCfgRequest::new);
+    registerDSFID(FETCH_SYS_CFG_RESPONSE, FetchSysCfgResponse.class, FetchSysCfgResponse::new);
+    registerDSFID(FLUSH_APP_CACHE_SNAPSHOT_MESSAGE, FlushAppCacheSnapshotMessage.class,
+        FlushAppCacheSnapshotMessage::new);
+    registerDSFID(HEALTH_LISTENER_MESSAGE, HealthListenerMessage.class, HealthListenerMessage::new);
+    registerDSFID(OBJECT_DETAILS_REQUEST, ObjectDetailsRequest.class, ObjectDetailsRequest::new);
+    registerDSFID(OBJECT_DETAILS_RESPONSE, ObjectDetailsResponse.class, ObjectDetailsResponse::new);
+    registerDSFID(OBJECT_NAMES_REQUEST, ObjectNamesRequest.class, ObjectNamesRequest::new);
+    registerDSFID(LICENSE_INFO_REQUEST, LicenseInfoRequest.class, LicenseInfoRequest::new);
+    registerDSFID(LICENSE_INFO_RESPONSE, LicenseInfoResponse.class, LicenseInfoResponse::new);
+    registerDSFID(OBJECT_NAMES_RESPONSE, ObjectNamesResponse.class, ObjectNamesResponse::new);
+    registerDSFID(REGION_ATTRIBUTES_REQUEST, RegionAttributesRequest.class,
+        RegionAttributesRequest::new);
+    registerDSFID(REGION_ATTRIBUTES_RESPONSE, RegionAttributesResponse.class,
+        RegionAttributesResponse::new);
+    registerDSFID(REGION_REQUEST, RegionRequest.class, RegionRequest::new);
+    registerDSFID(REGION_RESPONSE, RegionResponse.class, RegionResponse::new);
+    registerDSFID(REGION_SIZE_REQUEST, RegionSizeRequest.class, RegionSizeRequest::new);
+    registerDSFID(REGION_SIZE_RESPONSE, RegionSizeResponse.class, RegionSizeResponse::new);
+    registerDSFID(REGION_STATISTICS_REQUEST, RegionStatisticsRequest.class,
+        RegionStatisticsRequest::new);
+    registerDSFID(REGION_STATISTICS_RESPONSE, RegionStatisticsResponse.class,
+        RegionStatisticsResponse::new);
+    registerDSFID(REMOVE_HEALTH_LISTENER_REQUEST, RemoveHealthListenerRequest.class,
+        RemoveHealthListenerRequest::new);
+    registerDSFID(REMOVE_HEALTH_LISTENER_RESPONSE, RemoveHealthListenerResponse.class,
+        RemoveHealthListenerResponse::new);
+    registerDSFID(RESET_HEALTH_STATUS_REQUEST, ResetHealthStatusRequest.class,
+        ResetHealthStatusRequest::new);
+    registerDSFID(RESET_HEALTH_STATUS_RESPONSE, ResetHealthStatusResponse.class,
+        ResetHealthStatusResponse::new);
+    registerDSFID(ROOT_REGION_REQUEST, RootRegionRequest.class, RootRegionRequest::new);
+    registerDSFID(ROOT_REGION_RESPONSE, RootRegionResponse.class, RootRegionResponse::new);
+    registerDSFID(SNAPSHOT_RESULT_MESSAGE, SnapshotResultMessage.class, SnapshotResultMessage::new);
+    registerDSFID(STAT_LISTENER_MESSAGE, StatListenerMessage.class, StatListenerMessage::new);
+    registerDSFID(STORE_SYS_CFG_REQUEST, StoreSysCfgRequest.class, StoreSysCfgRequest::new);
+    registerDSFID(STORE_SYS_CFG_RESPONSE, StoreSysCfgResponse.class, StoreSysCfgResponse::new);
+    registerDSFID(SUB_REGION_REQUEST, SubRegionRequest.class, SubRegionRequest::new);
+    registerDSFID(SUB_REGION_RESPONSE, SubRegionResponse.class, SubRegionResponse::new);
+    registerDSFID(TAIL_LOG_REQUEST, TailLogRequest.class, TailLogRequest::new);
+    registerDSFID(TAIL_LOG_RESPONSE, TailLogResponse.class, TailLogResponse::new);
+    registerDSFID(VERSION_INFO_REQUEST, VersionInfoRequest.class, VersionInfoRequest::new);
+    registerDSFID(VERSION_INFO_RESPONSE, VersionInfoResponse.class, VersionInfoResponse::new);
+    registerDSFID(HIGH_PRIORITY_ACKED_MESSAGE, HighPriorityAckedMessage.class,
+        HighPriorityAckedMessage::new);
+    registerDSFID(SERIAL_ACKED_MESSAGE, SerialAckedMessage.class, SerialAckedMessage::new);
+    registerDSFID(BUCKET_PROFILE, BucketAdvisor.BucketProfile.class,
+        BucketAdvisor.BucketProfile::new);
+    registerDSFID(SERVER_BUCKET_PROFILE, BucketAdvisor.ServerBucketProfile.class,
+        BucketAdvisor.ServerBucketProfile::new);
+    registerDSFID(PARTITION_PROFILE, RegionAdvisor.PartitionProfile.class,
+        RegionAdvisor.PartitionProfile::new);
+    registerDSFID(GATEWAY_SENDER_PROFILE, GatewaySenderAdvisor.GatewaySenderProfile.class,
+        GatewaySenderAdvisor.GatewaySenderProfile::new);
+    registerDSFID(ROLE_EVENT, RoleEventImpl.class, RoleEventImpl::new);
+    registerDSFID(CLIENT_REGION_EVENT, ClientRegionEventImpl.class, ClientRegionEventImpl::new);
+    registerDSFID(PR_INVALIDATE_MESSAGE, InvalidateMessage.class, InvalidateMessage::new);
+    registerDSFID(PR_INVALIDATE_REPLY_MESSAGE, InvalidateMessage.InvalidateReplyMessage.class,
+        InvalidateMessage.InvalidateReplyMessage::new);
     registerDSFID(TX_LOCK_UPDATE_PARTICIPANTS_REPLY_MESSAGE,
-        TXLockUpdateParticipantsReplyMessage.class);
-    registerDSFID(STREAMING_REPLY_MESSAGE, StreamingReplyMessage.class);
-    registerDSFID(PARTITION_REGION_CONFIG, PartitionRegionConfig.class);
-    registerDSFID(PREFER_BYTES_CACHED_DESERIALIZABLE, PreferBytesCachedDeserializable.class);
-    registerDSFID(VM_CACHED_DESERIALIZABLE, VMCachedDeserializable.class);
-    registerDSFID(GATEWAY_SENDER_EVENT_IMPL, GatewaySenderEventImpl.class);
-    registerDSFID(SUSPEND_LOCKING_TOKEN, DLockService.SuspendLockingToken.class);
-    registerDSFID(OBJECT_TYPE_IMPL, ObjectTypeImpl.class);
-    registerDSFID(STRUCT_TYPE_IMPL, StructTypeImpl.class);
-    registerDSFID(COLLECTION_TYPE_IMPL, CollectionTypeImpl.class);
-    registerDSFID(TX_LOCK_BATCH, TXLockBatch.class);
-    registerDSFID(GATEWAY_SENDER_EVENT_CALLBACK_ARGUMENT, GatewaySenderEventCallbackArgument.class);
-    registerDSFID(MAP_TYPE_IMPL, MapTypeImpl.class);
-    registerDSFID(STORE_ALL_CACHED_DESERIALIZABLE, StoreAllCachedDeserializable.class);
-    registerDSFID(INTEREST_EVENT_MESSAGE, InterestEventMessage.class);
-    registerDSFID(INTEREST_EVENT_REPLY_MESSAGE, InterestEventReplyMessage.class);
-    registerDSFID(HA_EVENT_WRAPPER, HAEventWrapper.class);
-    registerDSFID(STAT_ALERTS_MGR_ASSIGN_MESSAGE, StatAlertsManagerAssignMessage.class);
-    registerDSFID(UPDATE_ALERTS_DEFN_MESSAGE, UpdateAlertDefinitionMessage.class);
-    registerDSFID(REFRESH_MEMBER_SNAP_REQUEST, RefreshMemberSnapshotRequest.class);
-    registerDSFID(REFRESH_MEMBER_SNAP_RESPONSE, RefreshMemberSnapshotResponse.class);
-    registerDSFID(REGION_SUB_SIZE_REQUEST, RegionSubRegionSizeRequest.class);
-    registerDSFID(REGION_SUB_SIZE_RESPONSE, RegionSubRegionsSizeResponse.class);
-    registerDSFID(CHANGE_REFRESH_INT_MESSAGE, ChangeRefreshIntervalMessage.class);
-    registerDSFID(ALERTS_NOTIF_MESSAGE, AlertsNotificationMessage.class);
-    registerDSFID(FIND_DURABLE_QUEUE, FindDurableQueueMessage.class);
-    registerDSFID(FIND_DURABLE_QUEUE_REPLY, FindDurableQueueReply.class);
-    registerDSFID(CACHE_SERVER_LOAD_MESSAGE, CacheServerLoadMessage.class);
-    registerDSFID(CACHE_SERVER_PROFILE, CacheServerProfile.class);
-    registerDSFID(CONTROLLER_PROFILE, ControllerProfile.class);
-    registerDSFID(DLOCK_QUERY_MESSAGE, DLockQueryProcessor.DLockQueryMessage.class);
-    registerDSFID(DLOCK_QUERY_REPLY, DLockQueryProcessor.DLockQueryReplyMessage.class);
-    registerDSFID(LOCATOR_LIST_REQUEST, LocatorListRequest.class);
-    registerDSFID(LOCATOR_LIST_RESPONSE, LocatorListResponse.class);
-    registerDSFID(CLIENT_CONNECTION_REQUEST, ClientConnectionRequest.class);
-    registerDSFID(CLIENT_CONNECTION_RESPONSE, ClientConnectionResponse.class);
-    registerDSFID(QUEUE_CONNECTION_REQUEST, QueueConnectionRequest.class);
-    registerDSFID(QUEUE_CONNECTION_RESPONSE, QueueConnectionResponse.class);
-    registerDSFID(CLIENT_REPLACEMENT_REQUEST, ClientReplacementRequest.class);
-    registerDSFID(OBJECT_PART_LIST, ObjectPartList.class);
-    registerDSFID(VERSIONED_OBJECT_LIST, VersionedObjectList.class);
-    registerDSFID(OBJECT_PART_LIST66, ObjectPartList651.class);
-    registerDSFID(PUTALL_VERSIONS_LIST, EntryVersionsList.class);
-    registerDSFID(INITIAL_IMAGE_VERSIONED_OBJECT_LIST, InitialImageVersionedEntryList.class);
-    registerDSFID(FIND_VERSION_TAG, FindVersionTagMessage.class);
-    registerDSFID(VERSION_TAG_REPLY, VersionTagReply.class);
-    registerDSFID(DURABLE_CLIENT_INFO_REQUEST, DurableClientInfoRequest.class);
-    registerDSFID(DURABLE_CLIENT_INFO_RESPONSE, DurableClientInfoResponse.class);
-    registerDSFID(CLIENT_INTEREST_MESSAGE, ClientInterestMessageImpl.class);
-    registerDSFID(LATEST_LAST_ACCESS_TIME_MESSAGE, LatestLastAccessTimeMessage.class);
-    registerDSFID(STAT_ALERT_DEFN_NUM_THRESHOLD, NumberThresholdDecoratorImpl.class);
-    registerDSFID(STAT_ALERT_DEFN_GAUGE_THRESHOLD, GaugeThresholdDecoratorImpl.class);
-    registerDSFID(CLIENT_HEALTH_STATS, ClientHealthStats.class);
-    registerDSFID(STAT_ALERT_NOTIFICATION, StatAlertNotification.class);
-    registerDSFID(FILTER_INFO_MESSAGE, InitialImageOperation.FilterInfoMessage.class);
-    registerDSFID(SIZED_BASED_LOAD_PROBE, SizedBasedLoadProbe.class);
-    registerDSFID(PR_MANAGE_BACKUP_BUCKET_MESSAGE, ManageBackupBucketMessage.class);
-    registerDSFID(PR_MANAGE_BACKUP_BUCKET_REPLY_MESSAGE, ManageBackupBucketReplyMessage.class);
-    registerDSFID(PR_CREATE_BUCKET_MESSAGE, CreateBucketMessage.class);
-    registerDSFID(PR_CREATE_BUCKET_REPLY_MESSAGE, CreateBucketReplyMessage.class);
-    registerDSFID(RESOURCE_MANAGER_PROFILE, ResourceManagerProfile.class);
-    registerDSFID(RESOURCE_PROFILE_MESSAGE, ResourceProfileMessage.class);
-    registerDSFID(JMX_MANAGER_PROFILE, JmxManagerProfile.class);
-    registerDSFID(JMX_MANAGER_PROFILE_MESSAGE, JmxManagerProfileMessage.class);
-    registerDSFID(CLIENT_DENYLIST_MESSAGE, ClientDenylistMessage.class);
-    registerDSFID(REMOVE_CLIENT_FROM_DENYLIST_MESSAGE, RemoveClientFromDenylistMessage.class);
-    registerDSFID(PR_FUNCTION_STREAMING_MESSAGE, PartitionedRegionFunctionStreamingMessage.class);
-    registerDSFID(MEMBER_FUNCTION_STREAMING_MESSAGE, MemberFunctionStreamingMessage.class);
-    registerDSFID(DR_FUNCTION_STREAMING_MESSAGE, DistributedRegionFunctionStreamingMessage.class);
-    registerDSFID(FUNCTION_STREAMING_REPLY_MESSAGE, FunctionStreamingReplyMessage.class);
-    registerDSFID(GET_ALL_SERVERS_REQUEST, GetAllServersRequest.class);
-    registerDSFID(GET_ALL_SERVRES_RESPONSE, GetAllServersResponse.class);
-    registerDSFID(PERSISTENT_MEMBERSHIP_VIEW_REQUEST, MembershipViewRequest.class);
-    registerDSFID(PERSISTENT_MEMBERSHIP_VIEW_REPLY, MembershipViewReplyMessage.class);
-    registerDSFID(PERSISTENT_STATE_QUERY_REQUEST, PersistentStateQueryMessage.class);
-    registerDSFID(PERSISTENT_STATE_QUERY_REPLY, PersistentStateQueryReplyMessage.class);
-    registerDSFID(PREPARE_NEW_PERSISTENT_MEMBER_REQUEST, PrepareNewPersistentMemberMessage.class);
-    registerDSFID(MISSING_PERSISTENT_IDS_REQUEST, MissingPersistentIDsRequest.class);
-    registerDSFID(MISSING_PERSISTENT_IDS_RESPONSE, MissingPersistentIDsResponse.class);
-    registerDSFID(REVOKE_PERSISTENT_ID_REQUEST, RevokePersistentIDRequest.class);
-    registerDSFID(REVOKE_PERSISTENT_ID_RESPONSE, RevokePersistentIDResponse.class);
-    registerDSFID(REMOVE_PERSISTENT_MEMBER_REQUEST, RemovePersistentMemberMessage.class);
+        TXLockUpdateParticipantsReplyMessage.class, TXLockUpdateParticipantsReplyMessage::new);
+    registerDSFID(STREAMING_REPLY_MESSAGE, StreamingReplyMessage.class, StreamingReplyMessage::new);
+    registerDSFID(PARTITION_REGION_CONFIG, PartitionRegionConfig.class, PartitionRegionConfig::new);
+    registerDSFID(PREFER_BYTES_CACHED_DESERIALIZABLE, PreferBytesCachedDeserializable.class,
+        PreferBytesCachedDeserializable::new);
+    registerDSFID(VM_CACHED_DESERIALIZABLE, VMCachedDeserializable.class,
+        VMCachedDeserializable::new);
+    registerDSFID(GATEWAY_SENDER_EVENT_IMPL, GatewaySenderEventImpl.class,
+        GatewaySenderEventImpl::new);
+    registerDSFID(SUSPEND_LOCKING_TOKEN, DLockService.SuspendLockingToken.class,
+        DLockService.SuspendLockingToken::new);
+    registerDSFID(OBJECT_TYPE_IMPL, ObjectTypeImpl.class, ObjectTypeImpl::new);
+    registerDSFID(STRUCT_TYPE_IMPL, StructTypeImpl.class, StructTypeImpl::new);
+    registerDSFID(COLLECTION_TYPE_IMPL, CollectionTypeImpl.class, CollectionTypeImpl::new);
+    registerDSFID(TX_LOCK_BATCH, TXLockBatch.class, TXLockBatch::new);
+    registerDSFID(GATEWAY_SENDER_EVENT_CALLBACK_ARGUMENT, GatewaySenderEventCallbackArgument.class,
+        GatewaySenderEventCallbackArgument::new);
+    registerDSFID(MAP_TYPE_IMPL, MapTypeImpl.class, MapTypeImpl::new);
+    registerDSFID(STORE_ALL_CACHED_DESERIALIZABLE, StoreAllCachedDeserializable.class,
+        StoreAllCachedDeserializable::new);
+    registerDSFID(INTEREST_EVENT_MESSAGE, InterestEventMessage.class, InterestEventMessage::new);
+    registerDSFID(INTEREST_EVENT_REPLY_MESSAGE, InterestEventReplyMessage.class,
+        InterestEventReplyMessage::new);
+    registerDSFID(HA_EVENT_WRAPPER, HAEventWrapper.class, HAEventWrapper::new);
+    registerDSFID(STAT_ALERTS_MGR_ASSIGN_MESSAGE, StatAlertsManagerAssignMessage.class,
+        StatAlertsManagerAssignMessage::new);
+    registerDSFID(UPDATE_ALERTS_DEFN_MESSAGE, UpdateAlertDefinitionMessage.class,
+        UpdateAlertDefinitionMessage::new);
+    registerDSFID(REFRESH_MEMBER_SNAP_REQUEST, RefreshMemberSnapshotRequest.class,
+        RefreshMemberSnapshotRequest::new);
+    registerDSFID(REFRESH_MEMBER_SNAP_RESPONSE, RefreshMemberSnapshotResponse.class,
+        RefreshMemberSnapshotResponse::new);
+    registerDSFID(REGION_SUB_SIZE_REQUEST, RegionSubRegionSizeRequest.class,
+        RegionSubRegionSizeRequest::new);
+    registerDSFID(REGION_SUB_SIZE_RESPONSE, RegionSubRegionsSizeResponse.class,
+        RegionSubRegionsSizeResponse::new);
+    registerDSFID(CHANGE_REFRESH_INT_MESSAGE, ChangeRefreshIntervalMessage.class,
+        ChangeRefreshIntervalMessage::new);
+    registerDSFID(ALERTS_NOTIF_MESSAGE, AlertsNotificationMessage.class,
+        AlertsNotificationMessage::new);
+    registerDSFID(FIND_DURABLE_QUEUE, FindDurableQueueMessage.class, FindDurableQueueMessage::new);
+    registerDSFID(FIND_DURABLE_QUEUE_REPLY, FindDurableQueueReply.class,
+        FindDurableQueueReply::new);
+    registerDSFID(CACHE_SERVER_LOAD_MESSAGE, CacheServerLoadMessage.class,
+        CacheServerLoadMessage::new);
+    registerDSFID(CACHE_SERVER_PROFILE, CacheServerProfile.class, CacheServerProfile::new);
+    registerDSFID(CONTROLLER_PROFILE, ControllerProfile.class, ControllerProfile::new);
+    registerDSFID(DLOCK_QUERY_MESSAGE, DLockQueryProcessor.DLockQueryMessage.class,
+        DLockQueryProcessor.DLockQueryMessage::new);
+    registerDSFID(DLOCK_QUERY_REPLY, DLockQueryProcessor.DLockQueryReplyMessage.class,
+        DLockQueryProcessor.DLockQueryReplyMessage::new);
+    registerDSFID(LOCATOR_LIST_REQUEST, LocatorListRequest.class, LocatorListRequest::new);
+    registerDSFID(LOCATOR_LIST_RESPONSE, LocatorListResponse.class, LocatorListResponse::new);
+    registerDSFID(CLIENT_CONNECTION_REQUEST, ClientConnectionRequest.class,
+        ClientConnectionRequest::new);
+    registerDSFID(CLIENT_CONNECTION_RESPONSE, ClientConnectionResponse.class,
+        ClientConnectionResponse::new);
+    registerDSFID(QUEUE_CONNECTION_REQUEST, QueueConnectionRequest.class,
+        QueueConnectionRequest::new);
+    registerDSFID(QUEUE_CONNECTION_RESPONSE, QueueConnectionResponse.class,
+        QueueConnectionResponse::new);
+    registerDSFID(CLIENT_REPLACEMENT_REQUEST, ClientReplacementRequest.class,
+        ClientReplacementRequest::new);
+    registerDSFID(OBJECT_PART_LIST, ObjectPartList.class, ObjectPartList::new);
+    registerDSFID(VERSIONED_OBJECT_LIST, VersionedObjectList.class, VersionedObjectList::new);
+    registerDSFID(OBJECT_PART_LIST66, ObjectPartList651.class, ObjectPartList651::new);
+    registerDSFID(PUTALL_VERSIONS_LIST, EntryVersionsList.class, EntryVersionsList::new);
+    registerDSFID(INITIAL_IMAGE_VERSIONED_OBJECT_LIST, InitialImageVersionedEntryList.class,
+        InitialImageVersionedEntryList::new);
+    registerDSFID(FIND_VERSION_TAG, FindVersionTagMessage.class, FindVersionTagMessage::new);
+    registerDSFID(VERSION_TAG_REPLY, VersionTagReply.class, VersionTagReply::new);
+    registerDSFID(DURABLE_CLIENT_INFO_REQUEST, DurableClientInfoRequest.class,
+        DurableClientInfoRequest::new);
+    registerDSFID(DURABLE_CLIENT_INFO_RESPONSE, DurableClientInfoResponse.class,
+        DurableClientInfoResponse::new);
+    registerDSFID(CLIENT_INTEREST_MESSAGE, ClientInterestMessageImpl.class,
+        ClientInterestMessageImpl::new);
+    registerDSFID(LATEST_LAST_ACCESS_TIME_MESSAGE, LatestLastAccessTimeMessage.class,
+        LatestLastAccessTimeMessage::new);
+    registerDSFID(STAT_ALERT_DEFN_NUM_THRESHOLD, NumberThresholdDecoratorImpl.class,
+        NumberThresholdDecoratorImpl::new);
+    registerDSFID(STAT_ALERT_DEFN_GAUGE_THRESHOLD, GaugeThresholdDecoratorImpl.class,
+        GaugeThresholdDecoratorImpl::new);
+    registerDSFID(CLIENT_HEALTH_STATS, ClientHealthStats.class, ClientHealthStats::new);
+    registerDSFID(STAT_ALERT_NOTIFICATION, StatAlertNotification.class, StatAlertNotification::new);
+    registerDSFID(FILTER_INFO_MESSAGE, InitialImageOperation.FilterInfoMessage.class,
+        InitialImageOperation.FilterInfoMessage::new);
+    registerDSFID(SIZED_BASED_LOAD_PROBE, SizedBasedLoadProbe.class, SizedBasedLoadProbe::new);
+    registerDSFID(PR_MANAGE_BACKUP_BUCKET_MESSAGE, ManageBackupBucketMessage.class,
+        ManageBackupBucketMessage::new);
+    registerDSFID(PR_MANAGE_BACKUP_BUCKET_REPLY_MESSAGE, ManageBackupBucketReplyMessage.class,
+        ManageBackupBucketReplyMessage::new);
+    registerDSFID(PR_CREATE_BUCKET_MESSAGE, CreateBucketMessage.class, CreateBucketMessage::new);
+    registerDSFID(PR_CREATE_BUCKET_REPLY_MESSAGE, CreateBucketReplyMessage.class,
+        CreateBucketReplyMessage::new);
+    registerDSFID(RESOURCE_MANAGER_PROFILE, ResourceManagerProfile.class,
+        ResourceManagerProfile::new);
+    registerDSFID(RESOURCE_PROFILE_MESSAGE, ResourceProfileMessage.class,
+        ResourceProfileMessage::new);
+    registerDSFID(JMX_MANAGER_PROFILE, JmxManagerProfile.class, JmxManagerProfile::new);
+    registerDSFID(JMX_MANAGER_PROFILE_MESSAGE, JmxManagerProfileMessage.class,
+        JmxManagerProfileMessage::new);
+    registerDSFID(CLIENT_DENYLIST_MESSAGE, ClientDenylistMessage.class, ClientDenylistMessage::new);
+    registerDSFID(REMOVE_CLIENT_FROM_DENYLIST_MESSAGE, RemoveClientFromDenylistMessage.class,
+        RemoveClientFromDenylistMessage::new);
+    registerDSFID(PR_FUNCTION_STREAMING_MESSAGE, PartitionedRegionFunctionStreamingMessage.class,
+        PartitionedRegionFunctionStreamingMessage::new);
+    registerDSFID(MEMBER_FUNCTION_STREAMING_MESSAGE, MemberFunctionStreamingMessage.class,
+        MemberFunctionStreamingMessage::new);
+    registerDSFID(DR_FUNCTION_STREAMING_MESSAGE, DistributedRegionFunctionStreamingMessage.class,
+        DistributedRegionFunctionStreamingMessage::new);
+    registerDSFID(FUNCTION_STREAMING_REPLY_MESSAGE, FunctionStreamingReplyMessage.class,
+        FunctionStreamingReplyMessage::new);
+    registerDSFID(GET_ALL_SERVERS_REQUEST, GetAllServersRequest.class, GetAllServersRequest::new);
+    registerDSFID(GET_ALL_SERVRES_RESPONSE, GetAllServersResponse.class,
+        GetAllServersResponse::new);
+    registerDSFID(PERSISTENT_MEMBERSHIP_VIEW_REQUEST, MembershipViewRequest.class,
+        MembershipViewRequest::new);
+    registerDSFID(PERSISTENT_MEMBERSHIP_VIEW_REPLY, MembershipViewReplyMessage.class,
+        MembershipViewReplyMessage::new);
+    registerDSFID(PERSISTENT_STATE_QUERY_REQUEST, PersistentStateQueryMessage.class,
+        PersistentStateQueryMessage::new);
+    registerDSFID(PERSISTENT_STATE_QUERY_REPLY, PersistentStateQueryReplyMessage.class,
+        PersistentStateQueryReplyMessage::new);
+    registerDSFID(PREPARE_NEW_PERSISTENT_MEMBER_REQUEST, PrepareNewPersistentMemberMessage.class,
+        PrepareNewPersistentMemberMessage::new);
+    registerDSFID(MISSING_PERSISTENT_IDS_REQUEST, MissingPersistentIDsRequest.class,
+        MissingPersistentIDsRequest::new);
+    registerDSFID(MISSING_PERSISTENT_IDS_RESPONSE, MissingPersistentIDsResponse.class,
+        MissingPersistentIDsResponse::new);
+    registerDSFID(REVOKE_PERSISTENT_ID_REQUEST, RevokePersistentIDRequest.class,
+        RevokePersistentIDRequest::new);
+    registerDSFID(REVOKE_PERSISTENT_ID_RESPONSE, RevokePersistentIDResponse.class,
+        RevokePersistentIDResponse::new);
+    registerDSFID(REMOVE_PERSISTENT_MEMBER_REQUEST, RemovePersistentMemberMessage.class,
+        RemovePersistentMemberMessage::new);
     registerDSFID(FUNCTION_STREAMING_ORDERED_REPLY_MESSAGE,
-        FunctionStreamingOrderedReplyMessage.class);
-    registerDSFID(REQUEST_SYNC_MESSAGE, InitialImageOperation.RequestSyncMessage.class);
-    registerDSFID(PERSISTENT_MEMBERSHIP_FLUSH_REQUEST, MembershipFlushRequest.class);
-    registerDSFID(SHUTDOWN_ALL_REQUEST, ShutdownAllRequest.class);
-    registerDSFID(SHUTDOWN_ALL_RESPONSE, ShutdownAllResponse.class);
-    registerDSFID(CLIENT_MEMBERSHIP_MESSAGE, ClientMembershipMessage.class);
-    registerDSFID(END_BUCKET_CREATION_MESSAGE, EndBucketCreationMessage.class);
-    registerDSFID(PREPARE_BACKUP_REQUEST, PrepareBackupRequest.class);
-    registerDSFID(BACKUP_RESPONSE, BackupResponse.class); // in older versions this was
+        FunctionStreamingOrderedReplyMessage.class, FunctionStreamingOrderedReplyMessage::new);
+    registerDSFID(REQUEST_SYNC_MESSAGE, InitialImageOperation.RequestSyncMessage.class,
+        InitialImageOperation.RequestSyncMessage::new);
+    registerDSFID(PERSISTENT_MEMBERSHIP_FLUSH_REQUEST, MembershipFlushRequest.class,
+        MembershipFlushRequest::new);
+    registerDSFID(SHUTDOWN_ALL_REQUEST, ShutdownAllRequest.class, ShutdownAllRequest::new);
+    registerDSFID(SHUTDOWN_ALL_RESPONSE, ShutdownAllResponse.class, ShutdownAllResponse::new);
+    registerDSFID(CLIENT_MEMBERSHIP_MESSAGE, ClientMembershipMessage.class,
+        ClientMembershipMessage::new);
+    registerDSFID(END_BUCKET_CREATION_MESSAGE, EndBucketCreationMessage.class,
+        EndBucketCreationMessage::new);
+    registerDSFID(PREPARE_BACKUP_REQUEST, PrepareBackupRequest.class, PrepareBackupRequest::new);
+    registerDSFID(BACKUP_RESPONSE, BackupResponse.class, BackupResponse::new); // in older versions this was
                                                           // FinishBackupResponse which is
                                                           // compatible
-    registerDSFID(FINISH_BACKUP_REQUEST, FinishBackupRequest.class);
-    registerDSFID(FINISH_BACKUP_RESPONSE, BackupResponse.class); // for backwards compatibility map
+    registerDSFID(FINISH_BACKUP_REQUEST, FinishBackupRequest.class, FinishBackupRequest::new);
+    registerDSFID(FINISH_BACKUP_RESPONSE, BackupResponse.class, BackupResponse::new); // for backwards compatibility map
                                                                  // FINISH_BACKUP_RESPONSE to
                                                                  // BackupResponse
-    registerDSFID(COMPACT_REQUEST, CompactRequest.class);
-    registerDSFID(COMPACT_RESPONSE, CompactResponse.class);
-    registerDSFID(FLOW_CONTROL_PERMIT_MESSAGE, FlowControlPermitMessage.class);
-    registerDSFID(REQUEST_FILTERINFO_MESSAGE, InitialImageOperation.RequestFilterInfoMessage.class);
-    registerDSFID(PARALLEL_QUEUE_REMOVAL_MESSAGE, ParallelQueueRemovalMessage.class);
-    registerDSFID(BATCH_DESTROY_MESSAGE, BatchDestroyOperation.DestroyMessage.class);
-    registerDSFID(FIND_REMOTE_TX_MESSAGE, FindRemoteTXMessage.class);
-    registerDSFID(FIND_REMOTE_TX_REPLY, FindRemoteTXMessageReply.class);
-    registerDSFID(SERIALIZED_OBJECT_PART_LIST, SerializedObjectPartList.class);
-    registerDSFID(FLUSH_TO_DISK_REQUEST, FlushToDiskRequest.class);
-    registerDSFID(FLUSH_TO_DISK_RESPONSE, FlushToDiskResponse.class);
-    registerDSFID(ENUM_ID, EnumId.class);
-    registerDSFID(ENUM_INFO, EnumInfo.class);
-    registerDSFID(CHECK_TYPE_REGISTRY_STATE, CheckTypeRegistryState.class);
-    registerDSFID(PREPARE_REVOKE_PERSISTENT_ID_REQUEST, PrepareRevokePersistentIDRequest.class);
-    registerDSFID(PERSISTENT_RVV, DiskRegionVersionVector.class);
-    registerDSFID(PERSISTENT_VERSION_TAG, DiskVersionTag.class);
-    registerDSFID(DISK_STORE_ID, DiskStoreID.class);
-    registerDSFID(CLIENT_PING_MESSAGE_IMPL, ClientPingMessageImpl.class);
-    registerDSFID(SNAPSHOT_PACKET, SnapshotPacket.class);
-    registerDSFID(SNAPSHOT_RECORD, SnapshotRecord.class);
-    registerDSFID(FLOW_CONTROL_ACK, FlowControlAckMessage.class);
-    registerDSFID(FLOW_CONTROL_ABORT, FlowControlAbortMessage.class);
+    registerDSFID(COMPACT_REQUEST, CompactRequest.class, CompactRequest::new);
+    registerDSFID(COMPACT_RESPONSE, CompactResponse.class, CompactResponse::new);
+    registerDSFID(FLOW_CONTROL_PERMIT_MESSAGE, FlowControlPermitMessage.class,
+        FlowControlPermitMessage::new);
+    registerDSFID(REQUEST_FILTERINFO_MESSAGE, InitialImageOperation.RequestFilterInfoMessage.class,
+        InitialImageOperation.RequestFilterInfoMessage::new);
+    registerDSFID(PARALLEL_QUEUE_REMOVAL_MESSAGE, ParallelQueueRemovalMessage.class,
+        ParallelQueueRemovalMessage::new);
+    registerDSFID(BATCH_DESTROY_MESSAGE, BatchDestroyOperation.DestroyMessage.class,
+        BatchDestroyOperation.DestroyMessage::new);
+    registerDSFID(FIND_REMOTE_TX_MESSAGE, FindRemoteTXMessage.class, FindRemoteTXMessage::new);
+    registerDSFID(FIND_REMOTE_TX_REPLY, FindRemoteTXMessageReply.class,
+        FindRemoteTXMessageReply::new);
+    registerDSFID(SERIALIZED_OBJECT_PART_LIST, SerializedObjectPartList.class,
+        SerializedObjectPartList::new);
+    registerDSFID(FLUSH_TO_DISK_REQUEST, FlushToDiskRequest.class, FlushToDiskRequest::new);
+    registerDSFID(FLUSH_TO_DISK_RESPONSE, FlushToDiskResponse.class, FlushToDiskResponse::new);
+    registerDSFID(ENUM_ID, EnumId.class, EnumId::new);
+    registerDSFID(ENUM_INFO, EnumInfo.class, EnumInfo::new);
+    registerDSFID(CHECK_TYPE_REGISTRY_STATE, CheckTypeRegistryState.class,
+        CheckTypeRegistryState::new);
+    registerDSFID(PREPARE_REVOKE_PERSISTENT_ID_REQUEST, PrepareRevokePersistentIDRequest.class,
+        PrepareRevokePersistentIDRequest::new);
+    registerDSFID(PERSISTENT_RVV, DiskRegionVersionVector.class, DiskRegionVersionVector::new);
+    registerDSFID(PERSISTENT_VERSION_TAG, DiskVersionTag.class, DiskVersionTag::new);
+    registerDSFID(DISK_STORE_ID, DiskStoreID.class, DiskStoreID::new);
+    registerDSFID(CLIENT_PING_MESSAGE_IMPL, ClientPingMessageImpl.class,
+        ClientPingMessageImpl::new);
+    registerDSFID(SNAPSHOT_PACKET, SnapshotPacket.class, SnapshotPacket::new);
+    registerDSFID(SNAPSHOT_RECORD, SnapshotRecord.class, SnapshotRecord::new);
+    registerDSFID(FLOW_CONTROL_ACK, FlowControlAckMessage.class, FlowControlAckMessage::new);
+    registerDSFID(FLOW_CONTROL_ABORT, FlowControlAbortMessage.class, FlowControlAbortMessage::new);
     registerDSFID(MGMT_COMPACT_REQUEST,
-        org.apache.geode.management.internal.messages.CompactRequest.class);
+        org.apache.geode.management.internal.messages.CompactRequest.class,
+        org.apache.geode.management.internal.messages.CompactRequest::new);
     registerDSFID(MGMT_COMPACT_RESPONSE,
-        org.apache.geode.management.internal.messages.CompactResponse.class);
+        org.apache.geode.management.internal.messages.CompactResponse.class,
+        org.apache.geode.management.internal.messages.CompactResponse::new);
     registerDSFID(MGMT_FEDERATION_COMPONENT,
-        org.apache.geode.management.internal.FederationComponent.class);
-    registerDSFID(LOCATOR_STATUS_REQUEST, LocatorStatusRequest.class);
-    registerDSFID(LOCATOR_STATUS_RESPONSE, LocatorStatusResponse.class);
-    registerDSFID(R_FETCH_VERSION_MESSAGE, RemoteFetchVersionMessage.class);
-    registerDSFID(R_FETCH_VERSION_REPLY, RemoteFetchVersionMessage.FetchVersionReplyMessage.class);
-    registerDSFID(RELEASE_CLEAR_LOCK_MESSAGE, ReleaseClearLockMessage.class);
-    registerDSFID(PR_TOMBSTONE_MESSAGE, PRTombstoneMessage.class);
-    registerDSFID(REQUEST_RVV_MESSAGE, InitialImageOperation.RequestRVVMessage.class);
-    registerDSFID(RVV_REPLY_MESSAGE, InitialImageOperation.RVVReplyMessage.class);
+        org.apache.geode.management.internal.FederationComponent.class,
+        org.apache.geode.management.internal.FederationComponent::new);
+    registerDSFID(LOCATOR_STATUS_REQUEST, LocatorStatusRequest.class, LocatorStatusRequest::new);
+    registerDSFID(LOCATOR_STATUS_RESPONSE, LocatorStatusResponse.class, LocatorStatusResponse::new);
+    registerDSFID(R_FETCH_VERSION_MESSAGE, RemoteFetchVersionMessage.class,
+        RemoteFetchVersionMessage::new);
+    registerDSFID(R_FETCH_VERSION_REPLY, RemoteFetchVersionMessage.FetchVersionReplyMessage.class,
+        RemoteFetchVersionMessage.FetchVersionReplyMessage::new);
+    registerDSFID(RELEASE_CLEAR_LOCK_MESSAGE, ReleaseClearLockMessage.class,
+        ReleaseClearLockMessage::new);
+    registerDSFID(PR_TOMBSTONE_MESSAGE, PRTombstoneMessage.class, PRTombstoneMessage::new);
+    registerDSFID(REQUEST_RVV_MESSAGE, InitialImageOperation.RequestRVVMessage.class,
+        InitialImageOperation.RequestRVVMessage::new);
+    registerDSFID(RVV_REPLY_MESSAGE, InitialImageOperation.RVVReplyMessage.class,
+        InitialImageOperation.RVVReplyMessage::new);
     registerDSFID(SNAPPY_COMPRESSED_CACHED_DESERIALIZABLE,
-        SnappyCompressedCachedDeserializable.class);
-    registerDSFID(UPDATE_ENTRY_VERSION_MESSAGE, UpdateEntryVersionMessage.class);
-    registerDSFID(PR_UPDATE_ENTRY_VERSION_MESSAGE, PRUpdateEntryVersionMessage.class);
-    registerDSFID(PR_FETCH_BULK_ENTRIES_MESSAGE, FetchBulkEntriesMessage.class);
-    registerDSFID(PR_FETCH_BULK_ENTRIES_REPLY_MESSAGE, FetchBulkEntriesReplyMessage.class);
-    registerDSFID(PR_QUERY_TRACE_INFO, PRQueryTraceInfo.class);
-    registerDSFID(INDEX_CREATION_DATA, IndexCreationData.class);
-    registerDSFID(DIST_TX_OP, DistTxEntryEvent.class);
-    registerDSFID(DIST_TX_PRE_COMMIT_RESPONSE, DistTxPrecommitResponse.class);
-    registerDSFID(DIST_TX_THIN_ENTRY_STATE, TXEntryState.DistTxThinEntryState.class);
-    registerDSFID(SERVER_PING_MESSAGE, ServerPingMessage.class);
-    registerDSFID(PR_DESTROY_ON_DATA_STORE_MESSAGE, DestroyRegionOnDataStoreMessage.class);
-    registerDSFID(SHUTDOWN_ALL_GATEWAYHUBS_REQUEST, ShutdownAllGatewayHubsRequest.class);
-    registerDSFID(BUCKET_COUNT_LOAD_PROBE, BucketCountLoadProbe.class);
+        SnappyCompressedCachedDeserializable.class, SnappyCompressedCachedDeserializable::new);
+    registerDSFID(UPDATE_ENTRY_VERSION_MESSAGE, UpdateEntryVersionMessage.class,
+        UpdateEntryVersionMessage::new);
+    registerDSFID(PR_UPDATE_ENTRY_VERSION_MESSAGE, PRUpdateEntryVersionMessage.class,
+        PRUpdateEntryVersionMessage::new);
+    registerDSFID(PR_FETCH_BULK_ENTRIES_MESSAGE, FetchBulkEntriesMessage.class,
+        FetchBulkEntriesMessage::new);
+    registerDSFID(PR_FETCH_BULK_ENTRIES_REPLY_MESSAGE, FetchBulkEntriesReplyMessage.class,
+        FetchBulkEntriesReplyMessage::new);
+    registerDSFID(PR_QUERY_TRACE_INFO, PRQueryTraceInfo.class, PRQueryTraceInfo::new);
+    registerDSFID(INDEX_CREATION_DATA, IndexCreationData.class, IndexCreationData::new);
+    registerDSFID(DIST_TX_OP, DistTxEntryEvent.class, DistTxEntryEvent::new);
+    registerDSFID(DIST_TX_PRE_COMMIT_RESPONSE, DistTxPrecommitResponse.class,
+        DistTxPrecommitResponse::new);
+    registerDSFID(DIST_TX_THIN_ENTRY_STATE, TXEntryState.DistTxThinEntryState.class,
+        TXEntryState.DistTxThinEntryState::new);
+    registerDSFID(SERVER_PING_MESSAGE, ServerPingMessage.class, ServerPingMessage::new);
+    registerDSFID(PR_DESTROY_ON_DATA_STORE_MESSAGE, DestroyRegionOnDataStoreMessage.class,
+        DestroyRegionOnDataStoreMessage::new);
+    registerDSFID(SHUTDOWN_ALL_GATEWAYHUBS_REQUEST, ShutdownAllGatewayHubsRequest.class,
+        ShutdownAllGatewayHubsRequest::new);
+    registerDSFID(BUCKET_COUNT_LOAD_PROBE, BucketCountLoadProbe.class, BucketCountLoadProbe::new);
     registerDSFID(GATEWAY_SENDER_QUEUE_ENTRY_SYNCHRONIZATION_MESSAGE,
-        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationMessage.class);
+        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationMessage.class,
+        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationMessage::new);
     registerDSFID(GATEWAY_SENDER_QUEUE_ENTRY_SYNCHRONIZATION_ENTRY,
-        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationEntry.class);
-    registerDSFID(ABORT_BACKUP_REQUEST, AbortBackupRequest.class);
+        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationEntry.class,
+        GatewaySenderQueueEntrySynchronizationOperation.GatewaySenderQueueEntrySynchronizationEntry::new);
+    registerDSFID(ABORT_BACKUP_REQUEST, AbortBackupRequest.class, AbortBackupRequest::new);
+    registerDSFID(DLOCK_REVOKE_MESSAGE, DLockRevokeMessage.class, DLockRevokeMessage::new);
   }
 
   /**
@@ -985,12 +1256,26 @@ public class DSFIDFactory implements DataSerializableFixedID {
       case PR_DESTROY_ON_DATA_STORE_MESSAGE:
         return readDestroyOnDataStore(in);
       default:
+        final Supplier<?> factory;
         final Constructor<?> cons;
         if (dsfid >= Byte.MIN_VALUE && dsfid <= Byte.MAX_VALUE) {
+          factory = dsfidFactories[dsfid + Byte.MAX_VALUE + 1];
           cons = dsfidMap[dsfid + Byte.MAX_VALUE + 1];
         } else {
+          factory = dsfidFactories2.get(dsfid);
           cons = (Constructor<?>) dsfidMap2.get(dsfid);
         }
+        if (factory != null) {
+          Object ds;
+          try {
+            ds = factory.get();
+          } catch (RuntimeException | LinkageError e) {
+            // report constructor failures as the reflective construction does
+            throw new IOException(e.getMessage(), e);
+          }
+          InternalDataSerializer.invokeFromData(ds, in);
+          return ds;
+        }
         if (cons != null) {
           try {
             Object ds = cons.newInstance((Object[]) null);
@@ -34,6 +34,7 @@ import java.io.UTFDataFormatException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
@@ -151,6 +152,38 @@ public abstract class InternalDataSerializer extends DataSerializer {
    */
   @MakeNotStatic
   private static final Map<String, DataSerializer> classesToSerializers = new ConcurrentHashMap<>();
+
+  /**
+   * The public no-arg constructors of the DataSerializable classes that have been read, looked up
+   * once per class rather than for every instance. The value is null for a class without one.
+   */
+  @MakeNotStatic
+  private static final ClassValue<Constructor<?>> dataSerializableConstructors =
+      new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+          try {
+            Constructor<?> init = type.getConstructor();
+            init.setAccessible(true);
+            return init;
+          } catch (NoSuchMethodException e) {
+            return null;
+          }
+        }
+      };
+
+  /**
+   * The toDataPre_XXX and fromDataPre_XXX methods used to serialize for older versions, by class
+   * and method name, so that they are not looked up for every instance.
+   */
+  @MakeNotStatic
+  private static final ClassValue<Map<String, Method>> versionedSerializationMethods =
+      new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
   /**
    * This list contains classes that Geode's classes subclass, such as antlr AST classes which are
    * used by our Object Query Language. It also contains certain classes that are DataSerializable
@@ -2286,8 +2319,8 @@ public abstract class InternalDataSerializer extends DataSerializer {
           for (Version version : versions) {
             // if peer version is less than the greatest upgraded version
             if (v.compareTo(version) < 0) {
-              ds.getClass().getMethod("toDataPre_" + version.getMethodSuffix(),
-                  new Class[] {DataOutput.class}).invoke(ds, out);
+              getVersionedSerializationMethod(ds.getClass(),
+                  "toDataPre_" + version.getMethodSuffix(), DataOutput.class).invoke(ds, out);
               invoked = true;
               break;
             }
@@ -2359,8 +2392,8 @@ public abstract class InternalDataSerializer extends DataSerializer {
           for (Version version : versions) {
             // if peer version is less than the greatest upgraded version
             if (v.compareTo(version) < 0) {
-              ds.getClass().getMethod("fromDataPre" + '_' + version.getMethodSuffix(),
-                  new Class[] {DataInput.class}).invoke(ds, in);
+              getVersionedSerializationMethod(ds.getClass(),
+                  "fromDataPre_" + version.getMethodSuffix(), DataInput.class).invoke(ds, in);
               invoked = true;
               break;
             }
@@ -2392,13 +2425,25 @@ public abstract class InternalDataSerializer extends DataSerializer {
     }
   }
 
-  @SuppressWarnings("unchecked")
+  private static Method getVersionedSerializationMethod(Class<?> c, String name,
+      Class<?> parameterType) throws NoSuchMethodException {
+    Map<String, Method> methods = versionedSerializationMethods.get(c);
+    Method method = methods.get(name);
+    if (method == null) {
+      method = c.getMethod(name, parameterType);
+      methods.put(name, method);
+    }
+    return method;
+  }
+
   private static Object readDataSerializable(final DataInput in)
       throws IOException, ClassNotFoundException {
-    Class<? extends DataSerializer> c = (Class<? extends DataSerializer>) readClass(in);
+    Class<?> c = readClass(in);
     try {
-      Constructor<? extends DataSerializer> init = c.getConstructor();
-      init.setAccessible(true);
+      Constructor<?> init = dataSerializableConstructors.get(c);
+      if (init == null) {
+        throw new NoSuchMethodException(c.getName() + ".<init>()");
+      }
       Object o = init.newInstance();
 
       invokeFromData(o, in);
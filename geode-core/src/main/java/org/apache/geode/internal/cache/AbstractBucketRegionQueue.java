@@ -294,6 +294,8 @@ public abstract class AbstractBucketRegionQueue extends BucketRegion {
       Object expectedOldValue, boolean requireOldValue, long lastModified,
       boolean overwriteDestroyed) throws TimeoutException, CacheWriterException {
     try {
+      getPartitionedRegion().getParallelGatewaySender()
+          .moveQueuedValueOffHeap(event.getRawNewValue());
       boolean success = super.virtualPut(event, ifNew, ifOld, expectedOldValue, requireOldValue,
           lastModified, overwriteDestroyed);
       if (success) {
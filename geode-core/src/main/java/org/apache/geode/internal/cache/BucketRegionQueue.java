@@ -17,6 +17,8 @@ package org.apache.geode.internal.cache;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +38,7 @@ import org.apache.geode.cache.EntryNotFoundException;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.TimeoutException;
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.internal.cache.execute.BucketMovedException;
 import org.apache.geode.internal.cache.persistence.query.mock.ByteComparator;
 import org.apache.geode.internal.cache.versions.RegionVersionVector;
@@ -53,6 +56,13 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
 
   private static final Logger logger = LogService.getLogger();
 
+  /**
+   * Whether an event that conflates an undispatched event for the same key is dispatched in the
+   * place of that event, rather than at its own place at the end of the queue.
+   */
+  private static final boolean CONFLATE_IN_PLACE = !Boolean
+      .getBoolean(DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.DISABLE_IN_PLACE_CONFLATION");
+
   /**
    * The <code>Map</code> mapping the regionName->key to the queue key. This index allows fast
    * updating of entries in the queue for conflation. This is necesaary for Colocated regions and if
@@ -66,6 +76,26 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
    */
   private final BlockingDeque<Object> eventSeqNumDeque = new LinkedBlockingDeque<Object>();
 
+  /**
+   * Maps the queue key of each conflated event that has not been peeked yet to the queue key of the
+   * latest event that conflated it, which is peeked in its place. Entries are only added while this
+   * bucket is primary, and are cleared when it becomes primary. Guarded by itself, as are
+   * {@link #conflatingKeys}, {@link #peekedKeys} and {@link #peekedAheadKeys}.
+   */
+  private final Map<Long, Long> conflatedKeys = new HashMap<>();
+
+  /** The inverse of {@link #conflatedKeys} */
+  private final Map<Long, Long> conflatingKeys = new HashMap<>();
+
+  /** The queue keys of the peeked events that have not been destroyed yet */
+  private final Set<Long> peekedKeys = new HashSet<>();
+
+  /**
+   * The queue keys of the events that were peeked in the place of the events they conflated, which
+   * are skipped when the peek gets to them
+   */
+  private final Set<Long> peekedAheadKeys = new HashSet<>();
+
   private long lastKeyRecovered;
 
   private final AtomicLong latestQueuedKey = new AtomicLong();
@@ -201,6 +231,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
   public void beforeAcquiringPrimaryState() {
     Iterator<Object> itr = eventSeqNumDeque.iterator();
     markEventsAsDuplicate(itr);
+    clearConflatedKeys();
   }
 
   @Override
@@ -213,6 +244,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     });
     this.indexes.clear();
     this.eventSeqNumDeque.clear();
+    clearConflatedKeys();
   }
 
   @Override
@@ -240,6 +272,7 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     try {
       this.indexes.clear();
       this.eventSeqNumDeque.clear();
+      clearConflatedKeys();
     } finally {
       getInitializationLock().writeLock().unlock();
     }
@@ -309,6 +342,9 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
           return;
         ConcurrentParallelGatewaySenderQueue queue =
             (ConcurrentParallelGatewaySenderQueue) ep.getQueue();
+        if (conflatesInPlace()) {
+          conflateInPlace(previousTailKey, tailKey);
+        }
         // Give the actual conflation work to another thread.
         // ParallelGatewaySenderQueue takes care of maintaining a thread pool.
         queue.conflateEvent(conflatableObject, getId(), previousTailKey);
@@ -322,6 +358,92 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
     }
   }
 
+  /**
+   * Returns whether events that conflate undispatched events are peeked in their place.
+   */
+  private boolean conflatesInPlace() {
+    return CONFLATE_IN_PLACE && getPartitionedRegion().isConflationEnabled()
+        && getPartitionedRegion().getColocatedWith() != null;
+  }
+
+  /**
+   * Records that the event at the given queue key replaces the event at the previous queue key, if
+   * this bucket is primary and that event has not been peeked yet. The previous event is destroyed
+   * by the conflation thread and the new event is peeked when the peek gets to the previous event.
+   * If the previous event itself replaced an earlier event, the new event takes its place, so each
+   * conflated event maps straight to the latest one.
+   */
+  void conflateInPlace(Long previousTailKey, Long tailKey) {
+    if (!getBucketAdvisor().isPrimary()) {
+      return;
+    }
+    synchronized (this.conflatedKeys) {
+      Long conflatedKey = this.conflatingKeys.remove(previousTailKey);
+      if (conflatedKey == null) {
+        if (this.peekedKeys.contains(previousTailKey)
+            || this.peekedAheadKeys.contains(previousTailKey)) {
+          return;
+        }
+        conflatedKey = previousTailKey;
+      }
+      this.conflatedKeys.put(conflatedKey, tailKey);
+      this.conflatingKeys.put(tailKey, conflatedKey);
+    }
+  }
+
+  /**
+   * Returns the queue key of the event to peek in the place of the event at the given key, which
+   * is the latest event that conflated it, and records that it has been peeked.
+   *
+   * @return the key to peek, or null if the event to peek has already been peeked
+   */
+  Long getKeyToPeek(Long key) {
+    synchronized (this.conflatedKeys) {
+      if (this.peekedAheadKeys.remove(key)) {
+        return null;
+      }
+      Long keyToPeek = this.conflatedKeys.remove(key);
+      if (keyToPeek == null) {
+        keyToPeek = key;
+      } else {
+        this.conflatingKeys.remove(keyToPeek);
+        if (this.peekedKeys.contains(keyToPeek)) {
+          return null;
+        }
+        this.peekedAheadKeys.add(keyToPeek);
+      }
+      this.peekedKeys.add(keyToPeek);
+      return keyToPeek;
+    }
+  }
+
+  /**
+   * Returns the number of conflated events that will be peeked in the place of another event.
+   */
+  int getConflatedKeysCount() {
+    synchronized (this.conflatedKeys) {
+      return this.conflatedKeys.size();
+    }
+  }
+
+  /**
+   * Forgets that the event at the given queue key was peeked because it has been destroyed.
+   */
+  void removePeekedKey(Object key) {
+    synchronized (this.conflatedKeys) {
+      this.peekedKeys.remove(key);
+    }
+  }
+
+  private void clearConflatedKeys() {
+    synchronized (this.conflatedKeys) {
+      this.conflatedKeys.clear();
+      this.conflatingKeys.clear();
+      this.peekedKeys.clear();
+      this.peekedAheadKeys.clear();
+    }
+  }
+
   // No need to synchronize because it is called from a synchronized method
   protected boolean removeIndex(Long qkey) {
     // Determine whether conflation is enabled for this queue and object
@@ -374,6 +496,9 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
       }
     } finally {
       GatewaySenderEventImpl.release(event.getRawOldValue());
+      if (conflatesInPlace()) {
+        removePeekedKey(event.getKey());
+      }
     }
 
     // Primary buckets should already remove the key while peeking
@@ -406,6 +531,25 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
                    // finished with peeked object.
   }
 
+  /**
+   * Gets the event to peek in the place of the event at the given queue key.
+   */
+  private Object peekInPlace(Long key) {
+    Long keyToPeek = getKeyToPeek(key);
+    if (keyToPeek == null) {
+      return null;
+    }
+    Object object = optimalGet(keyToPeek);
+    if (object == null) {
+      // the event has been destroyed, so it will not be removed after dispatching it
+      removePeekedKey(keyToPeek);
+    } else if (!keyToPeek.equals(key)) {
+      getPartitionedRegion().getParallelGatewaySender().getStatistics()
+          .incEventsConflatedInPlace();
+    }
+    return object;
+  }
+
   public Object peek() {
     Object key = null;
     Object object = null;
@@ -418,7 +562,11 @@ public class BucketRegionQueue extends AbstractBucketRegionQueue {
       }
       key = this.eventSeqNumDeque.peekFirst();
       if (key != null) {
-        object = optimalGet(key);
+        if (conflatesInPlace()) {
+          object = peekInPlace((Long) key);
+        } else {
+          object = optimalGet(key);
+        }
         if (object == null && !this.getPartitionedRegion().isConflationEnabled()) {
           if (logger.isDebugEnabled()) {
             logger.debug(
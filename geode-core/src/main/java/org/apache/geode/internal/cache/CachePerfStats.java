@@ -59,6 +59,10 @@ public class CachePerfStats {
   static final int deltaGetInitialImagesCompletedId;
   static final int getInitialImageTimeId;
   static final int getInitialImageKeysReceivedId;
+  static final int getInitialImageChunksInProgressId;
+  static final int getInitialImageChunksReceivedId;
+  static final int getInitialImageChunkApplyTimeId;
+  static final int getInitialImageBytesSentId;
   static final int regionsId;
   static final int partitionedRegionsId;
   protected static final int destroysId;
@@ -160,6 +164,11 @@ public class CachePerfStats {
   static final int compressionPreCompressedBytesId;
   static final int compressionPostCompressedBytesId;
 
+  static final int pdxTypeLookupsId;
+  static final int pdxTypeLookupTimeId;
+  static final int pdxTypePrefetchesId;
+  static final int pdxTypesPrefetchedId;
+
   static {
     StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
 
@@ -198,6 +207,14 @@ public class CachePerfStats {
         "Total time spent doing getInitialImages for region creation.";
     final String getInitialImageKeysReceivedDesc =
         "Total number of keys received while doing getInitialImage operations.";
+    final String getInitialImageChunksInProgressDesc =
+        "Current number of getInitialImage chunks being applied to regions in this cache.";
+    final String getInitialImageChunksReceivedDesc =
+        "Total number of getInitialImage chunks received and applied by this cache.";
+    final String getInitialImageChunkApplyTimeDesc =
+        "Total time spent applying received getInitialImage chunks to regions.";
+    final String getInitialImageBytesSentDesc =
+        "Total number of bytes of entry data this cache has sent while providing getInitialImages.";
     final String regionsDesc = "The current number of regions in the cache.";
     final String partitionedRegionsDesc = "The current number of partitioned regions in the cache.";
     final String destroysDesc =
@@ -322,6 +339,17 @@ public class CachePerfStats {
         "The total number of bytes before compressing.";
     final String compressionPostCompressedBytesDesc =
         "The total number of bytes after compressing.";
+    final String pdxTypeLookupsDesc =
+        "Total number of pdx type and enum ids that were not in the local registry and were "
+            + "looked up in the distributed registry.";
+    final String pdxTypeLookupTimeDesc =
+        "Total amount of time, in nanoseconds, spent looking up pdx type and enum ids in the "
+            + "distributed registry. This includes prefetches.";
+    final String pdxTypePrefetchesDesc =
+        "Total number of times a client fetched all of the pdx types and enums of its servers in "
+            + "one request.";
+    final String pdxTypesPrefetchedDesc =
+        "Total number of pdx types and enums added to the local registry by prefetches.";
 
     // total actual evictions (entries evicted)
     final String evictByCriteria_evictionsDesc = "The total number of entries evicted";
@@ -380,6 +408,13 @@ public class CachePerfStats {
             f.createLongCounter("getInitialImageTime", getInitialImageTimeDesc, "nanoseconds"),
             f.createIntCounter("getInitialImageKeysReceived", getInitialImageKeysReceivedDesc,
                 "keys"),
+            f.createIntGauge("getInitialImageChunksInProgress",
+                getInitialImageChunksInProgressDesc, "chunks"),
+            f.createLongCounter("getInitialImageChunksReceived", getInitialImageChunksReceivedDesc,
+                "chunks"),
+            f.createLongCounter("getInitialImageChunkApplyTime", getInitialImageChunkApplyTimeDesc,
+                "nanoseconds"),
+            f.createLongCounter("getInitialImageBytesSent", getInitialImageBytesSentDesc, "bytes"),
             f.createIntGauge("regions", regionsDesc, "regions"),
             f.createIntGauge("partitionedRegions", partitionedRegionsDesc, "partitionedRegions"),
             f.createLongCounter("destroys", destroysDesc, "operations"),
@@ -487,6 +522,11 @@ public class CachePerfStats {
             f.createLongCounter("preCompressedBytes", compressionPreCompresssedBytesDesc, "bytes"),
             f.createLongCounter("postCompressedBytes", compressionPostCompressedBytesDesc, "bytes"),
 
+            f.createLongCounter("pdxTypeLookups", pdxTypeLookupsDesc, "operations"),
+            f.createLongCounter("pdxTypeLookupTime", pdxTypeLookupTimeDesc, "nanoseconds"),
+            f.createLongCounter("pdxTypePrefetches", pdxTypePrefetchesDesc, "operations"),
+            f.createLongCounter("pdxTypesPrefetched", pdxTypesPrefetchedDesc, "types"),
+
             f.createLongCounter("evictByCriteria_evictions", evictByCriteria_evictionsDesc,
                 "operations"),
             f.createLongCounter("evictByCriteria_evictionTime", evictByCriteria_evictionTimeDesc,
@@ -524,6 +564,10 @@ public class CachePerfStats {
     deltaGetInitialImagesCompletedId = type.nameToId("deltaGetInitialImagesCompleted");
     getInitialImageTimeId = type.nameToId("getInitialImageTime");
     getInitialImageKeysReceivedId = type.nameToId("getInitialImageKeysReceived");
+    getInitialImageChunksInProgressId = type.nameToId("getInitialImageChunksInProgress");
+    getInitialImageChunksReceivedId = type.nameToId("getInitialImageChunksReceived");
+    getInitialImageChunkApplyTimeId = type.nameToId("getInitialImageChunkApplyTime");
+    getInitialImageBytesSentId = type.nameToId("getInitialImageBytesSent");
     regionsId = type.nameToId("regions");
     partitionedRegionsId = type.nameToId("partitionedRegions");
     destroysId = type.nameToId("destroys");
@@ -617,6 +661,11 @@ public class CachePerfStats {
     compressionDecompressionsId = type.nameToId("decompressions");
     compressionPreCompressedBytesId = type.nameToId("preCompressedBytes");
     compressionPostCompressedBytesId = type.nameToId("postCompressedBytes");
+
+    pdxTypeLookupsId = type.nameToId("pdxTypeLookups");
+    pdxTypeLookupTimeId = type.nameToId("pdxTypeLookupTime");
+    pdxTypePrefetchesId = type.nameToId("pdxTypePrefetches");
+    pdxTypesPrefetchedId = type.nameToId("pdxTypesPrefetched");
   }
 
   /** The Statistics object that we delegate most behavior to */
@@ -704,6 +753,14 @@ public class CachePerfStats {
     return stats.getInt(getInitialImageKeysReceivedId);
   }
 
+  public long getGetInitialImageChunksReceived() {
+    return stats.getLong(getInitialImageChunksReceivedId);
+  }
+
+  public long getGetInitialImageBytesSent() {
+    return stats.getLong(getInitialImageBytesSentId);
+  }
+
   public int getRegions() {
     return stats.getInt(regionsId);
   }
@@ -1036,6 +1093,29 @@ public class CachePerfStats {
     stats.incInt(getInitialImageKeysReceivedId, 1);
   }
 
+  /**
+   * @return the timestamp that marks the start of applying a received chunk
+   */
+  public long startGetInitialImageChunk() {
+    stats.incInt(getInitialImageChunksInProgressId, 1);
+    return getTime();
+  }
+
+  /**
+   * @param start the timestamp taken when the chunk started being applied
+   */
+  public void endGetInitialImageChunk(long start) {
+    if (enableClockStats) {
+      stats.incLong(getInitialImageChunkApplyTimeId, getTime() - start);
+    }
+    stats.incInt(getInitialImageChunksInProgressId, -1);
+    stats.incLong(getInitialImageChunksReceivedId, 1);
+  }
+
+  public void incGetInitialImageBytesSent(long bytes) {
+    stats.incLong(getInitialImageBytesSentId, bytes);
+  }
+
   public long startIndexUpdate() {
     stats.incInt(indexUpdateInProgressId, 1);
     return getTime();
@@ -1487,4 +1567,39 @@ public class CachePerfStats {
       stats.incLong(exportTimeId, getTime() - start);
     }
   }
+
+  /**
+   * @return the timestamp that marks the start of a lookup of a pdx type or enum id in the
+   *         distributed registry
+   */
+  public long startPdxTypeLookup() {
+    // lookups go to the distributed registry and are rare enough to always be timed
+    return getTime();
+  }
+
+  /**
+   * @param start the timestamp taken when the lookup started
+   */
+  public void endPdxTypeLookup(long start) {
+    stats.incLong(pdxTypeLookupTimeId, getTime() - start);
+    stats.incLong(pdxTypeLookupsId, 1);
+  }
+
+  /**
+   * @param start the timestamp taken when the prefetch started
+   * @param typesAdded the number of types and enums the prefetch added to the local registry
+   */
+  public void endPdxTypePrefetch(long start, int typesAdded) {
+    stats.incLong(pdxTypeLookupTimeId, getTime() - start);
+    stats.incLong(pdxTypePrefetchesId, 1);
+    stats.incLong(pdxTypesPrefetchedId, typesAdded);
+  }
+
+  public long getPdxTypeLookups() {
+    return stats.getLong(pdxTypeLookupsId);
+  }
+
+  public long getPdxTypePrefetches() {
+    return stats.getLong(pdxTypePrefetchesId);
+  }
 }
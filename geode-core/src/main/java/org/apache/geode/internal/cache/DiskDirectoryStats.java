@@ -18,7 +18,6 @@ import org.apache.geode.StatisticDescriptor;
 import org.apache.geode.Statistics;
 import org.apache.geode.StatisticsFactory;
 import org.apache.geode.StatisticsType;
-import org.apache.geode.StatisticsTypeFactory;
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.internal.statistics.StatisticsTypeFactoryImpl;
 
@@ -50,9 +49,9 @@ public class DiskDirectoryStats {
         "The total number of bytes currently being used on disk in this directory for oplog files.";
     final String maxSpaceDesc =
         "The configured maximum number of bytes allowed in this directory for oplog files. Note that some product configurations allow this maximum to be exceeded.";
-    StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
+    StatisticsTypeFactoryImpl f = StatisticsTypeFactoryImpl.singleton();
 
-    type = f.createType(statName, statDescription,
+    type = f.createCompactType(statName, statDescription,
         new StatisticDescriptor[] {f.createLongGauge("diskSpace", diskSpaceDesc, "bytes"),
             f.createLongGauge("maximumSpace", maxSpaceDesc, "bytes"),
             f.createLongGauge("volumeSize", "The total size in bytes of the disk volume", "bytes"),
@@ -185,6 +185,13 @@ public class DiskStoreImpl implements DiskStore {
   public static final String RECOVER_LRU_VALUES_PROPERTY_NAME =
       DistributionConfig.GEMFIRE_PREFIX + "disk.recoverLruValues";
 
+  /**
+   * If true, overflow oplogs that are no longer being appended to are memory mapped and evicted
+   * values are faulted in from the mapping instead of through the oplog's RandomAccessFile.
+   */
+  public static final String MAP_OVERFLOW_OPLOGS_PROPERTY_NAME =
+      DistributionConfig.GEMFIRE_PREFIX + "disk.mapOverflowOplogs";
+
   boolean RECOVER_VALUES = getBoolean(DiskStoreImpl.RECOVER_VALUE_PROPERTY_NAME, true);
 
   boolean RECOVER_VALUES_SYNC = getBoolean(DiskStoreImpl.RECOVER_VALUES_SYNC_PROPERTY_NAME, false);
@@ -195,6 +202,9 @@ public class DiskStoreImpl implements DiskStore {
   final boolean RECOVER_LRU_VALUES =
       getBoolean(DiskStoreImpl.RECOVER_LRU_VALUES_PROPERTY_NAME, false);
 
+  final boolean MAP_OVERFLOW_OPLOGS =
+      getBoolean(DiskStoreImpl.MAP_OVERFLOW_OPLOGS_PROPERTY_NAME, false);
+
   public static boolean getBoolean(String sysProp, boolean def) {
     return Boolean.valueOf(System.getProperty(sysProp, Boolean.valueOf(def).toString()));
   }
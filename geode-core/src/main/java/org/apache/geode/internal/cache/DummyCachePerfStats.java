@@ -66,6 +66,16 @@ public class DummyCachePerfStats extends CachePerfStats {
     return 0;
   }
 
+  @Override
+  public long getGetInitialImageChunksReceived() {
+    return 0;
+  }
+
+  @Override
+  public long getGetInitialImageBytesSent() {
+    return 0;
+  }
+
   @Override
   public int getRegions() {
     return 0;
@@ -184,6 +194,17 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void endNetload(long start) {}
 
+  @Override
+  public long startPdxTypeLookup() {
+    return 0;
+  }
+
+  @Override
+  public void endPdxTypeLookup(long start) {}
+
+  @Override
+  public void endPdxTypePrefetch(long start, int typesAdded) {}
+
   @Override
   public long startNetsearch() {
     return 0;
@@ -222,6 +243,17 @@ public class DummyCachePerfStats extends CachePerfStats {
   @Override
   public void incGetInitialImageKeysReceived() {}
 
+  @Override
+  public long startGetInitialImageChunk() {
+    return 0;
+  }
+
+  @Override
+  public void endGetInitialImageChunk(long start) {}
+
+  @Override
+  public void incGetInitialImageBytesSent(long bytes) {}
+
   @Override
   public void incRegions(int inc) {}
 
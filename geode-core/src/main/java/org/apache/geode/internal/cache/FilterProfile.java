@@ -48,6 +48,7 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.SerializedCacheValue;
 import org.apache.geode.cache.query.internal.CqStateImpl;
+import org.apache.geode.cache.query.internal.cq.CqPredicateIndex;
 import org.apache.geode.cache.query.internal.cq.CqService;
 import org.apache.geode.cache.query.internal.cq.CqServiceProvider;
 import org.apache.geode.cache.query.internal.cq.ServerCQ;
@@ -178,6 +179,12 @@ public class FilterProfile implements DataSerializableFixedID {
   /** CQs that are registered on the remote node **/
   private final CopyOnWriteHashMap<String, ServerCQ> cqs = new CopyOnWriteHashMap<>();
 
+  /** Incremented after every change to {@link #cqs}, so that the CQ predicate index is rebuilt */
+  private final AtomicInteger cqsVersion = new AtomicInteger();
+
+  /** The predicate index of the CQs, built on demand */
+  private volatile VersionedCqPredicateIndex cqPredicateIndex;
+
   /* the ID of the member that this profile describes */
   private DistributedMember memberID;
 
@@ -789,6 +796,26 @@ public class FilterProfile implements DataSerializableFixedID {
     return this.cqCount.get() > 0;
   }
 
+  /**
+   * Returns an index of the predicates of the CQs registered on this region, rebuilding it if the
+   * CQs have changed since it was built.
+   */
+  public CqPredicateIndex getCqPredicateIndex() {
+    VersionedCqPredicateIndex index = this.cqPredicateIndex;
+    // read the version before the CQs so that a concurrent change leaves the index stale
+    int version = this.cqsVersion.get();
+    if (index == null || index.version != version) {
+      index = new VersionedCqPredicateIndex(version,
+          new CqPredicateIndex(this.cqs.getSnapshot().values()));
+      this.cqPredicateIndex = index;
+    }
+    return index.index;
+  }
+
+  private void cqsChanged() {
+    this.cqsVersion.incrementAndGet();
+  }
+
   public ServerCQ getCq(String cqName) {
     return (ServerCQ) this.cqs.get(cqName);
   }
@@ -799,6 +826,7 @@ public class FilterProfile implements DataSerializableFixedID {
       logger.debug("Adding CQ {} to this members FilterProfile.", cq.getServerCqName());
     }
     this.cqs.put(cq.getServerCqName(), cq);
+    cqsChanged();
     this.incCqCount();
 
     // cq.setFilterID(cqMap.getWireID(cq.getServerCqName()));
@@ -863,6 +891,7 @@ public class FilterProfile implements DataSerializableFixedID {
     if (cq.getCqBaseRegion() != null) {
       if (addToCqMap) {
         this.cqs.put(serverCqName, cq);
+        cqsChanged();
       }
 
       FilterProfile pf = cq.getCqBaseRegion().getFilterProfile();
@@ -885,6 +914,7 @@ public class FilterProfile implements DataSerializableFixedID {
         }
       }
       this.cqs.remove(serverCqName);
+      cqsChanged();
       cq.getCqBaseRegion().getFilterProfile().decCqCount();
     }
   }
@@ -925,6 +955,7 @@ public class FilterProfile implements DataSerializableFixedID {
     ensureCqID(cq);
     String serverCqName = cq.getServerCqName();
     this.cqs.remove(serverCqName);
+    cqsChanged();
     if (this.cqMap != null) {
       this.cqMap.removeIDMapping(cq.getFilterID());
     }
@@ -1509,6 +1540,7 @@ public class FilterProfile implements DataSerializableFixedID {
           ServerCQ cq = CqServiceProvider.readCq(in);
           processRegisterCq(serverCqName, cq, false);
           this.cqs.put(serverCqName, cq);
+          cqsChanged();
         }
       } finally {
         LocalRegion.setThreadInitLevelRequirement(oldLevel);
@@ -1826,6 +1858,19 @@ public class FilterProfile implements DataSerializableFixedID {
     }
   }
 
+  /**
+   * A CQ predicate index and the version of the CQs it was built from.
+   */
+  private static class VersionedCqPredicateIndex {
+    final int version;
+    final CqPredicateIndex index;
+
+    VersionedCqPredicateIndex(int version, CqPredicateIndex index) {
+      this.version = version;
+      this.index = index;
+    }
+  }
+
   /**
    * OperationMessage synchronously propagates a change in the profile to another member. It is a
    * serial message so that there is no chance of out-of-order execution.
@@ -204,7 +204,6 @@ import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
 import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy;
 import org.apache.geode.internal.cache.tier.sockets.ClientHealthMonitor;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
-import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
 import org.apache.geode.internal.cache.wan.AbstractGatewaySender;
 import org.apache.geode.internal.cache.wan.GatewaySenderAdvisor;
 import org.apache.geode.internal.cache.wan.GatewaySenderQueueEntrySynchronizationListener;
@@ -2589,9 +2588,9 @@ public class GemFireCacheImpl implements InternalCache, InternalClientCache, Has
     }
 
     if (stoppedCacheServer) {
-      // now that all the cache servers have stopped empty the static pool of commBuffers it might
+      // now that all the cache servers have stopped empty the pool of commBuffers they might
       // have used.
-      ServerConnection.emptyCommBufferPool();
+      system.getCommBufferPool().clear();
     }
 
     // stop HA services if they had been started
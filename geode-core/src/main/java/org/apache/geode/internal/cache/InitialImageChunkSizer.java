@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+/**
+ * Chooses the size of the chunks an initial image provider sends to the image target.
+ *
+ * When adaptive sizing is disabled the chunk size is fixed. Otherwise the sizer measures the
+ * throughput of every {@link #SAMPLE_CHUNKS} chunks and hill-climbs: it keeps doubling (or
+ * halving) the chunk size while throughput improves and reverses direction when it drops. Because
+ * the provider blocks on {@link InitialImageFlowControl} permits that are only returned once the
+ * target has applied a chunk, the measured throughput reflects both the network and the
+ * receiver's apply latency.
+ *
+ * Instances are not thread safe; each is used by the single thread serving a GII request.
+ */
+class InitialImageChunkSizer {
+
+  /**
+   * number of chunks sent between throughput samples
+   */
+  static final int SAMPLE_CHUNKS = 4;
+
+  /**
+   * relative change in throughput below which the chunk size is left alone
+   */
+  static final double TOLERANCE = 0.1;
+
+  private final boolean adaptive;
+
+  private final int minChunkSize;
+
+  private final int maxChunkSize;
+
+  private int chunkSize;
+
+  /** true if the last adjustment grew the chunk size */
+  private boolean growing = true;
+
+  private long sampleStart;
+
+  private long sampleBytes;
+
+  private int sampleChunks;
+
+  /** bytes per nanosecond of the previous sample, or zero if there was none */
+  private double lastThroughput;
+
+  InitialImageChunkSizer(boolean adaptive, int initialChunkSize, int minChunkSize,
+      int maxChunkSize) {
+    if (adaptive && (minChunkSize <= 0 || maxChunkSize < minChunkSize)) {
+      throw new IllegalArgumentException(
+          "Invalid chunk size bounds: min=" + minChunkSize + ", max=" + maxChunkSize);
+    }
+    this.adaptive = adaptive;
+    this.minChunkSize = minChunkSize;
+    this.maxChunkSize = maxChunkSize;
+    this.chunkSize = adaptive ? clamp(initialChunkSize) : initialChunkSize;
+  }
+
+  static InitialImageChunkSizer create() {
+    return new InitialImageChunkSizer(InitialImageOperation.ADAPTIVE_CHUNK_SIZE,
+        InitialImageOperation.CHUNK_SIZE_IN_BYTES, InitialImageOperation.MIN_CHUNK_SIZE_IN_BYTES,
+        InitialImageOperation.MAX_CHUNK_SIZE_IN_BYTES);
+  }
+
+  /**
+   * @return the number of bytes to put in the next chunk
+   */
+  int getChunkSize() {
+    return chunkSize;
+  }
+
+  boolean isAdaptive() {
+    return adaptive;
+  }
+
+  /**
+   * Must be called once before the first chunk is built.
+   *
+   * @param now the current time in nanoseconds
+   */
+  void start(long now) {
+    sampleStart = now;
+  }
+
+  /**
+   * Record that a chunk has been handed to the distribution manager.
+   *
+   * @param bytes the serialized size of the chunk
+   * @param now the current time in nanoseconds
+   */
+  void chunkSent(int bytes, long now) {
+    if (!adaptive) {
+      return;
+    }
+    sampleBytes += bytes;
+    if (++sampleChunks < SAMPLE_CHUNKS) {
+      return;
+    }
+    long elapsed = Math.max(1, now - sampleStart);
+    double throughput = (double) sampleBytes / elapsed;
+    adjust(throughput);
+    lastThroughput = throughput;
+    sampleStart = now;
+    sampleBytes = 0;
+    sampleChunks = 0;
+  }
+
+  private void adjust(double throughput) {
+    if (lastThroughput > 0) {
+      double change = (throughput - lastThroughput) / lastThroughput;
+      if (Math.abs(change) < TOLERANCE) {
+        return;
+      }
+      if (change < 0) {
+        growing = !growing;
+      }
+    }
+    chunkSize = clamp(growing ? chunkSize * 2L : chunkSize / 2L);
+  }
+
+  private int clamp(long size) {
+    return (int) Math.max(minChunkSize, Math.min(maxChunkSize, size));
+  }
+
+  @Override
+  public String toString() {
+    return "InitialImageChunkSizer[adaptive=" + adaptive + "; chunkSize=" + chunkSize + "; min="
+        + minChunkSize + "; max=" + maxChunkSize + "]";
+  }
+}
@@ -118,6 +118,29 @@ public class InitialImageOperation {
   public static int CHUNK_SIZE_IN_BYTES =
       Integer.getInteger("GetInitialImage.chunkSize", 500 * 1024).intValue();
 
+  /**
+   * if true, the provider adapts the chunk size to the measured transfer throughput
+   */
+  @MutableForTesting
+  public static boolean ADAPTIVE_CHUNK_SIZE =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.adaptiveChunkSize");
+
+  /**
+   * smallest chunk size, in bytes, chosen when adaptive chunk sizing is enabled
+   */
+  @MutableForTesting
+  public static int MIN_CHUNK_SIZE_IN_BYTES = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.minChunkSize", 64 * 1024)
+      .intValue();
+
+  /**
+   * largest chunk size, in bytes, chosen when adaptive chunk sizing is enabled
+   */
+  @MutableForTesting
+  public static int MAX_CHUNK_SIZE_IN_BYTES = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "GetInitialImage.maxChunkSize", 8 * 1024 * 1024)
+      .intValue();
+
   /**
    * Allowed number of in flight GII chunks
    */
@@ -1316,7 +1339,13 @@ public class InitialImageOperation {
               // bug 37461: don't allow abort flag to be reset
               boolean isAborted = this.abort; // volatile fetch
               if (!isAborted) {
-                isAborted = !processChunk(m.entries, m.getSender(), m.remoteVersion);
+                final CachePerfStats stats = region.getCachePerfStats();
+                long chunkStart = stats.startGetInitialImageChunk();
+                try {
+                  isAborted = !processChunk(m.entries, m.getSender(), m.remoteVersion);
+                } finally {
+                  stats.endGetInitialImageChunk(chunkStart);
+                }
                 if (isAborted) {
                   this.abort = true; // volatile store
                 } else {
@@ -1762,7 +1791,8 @@ public class InitialImageOperation {
             }
           }
           final RegionVersionHolder holderToSend = holderToSync;
-          boolean finished = chunkEntries(rgn, CHUNK_SIZE_IN_BYTES, !keysOnly, versionVector,
+          boolean finished = chunkEntries(rgn, InitialImageChunkSizer.create(), !keysOnly,
+              versionVector,
               (HashSet) this.unfinishedKeys, flowControl, new ObjectIntProcedure() {
                 int msgNum = 0;
 
@@ -1946,15 +1976,14 @@ public class InitialImageOperation {
      * @param unfinishedKeys keys of unfinished operation (persistent region only)
      * @return true if finished all chunks, false if stopped early
      */
-    protected boolean chunkEntries(DistributedRegion rgn, int chunkSizeInBytes,
+    protected boolean chunkEntries(DistributedRegion rgn, InitialImageChunkSizer chunkSizer,
         boolean includeValues, RegionVersionVector versionVector, HashSet unfinishedKeys,
         InitialImageFlowControl flowControl, ObjectIntProcedure proc) throws IOException {
       boolean keepGoing = true;
       boolean sentLastChunk = false;
-      int MAX_ENTRIES_PER_CHUNK = chunkSizeInBytes / 100;
-      if (MAX_ENTRIES_PER_CHUNK < 1000) {
-        MAX_ENTRIES_PER_CHUNK = 1000;
-      }
+      int chunkSizeInBytes = chunkSizer.getChunkSize();
+      int MAX_ENTRIES_PER_CHUNK = maxEntriesPerChunk(chunkSizeInBytes);
+      final CachePerfStats stats = rgn.getCachePerfStats();
 
       ByteArrayDataInput in = null;
       ClusterDistributionManager dm = (ClusterDistributionManager) rgn.getDistributionManager();
@@ -1982,9 +2011,12 @@ public class InitialImageOperation {
         } else {
           it = rgn.getBestIterator(includeValues);
         }
+        chunkSizer.start(System.nanoTime());
         do {
           flowControl.acquirePermit();
           int currentChunkSize = 0;
+          chunkSizeInBytes = chunkSizer.getChunkSize();
+          MAX_ENTRIES_PER_CHUNK = maxEntriesPerChunk(chunkSizeInBytes);
 
           while (chunkEntries.size() < MAX_ENTRIES_PER_CHUNK && currentChunkSize < chunkSizeInBytes
               && it.hasNext()) {
@@ -2066,6 +2098,8 @@ public class InitialImageOperation {
           keepGoing = proc.executeWith(chunkEntries, lastMsg);
           sentLastChunk = lastMsg == 1 && keepGoing;
           chunkEntries.clear();
+          stats.incGetInitialImageBytesSent(currentChunkSize);
+          chunkSizer.chunkSent(currentChunkSize, System.nanoTime());
 
           // if this region is destroyed while we are sending data, then abort.
         } while (keepGoing && it.hasNext());
@@ -2085,6 +2119,10 @@ public class InitialImageOperation {
       }
     }
 
+    private static int maxEntriesPerChunk(int chunkSizeInBytes) {
+      return Math.max(1000, chunkSizeInBytes / 100);
+    }
+
     private void replyNoData(ClusterDistributionManager dm, boolean isDeltaGII,
         Map<VersionSource, Long> gcVersions) {
       ImageReplyMessage.send(getSender(), this.processorId, null, dm, null, 0, 0, 1, true, 0,
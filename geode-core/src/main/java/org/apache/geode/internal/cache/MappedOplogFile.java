@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * A read-only memory mapping of an oplog file that is no longer being appended to. Values are read
+ * with a plain memory copy instead of a seek and read system call on the oplog's
+ * RandomAccessFile, and without holding the oplog's file lock.
+ *
+ * The mapping is released eagerly by {@link #unmap()} so that the file's disk space is returned
+ * as soon as the oplog is deleted rather than when the buffer is garbage collected. Reads and
+ * unmapping are coordinated by a read/write lock so that no thread can touch the buffer after it
+ * has been released.
+ */
+class MappedOplogFile {
+  private static final Logger logger = LogService.getLogger();
+
+  private static final Unmapper unmapper = createUnmapper();
+
+  private final MappedByteBuffer buffer;
+
+  private final int size;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private boolean unmapped;
+
+  private MappedOplogFile(MappedByteBuffer buffer, int size) {
+    this.buffer = buffer;
+    this.size = size;
+  }
+
+  /**
+   * Maps the first {@code size} bytes of the given channel.
+   *
+   * @return the mapping or null if the file is too large to be mapped
+   */
+  static MappedOplogFile map(FileChannel channel, long size) throws IOException {
+    if (size <= 0 || size > Integer.MAX_VALUE) {
+      return null;
+    }
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    return new MappedOplogFile(buffer, (int) size);
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Copies the bytes at the given offset out of the mapping.
+   *
+   * @return the bytes, or null if the range is not mapped or the file has been unmapped; the
+   *         caller should fall back to reading the file.
+   */
+  byte[] read(long offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > size) {
+      return null;
+    }
+    lock.readLock().lock();
+    try {
+      if (unmapped) {
+        return null;
+      }
+      byte[] bytes = new byte[length];
+      ByteBuffer view = buffer.duplicate();
+      view.position((int) offset);
+      view.get(bytes);
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Releases the mapping. Subsequent reads return null.
+   */
+  void unmap() {
+    lock.writeLock().lock();
+    try {
+      if (unmapped) {
+        return;
+      }
+      unmapped = true;
+      unmapper.unmap(buffer);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  boolean isUnmapped() {
+    lock.readLock().lock();
+    try {
+      return unmapped;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "MappedOplogFile[size=" + size + "; unmapped=" + isUnmapped() + "]";
+  }
+
+  interface Unmapper {
+    void unmap(MappedByteBuffer buffer);
+  }
+
+  /**
+   * There is no public API to release a mapping so use sun.misc.Unsafe.invokeCleaner where it
+   * exists (Java 9 and later) and the buffer's cleaner otherwise. If neither works the mapping is
+   * left for the garbage collector to release.
+   */
+  private static Unmapper createUnmapper() {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> {
+        try {
+          invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException e) {
+          logger.debug("Unable to unmap oplog buffer", e);
+        }
+      };
+    } catch (NoSuchMethodException e) {
+      return buffer -> {
+        try {
+          Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+          cleanerMethod.setAccessible(true);
+          Object cleaner = cleanerMethod.invoke(buffer);
+          if (cleaner != null) {
+            cleaner.getClass().getMethod("clean").invoke(cleaner);
+          }
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+          logger.debug("Unable to unmap oplog buffer", ex);
+        }
+      };
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      logger.debug("Unmapping of oplog buffers is not supported", e);
+      return buffer -> {
+      };
+    }
+  }
+}
@@ -95,6 +95,12 @@ class OverflowOplog implements CompactableOplog, Flushable {
    */
   private boolean doneAppending = false;
 
+  /**
+   * Read-only mapping of the crf, created once this oplog is done appending if the disk store is
+   * configured to map overflow oplogs. Null otherwise.
+   */
+  private volatile MappedOplogFile mappedCrf;
+
   private final OplogDiskEntry liveEntries = new OplogDiskEntry();
 
   /**
@@ -361,6 +367,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
    * Close the files of a oplog but don't set any state. Used by unit tests
    */
   public void testClose() {
+    unmapCrf();
     try {
       this.crf.channel.close();
     } catch (IOException ignore) {
@@ -374,6 +381,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
   private void basicClose() {
     flushAll();
     synchronized (this.crf) {
+      unmapCrf();
       if (!this.crf.RAFClosed) {
         try {
           this.crf.channel.close();
@@ -804,8 +812,51 @@ class OverflowOplog implements CompactableOplog, Flushable {
     return startPos;
   }
 
+  /**
+   * Maps the flushed part of the crf for reading. Must be called while synchronized on the crf
+   * after the last write has been flushed.
+   */
+  private void mapCrf() {
+    if (!this.parent.MAP_OVERFLOW_OPLOGS || this.mappedCrf != null || this.crf.RAFClosed) {
+      return;
+    }
+    try {
+      this.mappedCrf = MappedOplogFile.map(this.crf.channel, this.crf.bytesFlushed);
+      if (logger.isDebugEnabled()) {
+        logger.debug("Mapped {} bytes of {} for reading", this.crf.bytesFlushed, this.crf.f);
+      }
+    } catch (IOException | OutOfMemoryError e) {
+      // mapping is an optimization; keep reading through the RandomAccessFile
+      logger.info("Unable to memory map {}; reading it through the file instead: {}", this.crf.f,
+          e.toString());
+    }
+  }
+
+  private void unmapCrf() {
+    MappedOplogFile mapped = this.mappedCrf;
+    if (mapped != null) {
+      this.mappedCrf = null;
+      mapped.unmap();
+    }
+  }
+
+  /**
+   * @return true if this oplog's crf is currently memory mapped
+   */
+  boolean isCrfMapped() {
+    return this.mappedCrf != null;
+  }
+
   private BytesAndBits attemptGet(DiskRegionView dr, long offsetInOplog, int valueLength,
       byte userBits) throws IOException {
+    MappedOplogFile mapped = this.mappedCrf;
+    if (mapped != null) {
+      byte[] valueBytes = mapped.read(offsetInOplog, valueLength);
+      if (valueBytes != null) {
+        this.stats.incOplogReads();
+        return new BytesAndBits(valueBytes, userBits);
+      }
+    }
     synchronized (this.crf) {
       assert offsetInOplog >= 0;
       RandomAccessFile myRAF = this.crf.raf;
@@ -932,6 +983,8 @@ class OverflowOplog implements CompactableOplog, Flushable {
 
   private void deleteFile() {
     final OplogFile olf = getOLF();
+    // the mapping must be released before the file is deleted or its space is not reclaimed
+    unmapCrf();
     if (this.maxOplogSize != 0) {
       this.dirHolder.decrementTotalOplogSize(this.maxOplogSize);
       this.maxOplogSize = 0;
@@ -989,6 +1042,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
     if (suggestedOffset + length > this.maxOplogSize) {
       flushAll();
       this.doneAppending = true;
+      mapCrf();
       return -1;
     } else {
       return suggestedOffset;
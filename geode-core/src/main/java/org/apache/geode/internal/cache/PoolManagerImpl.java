@@ -17,9 +17,11 @@ package org.apache.geode.internal.cache;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.apache.logging.log4j.Logger;
 
@@ -38,7 +40,6 @@ import org.apache.geode.internal.InternalDataSerializer;
 import org.apache.geode.internal.InternalDataSerializer.SerializerAttributesHolder;
 import org.apache.geode.internal.InternalInstantiator;
 import org.apache.geode.internal.InternalInstantiator.InstantiatorAttributesHolder;
-import org.apache.geode.internal.cache.tier.sockets.ServerConnection;
 import org.apache.geode.internal.cache.xmlcache.CacheCreation;
 import org.apache.geode.internal.logging.LogService;
 
@@ -112,18 +113,18 @@ public class PoolManagerImpl {
    */
   public void close(boolean keepAlive) {
     // destroying connection pools
-    boolean foundClientPool = false;
+    Set<InternalDistributedSystem> clientSystems = new HashSet<>();
     synchronized (poolLock) {
       for (Entry<String, Pool> entry : pools.entrySet()) {
         PoolImpl pool = (PoolImpl) entry.getValue();
         pool.basicDestroy(keepAlive);
-        foundClientPool = true;
+        clientSystems.add(pool.getInternalDistributedSystem());
       }
       pools = Collections.emptyMap();
       itrForEmergencyClose = null;
-      if (foundClientPool) {
-        // Now that the client has all the pools destroyed free up the pooled comm buffers
-        ServerConnection.emptyCommBufferPool();
+      // Now that the client has all the pools destroyed free up the pooled comm buffers
+      for (InternalDistributedSystem system : clientSystems) {
+        system.getCommBufferPool().clear();
       }
     }
   }
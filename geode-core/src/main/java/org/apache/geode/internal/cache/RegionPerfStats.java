@@ -261,6 +261,29 @@ class RegionPerfStats extends CachePerfStats {
     cachePerfStats.incGetInitialImageKeysReceived();
   }
 
+  @Override
+  public long startGetInitialImageChunk() {
+    stats.incInt(getInitialImageChunksInProgressId, 1);
+    cachePerfStats.startGetInitialImageChunk();
+    return getTime();
+  }
+
+  @Override
+  public void endGetInitialImageChunk(long start) {
+    if (enableClockStats) {
+      stats.incLong(getInitialImageChunkApplyTimeId, getTime() - start);
+    }
+    stats.incInt(getInitialImageChunksInProgressId, -1);
+    stats.incLong(getInitialImageChunksReceivedId, 1);
+    cachePerfStats.endGetInitialImageChunk(start);
+  }
+
+  @Override
+  public void incGetInitialImageBytesSent(long bytes) {
+    stats.incLong(getInitialImageBytesSentId, bytes);
+    cachePerfStats.incGetInitialImageBytesSent(bytes);
+  }
+
   @Override
   public long startIndexUpdate() {
     stats.incInt(indexUpdateInProgressId, 1);
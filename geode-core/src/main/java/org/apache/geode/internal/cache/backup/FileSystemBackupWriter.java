@@ -147,6 +147,7 @@ class FileSystemBackupWriter implements BackupWriter {
   private void backupOplogs(Map<DiskStore, Collection<Path>> oplogFiles,
       RestoreScript restoreScript) throws IOException {
     File storesDir = new File(backupDirectory.toFile(), DATA_STORES_DIRECTORY);
+    OplogTransfer oplogTransfer = new OplogTransfer();
     for (Map.Entry<DiskStore, Collection<Path>> entry : oplogFiles.entrySet()) {
       DiskStoreImpl diskStore = (DiskStoreImpl) entry.getKey();
       boolean diskstoreHasFilesInBackup = false;
@@ -155,7 +156,7 @@ class FileSystemBackupWriter implements BackupWriter {
           diskstoreHasFilesInBackup = true;
           int index = diskStore.getInforFileDirIndex();
           Path backupDir = createOplogBackupDir(diskStore, index);
-          backupOplog(backupDir, path);
+          oplogTransfer.add(path, backupDir.resolve(path.getFileName()));
         } else {
           Map<String, File> baselineOplogMap =
               incrementalBaselineLocation.getBackedUpOplogs(diskStore);
@@ -172,6 +173,8 @@ class FileSystemBackupWriter implements BackupWriter {
       addDiskStoreDirectoriesToRestoreScript(diskStore, targetStoresDir, restoreScript);
 
     }
+    oplogTransfer.execute();
+    oplogTransfer.writeChecksums(backupDirectory);
   }
 
   private Path getOplogBackupDir(DiskStore diskStore, int index) {
@@ -204,14 +207,6 @@ class FileSystemBackupWriter implements BackupWriter {
     return name + "_" + diskStore.getDiskStoreID().toString();
   }
 
-  private void backupOplog(Path targetDir, Path path) throws IOException {
-    backupFile(targetDir, path.toFile());
-  }
-
-  private void backupFile(Path targetDir, File file) throws IOException {
-    Files.move(file.toPath(), targetDir.resolve(file.getName()));
-  }
-
   private void moveFilesOrDirectories(Collection<Path> paths, Path targetDirectory)
       throws IOException {
     for (Path userFile : paths) {
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.distributed.internal.DistributionConfig;
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingExecutors;
+
+/**
+ * Moves the hard links of oplog files created in the temporary backup directories into the backup
+ * location.
+ *
+ * When the backup location is on the same file system as the disk store the move is a rename and
+ * no data is copied. Otherwise the file is copied, in parallel with the other oplogs of the
+ * backup, optionally throttled to a maximum aggregate rate so that the backup does not saturate
+ * the disks serving live traffic. A CRC32 checksum is computed while copying and recorded in
+ * {@link #CHECKSUMS_FILE} so that a copied backup can be verified later without re-reading the
+ * live disk store.
+ */
+class OplogTransfer {
+  private static final Logger logger = LogService.getLogger();
+
+  static final String CHECKSUMS_FILE = "oplog-checksums.crc32";
+
+  static final String COPY_THREADS_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "backup.copyThreads";
+
+  static final String MAX_BYTES_PER_SECOND_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "backup.maxBytesPerSecond";
+
+  private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+
+  private final int copyThreads;
+
+  private final Throttle throttle;
+
+  private final List<Path[]> transfers = new ArrayList<>();
+
+  /** checksums of copied files keyed by destination; guarded by itself */
+  private final Map<Path, Long> checksums = new TreeMap<>();
+
+  OplogTransfer() {
+    this(Integer.getInteger(COPY_THREADS_PROPERTY, 4),
+        Long.getLong(MAX_BYTES_PER_SECOND_PROPERTY, 0L));
+  }
+
+  OplogTransfer(int copyThreads, long maxBytesPerSecond) {
+    this.copyThreads = Math.max(1, copyThreads);
+    this.throttle = new Throttle(maxBytesPerSecond);
+  }
+
+  /**
+   * Schedules {@code source} to be moved to {@code destination} by {@link #execute()}.
+   */
+  void add(Path source, Path destination) {
+    transfers.add(new Path[] {source, destination});
+  }
+
+  /**
+   * Performs all scheduled transfers and waits for them to complete.
+   *
+   * @throws IOException the first failure of any transfer
+   */
+  void execute() throws IOException {
+    if (transfers.isEmpty()) {
+      return;
+    }
+    if (copyThreads == 1 || transfers.size() == 1) {
+      for (Path[] transfer : transfers) {
+        transfer(transfer[0], transfer[1]);
+      }
+      return;
+    }
+
+    ExecutorService executor = LoggingExecutors.newFixedThreadPool("BackupOplogCopier", true,
+        Math.min(copyThreads, transfers.size()));
+    try {
+      List<Future<Void>> futures = new ArrayList<>(transfers.size());
+      for (Path[] transfer : transfers) {
+        futures.add(executor.submit(() -> {
+          transfer(transfer[0], transfer[1]);
+          return null;
+        }));
+      }
+      IOException failure = null;
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause() instanceof IOException ? (IOException) e.getCause()
+                : new IOException(e.getCause());
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while copying oplogs");
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Writes the checksums of the copied files, relative to {@code directory}, into
+   * {@link #CHECKSUMS_FILE} in that directory. Nothing is written if no file was copied.
+   */
+  void writeChecksums(Path directory) throws IOException {
+    List<String> lines = new ArrayList<>();
+    synchronized (checksums) {
+      for (Map.Entry<Path, Long> entry : checksums.entrySet()) {
+        lines.add(String.format("%08x %s", entry.getValue(),
+            directory.relativize(entry.getKey()).toString().replace('\\', '/')));
+      }
+    }
+    if (!lines.isEmpty()) {
+      Files.write(directory.resolve(CHECKSUMS_FILE), lines);
+    }
+  }
+
+  Map<Path, Long> getChecksums() {
+    synchronized (checksums) {
+      return new TreeMap<>(checksums);
+    }
+  }
+
+  private void transfer(Path source, Path destination) throws IOException {
+    try {
+      Files.move(source, destination, StandardCopyOption.ATOMIC_MOVE);
+      return;
+    } catch (AtomicMoveNotSupportedException e) {
+      // different file systems; fall through to a copy
+    }
+    long checksum = copy(source, destination);
+    Files.delete(source);
+    synchronized (checksums) {
+      checksums.put(destination, checksum);
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Copied {} to {}", source, destination);
+    }
+  }
+
+  long copy(Path source, Path destination) throws IOException {
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    try (InputStream in = Files.newInputStream(source);
+        OutputStream out = Files.newOutputStream(destination)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        throttle.acquire(read);
+        crc.update(buffer, 0, read);
+        out.write(buffer, 0, read);
+      }
+    } catch (IOException | RuntimeException e) {
+      // do not leave a partially copied oplog in the backup
+      try {
+        Files.deleteIfExists(destination);
+      } catch (IOException deleteFailure) {
+        e.addSuppressed(deleteFailure);
+      }
+      throw e;
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * Limits the aggregate rate of all copying threads by making them sleep until the bytes copied
+   * so far would have taken at least as long at the configured rate.
+   */
+  static class Throttle {
+    private final long maxBytesPerSecond;
+
+    private long startNanos;
+
+    private long bytes;
+
+    Throttle(long maxBytesPerSecond) {
+      this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    void acquire(int count) throws InterruptedIOException {
+      if (maxBytesPerSecond <= 0) {
+        return;
+      }
+      long sleepNanos;
+      synchronized (this) {
+        long now = System.nanoTime();
+        if (bytes == 0) {
+          startNanos = now;
+        }
+        bytes += count;
+        long dueNanos = startNanos + (long) (bytes * 1e9 / maxBytesPerSecond);
+        sleepNanos = dueNanos - now;
+      }
+      if (sleepNanos > 0) {
+        try {
+          Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while throttling backup");
+        }
+      }
+    }
+  }
+}
@@ -22,11 +22,16 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import org.apache.geode.DataSerializer;
 import org.apache.geode.annotations.Immutable;
@@ -67,6 +72,9 @@ public class GFSnapshot {
   /** the snapshot format version 2 */
   public static final int SNAP_VER_2 = 2;
 
+  /** the snapshot format version 3: version 2 with the entries deflate compressed */
+  public static final int SNAP_VER_3 = 3;
+
   /** the snapshot file format */
   @Immutable
   private static final byte[] SNAP_FMT = {0x47, 0x46, 0x53};
@@ -117,7 +125,21 @@ public class GFSnapshot {
    */
   public static SnapshotWriter create(File snapshot, String region, InternalCache cache)
       throws IOException {
-    final GFSnapshotExporter out = new GFSnapshotExporter(snapshot, region, cache);
+    return create(snapshot, region, cache, false);
+  }
+
+  /**
+   * Creates a snapshot file and provides a serializer to write entries to the snapshot.
+   *
+   * @param snapshot the snapshot file
+   * @param region the region name
+   * @param compressed true if the entries should be compressed
+   * @return the callback to allow the invoker to provide the snapshot entries
+   * @throws IOException error writing the snapshot file
+   */
+  public static SnapshotWriter create(File snapshot, String region, InternalCache cache,
+      boolean compressed) throws IOException {
+    final GFSnapshotExporter out = new GFSnapshotExporter(snapshot, region, cache, compressed);
     return new SnapshotWriter() {
       @Override
       public void snapshotEntry(SnapshotRecord entry) throws IOException {
@@ -220,7 +242,21 @@ public class GFSnapshot {
     private final DataOutputStream dos;
     private final InternalCache cache;
 
+    /** the compressor for the entries, or null if the entries are not compressed */
+    private final Deflater deflater;
+
+    /** the compressing stream wrapping dos, or null if the entries are not compressed */
+    private final DeflaterOutputStream compressedEntries;
+
+    /** the stream entries are written to, either dos or a compressing stream wrapping it */
+    private final DataOutputStream entries;
+
     public GFSnapshotExporter(File out, String region, InternalCache cache) throws IOException {
+      this(out, region, cache, false);
+    }
+
+    public GFSnapshotExporter(File out, String region, InternalCache cache, boolean compressed)
+        throws IOException {
       this.cache = cache;
       FileOutputStream fos = new FileOutputStream(out);
       fc = fos.getChannel();
@@ -228,7 +264,7 @@ public class GFSnapshot {
       dos = new DataOutputStream(new BufferedOutputStream(fos));
 
       // write snapshot version
-      dos.writeByte(SNAP_VER_2);
+      dos.writeByte(compressed ? SNAP_VER_3 : SNAP_VER_2);
 
       // write format type
       dos.write(SNAP_FMT);
@@ -238,6 +274,18 @@ public class GFSnapshot {
 
       // write region name
       dos.writeUTF(region);
+
+      if (compressed) {
+        // favor throughput over ratio, snapshots are typically written under load
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        compressedEntries =
+            new DeflaterOutputStream(dos, deflater, RegionSnapshotServiceImpl.BUFFER_SIZE);
+        entries = new DataOutputStream(new BufferedOutputStream(compressedEntries));
+      } else {
+        deflater = null;
+        compressedEntries = null;
+        entries = dos;
+      }
     }
 
     /**
@@ -247,31 +295,43 @@ public class GFSnapshot {
      * @throws IOException unable to write entry
      */
     public void writeSnapshotEntry(SnapshotRecord entry) throws IOException {
-      InternalDataSerializer.invokeToData(entry, dos);
+      InternalDataSerializer.invokeToData(entry, entries);
     }
 
     public void close() throws IOException {
-      // write entry terminator entry
-      DataSerializer.writeByteArray(null, dos);
+      try {
+        // write entry terminator entry
+        DataSerializer.writeByteArray(null, entries);
 
-      // grab the pdx start location
-      dos.flush();
-      long registryPosition = fc.position();
+        if (compressedEntries != null) {
+          // complete the compressed section without closing the underlying stream
+          entries.flush();
+          compressedEntries.finish();
+        }
 
-      // write pdx types
-      try {
-        new ExportedRegistry(cache.getPdxRegistry()).toData(dos);
-      } catch (CacheClosedException e) {
-        // ignore pdx types
-        new ExportedRegistry().toData(dos);
-      }
+        // grab the pdx start location
+        dos.flush();
+        long registryPosition = fc.position();
 
-      // write the pdx position
-      dos.flush();
-      fc.position(4);
-      dos.writeLong(registryPosition);
+        // write pdx types
+        try {
+          new ExportedRegistry(cache.getPdxRegistry()).toData(dos);
+        } catch (CacheClosedException e) {
+          // ignore pdx types
+          new ExportedRegistry().toData(dos);
+        }
 
-      dos.close();
+        // write the pdx position
+        dos.flush();
+        fc.position(4);
+        dos.writeLong(registryPosition);
+      } finally {
+        // free the native memory of the compressor even if the snapshot could not be written
+        if (deflater != null) {
+          deflater.end();
+        }
+        dos.close();
+      }
     }
   }
 
@@ -291,6 +351,9 @@ public class GFSnapshot {
     /** the input stream */
     private final DataInputStream dis;
 
+    /** the decompressor for the entries, or null if the entries are not compressed */
+    private final Inflater inflater;
+
     public GFSnapshotImporter(File in, TypeRegistry typeRegistry)
         throws IOException, ClassNotFoundException {
       pdx = new ExportedRegistry();
@@ -309,7 +372,7 @@ public class GFSnapshot {
               String.format("Unsupported snapshot version: %s", SNAP_VER_1)
                   + ": " + in);
 
-        } else if (version == SNAP_VER_2) {
+        } else if (version == SNAP_VER_2 || version == SNAP_VER_3) {
           // read format
           byte[] format = new byte[3];
           tmp.readFully(format);
@@ -346,8 +409,30 @@ public class GFSnapshot {
       checkPdxEnumCompatibility(typeRegistry);
 
       // open new stream with buffering for reading entries
-      dis = new DataInputStream(new BufferedInputStream(new FileInputStream(in)));
-      dis.skip(entryPosition);
+      FileInputStream entries = new FileInputStream(in);
+      try {
+        entries.getChannel().position(entryPosition);
+      } catch (IOException e) {
+        entries.close();
+        throw e;
+      }
+      InputStream source = entries;
+      if (version == SNAP_VER_3) {
+        inflater = new Inflater();
+        source = new InflaterInputStream(entries, inflater);
+      } else {
+        inflater = null;
+      }
+      dis = new DataInputStream(new BufferedInputStream(source));
+    }
+
+    /**
+     * Returns true if the entries in the snapshot file are compressed.
+     *
+     * @return true if compressed
+     */
+    public boolean isCompressed() {
+      return version == SNAP_VER_3;
     }
 
     /**
@@ -395,7 +480,14 @@ public class GFSnapshot {
     }
 
     public void close() throws IOException {
-      dis.close();
+      try {
+        dis.close();
+      } finally {
+        // an InflaterInputStream given its own Inflater does not end it on close
+        if (inflater != null) {
+          inflater.end();
+        }
+      }
     }
 
     private void checkPdxTypeCompatibility(TypeRegistry tr) {
@@ -20,12 +20,14 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 import org.apache.logging.log4j.LogManager;
@@ -61,6 +63,7 @@ import org.apache.geode.internal.cache.execute.InternalFunction;
 import org.apache.geode.internal.cache.snapshot.GFSnapshot.GFSnapshotImporter;
 import org.apache.geode.internal.cache.snapshot.GFSnapshot.SnapshotWriter;
 import org.apache.geode.internal.cache.snapshot.SnapshotPacket.SnapshotRecord;
+import org.apache.geode.internal.logging.LoggingExecutors;
 
 /**
  * Provides an implementation for region snapshots.
@@ -74,6 +77,14 @@ public class RegionSnapshotServiceImpl<K, V> implements RegionSnapshotService<K,
   private static final int IMPORT_CONCURRENCY = Integer.getInteger(
       DistributionConfig.GEMFIRE_PREFIX + "RegionSnapshotServiceImpl.IMPORT_CONCURRENCY", 10);
 
+  // controls number of snapshot files of a directory imported concurrently
+  private static final int IMPORT_FILE_CONCURRENCY = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "RegionSnapshotServiceImpl.IMPORT_FILE_CONCURRENCY", 4);
+
+  // controls number of local buckets exported concurrently during a parallel export
+  static final int EXPORT_CONCURRENCY = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "RegionSnapshotServiceImpl.EXPORT_CONCURRENCY", 4);
+
   // controls the size (in bytes) of the r/w buffer during imoprt and export
   static final int BUFFER_SIZE = Integer.getInteger(
       DistributionConfig.GEMFIRE_PREFIX + "RegionSnapshotServiceImpl.BUFFER_SIZE", 1024 * 1024);
@@ -219,9 +230,7 @@ public class RegionSnapshotServiceImpl<K, V> implements RegionSnapshotService<K,
         throw new IllegalArgumentException("Failure to import snapshot: "
             + snapshot.getAbsolutePath() + " contains no valid .gfd snapshot files");
       }
-      for (File snapshotFile : snapshots) {
-        importSnapshotFile(snapshotFile, options, local);
-      }
+      importSnapshotFiles(snapshots, options, local);
     } else if (snapshot.getName().endsWith(SNAPSHOT_FILE_EXTENSION)) {
       importSnapshotFile(snapshot, options, local);
     } else {
@@ -230,6 +239,50 @@ public class RegionSnapshotServiceImpl<K, V> implements RegionSnapshotService<K,
     }
   }
 
+  /**
+   * Imports the files of a snapshot directory, several at a time. Each file is read by its own
+   * thread, which keeps several disks busy when the files were exported by different members.
+   */
+  private void importSnapshotFiles(File[] snapshots, SnapshotOptions<K, V> options,
+      LocalRegion local) throws IOException, ClassNotFoundException {
+    if (snapshots.length == 1 || IMPORT_FILE_CONCURRENCY <= 1) {
+      for (File snapshotFile : snapshots) {
+        importSnapshotFile(snapshotFile, options, local);
+      }
+      return;
+    }
+
+    ExecutorService executor = LoggingExecutors.newFixedThreadPool("SnapshotFileImporter", true,
+        Math.min(IMPORT_FILE_CONCURRENCY, snapshots.length));
+    try {
+      List<Future<Void>> imports = new ArrayList<>(snapshots.length);
+      for (File snapshotFile : snapshots) {
+        imports.add(executor.submit(() -> {
+          importSnapshotFile(snapshotFile, options, local);
+          return null;
+        }));
+      }
+      for (Future<Void> f : imports) {
+        f.get();
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw (IOException) new InterruptedIOException().initCause(e);
+
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      } else if (e.getCause() instanceof ClassNotFoundException) {
+        throw (ClassNotFoundException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void importSnapshotFile(File snapshot, SnapshotOptions<K, V> options, LocalRegion local)
       throws IOException, ClassNotFoundException {
     long count = 0;
@@ -350,8 +403,10 @@ public class RegionSnapshotServiceImpl<K, V> implements RegionSnapshotService<K,
 
     long count = 0;
     long start = CachePerfStats.getStatTime();
-    SnapshotWriter writer =
-        GFSnapshot.create(snapshot, region.getFullPath(), (InternalCache) region.getCache());
+    boolean compressed = options instanceof SnapshotOptionsImpl
+        && ((SnapshotOptionsImpl<K, V>) options).isCompressed();
+    SnapshotWriter writer = GFSnapshot.create(snapshot, region.getFullPath(),
+        (InternalCache) region.getCache(), compressed);
     try {
       if (getLogger().infoEnabled())
         getLogger().info(String.format("Exporting region %s", region.getName()));
@@ -416,6 +471,10 @@ public class RegionSnapshotServiceImpl<K, V> implements RegionSnapshotService<K,
       // for NORMAL/PRELOAD since they don't support fn execution
       // for LocalDataSet since we're already running a fn
       // for parallel ops since we're already running a fn
+      if (region instanceof LocalDataSet && EXPORT_CONCURRENCY > 1
+          && ((LocalDataSet) region).getBucketSet().size() > 1) {
+        return new ParallelBucketExporter<>(EXPORT_CONCURRENCY);
+      }
       return new LocalExporter<>();
     }
 
@@ -39,6 +39,9 @@ public class SnapshotOptionsImpl<K, V> implements SnapshotOptions<K, V> {
   /** the file mapper, or null if parallel mode is not enabled */
   private volatile SnapshotFileMapper mapper;
 
+  /** true if snapshot entries should be compressed on export */
+  private volatile boolean compressed;
+
   public SnapshotOptionsImpl() {
     filter = null;
     invokeCallbacks = false;
@@ -104,12 +107,35 @@ public class SnapshotOptionsImpl<K, V> implements SnapshotOptions<K, V> {
     return mapper;
   }
 
+  /**
+   * Enables compression of the entries written to snapshot files. Compressed snapshots can be
+   * imported regardless of this setting.
+   *
+   * @param compressed true to compress exported entries
+   * @return the snapshot options
+   */
+  public SnapshotOptions<K, V> setCompressed(boolean compressed) {
+    this.compressed = compressed;
+    return this;
+  }
+
+  /**
+   * Returns true if snapshot entries are compressed on export.
+   *
+   * @return true if compressed
+   * @see #setCompressed(boolean)
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+
   @Override
   public String toString() {
     StringBuffer buf = new StringBuffer();
     buf.append("SnapshotOptionsImpl@").append(System.identityHashCode(this)).append(": ")
         .append("parallel=").append(parallel).append("; invokeCallbacks=").append(invokeCallbacks)
-        .append("; filter=").append(filter).append("; mapper=").append(mapper);
+        .append("; filter=").append(filter).append("; mapper=").append(mapper)
+        .append("; compressed=").append(compressed);
     return buf.toString();
   }
 }
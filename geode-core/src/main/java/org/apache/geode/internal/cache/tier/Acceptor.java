@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier;
 import org.apache.geode.internal.cache.tier.sockets.CacheServerStats;
@@ -105,4 +106,10 @@ public interface Acceptor extends CommBufferPool {
   void unregisterServerConnection(ServerConnection serverConnection);
 
   void decClientServerConnectionCount();
+
+  /**
+   * Returns the pool that applies the events of the batches received by this gateway receiver in
+   * parallel, or null if the events are applied on the thread that received the batch.
+   */
+  ExecutorService getGatewayReceiverApplyPool();
 }
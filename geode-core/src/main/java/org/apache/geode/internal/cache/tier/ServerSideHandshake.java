@@ -22,6 +22,7 @@ import java.security.Principal;
 
 import org.apache.geode.internal.Version;
 import org.apache.geode.internal.cache.tier.sockets.ClientProxyMembershipID;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.security.AuthenticationFailedException;
 import org.apache.geode.security.AuthenticationRequiredException;
 
@@ -38,6 +39,12 @@ public interface ServerSideHandshake {
 
   Version getVersion();
 
+  /**
+   * Returns the compression negotiated for the messages of the connection, or null if they are not
+   * compressed.
+   */
+  WireCompression getWireCompression();
+
   Object verifyCredentials() throws AuthenticationRequiredException, AuthenticationFailedException;
 
   void setClientReadTimeout(int clientReadTimeout);
@@ -89,6 +89,7 @@ import org.apache.geode.internal.cache.tier.CommunicationMode;
 import org.apache.geode.internal.cache.tier.OverflowAttributes;
 import org.apache.geode.internal.cache.tier.sockets.CacheClientNotifier.CacheClientNotifierProvider;
 import org.apache.geode.internal.cache.tier.sockets.ClientHealthMonitor.ClientHealthMonitorProvider;
+import org.apache.geode.internal.cache.tier.sockets.command.GatewayReceiverCommand;
 import org.apache.geode.internal.cache.wan.GatewayReceiverStats;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.LoggingExecutors;
@@ -96,6 +97,7 @@ import org.apache.geode.internal.logging.LoggingThread;
 import org.apache.geode.internal.logging.LoggingThreadFactory.CommandWrapper;
 import org.apache.geode.internal.logging.LoggingThreadFactory.ThreadInitializer;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.SocketCreator;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.internal.tcp.ConnectionTable;
@@ -130,6 +132,11 @@ public class AcceptorImpl implements Acceptor, Runnable {
    */
   private final ExecutorService clientQueueInitPool;
 
+  /**
+   * A pool used by a gateway receiver to apply the events of a batch in parallel.
+   */
+  private final ExecutorService gatewayReceiverApplyPool;
+
   /**
    * The port on which this acceptor listens for client connections
    */
@@ -160,10 +167,6 @@ public class AcceptorImpl implements Acceptor, Runnable {
    */
   private final Selector selector;
 
-  /**
-   * Used for managing direct byte buffer for client comms; null if no selector.
-   */
-  private final LinkedBlockingQueue<ByteBuffer> commBufferQueue;
   /**
    * Used to timeout accepted sockets that we are waiting for the handshake packet
    */
@@ -473,19 +476,16 @@ public class AcceptorImpl implements Acceptor, Runnable {
     {
       Selector tmp_s = null;
       LinkedBlockingQueue<ServerConnection> tmp_q = null;
-      LinkedBlockingQueue<ByteBuffer> tmp_commQ = null;
       Set<ServerConnection> tmp_hs = null;
       SystemTimer tmp_timer = null;
       if (isSelector()) {
         tmp_s = Selector.open(); // no longer catch ex to fix bug 36907
         tmp_q = new LinkedBlockingQueue<>();
-        tmp_commQ = new LinkedBlockingQueue<>();
         tmp_hs = new HashSet<>(512);
         tmp_timer = new SystemTimer(internalCache.getDistributedSystem(), true);
       }
       selector = tmp_s;
       selectorQueue = tmp_q;
-      commBufferQueue = tmp_commQ;
       selectorRegistrations = tmp_hs;
       hsTimer = tmp_timer;
       this.tcpNoDelay = tcpNoDelay;
@@ -621,6 +621,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
     pool = initializeServerConnectionThreadPool();
     hsPool = initializeHandshakerThreadPool();
     clientQueueInitPool = initializeClientQueueInitializerThreadPool();
+    gatewayReceiverApplyPool = initializeGatewayReceiverApplyThreadPool();
 
     isAuthenticationRequired = securityService.isClientSecurityRequired();
 
@@ -658,6 +659,15 @@ public class AcceptorImpl implements Acceptor, Runnable {
         getThreadMonitorObj());
   }
 
+  private ExecutorService initializeGatewayReceiverApplyThreadPool() {
+    if (!isGatewayReceiver() || GatewayReceiverCommand.APPLY_THREADS <= 1) {
+      return null;
+    }
+    return LoggingExecutors.newFixedThreadPool(
+        "GatewayReceiver apply on port " + localPort + " Thread ", true,
+        GatewayReceiverCommand.APPLY_THREADS);
+  }
+
   private ExecutorService initializeServerConnectionThreadPool() throws IOException {
     ThreadInitializer threadInitializer = thread -> getStats().incConnectionThreadsCreated();
     CommandWrapper commandWrapper = command -> {
@@ -1382,20 +1392,16 @@ public class AcceptorImpl implements Acceptor, Runnable {
   }
 
   private ByteBuffer takeCommBuffer() {
-    ByteBuffer result = commBufferQueue.poll();
-    if (result == null) {
-      result = ByteBuffer.allocateDirect(socketBufferSize);
-    }
-    return result;
+    return ServerConnection.allocateDirectCommBuffer(getCommBufferPool(), socketBufferSize);
   }
 
   private void releaseCommBuffer(ByteBuffer bb) {
-    if (bb == null) { // fix for bug 37107
-      return;
-    }
-    if (isRunning()) {
-      commBufferQueue.offer(bb);
-    }
+    // releaseCommBuffer ignores null, which fixes bug 37107
+    ServerConnection.releaseCommBuffer(getCommBufferPool(), bb);
+  }
+
+  private BufferPool getCommBufferPool() {
+    return cache.getInternalDistributedSystem().getCommBufferPool();
   }
 
   private void incClientServerCnxCount() {
@@ -1676,7 +1682,6 @@ public class AcceptorImpl implements Acceptor, Runnable {
       if (selectorThread != null) {
         selectorThread.interrupt();
       }
-      commBufferQueue.clear();
     }
   }
 
@@ -1693,6 +1698,9 @@ public class AcceptorImpl implements Acceptor, Runnable {
     }
     clientQueueInitPool.shutdown();
     hsPool.shutdown();
+    if (gatewayReceiverApplyPool != null) {
+      gatewayReceiverApplyPool.shutdown();
+    }
   }
 
   private void shutdownSCs() {
@@ -1710,6 +1718,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
         && (selectorThread == null || !selectorThread.isAlive())
         && (pool == null || pool.isShutdown()) && (hsPool == null || hsPool.isShutdown())
         && (clientQueueInitPool == null || clientQueueInitPool.isShutdown())
+        && (gatewayReceiverApplyPool == null || gatewayReceiverApplyPool.isShutdown())
         && (selector == null || !selector.isOpen()) && (tmpSel == null || !tmpSel.isOpen());
   }
 
@@ -1816,6 +1825,11 @@ public class AcceptorImpl implements Acceptor, Runnable {
     return isGatewayReceiver;
   }
 
+  @Override
+  public ExecutorService getGatewayReceiverApplyPool() {
+    return gatewayReceiverApplyPool;
+  }
+
   public List<GatewayTransportFilter> getGatewayTransportFilters() {
     return gatewayTransportFilters;
   }
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -98,6 +99,7 @@ import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.LogWriterImpl;
 import org.apache.geode.internal.logging.LoggingThread;
 import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.security.AuthorizeRequestPP;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.security.AccessControl;
@@ -190,6 +192,27 @@ public class CacheClientProxy implements ClientSession {
   protected static final int MAXIMUM_SHUTDOWN_PEEKS = Integer
       .getInteger(DistributionConfig.GEMFIRE_PREFIX + "MAXIMUM_SHUTDOWN_PEEKS", 50).intValue();
 
+  /**
+   * The maximum number of queued messages the dispatcher writes to the client together, so that
+   * a client falling behind is caught up with few large socket writes instead of many small ones.
+   * A value of 1 sends every message on its own. Messages to durable clients are always sent on
+   * their own since their queue only removes the messages the client acknowledges.
+   */
+  static final int MESSAGE_BATCH_SIZE = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "CacheClientProxy.MESSAGE_BATCH_SIZE", 100)
+      .intValue();
+
+  /**
+   * The number of milliseconds the dispatcher waits for more messages before writing a batch, only
+   * sending the latest update of each key that arrives within the window. There is no window for
+   * durable clients and clients that turned conflation off. A value of 0 writes the messages that
+   * are queued at once without conflating them.
+   */
+  static final int CONFLATION_WINDOW_MILLIS = Integer
+      .getInteger(DistributionConfig.GEMFIRE_PREFIX + "CacheClientProxy.CONFLATION_WINDOW_MILLIS",
+          0)
+      .intValue();
+
   /**
    * The number of milliseconds to wait for an offering to the message queue
    */
@@ -330,9 +353,9 @@ public class CacheClientProxy implements ClientSession {
       Version clientVersion, long acceptorId, boolean notifyBySubscription,
       SecurityService securityService, Subject subject) throws CacheException {
 
+    this._cache = ccn.getCache();
     initializeTransientFields(socket, proxyID, isPrimary, clientConflation, clientVersion);
     this._cacheClientNotifier = ccn;
-    this._cache = ccn.getCache();
     this.securityService = securityService;
     this._maximumMessageCount = ccn.getMaximumMessageCount();
     this._messageTimeToLive = ccn.getMessageTimeToLive();
@@ -412,7 +435,8 @@ public class CacheClientProxy implements ClientSession {
         }
       } catch (SocketException ignore) {
       }
-      this._commBuffer = ServerConnection.allocateCommBuffer(bufSize, socket);
+      this._commBuffer =
+          ServerConnection.allocateCommBuffer(getCommBufferPool(), bufSize, socket);
     }
     this._remoteHostAddress = socket.getInetAddress().getHostAddress();
     this.isPrimary = ip;
@@ -995,10 +1019,14 @@ public class CacheClientProxy implements ClientSession {
     ByteBuffer bb = this._commBuffer;
     if (bb != null) {
       this._commBuffer = null;
-      ServerConnection.releaseCommBuffer(bb);
+      ServerConnection.releaseCommBuffer(getCommBufferPool(), bb);
     }
   }
 
+  private BufferPool getCommBufferPool() {
+    return this._cache.getInternalDistributedSystem().getCommBufferPool();
+  }
+
   private void closeNonDurableCqs() {
     CqService cqService = getCache().getCqService();
     if (cqService != null) {
@@ -2468,7 +2496,9 @@ public class CacheClientProxy implements ClientSession {
           if (isStopped()) {
             break;
           }
-          if (clientMessage != null) {
+          if (clientMessage != null && MESSAGE_BATCH_SIZE > 1 && !getProxy().isDurable()) {
+            dispatchBatch();
+          } else if (clientMessage != null) {
             // Process the message
             long start = getStatistics().startTime();
             //// BUGFIX for BUG#38206 and BUG#37791
@@ -2675,6 +2705,32 @@ public class CacheClientProxy implements ClientSession {
      */
     protected boolean dispatchMessage(ClientMessage clientMessage) throws IOException {
       boolean isDispatched = false;
+      Message message = createMessage(clientMessage);
+
+      if (!this._proxy.isPaused()) {
+        sendMessage(message);
+
+        if (logger.isTraceEnabled()) {
+          logger.trace("{}: Dispatched {}", this, clientMessage);
+        }
+        isDispatched = true;
+      } else {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Message Dispatcher of a Paused CCProxy is trying to dispatch message");
+        }
+      }
+      if (isDispatched) {
+        this._messageQueue.getStatistics().incEventsDispatched();
+      }
+      return isDispatched;
+    }
+
+    /**
+     * Creates the message to send to the client attached to this proxy
+     *
+     * @param clientMessage The <code>ClientMessage</code> to send to the client
+     */
+    private Message createMessage(ClientMessage clientMessage) throws IOException {
       if (logger.isTraceEnabled(LogMarker.BRIDGE_SERVER_VERBOSE)) {
         logger.trace(LogMarker.BRIDGE_SERVER_VERBOSE, "Dispatching {}", clientMessage);
       }
@@ -2706,23 +2762,130 @@ public class CacheClientProxy implements ClientSession {
       } else {
         message = clientMessage.getMessage(getProxy(), true /* notify */);
       }
+      return message;
+    }
 
-      if (!this._proxy.isPaused()) {
-        sendMessage(message);
-
-        if (logger.isTraceEnabled()) {
-          logger.trace("{}: Dispatched {}", this, clientMessage);
+    /**
+     * Sends the messages at the head of the queue, up to {@link #MESSAGE_BATCH_SIZE} of them, with
+     * as few socket writes as possible. The messages are only removed from the queue once all of
+     * them have been written and flushed to the client. If the proxy is paused or stopped before
+     * that, the whole batch stays queued and is sent again, and the client discards the messages it
+     * already received as duplicates.
+     */
+    private void dispatchBatch() throws IOException, InterruptedException {
+      long start = getStatistics().startTime();
+      // the message peeked by the caller is the first one of the batch peeked again here
+      this._messageQueue.clearPeekedIDs();
+      List<ClientMessage> batch = collectBatch();
+      int collected = batch.size();
+      if (getConflationWindow() > 0) {
+        batch = conflate(batch, getProxy().getProxyID());
+      }
+      int sent = 0;
+      boolean markerDispatched = false;
+      boolean complete = true;
+      Message lastMessage = null;
+      this.socketWriteLock.lock();
+      try {
+        for (ClientMessage clientMessage : batch) {
+          if (this._proxy.isPaused() || isStopped()) {
+            if (logger.isDebugEnabled()) {
+              logger.debug("Message Dispatcher of a Paused CCProxy is trying to dispatch message");
+            }
+            complete = false;
+            break;
+          }
+          Message message = createMessage(clientMessage);
+          if (message == null) {
+            continue;
+          }
+          try {
+            message.setComms(getSocket(), getCommBuffer(), getStatistics());
+            message.sendBatched();
+          } catch (MessageTooLargeException e) {
+            logger.warn("Message too large to send to client: {}, {}", clientMessage,
+                e.getMessage());
+            continue;
+          }
+          lastMessage = message;
+          sent++;
+          this._messageQueue.getStatistics().incEventsDispatched();
+          if (clientMessage instanceof ClientMarkerMessageImpl) {
+            markerDispatched = true;
+          }
         }
-        isDispatched = true;
-      } else {
-        if (logger.isDebugEnabled()) {
-          logger.debug("Message Dispatcher of a Paused CCProxy is trying to dispatch message");
+        if (lastMessage != null) {
+          lastMessage.flushBatch();
+          getProxy().resetPingCounter();
         }
+      } finally {
+        this.socketWriteLock.unlock();
       }
-      if (isDispatched) {
-        this._messageQueue.getStatistics().incEventsDispatched();
+      getStatistics().endBatch(start, sent, collected - batch.size());
+      if (logger.isTraceEnabled()) {
+        logger.trace("{}: Dispatched a batch of {} messages", this, sent);
       }
-      return isDispatched;
+      if (!complete) {
+        this._messageQueue.clearPeekedIDs();
+        return;
+      }
+      this._messageQueue.remove();
+      if (markerDispatched) {
+        getProxy().markerEnqueued = false;
+      }
+    }
+
+    /**
+     * Peeks the messages at the head of the queue, waiting for more messages for up to the
+     * conflation window.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ClientMessage> collectBatch() throws InterruptedException {
+      return new ArrayList<>(this._messageQueue.peek(MESSAGE_BATCH_SIZE, getConflationWindow()));
+    }
+
+    /**
+     * Returns the conflation window of this client, which is 0 for clients that turned conflation
+     * off.
+     */
+    private int getConflationWindow() {
+      if (this._proxy.clientConflation == Handshake.CONFLATION_OFF) {
+        return 0;
+      }
+      return CONFLATION_WINDOW_MILLIS;
+    }
+
+    /**
+     * Returns the messages of the batch without the updates that are followed by a full update of
+     * the same key later in the batch. Updates for clients with CQs are kept since each of them may
+     * match a different CQ.
+     *
+     * @param batch The messages in the order they were queued
+     * @param clientId The id of the client the batch is sent to
+     */
+    static List<ClientMessage> conflate(List<ClientMessage> batch,
+        ClientProxyMembershipID clientId) {
+      Set<List<Object>> laterUpdates = new HashSet<>();
+      List<ClientMessage> conflated = new ArrayList<>(batch.size());
+      for (int i = batch.size() - 1; i >= 0; i--) {
+        ClientMessage clientMessage = batch.get(i);
+        if (clientMessage instanceof ClientUpdateMessageImpl) {
+          ClientUpdateMessageImpl update = (ClientUpdateMessageImpl) clientMessage;
+          if (update.isUpdate() && !update.hasCqs(clientId)) {
+            List<Object> key =
+                Arrays.asList(update.getRegionToConflate(), update.getKeyToConflate());
+            if (laterUpdates.contains(key)) {
+              continue;
+            }
+            if (!update.hasDelta()) {
+              laterUpdates.add(key);
+            }
+          }
+        }
+        conflated.add(clientMessage);
+      }
+      Collections.reverse(conflated);
+      return conflated;
     }
 
     private void sendMessage(Message message) throws IOException {
@@ -60,6 +60,12 @@ public class CacheClientProxyStats implements MessageStats {
   private static final String DELTA_FULL_MESSAGES_SENT = "deltaFullMessagesSent";
   /** Name of the CQ count statistic */
   private static final String CQ_COUNT = "cqCount";
+  /** Name of the message batches sent statistic */
+  private static final String MESSAGE_BATCHES_SENT = "messageBatchesSent";
+  /** Name of the messages sent in batches statistic */
+  private static final String MESSAGES_SENT_IN_BATCHES = "messagesSentInBatches";
+  /** Name of the messages conflated in window statistic */
+  private static final String MESSAGES_CONFLATED_IN_WINDOW = "messagesConflatedInWindow";
 
   /** Id of the messages received statistic */
   private static final int _messagesReceivedId;
@@ -84,6 +90,12 @@ public class CacheClientProxyStats implements MessageStats {
   /** Id of the CQ count statistic */
   private static final int _cqCountId;
   private static final int _sentBytesId;
+  /** Id of the message batches sent statistic */
+  private static final int _messageBatchesSentId;
+  /** Id of the messages sent in batches statistic */
+  private static final int _messagesSentInBatchesId;
+  /** Id of the messages conflated in window statistic */
+  private static final int _messagesConflatedInWindowId;
 
   /**
    * Static initializer to create and initialize the <code>StatisticsType</code>
@@ -128,7 +140,20 @@ public class CacheClientProxyStats implements MessageStats {
             "operations"),
 
         f.createLongCounter(CQ_COUNT, "Number of CQs on the client.", "operations"),
-        f.createLongCounter("sentBytes", "Total number of bytes sent to client.", "bytes"),});
+        f.createLongCounter("sentBytes", "Total number of bytes sent to client.", "bytes"),
+
+        f.createIntCounter(MESSAGE_BATCHES_SENT,
+            "Number of batches of client messages written to the client together.",
+            "operations"),
+
+        f.createIntCounter(MESSAGES_SENT_IN_BATCHES,
+            "Number of client messages written to the client as part of a batch.",
+            "operations"),
+
+        f.createIntCounter(MESSAGES_CONFLATED_IN_WINDOW,
+            "Number of client messages not sent because a later update of the same key was sent"
+                + " in the same conflation window.",
+            "operations"),});
 
     // Initialize id fields
     _messagesReceivedId = _type.nameToId(MESSAGES_RECEIVED);
@@ -143,6 +168,9 @@ public class CacheClientProxyStats implements MessageStats {
     _deltaFullMessagesSentId = _type.nameToId(DELTA_FULL_MESSAGES_SENT);
     _cqCountId = _type.nameToId(CQ_COUNT);
     _sentBytesId = _type.nameToId("sentBytes");
+    _messageBatchesSentId = _type.nameToId(MESSAGE_BATCHES_SENT);
+    _messagesSentInBatchesId = _type.nameToId(MESSAGES_SENT_IN_BATCHES);
+    _messagesConflatedInWindowId = _type.nameToId(MESSAGES_CONFLATED_IN_WINDOW);
   }
 
   ////////////////////// Instance Fields //////////////////////
@@ -271,6 +299,33 @@ public class CacheClientProxyStats implements MessageStats {
     return this._stats.getInt(_cqCountId);
   }
 
+  /**
+   * Returns the current value of the "messageBatchesSent" stat.
+   *
+   * @return the current value of the "messageBatchesSent" stat
+   */
+  public int getMessageBatchesSent() {
+    return this._stats.getInt(_messageBatchesSentId);
+  }
+
+  /**
+   * Returns the current value of the "messagesSentInBatches" stat.
+   *
+   * @return the current value of the "messagesSentInBatches" stat
+   */
+  public int getMessagesSentInBatches() {
+    return this._stats.getInt(_messagesSentInBatchesId);
+  }
+
+  /**
+   * Returns the current value of the "messagesConflatedInWindow" stat.
+   *
+   * @return the current value of the "messagesConflatedInWindow" stat
+   */
+  public int getMessagesConflatedInWindow() {
+    return this._stats.getInt(_messagesConflatedInWindowId);
+  }
+
   /**
    * Increments the "messagesReceived" stat.
    */
@@ -355,6 +410,27 @@ public class CacheClientProxyStats implements MessageStats {
     this._stats.incLong(_messageProcessingTimeId, elapsed);
   }
 
+  /**
+   * Increments the "messagesProcessed", "messageProcessingTime", "messageBatchesSent",
+   * "messagesSentInBatches" and "messagesConflatedInWindow" stats.
+   *
+   * @param start The start of the batch (which is decremented from the current time to determine
+   *        the message processing time).
+   * @param messagesSent The number of messages written to the client in the batch
+   * @param messagesConflated The number of messages of the batch that were conflated away
+   */
+  public void endBatch(long start, int messagesSent, int messagesConflated) {
+    long ts = DistributionStats.getStatTime();
+
+    this._stats.incInt(_messagesProcessedId, messagesSent);
+    this._stats.incLong(_messageProcessingTimeId, ts - start);
+    this._stats.incInt(_messageBatchesSentId, 1);
+    this._stats.incInt(_messagesSentInBatchesId, messagesSent);
+    if (messagesConflated > 0) {
+      this._stats.incInt(_messagesConflatedInWindowId, messagesConflated);
+    }
+  }
+
   /**
    * Increments the "deltaMessagesSent" stats.
    */
@@ -38,7 +38,6 @@ import org.apache.geode.InvalidDeltaException;
 import org.apache.geode.StatisticDescriptor;
 import org.apache.geode.Statistics;
 import org.apache.geode.StatisticsType;
-import org.apache.geode.StatisticsTypeFactory;
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.EntryNotFoundException;
@@ -84,6 +83,7 @@ import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.LoggingThread;
 import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.SocketCreator;
 import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.sequencelog.EntryLogger;
@@ -359,7 +359,7 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
         }
       } catch (SocketException ignore) {
       }
-      cb = ServerConnection.allocateCommBuffer(bufSize, mySock);
+      cb = ServerConnection.allocateCommBuffer(getCommBufferPool(), bufSize, mySock);
 
       // create a "server" memberId we currently don't know much about the server.
       // Would be nice for it to send us its member id
@@ -440,13 +440,17 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
         synchronized (this.commBuffer) {
           if (!this.commBufferReleased) {
             this.commBufferReleased = true;
-            ServerConnection.releaseCommBuffer(this.commBuffer);
+            ServerConnection.releaseCommBuffer(getCommBufferPool(), this.commBuffer);
           }
         }
       }
     }
   }
 
+  private BufferPool getCommBufferPool() {
+    return ((InternalDistributedSystem) this.system).getCommBufferPool();
+  }
+
   public boolean isConnected() {
     return this.connected;
   }
@@ -1850,8 +1854,9 @@ public class CacheClientUpdater extends LoggingThread implements ClientUpdater,
     private static final int receivedBytesId;
 
     static {
-      StatisticsTypeFactory f = StatisticsTypeFactoryImpl.singleton();
-      type = f.createType("CacheClientUpdaterStats", "Statistics about incoming subscription data",
+      StatisticsTypeFactoryImpl f = StatisticsTypeFactoryImpl.singleton();
+      type = f.createCompactType("CacheClientUpdaterStats",
+          "Statistics about incoming subscription data",
           new StatisticDescriptor[] {
               f.createLongCounter("receivedBytes",
                   "Total number of bytes received from the server.", "bytes"),
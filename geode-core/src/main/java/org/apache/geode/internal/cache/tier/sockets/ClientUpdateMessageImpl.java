@@ -48,6 +48,7 @@ import org.apache.geode.internal.cache.tier.MessageType;
 import org.apache.geode.internal.cache.versions.VersionTag;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.size.Sizeable;
+import org.apache.geode.internal.util.BlobHelper;
 
 
 /**
@@ -144,6 +145,13 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
   private VersionTag versionTag;
 
+  /**
+   * The parts of the messages to the clients that are the same for every client of a version,
+   * serialized once and shared by the messages to all those clients. There is one entry per client
+   * version, linked from the most recently added one.
+   */
+  private transient volatile SerializedParts serializedParts;
+
   /* added up all constants and form single value */
   private static final int CONSTANT_MEMORY_OVERHEAD;
 
@@ -303,6 +311,14 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     return this.versionTag;
   }
 
+  /**
+   * Returns whether this message may be sent as a delta, which the client can only apply on top of
+   * the value of the previous update.
+   */
+  boolean hasDelta() {
+    return this.deltaBytes != null;
+  }
+
   @Override
   public boolean isCreate() {
     return this._operation == EnumListenerEvent.AFTER_CREATE;
@@ -834,6 +850,8 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     byte[] latestValue = p_latestValue;
     Message message = null;
     ClientProxyMembershipID proxyId = proxy.getProxyID();
+    // The key, callback argument, version tag and event id are only serialized once
+    SerializedParts parts = getSerializedParts(proxy, clientVersion);
     // Add CQ info.
     int cqMsgParts = 0;
     boolean clientHasCq = this._hasCqs && (this.getCqs(proxyId) != null);
@@ -853,21 +871,21 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message = getMessage(7 + cqMsgParts, clientVersion);
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
         message.addStringPart(this._regionName, true);
-        message.addStringOrObjPart(this._keyOfInterest);
+        parts.addKeyPart(message, this._keyOfInterest);
       } else {
         // Notify by subscription - send the value
         message = getMessage(9 + cqMsgParts, clientVersion);
         if (isCreate()) {
           message.setMessageType(MessageType.LOCAL_CREATE);
           message.addStringPart(this._regionName, true);
-          message.addStringOrObjPart(this._keyOfInterest);
+          parts.addKeyPart(message, this._keyOfInterest);
           message.addObjPart(Boolean.FALSE); // NO delta
           // Add the value (which has already been serialized)
           message.addRawPart(latestValue, (this._valueIsObject == 0x01));
         } else {
           message.setMessageType(MessageType.LOCAL_UPDATE);
           message.addStringPart(this._regionName, true);
-          message.addStringOrObjPart(this._keyOfInterest);
+          parts.addKeyPart(message, this._keyOfInterest);
 
           if (this.deltaBytes != null && !conflation && !proxy.isMarkerEnqueued()
               && !proxy.getRegionsWithEmptyDataPolicy().containsKey(_regionName)) {
@@ -888,11 +906,8 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         }
       }
 
-      message.addObjPart(this._callbackArgument);
-      if (this.versionTag != null) {
-        this.versionTag.setCanonicalIDs(proxy.getCache().getDistributionManager());
-      }
-      message.addObjPart(this.versionTag);
+      addObjPart(message, this._callbackArgument, parts.callbackArgument);
+      addObjPart(message, this.versionTag, parts.versionTag);
       message.addObjPart(Boolean.valueOf(isClientInterested(proxyId)));
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
@@ -915,9 +930,9 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
         message.setMessageType(MessageType.LOCAL_INVALIDATE);
       }
       message.addStringPart(this._regionName, true);
-      message.addStringOrObjPart(this._keyOfInterest);
-      message.addObjPart(this._callbackArgument);
-      message.addObjPart(this.versionTag);
+      parts.addKeyPart(message, this._keyOfInterest);
+      addObjPart(message, this._callbackArgument, parts.callbackArgument);
+      addObjPart(message, this.versionTag, parts.versionTag);
       message.addObjPart(Boolean.valueOf(isClientInterested(proxyId)));
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
@@ -933,7 +948,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.LOCAL_DESTROY_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      addObjPart(message, this._callbackArgument, parts.callbackArgument);
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
       if (clientHasCq) {
@@ -943,7 +958,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.CLEAR_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      addObjPart(message, this._callbackArgument, parts.callbackArgument);
       message.addObjPart(Boolean.valueOf(clientHasCq));
 
       if (clientHasCq) {
@@ -953,7 +968,7 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
       message = getMessage(4 + cqMsgParts, clientVersion);
       message.setMessageType(MessageType.INVALIDATE_REGION);
       message.addStringPart(this._regionName, true);
-      message.addObjPart(this._callbackArgument);
+      addObjPart(message, this._callbackArgument, parts.callbackArgument);
 
       // Add CQ status.
       message.addObjPart(Boolean.valueOf(clientHasCq));
@@ -968,10 +983,115 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
     message.setTransactionId(0);
     // Add the EventId since 5.1 (used to prevent duplicate events
     // received on the client side after a failover)
-    message.addObjPart(this._eventIdentifier);
+    addObjPart(message, this._eventIdentifier, parts.eventIdentifier);
     return message;
   }
 
+  /**
+   * Returns the parts of the messages to clients of the given version that are the same for every
+   * client, serializing them if this is the first message to a client of that version.
+   */
+  SerializedParts getSerializedParts(CacheClientProxy proxy, Version clientVersion)
+      throws IOException {
+    SerializedParts first = this.serializedParts;
+    for (SerializedParts parts = first; parts != null; parts = parts.next) {
+      if (parts.version.equals(clientVersion)) {
+        return parts;
+      }
+    }
+    if (this.versionTag != null) {
+      this.versionTag.setCanonicalIDs(proxy.getCache().getDistributionManager());
+    }
+    SerializedParts parts = new SerializedParts(clientVersion, this._keyOfInterest,
+        this._callbackArgument, this.versionTag, this._eventIdentifier, first);
+    // a racing dispatcher may replace this, which only costs serializing its parts again
+    this.serializedParts = parts;
+    return parts;
+  }
+
+  /**
+   * Adds an object part the way {@link Message#addObjPart(Object)} does, but with the bytes
+   * serialized for all the clients if there are any.
+   */
+  private static void addObjPart(Message message, Object object, byte[] serialized) {
+    if (serialized == null) {
+      message.addObjPart(object);
+    } else {
+      message.addRawPart(serialized, true);
+    }
+  }
+
+  /**
+   * The serialized forms of the parts of the messages to the clients of a version that do not
+   * depend on the client. The form is null for parts that the message adds without serializing
+   * them.
+   */
+  static class SerializedParts {
+    private final Version version;
+    private final byte[] key;
+    private final byte[] callbackArgument;
+    private final byte[] versionTag;
+    private final byte[] eventIdentifier;
+    private final SerializedParts next;
+
+    SerializedParts(Version version, Object key, Object callbackArgument, VersionTag versionTag,
+        EventID eventIdentifier, SerializedParts next) throws IOException {
+      this.version = version;
+      this.next = next;
+      // like Message.addStringOrObjPart, strings are sent as string parts
+      this.key = key == null || key instanceof String ? null : serialize(key, version);
+      this.callbackArgument = serializeObjPart(callbackArgument, version);
+      this.versionTag = serializeObjPart(versionTag, version);
+      this.eventIdentifier = serializeObjPart(eventIdentifier, version);
+    }
+
+    private static byte[] serializeObjPart(Object object, Version version) throws IOException {
+      // like Message.addObjPart, these are added without serializing them
+      if (object == null || object instanceof byte[] || object instanceof Boolean) {
+        return null;
+      }
+      return serialize(object, version);
+    }
+
+    private static byte[] serialize(Object object, Version version) throws IOException {
+      return BlobHelper.serializeToBlob(object,
+          version.equals(Version.CURRENT) ? null : version);
+    }
+
+    void addKeyPart(Message message, Object key) {
+      if (this.key == null) {
+        message.addStringOrObjPart(key);
+      } else {
+        message.addRawPart(this.key, true);
+      }
+    }
+
+    byte[] getKey() {
+      return this.key;
+    }
+
+    byte[] getEventIdentifier() {
+      return this.eventIdentifier;
+    }
+
+    /**
+     * Returns the size in bytes of these parts and of the parts of the other versions linked from
+     * them.
+     */
+    int getSizeInBytes() {
+      int size = 0;
+      for (SerializedParts parts = this; parts != null; parts = parts.next) {
+        size += Sizeable.PER_OBJECT_OVERHEAD + sizeOf(parts.key) + sizeOf(parts.callbackArgument)
+            + sizeOf(parts.versionTag) + sizeOf(parts.eventIdentifier);
+      }
+      return size;
+    }
+
+    private static int sizeOf(byte[] bytes) {
+      return bytes == null ? 0 : CachedDeserializableFactory.getByteSize(bytes);
+    }
+  }
+
   private static final ThreadLocal<Map<Integer, Message>> CACHED_MESSAGES =
       new ThreadLocal<Map<Integer, Message>>() {
         @Override
@@ -1395,6 +1515,11 @@ public class ClientUpdateMessageImpl implements ClientUpdateMessage, Sizeable, N
 
     // The sizeOf call gets the size of the input callback argument.
     size += sizeOf(getOriginalCallbackArgument());
+
+    SerializedParts parts = this.serializedParts;
+    if (parts != null) {
+      size += parts.getSizeInBytes();
+    }
     return size;
   }
 
@@ -34,6 +34,7 @@ import org.apache.geode.cache.client.ServerRefusedConnectionException;
 import org.apache.geode.cache.client.internal.ClientSideHandshakeImpl;
 import org.apache.geode.distributed.DistributedMember;
 import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.internal.ClassLoadUtil;
 import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.Version;
@@ -115,6 +116,39 @@ public abstract class Handshake {
 
   public static final String PRIVATE_KEY_PASSWD_PROP = "security-server-kspasswd";
 
+  /**
+   * The class name of the {@link org.apache.geode.compression.Compressor} that a client asks
+   * servers to compress large message parts with. Messages are not compressed if this is not set.
+   */
+  public static final String WIRE_COMPRESSOR_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "client.wire-compressor";
+
+  /**
+   * The size, in bytes, from which a client and its servers compress message parts.
+   */
+  public static final String WIRE_COMPRESSION_THRESHOLD_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "client.wire-compression-threshold";
+
+  /**
+   * The class name of the {@link org.apache.geode.compression.Compressor} that gateway senders ask
+   * receivers to compress the parts of their batches with. Gateway senders use the client's
+   * {@link #WIRE_COMPRESSOR_PROPERTY} if this is not set.
+   */
+  public static final String GATEWAY_WIRE_COMPRESSOR_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.wire-compressor";
+
+  /**
+   * The size, in bytes, from which gateway senders and receivers compress the parts of batches.
+   */
+  public static final String GATEWAY_WIRE_COMPRESSION_THRESHOLD_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.wire-compression-threshold";
+
+  /**
+   * Servers refuse to compress the messages of their clients if this is set to false.
+   */
+  public static final String ACCEPT_WIRE_COMPRESSION_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "cache-server.accept-wire-compression";
+
   /** @since GemFire 5.7 */
   public static final byte CONFLATION_DEFAULT = 0;
   /** @since GemFire 5.7 */
@@ -21,6 +21,7 @@ import java.io.OutputStream;
 import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
@@ -38,6 +39,7 @@ import org.apache.geode.internal.Version;
 import org.apache.geode.internal.cache.TXManagerImpl;
 import org.apache.geode.internal.cache.tier.MessageType;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.internal.offheap.annotations.Unretained;
 import org.apache.geode.internal.util.BlobHelper;
@@ -171,6 +173,15 @@ public class Message {
 
   private Version version;
 
+  /** the compression negotiated for the connection, or null if parts are not compressed */
+  private WireCompression compression;
+
+  /** the number of bytes written by the last send */
+  private int sentLength;
+
+  /** the number of bytes the last send would have written if no parts had been compressed */
+  private long uncompressedSentLength;
+
   /**
    * Creates a new message with the given number of parts
    */
@@ -206,6 +217,34 @@ public class Message {
     this.version = clientVersion;
   }
 
+  /**
+   * Sets the compression negotiated during the handshake of the connection this message is sent
+   * and received on. Large parts are compressed when sending, and compressed parts can only be
+   * received if this is set.
+   */
+  public void setCompression(WireCompression compression) {
+    this.compression = compression;
+  }
+
+  public WireCompression getCompression() {
+    return this.compression;
+  }
+
+  /**
+   * Returns the number of bytes, including the header, written by the last send of this message.
+   */
+  public int getSentLength() {
+    return this.sentLength;
+  }
+
+  /**
+   * Returns the number of bytes the last send of this message would have written if none of its
+   * parts had been compressed.
+   */
+  public long getUncompressedSentLength() {
+    return this.uncompressedSentLength;
+  }
+
   public void setMessageHasSecurePartFlag() {
     this.flags |= MESSAGE_HAS_SECURE_PART;
   }
@@ -561,6 +600,37 @@ public class Message {
    * Sends this message out on its socket.
    */
   void sendBytes(boolean clearMessage) throws IOException {
+    sendBytes(clearMessage, true);
+  }
+
+  /**
+   * Writes this message into the comm buffer after the messages already in it, without flushing
+   * the buffer unless it fills up. {@link #flushBatch()} must be called once the last message of
+   * the batch has been written.
+   */
+  void sendBatched() throws IOException {
+    sendBytes(true, false);
+  }
+
+  /**
+   * Writes the messages left in the comm buffer by {@link #sendBatched()} to the socket.
+   */
+  void flushBatch() throws IOException {
+    final ByteBuffer commBuffer = getCommBuffer();
+    if (commBuffer == null) {
+      throw new IOException("No buffer");
+    }
+    synchronized (commBuffer) {
+      if (commBuffer.position() != 0) {
+        flushBuffer();
+      }
+      if (this.socketChannel == null) {
+        this.outputStream.flush();
+      }
+    }
+  }
+
+  private void sendBytes(boolean clearMessage, boolean flush) throws IOException {
     if (this.serverConnection != null) {
       // Keep track of the fact that we are making progress.
       this.serverConnection.updateProcessingMessage();
@@ -575,13 +645,18 @@ public class Message {
       }
       synchronized (commBuffer) {
         long totalPartLen = 0;
+        long uncompressedPartLen = 0;
         long headerLen = 0;
         int partsToTransmit = this.numberOfParts;
+        Part[] parts = this.compression == null ? this.partsList : compressParts();
 
         for (int i = 0; i < this.numberOfParts; i++) {
-          Part part = this.partsList[i];
+          Part part = parts[i];
+          int partLen = part.getLength();
           headerLen += PART_HEADER_SIZE;
-          totalPartLen += part.getLength();
+          totalPartLen += partLen;
+          uncompressedPartLen +=
+              part == this.partsList[i] ? partLen : this.partsList[i].getLength();
         }
 
         Part securityPart = this.getSecurityPart();
@@ -606,10 +681,14 @@ public class Message {
               + ") exceeds gemfire.client.max-message-size setting (" + this.maxMessageSize + ")");
         }
 
-        commBuffer.clear();
+        if (flush) {
+          commBuffer.clear();
+        } else if (commBuffer.remaining() < FIXED_LENGTH) {
+          flushBuffer();
+        }
         packHeaderInfoForSending(msgLen, securityPart != null);
         for (int i = 0; i < partsToTransmit; i++) {
-          Part part = i == this.numberOfParts ? securityPart : this.partsList[i];
+          Part part = i == this.numberOfParts ? securityPart : parts[i];
 
           if (commBuffer.remaining() < PART_HEADER_SIZE) {
             flushBuffer();
@@ -632,11 +711,13 @@ public class Message {
             }
           }
         }
-        if (commBuffer.position() != 0) {
+        if (flush && commBuffer.position() != 0) {
           flushBuffer();
         }
+        this.sentLength = FIXED_LENGTH + msgLen;
+        this.uncompressedSentLength = this.sentLength + uncompressedPartLen - totalPartLen;
         this.messageModified = false;
-        if (this.socketChannel == null) {
+        if (flush && this.socketChannel == null) {
           this.outputStream.flush();
         }
       }
@@ -647,6 +728,24 @@ public class Message {
     }
   }
 
+  /**
+   * Returns the parts to send, with those that are worth compressing replaced by compressed parts.
+   * The parts of this message are left as they are so that it can be sent again.
+   */
+  private Part[] compressParts() {
+    Part[] parts = this.partsList;
+    for (int i = 0; i < this.numberOfParts; i++) {
+      Part compressed = this.partsList[i].compress(this.compression);
+      if (compressed != null) {
+        if (parts == this.partsList) {
+          parts = Arrays.copyOf(this.partsList, this.numberOfParts);
+        }
+        parts[i] = compressed;
+      }
+    }
+    return parts;
+  }
+
   void flushBuffer() throws IOException {
     final ByteBuffer cb = getCommBuffer();
     if (this.socketChannel != null) {
@@ -950,6 +1049,14 @@ public class Message {
           }
         }
       }
+      if ((partType & Part.COMPRESSED_FLAG) != 0) {
+        if (this.compression == null) {
+          throw new IOException("Received a compressed part on a connection that did not "
+              + "negotiate compression");
+        }
+        partBytes = this.compression.decompress(partBytes, maxMessageSize);
+        partType &= ~Part.COMPRESSED_FLAG;
+      }
       part.init(partBytes, partType);
     }
   }
@@ -1106,6 +1213,7 @@ public class Message {
     this.outputStream = null;
     this.cachedCommBuffer = null;
     this.messageStats = null;
+    this.compression = null;
   }
 
   /**
@@ -28,6 +28,7 @@ import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.DSCODE;
 import org.apache.geode.internal.HeapDataOutputStream;
 import org.apache.geode.internal.Version;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.offheap.AddressableMemoryManager;
 import org.apache.geode.internal.offheap.StoredObject;
 
@@ -55,6 +56,12 @@ public class Part {
   @Immutable
   private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
 
+  /**
+   * Set in the type code sent on the wire if the bytes of the part are compressed. Only used on
+   * connections that negotiated compression.
+   */
+  static final byte COMPRESSED_FLAG = 0x40;
+
   /**
    * The payload of this part. Could be null, a byte[] or a HeapDataOutputStream on the send side.
    * Could be null, or a byte[] on the receiver side.
@@ -150,6 +157,32 @@ public class Part {
     return this.typeCode;
   }
 
+  /**
+   * Returns a part holding the compressed bytes of this part, to be sent in its place.
+   *
+   * @return the compressed part, or null if this part is too small or does not compress. Off-heap
+   *         values are never compressed.
+   */
+  Part compress(WireCompression compression) {
+    byte[] bytes;
+    if (this.part instanceof byte[]) {
+      bytes = (byte[]) this.part;
+    } else if (this.part instanceof HeapDataOutputStream
+        && ((HeapDataOutputStream) this.part).size() >= compression.getThreshold()) {
+      bytes = ((HeapDataOutputStream) this.part).toByteArray();
+    } else {
+      return null;
+    }
+    byte[] compressed = compression.compress(bytes);
+    if (compressed == null) {
+      return null;
+    }
+    Part result = new Part();
+    result.part = compressed;
+    result.typeCode = (byte) (this.typeCode | COMPRESSED_FLAG);
+    return result;
+  }
+
   /**
    * Return the length of the part. The length is the number of bytes needed for its serialized
    * form.
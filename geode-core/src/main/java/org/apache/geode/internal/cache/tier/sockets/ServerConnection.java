@@ -35,7 +35,6 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -68,6 +67,8 @@ import org.apache.geode.internal.cache.tier.ServerSideHandshake;
 import org.apache.geode.internal.cache.tier.sockets.command.Default;
 import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.net.BufferPool;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.security.AuthorizeRequest;
 import org.apache.geode.internal.security.AuthorizeRequestPP;
 import org.apache.geode.internal.security.SecurityService;
@@ -113,53 +114,36 @@ public abstract class ServerConnection implements Runnable {
 
   private final ServerSideHandshakeFactory handshakeFactory = new ServerSideHandshakeFactory();
 
-  // The key is the size of each ByteBuffer. The value is a queue of byte buffers all of that size.
-  @MakeNotStatic
-  private static final ConcurrentHashMap<Integer, LinkedBlockingQueue<ByteBuffer>> commBufferMap =
-      new ConcurrentHashMap<>(4, 0.75f, 1);
-
   private ServerConnectionCollection serverConnectionCollection;
 
   private final ProcessingMessageTimer processingMessageTimer = new ProcessingMessageTimer();
 
-  public static ByteBuffer allocateCommBuffer(int size, Socket sock) {
+  /**
+   * Allocates a comm buffer for the given socket. Direct buffers are taken from
+   * {@code bufferPool}, which is normally the comm buffer pool of the distributed system.
+   */
+  public static ByteBuffer allocateCommBuffer(BufferPool bufferPool, int size, Socket sock) {
     // I expect that size will almost always be the same value
     if (sock.getChannel() == null) {
       // The socket this commBuffer will be used for is old IO (it has no channel).
       // So the commBuffer should be heap based.
       return ByteBuffer.allocate(size);
     }
-    LinkedBlockingQueue<ByteBuffer> q = commBufferMap.get(size);
-    ByteBuffer result = null;
-    if (q != null) {
-      result = q.poll();
-    }
-    if (result == null) {
-      result = ByteBuffer.allocateDirect(size);
-    } else {
-      result.position(0);
-      result.limit(result.capacity());
-    }
-    return result;
+    return allocateDirectCommBuffer(bufferPool, size);
   }
 
-  public static void releaseCommBuffer(ByteBuffer bb) {
-    if (bb != null && bb.isDirect()) {
-      LinkedBlockingQueue<ByteBuffer> q = commBufferMap.get(bb.capacity());
-      if (q == null) {
-        q = new LinkedBlockingQueue<>();
-        LinkedBlockingQueue<ByteBuffer> oldQ = commBufferMap.putIfAbsent(bb.capacity(), q);
-        if (oldQ != null) {
-          q = oldQ;
-        }
-      }
-      q.offer(bb);
-    }
+  static ByteBuffer allocateDirectCommBuffer(BufferPool bufferPool, int size) {
+    ByteBuffer result = bufferPool.acquireDirectBuffer(size);
+    result.clear();
+    return result;
   }
 
-  public static void emptyCommBufferPool() {
-    for (LinkedBlockingQueue<ByteBuffer> q : commBufferMap.values()) {
-      q.clear();
+  /**
+   * Returns a comm buffer to the pool it was allocated from. Heap buffers and null are ignored.
+   */
+  public static void releaseCommBuffer(BufferPool bufferPool, ByteBuffer bb) {
+    if (bb != null && bb.isDirect()) {
+      bufferPool.releaseDirectBuffer(bb);
     }
   }
 
@@ -463,6 +447,10 @@ public abstract class ServerConnection implements Runnable {
     return crHelper.getCache();
   }
 
+  private BufferPool getCommBufferPool() {
+    return getCache().getInternalDistributedSystem().getCommBufferPool();
+  }
+
   public ServerSideHandshake getHandshake() {
     return handshake;
   }
@@ -481,6 +469,18 @@ public abstract class ServerConnection implements Runnable {
     executeFunctionResponseMessage.setVersion(v);
     registerInterestResponseMessage.setVersion(v);
     keySetResponseMessage.setVersion(v);
+
+    WireCompression compression = handshake.getWireCompression();
+    replyMessage.setCompression(compression);
+    requestMessage.setCompression(compression);
+    responseMessage.setCompression(compression);
+    errorMessage.setCompression(compression);
+
+    queryResponseMessage.setCompression(compression);
+    chunkedResponseMessage.setCompression(compression);
+    executeFunctionResponseMessage.setCompression(compression);
+    registerInterestResponseMessage.setCompression(compression);
+    keySetResponseMessage.setCompression(compression);
   }
 
   void setRequestMessage(Message requestMessage) {
@@ -1371,7 +1371,7 @@ public abstract class ServerConnection implements Runnable {
         // one per connection.
         commBuffer = null;
       } else {
-        commBuffer = allocateCommBuffer(socketBufferSize, s);
+        commBuffer = allocateCommBuffer(getCommBufferPool(), socketBufferSize, s);
       }
       requestMessage.setComms(this, theSocket, commBuffer, messageStats);
       replyMessage.setComms(this, theSocket, commBuffer, messageStats);
@@ -1444,7 +1444,7 @@ public abstract class ServerConnection implements Runnable {
     ByteBuffer byteBuffer = commBuffer;
     if (byteBuffer != null) {
       commBuffer = null;
-      releaseCommBuffer(byteBuffer);
+      releaseCommBuffer(getCommBufferPool(), byteBuffer);
     }
   }
 
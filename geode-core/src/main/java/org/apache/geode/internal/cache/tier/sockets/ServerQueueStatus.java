@@ -15,6 +15,7 @@
 package org.apache.geode.internal.cache.tier.sockets;
 
 import org.apache.geode.distributed.DistributedMember;
+import org.apache.geode.internal.net.WireCompression;
 
 /**
  * Status of HARegionQueue on server when the client is sonnecting/reconnecting. This holds the
@@ -38,6 +39,8 @@ public class ServerQueueStatus {
   private DistributedMember memberId = null;
   /** size of the PDX registry on the server. Currently only set for gateways */
   private int pdxSize = 0;
+  /** the compression the server accepted for the connection, or null if there is none */
+  private WireCompression wireCompression = null;
 
   /**
    * Constructor Called when connectionsPerServer is nto equal to 0
@@ -129,6 +132,14 @@ public class ServerQueueStatus {
     this.pdxSize = pdxSize;
   }
 
+  public WireCompression getWireCompression() {
+    return wireCompression;
+  }
+
+  public void setWireCompression(WireCompression wireCompression) {
+    this.wireCompression = wireCompression;
+  }
+
   /**
    * The member id of the server we connected to.
    *
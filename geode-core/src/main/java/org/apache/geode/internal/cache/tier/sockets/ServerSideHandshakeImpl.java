@@ -37,6 +37,7 @@ import org.apache.geode.internal.VersionedDataStream;
 import org.apache.geode.internal.cache.tier.CommunicationMode;
 import org.apache.geode.internal.cache.tier.Encryptor;
 import org.apache.geode.internal.cache.tier.ServerSideHandshake;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.pdx.internal.PeerTypeRegistration;
 import org.apache.geode.security.AuthenticationRequiredException;
@@ -45,8 +46,15 @@ public class ServerSideHandshakeImpl extends Handshake implements ServerSideHand
   @Immutable
   private static final Version currentServerVersion =
       ServerSideHandshakeFactory.currentServerVersion;
+
+  private static final boolean ACCEPT_WIRE_COMPRESSION =
+      Boolean.parseBoolean(System.getProperty(ACCEPT_WIRE_COMPRESSION_PROPERTY, "true"));
+
   private Version clientVersion;
 
+  /** the compression accepted for the client's messages, or null if they are not compressed */
+  private WireCompression wireCompression;
+
   private final byte replyCode;
 
   @Override
@@ -98,6 +106,10 @@ public class ServerSideHandshakeImpl extends Handshake implements ServerSideHand
         } else {
           setClientConflation(dataInputStream.readByte());
         }
+        if (clientVersion.compareTo(Version.GEODE_1_10_0) >= 0) {
+          this.wireCompression =
+              WireCompression.readRequest(dataInputStream, ACCEPT_WIRE_COMPRESSION, null);
+        }
         if (this.clientVersion.compareTo(Version.GFE_65) < 0 || communicationMode.isWAN()) {
           this.credentials =
               readCredentials(dataInputStream, dataOutputStream, sys, this.securityService);
@@ -127,6 +139,11 @@ public class ServerSideHandshakeImpl extends Handshake implements ServerSideHand
     return this.clientVersion;
   }
 
+  @Override
+  public WireCompression getWireCompression() {
+    return this.wireCompression;
+  }
+
   @Override
   public void handshakeWithClient(OutputStream out, InputStream in, byte endpointType,
       int queueSize, CommunicationMode communicationMode, Principal principal) throws IOException {
@@ -194,6 +211,11 @@ public class ServerSideHandshakeImpl extends Handshake implements ServerSideHand
       dos.writeInt(pdxSize);
     }
 
+    // Tell the client whether its messages will be compressed
+    if (this.clientVersion.compareTo(Version.GEODE_1_10_0) >= 0) {
+      dos.writeBoolean(this.wireCompression != null);
+    }
+
     // Flush
     dos.flush();
   }
@@ -15,17 +15,29 @@
 package org.apache.geode.internal.cache.tier.sockets.command;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.geode.CancelException;
+import org.apache.geode.InternalGemFireException;
 import org.apache.geode.annotations.Immutable;
 import org.apache.geode.cache.EntryNotFoundException;
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.operations.DestroyOperationContext;
 import org.apache.geode.cache.operations.PutOperationContext;
 import org.apache.geode.cache.wan.GatewayReceiver;
 import org.apache.geode.distributed.DistributedSystem;
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.DistributionStats;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.internal.Version;
@@ -34,6 +46,10 @@ import org.apache.geode.internal.cache.EventID;
 import org.apache.geode.internal.cache.EventIDHolder;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionHelper;
+import org.apache.geode.internal.cache.ha.ThreadIdentifier;
+import org.apache.geode.internal.cache.tier.Acceptor;
 import org.apache.geode.internal.cache.tier.CachedRegionHelper;
 import org.apache.geode.internal.cache.tier.Command;
 import org.apache.geode.internal.cache.tier.MessageType;
@@ -59,6 +75,17 @@ public class GatewayReceiverCommand extends BaseCommand {
   @Immutable
   private static final GatewayReceiverCommand SINGLETON = new GatewayReceiverCommand();
 
+  /**
+   * The number of threads that apply the events of a batch. The default of 1 applies the events of
+   * each batch one at a time on the thread that received it. With more threads the events are
+   * split into sub-batches by the bucket they belong to and the thread that originated them, and
+   * the sub-batches are applied in parallel. The batch is acknowledged once all of its sub-batches
+   * have been applied. Each gateway receiver has a pool of this many threads, see
+   * {@link Acceptor#getGatewayReceiverApplyPool()}.
+   */
+  public static final int APPLY_THREADS =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "GatewayReceiver.APPLY_THREADS", 1);
+
   public static Command getCommand() {
     return SINGLETON;
   }
@@ -144,15 +171,303 @@ public class GatewayReceiverCommand extends BaseCommand {
 
     boolean removeOnException = clientMessage.getPart(partNumber++).getSerializedForm()[0] == 1;
 
-    // event received in batch also have PDX events at the start of the batch,to
-    // represent correct index on which the exception occurred, number of PDX
-    // events need to be subtracted.
-    int indexWithoutPDXEvent = -1; //
-    Part valuePart = null;
-    Throwable fatalException = null;
-    List<BatchException70> exceptions = new ArrayList<>();
+    // Events received in a batch also have PDX events at the start of the batch. To represent the
+    // correct index on which an exception occurred, the number of PDX events needs to be
+    // subtracted.
+    int[] eventPartNumbers = new int[numberOfEvents];
+    int[] eventIndexes = new int[numberOfEvents];
+    List<Integer> pdxEvents = new ArrayList<>();
+    List<Integer> events = new ArrayList<>(numberOfEvents);
     for (int i = 0; i < numberOfEvents; i++) {
-      indexWithoutPDXEvent++;
+      eventPartNumbers[i] = partNumber;
+      String regionName = clientMessage.getPart(partNumber + 2).getCachedString();
+      if (PeerTypeRegistration.REGION_FULL_PATH.equals(regionName)) {
+        pdxEvents.add(i);
+      } else {
+        events.add(i);
+      }
+      eventIndexes[i] = i - pdxEvents.size();
+      partNumber += getNumberOfEventParts(clientMessage, partNumber);
+    }
+    ReceivedBatch batch = new ReceivedBatch(clientMessage, serverConnection, stats, batchId,
+        numberOfEvents, dsid, removeOnException, eventPartNumbers, eventIndexes);
+
+    Throwable fatalException;
+    List<BatchException70> exceptions = new ArrayList<>();
+    try {
+      // The PDX types have to be known before the events that use them are applied
+      fatalException = applyEvents(batch, pdxEvents, exceptions);
+      if (fatalException == null) {
+        ExecutorService applyPool = serverConnection.getAcceptor().getGatewayReceiverApplyPool();
+        List<List<Integer>> subBatches = applyPool == null ? Collections.singletonList(events)
+            : splitIntoSubBatches(crHelper.getCacheForGatewayCommand(), batch, events);
+        if (subBatches.size() > 1) {
+          fatalException = applySubBatches(applyPool, batch, subBatches, exceptions);
+        } else {
+          fatalException = applyEvents(batch, events, exceptions);
+        }
+      }
+    } catch (CancelException e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "{} ignoring message of type {} from client {} because shutdown occurred during message processing.",
+            serverConnection.getName(), MessageType.getString(clientMessage.getMessageType()),
+            serverConnection.getProxyID());
+      }
+      serverConnection.setFlagProcessMessagesAsFalse();
+      serverConnection.setClientDisconnectedException(e);
+      return;
+    } finally {
+      batch.updateModificationInfo();
+    }
+
+    {
+      long oldStart = start;
+      start = DistributionStats.getStatTime();
+      stats.incProcessBatchTime(start - oldStart);
+    }
+    if (fatalException != null) {
+      serverConnection.incrementLatestBatchIdReplied(batchId);
+      writeFatalException(clientMessage, fatalException, serverConnection, batchId);
+      serverConnection.setAsTrue(RESPONDED);
+    } else if (!exceptions.isEmpty()) {
+      serverConnection.incrementLatestBatchIdReplied(batchId);
+      writeBatchException(clientMessage, exceptions, serverConnection, batchId);
+      serverConnection.setAsTrue(RESPONDED);
+    } else {
+      // Increment the batch id unless the received batch id is -1 (a failover
+      // batch)
+      serverConnection.incrementLatestBatchIdReplied(batchId);
+
+      writeReply(clientMessage, serverConnection, batchId, numberOfEvents);
+      serverConnection.setAsTrue(RESPONDED);
+      stats.incWriteProcessBatchResponseTime(DistributionStats.getStatTime() - start);
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "{}: Sent process batch normal response for batch {} containing {} events ({} bytes) with {} acknowledgement on {}",
+            serverConnection.getName(), batchId, numberOfEvents, clientMessage.getPayloadLength(),
+            "normal", serverConnection.getSocketString());
+      }
+    }
+  }
+
+  /**
+   * Returns the number of message parts of the event that starts at the given part.
+   */
+  private int getNumberOfEventParts(Message clientMessage, int partNumber) {
+    switch (clientMessage.getPart(partNumber).getInt()) {
+      case 0: // Create
+      case 1: // Update
+        return clientMessage.getPart(partNumber + 6).getSerializedForm()[0] == 0x01 ? 9 : 8;
+      case 2: // Destroy
+      case 3: // Update Time-stamp for a RegionEntry
+        return clientMessage.getPart(partNumber + 5).getSerializedForm()[0] == 0x01 ? 8 : 7;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Splits the given events into sub-batches that may be applied in parallel. All the events of a
+   * bucket of a partitioned region without a partition resolver end up in the same sub-batch, as
+   * do all the events of any other region and all the events originated by the same thread, so
+   * that they are still applied in the order they were sent. A serial sender sends the events of
+   * a thread in order across regions and buckets, which keeps them in order.
+   */
+  private List<List<Integer>> splitIntoSubBatches(InternalCache cache, ReceivedBatch batch,
+      List<Integer> events) {
+    if (events.size() <= 1) {
+      return Collections.singletonList(events);
+    }
+    int[] subBatches = new int[batch.numberOfEvents];
+    Object[] threads = new Object[batch.numberOfEvents];
+    for (int event : events) {
+      int partNumber = batch.eventPartNumbers[event];
+      subBatches[event] = getSubBatch(cache, batch.clientMessage, partNumber);
+      threads[event] = getOriginatingThread(batch, partNumber);
+    }
+    return groupSubBatches(events, subBatches, threads, APPLY_THREADS);
+  }
+
+  /**
+   * Groups the given events into the given number of sub-batches, keeping the order of the events
+   * in each sub-batch. Sub-batches that have events originated by the same thread are merged.
+   *
+   * @param subBatches the sub-batch of each event
+   * @param threads the thread that originated each event, or null if it is not known
+   * @return the non-empty sub-batches
+   */
+  static List<List<Integer>> groupSubBatches(List<Integer> events, int[] subBatches,
+      Object[] threads, int subBatchCount) {
+    int[] mergedInto = new int[subBatchCount];
+    for (int i = 0; i < subBatchCount; i++) {
+      mergedInto[i] = i;
+    }
+    Map<Object, Integer> threadSubBatches = new HashMap<>();
+    for (int event : events) {
+      if (threads[event] != null) {
+        Integer threadSubBatch = threadSubBatches.putIfAbsent(threads[event], subBatches[event]);
+        if (threadSubBatch != null) {
+          int from = findSubBatch(mergedInto, subBatches[event]);
+          int into = findSubBatch(mergedInto, threadSubBatch);
+          mergedInto[from] = into;
+        }
+      }
+    }
+    List<List<Integer>> result = new ArrayList<>(subBatchCount);
+    for (int i = 0; i < subBatchCount; i++) {
+      result.add(new ArrayList<>());
+    }
+    for (int event : events) {
+      result.get(findSubBatch(mergedInto, subBatches[event])).add(event);
+    }
+    result.removeIf(List::isEmpty);
+    return result;
+  }
+
+  private static int findSubBatch(int[] mergedInto, int subBatch) {
+    while (mergedInto[subBatch] != subBatch) {
+      subBatch = mergedInto[subBatch];
+    }
+    return subBatch;
+  }
+
+  /**
+   * Returns the thread that originated the event that starts at the given part, or null if its
+   * event id can't be read. The failure is handled when the event is applied.
+   */
+  private ThreadIdentifier getOriginatingThread(ReceivedBatch batch, int partNumber) {
+    Part eventIdPart = batch.clientMessage.getPart(partNumber + 3);
+    eventIdPart.setVersion(batch.serverConnection.getClientVersion());
+    try {
+      EventID eventId = (EventID) eventIdPart.getObject();
+      return new ThreadIdentifier(eventId.getMembershipID(), eventId.getThreadID());
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private int getSubBatch(InternalCache cache, Message clientMessage, int partNumber) {
+    String regionName = clientMessage.getPart(partNumber + 2).getCachedString();
+    if (regionName == null) {
+      return 0;
+    }
+    Region<?, ?> region = cache.getRegion(regionName);
+    if (region instanceof PartitionedRegion) {
+      PartitionedRegion partitionedRegion = (PartitionedRegion) region;
+      if (partitionedRegion.getPartitionResolver() == null
+          && !partitionedRegion.isFixedPartitionedRegion()) {
+        Object key;
+        try {
+          key = clientMessage.getPart(partNumber + 4).getStringOrObject();
+        } catch (Exception e) {
+          // The exception is handled when the event is applied
+          key = null;
+        }
+        if (key != null) {
+          return PartitionedRegionHelper.getHashKey(partitionedRegion, key) % APPLY_THREADS;
+        }
+      }
+    }
+    return Math.floorMod(regionName.hashCode(), APPLY_THREADS);
+  }
+
+  /**
+   * Applies each sub-batch on a thread of the given pool, using the current thread for the first
+   * one, and waits for all of them to complete. A sub-batch that the pool rejects because the
+   * receiver is stopping is applied on the current thread.
+   *
+   * @return the exception that stops this receiver from processing any more events, or null
+   */
+  private Throwable applySubBatches(ExecutorService applyPool, ReceivedBatch batch,
+      List<List<Integer>> subBatches, List<BatchException70> exceptions)
+      throws IOException, InterruptedException {
+    List<Future<Throwable>> futures = new ArrayList<>(subBatches.size() - 1);
+    List<List<BatchException70>> subBatchExceptions = new ArrayList<>(subBatches.size() - 1);
+    List<Integer> rejectedEvents = new ArrayList<>();
+    for (List<Integer> subBatch : subBatches.subList(1, subBatches.size())) {
+      List<BatchException70> eventExceptions = new ArrayList<>();
+      try {
+        futures.add(applyPool.submit(() -> applySubBatch(batch, subBatch, eventExceptions)));
+        subBatchExceptions.add(eventExceptions);
+      } catch (RejectedExecutionException e) {
+        rejectedEvents.addAll(subBatch);
+      }
+    }
+    Throwable fatalException = null;
+    Throwable failure = null;
+    try {
+      fatalException = applySubBatch(batch, subBatches.get(0), exceptions);
+      if (fatalException == null && !rejectedEvents.isEmpty()) {
+        fatalException = applySubBatch(batch, rejectedEvents, exceptions);
+      }
+    } catch (RuntimeException | Error | IOException | InterruptedException e) {
+      failure = e;
+    }
+    // wait for every sub-batch, even if one fails, so that none is still running once the batch is
+    // replied to
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        Throwable subBatchFatalException = futures.get(i).get();
+        if (fatalException == null) {
+          fatalException = subBatchFatalException;
+        }
+        exceptions.addAll(subBatchExceptions.get(i));
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      } catch (InterruptedException e) {
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure instanceof Error) {
+      throw (Error) failure;
+    } else if (failure instanceof IOException) {
+      throw (IOException) failure;
+    } else if (failure instanceof InterruptedException) {
+      throw (InterruptedException) failure;
+    } else if (failure != null) {
+      throw new InternalGemFireException(failure);
+    }
+    exceptions.sort(Comparator.comparingInt(BatchException70::getIndex));
+    return fatalException;
+  }
+
+  private Throwable applySubBatch(ReceivedBatch batch, List<Integer> events,
+      List<BatchException70> exceptions) throws InterruptedException, InterruptedIOException {
+    long start = batch.stats.startTime();
+    try {
+      return applyEvents(batch, events, exceptions);
+    } finally {
+      batch.stats.endSubBatchApply(start);
+    }
+  }
+
+  /**
+   * Applies the given events of a batch in order, adding an exception for each event that could
+   * not be applied.
+   *
+   * @return the exception that stops this receiver from processing any more events, or null
+   */
+  private Throwable applyEvents(ReceivedBatch batch, List<Integer> events,
+      List<BatchException70> exceptions) throws InterruptedException, InterruptedIOException {
+    Message clientMessage = batch.clientMessage;
+    ServerConnection serverConnection = batch.serverConnection;
+    CachedRegionHelper crHelper = serverConnection.getCachedRegionHelper();
+    GatewayReceiverStats stats = batch.stats;
+    int batchId = batch.batchId;
+    int numberOfEvents = batch.numberOfEvents;
+    int dsid = batch.dsid;
+    boolean removeOnException = batch.removeOnException;
+    for (int event : events) {
+      int partNumber = batch.eventPartNumbers[event];
+      int indexWithoutPDXEvent = batch.eventIndexes[event];
+      Part valuePart = null;
 
       Part actionTypePart = clientMessage.getPart(partNumber);
       int actionType = actionTypePart.getInt();
@@ -163,10 +478,6 @@ public class GatewayReceiverCommand extends BaseCommand {
         boolean isPdxEvent = false;
         boolean retry = true;
         do {
-          if (isPdxEvent) {
-            // This is a retried event. Reset the PDX event index.
-            indexWithoutPDXEvent++;
-          }
           isPdxEvent = false;
           Part possibleDuplicatePart = clientMessage.getPart(partNumber + 1);
           byte[] possibleDuplicatePartBytes;
@@ -190,7 +501,6 @@ public class GatewayReceiverCommand extends BaseCommand {
           Part regionNamePart = clientMessage.getPart(partNumber + 2);
           regionName = regionNamePart.getCachedString();
           if (regionName.equals(PeerTypeRegistration.REGION_FULL_PATH)) {
-            indexWithoutPDXEvent--;
             isPdxEvent = true;
           }
 
@@ -330,7 +640,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                   }
 
                   if (result || clientEvent.isConcurrencyConflict()) {
-                    serverConnection.setModificationInfo(true, regionName, key);
+                    batch.setModified(event, regionName, key);
                     stats.incCreateRequest();
                     retry = false;
                   } else {
@@ -430,7 +740,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                         serverConnection.getProxyID(), false, clientEvent);
                   }
                   if (result || clientEvent.isConcurrencyConflict()) {
-                    serverConnection.setModificationInfo(true, regionName, key);
+                    batch.setModified(event, regionName, key);
                     stats.incUpdateRequest();
                     retry = false;
                   } else {
@@ -520,7 +830,7 @@ public class GatewayReceiverCommand extends BaseCommand {
                   try {
                     region.basicBridgeDestroy(key, callbackArg, serverConnection.getProxyID(),
                         false, clientEvent);
-                    serverConnection.setModificationInfo(true, regionName, key);
+                    batch.setModified(event, regionName, key);
                   } catch (EntryNotFoundException e) {
                     logger.info("{}: during batch destroy no entry was found for key {}",
                         serverConnection.getName(), key);
@@ -623,27 +933,16 @@ public class GatewayReceiverCommand extends BaseCommand {
               stats.incUnknowsOperationsReceived();
           }
         } while (retry);
-      } catch (CancelException e) {
-        if (logger.isDebugEnabled()) {
-          logger.debug(
-              "{} ignoring message of type {} from client {} because shutdown occurred during message processing.",
-              serverConnection.getName(), MessageType.getString(clientMessage.getMessageType()),
-              serverConnection.getProxyID());
-        }
-        serverConnection.setFlagProcessMessagesAsFalse();
-        serverConnection.setClientDisconnectedException(e);
-        return;
       } catch (Exception e) {
         // If an interrupted exception is thrown , rethrow it
         checkForInterrupt(serverConnection, e);
 
         // If we have an issue with the PDX registry, stop processing more data
         if (e.getCause() instanceof PdxRegistryMismatchException) {
-          fatalException = e.getCause();
           logger.fatal(String.format(
               "This gateway receiver has received a PDX type from %s that does match the existing PDX type. This gateway receiver will not process any more events, in order to prevent receiving objects which may not be deserializable.",
               serverConnection.getMembershipID()), e.getCause());
-          break;
+          return e.getCause();
         }
 
         // Increment the batch id unless the received batch id is -1 (a
@@ -656,58 +955,9 @@ public class GatewayReceiverCommand extends BaseCommand {
         BatchException70 be =
             new BatchException70(exceptionMessage, e, indexWithoutPDXEvent, batchId);
         exceptions.add(be);
-      } finally {
-        // Increment the partNumber
-        if (actionType == 0 /* create */ || actionType == 1 /* update */) {
-          if (callbackArgExists) {
-            partNumber += 9;
-          } else {
-            partNumber += 8;
-          }
-        } else if (actionType == 2 /* destroy */) {
-          if (callbackArgExists) {
-            partNumber += 8;
-          } else {
-            partNumber += 7;
-          }
-        } else if (actionType == 3 /* update-version */) {
-          if (callbackArgExists) {
-            partNumber += 8;
-          } else {
-            partNumber += 7;
-          }
-        }
-      }
-    }
-
-    {
-      long oldStart = start;
-      start = DistributionStats.getStatTime();
-      stats.incProcessBatchTime(start - oldStart);
-    }
-    if (fatalException != null) {
-      serverConnection.incrementLatestBatchIdReplied(batchId);
-      writeFatalException(clientMessage, fatalException, serverConnection, batchId);
-      serverConnection.setAsTrue(RESPONDED);
-    } else if (!exceptions.isEmpty()) {
-      serverConnection.incrementLatestBatchIdReplied(batchId);
-      writeBatchException(clientMessage, exceptions, serverConnection, batchId);
-      serverConnection.setAsTrue(RESPONDED);
-    } else {
-      // Increment the batch id unless the received batch id is -1 (a failover
-      // batch)
-      serverConnection.incrementLatestBatchIdReplied(batchId);
-
-      writeReply(clientMessage, serverConnection, batchId, numberOfEvents);
-      serverConnection.setAsTrue(RESPONDED);
-      stats.incWriteProcessBatchResponseTime(DistributionStats.getStatTime() - start);
-      if (logger.isDebugEnabled()) {
-        logger.debug(
-            "{}: Sent process batch normal response for batch {} containing {} events ({} bytes) with {} acknowledgement on {}",
-            serverConnection.getName(), batchId, numberOfEvents, clientMessage.getPayloadLength(),
-            "normal", serverConnection.getSocketString());
       }
     }
+    return null;
   }
 
   private boolean addPdxType(CachedRegionHelper crHelper, Object key, Object value)
@@ -815,4 +1065,63 @@ public class GatewayReceiverCommand extends BaseCommand {
     logger.warn(servConn.getName() + ": Wrote batch exception: ",
         exception);
   }
+
+  /**
+   * A batch of events received from a gateway sender, with the first message part and the index
+   * without PDX events of each of its events. The events that modified an entry are recorded by
+   * the threads that apply them, and the connection is told about the last of them by the thread
+   * that received the batch.
+   */
+  private static class ReceivedBatch {
+    private final Message clientMessage;
+    private final ServerConnection serverConnection;
+    private final GatewayReceiverStats stats;
+    private final int batchId;
+    private final int numberOfEvents;
+    private final int dsid;
+    private final boolean removeOnException;
+    private final int[] eventPartNumbers;
+    private final int[] eventIndexes;
+    private final String[] modifiedRegionNames;
+    private final Object[] modifiedKeys;
+
+    private ReceivedBatch(Message clientMessage, ServerConnection serverConnection,
+        GatewayReceiverStats stats, int batchId, int numberOfEvents, int dsid,
+        boolean removeOnException, int[] eventPartNumbers, int[] eventIndexes) {
+      this.clientMessage = clientMessage;
+      this.serverConnection = serverConnection;
+      this.stats = stats;
+      this.batchId = batchId;
+      this.numberOfEvents = numberOfEvents;
+      this.dsid = dsid;
+      this.removeOnException = removeOnException;
+      this.eventPartNumbers = eventPartNumbers;
+      this.eventIndexes = eventIndexes;
+      this.modifiedRegionNames = new String[numberOfEvents];
+      this.modifiedKeys = new Object[numberOfEvents];
+    }
+
+    /**
+     * Records that the given event modified an entry. Each event is only applied by one thread.
+     */
+    private void setModified(int event, String regionName, Object key) {
+      this.modifiedRegionNames[event] = regionName;
+      this.modifiedKeys[event] = key;
+    }
+
+    /**
+     * Sets the modification info of the connection to the last event of the batch that modified an
+     * entry, as if the events had been applied in order. Only the thread that received the batch
+     * may call this, after all the sub-batches are done.
+     */
+    private void updateModificationInfo() {
+      for (int event = this.numberOfEvents - 1; event >= 0; event--) {
+        if (this.modifiedRegionNames[event] != null) {
+          this.serverConnection.setModificationInfo(true, this.modifiedRegionNames[event],
+              this.modifiedKeys[event]);
+          return;
+        }
+      }
+    }
+  }
 }
@@ -51,6 +51,7 @@ import org.apache.geode.distributed.GatewayCancelledException;
 import org.apache.geode.distributed.internal.DistributionAdvisee;
 import org.apache.geode.distributed.internal.DistributionAdvisor;
 import org.apache.geode.distributed.internal.DistributionAdvisor.Profile;
+import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.DistributionManager;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.distributed.internal.ResourceEvent;
@@ -73,6 +74,7 @@ import org.apache.geode.internal.cache.wan.serial.ConcurrentSerialGatewaySenderE
 import org.apache.geode.internal.cache.xmlcache.CacheCreation;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.logging.LoggingThread;
+import org.apache.geode.internal.offheap.MemoryAllocator;
 import org.apache.geode.internal.offheap.Releasable;
 import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.offheap.annotations.Retained;
@@ -196,6 +198,21 @@ public abstract class AbstractGatewaySender implements InternalGatewaySender, Di
   public static int TOKEN_TIMEOUT =
       Integer.getInteger("GatewaySender.TOKEN_TIMEOUT", 120000).intValue();
 
+  /**
+   * Whether the serialized values of queued events are stored in off-heap memory, if this member
+   * has off-heap memory, so that a queue growing during a long outage of the remote site keeps
+   * only the rest of each event on the java heap.
+   */
+  public static final boolean OFF_HEAP_QUEUE_VALUES =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.OFF_HEAP_QUEUE_VALUES");
+
+  /**
+   * The percentage of off-heap memory in use above which the values of queued events stay on the
+   * java heap, so that the queues do not take the off-heap memory that the regions need.
+   */
+  public static final int OFF_HEAP_QUEUE_VALUES_MAX_PERCENTAGE = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.OFF_HEAP_QUEUE_VALUES_MAX_PERCENTAGE", 70);
+
   /**
    * The name of the DistributedLockService used when accessing the GatewaySender's meta data
    * region.
@@ -303,6 +320,22 @@ public abstract class AbstractGatewaySender implements InternalGatewaySender, Di
     return this.cache;
   }
 
+  /**
+   * Moves the serialized value of an event that is being put into this sender's queue into
+   * off-heap memory if {@link #OFF_HEAP_QUEUE_VALUES} is set and this member has off-heap memory.
+   *
+   * @param value the value being put into a queue region
+   */
+  public void moveQueuedValueOffHeap(Object value) {
+    if (OFF_HEAP_QUEUE_VALUES && value instanceof GatewaySenderEventImpl) {
+      MemoryAllocator allocator = this.cache.getOffHeapStore();
+      if (allocator != null) {
+        ((GatewaySenderEventImpl) value).moveValueOffHeap(allocator,
+            allocator.getTotalMemory() / 100 * OFF_HEAP_QUEUE_VALUES_MAX_PERCENTAGE);
+      }
+    }
+  }
+
   @Override
   public int getAlertThreshold() {
     return this.alertThreshold;
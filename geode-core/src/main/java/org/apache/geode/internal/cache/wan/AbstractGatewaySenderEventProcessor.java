@@ -141,9 +141,21 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
   /**
    * The batchSize is the batch size being used by this processor. By default, it is the configured
    * batch size of the GatewaySender. It may be automatically reduced if a MessageTooLargeException
-   * occurs.
+   * occurs, and it is tuned after each peek if adaptive batching is enabled.
    */
-  private int batchSize;
+  private volatile int batchSize;
+
+  /**
+   * Tunes the batch size and batch time interval of this processor if adaptive batching is enabled,
+   * otherwise null.
+   */
+  private final AdaptiveBatchTuner batchTuner;
+
+  /**
+   * The time each batch in flight was dispatched at, used to measure the acknowledgement latency
+   * if adaptive batching is enabled.
+   */
+  private final Map<Integer, Long> batchIdToDispatchTime = new ConcurrentHashMap<>();
 
   public AbstractGatewaySenderEventProcessor(String string,
       GatewaySender sender, ThreadsMonitoring tMonitoring) {
@@ -151,6 +163,12 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
     this.sender = (AbstractGatewaySender) sender;
     this.batchSize = sender.getBatchSize();
     this.threadMonitoring = tMonitoring;
+    if (ADAPTIVE_BATCHING) {
+      this.batchTuner = new AdaptiveBatchTuner(ADAPTIVE_MIN_BATCH_SIZE, this.batchSize,
+          ADAPTIVE_MIN_BATCH_TIME_INTERVAL, sender.getBatchTimeInterval());
+    } else {
+      this.batchTuner = null;
+    }
   }
 
   @Override
@@ -231,6 +249,80 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
       logger.info("Set the batch size from {} to {} events",
           new Object[] {currentBatchSize, this.batchSize});
     }
+    if (this.batchTuner != null) {
+      this.batchTuner.setMaxBatchSize(this.batchSize);
+    }
+    updateBatchStatistics();
+  }
+
+  /**
+   * Sets the currentBatchSize and currentBatchTimeInterval stats of the GatewaySender to the
+   * largest values used by any of its processors.
+   */
+  private void updateBatchStatistics() {
+    AbstractGatewaySenderEventProcessor eventProcessor = this.sender.getEventProcessor();
+    if (eventProcessor == null) {
+      // the sender is still starting its processors
+      eventProcessor = this;
+    }
+    GatewaySenderStats statistics = this.sender.getStatistics();
+    statistics.setCurrentBatchSize(eventProcessor.getCurrentBatchSize());
+    statistics.setCurrentBatchTimeInterval(eventProcessor.getCurrentBatchTimeInterval());
+  }
+
+  /**
+   * Returns the largest batch size currently used by this processor or by the processors it
+   * dispatches the batches of the GatewaySender with.
+   */
+  public int getCurrentBatchSize() {
+    return getBatchSize();
+  }
+
+  /**
+   * Returns the longest batch time interval currently used by this processor or by the processors
+   * it dispatches the batches of the GatewaySender with.
+   */
+  public int getCurrentBatchTimeInterval() {
+    return getBatchTimeInterval();
+  }
+
+  /**
+   * Returns the number of milliseconds to wait for a batch to fill up. By default, it is the
+   * configured batch time interval of the GatewaySender.
+   */
+  protected int getBatchTimeInterval() {
+    if (this.batchTuner != null) {
+      return this.batchTuner.getBatchTimeInterval();
+    }
+    return this.sender.getBatchTimeInterval();
+  }
+
+  /**
+   * Tunes the batch size and batch time interval after events were peeked, if adaptive batching is
+   * enabled.
+   */
+  private void tuneBatch(int events) {
+    if (this.batchTuner == null) {
+      return;
+    }
+    this.batchTuner.batchPeeked(events, System.nanoTime());
+    this.batchSize = this.batchTuner.getBatchSize();
+    updateBatchStatistics();
+  }
+
+  private void batchDispatched(int batchId) {
+    if (this.batchTuner != null) {
+      this.batchIdToDispatchTime.put(batchId, System.nanoTime());
+    }
+  }
+
+  private void batchAcknowledged(int batchId) {
+    if (this.batchTuner != null) {
+      Long dispatchTime = this.batchIdToDispatchTime.remove(batchId);
+      if (dispatchTime != null) {
+        this.batchTuner.batchAcknowledged(System.nanoTime() - dispatchTime);
+      }
+    }
   }
 
   /**
@@ -366,6 +458,36 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
   protected static final int FAILURE_LOG_MAX_INTERVAL = Integer.getInteger(
       DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.FAILURE_LOG_MAX_INTERVAL", 300000);
 
+  /**
+   * The maximum number of batches that are sent to the receiver before the oldest of them is
+   * acknowledged. Batches are sent without waiting for the acknowledgements of the batches sent
+   * before them, which are read by the ack reader thread in order. If a batch fails, it and all the
+   * batches after it are peeked and sent again. Zero means that the number of batches in flight is
+   * not limited.
+   */
+  protected static final int MAX_BATCHES_IN_FLIGHT = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.MAX_BATCHES_IN_FLIGHT", 0);
+
+  /**
+   * Whether each processor tunes its batch size and batch time interval from the observed
+   * acknowledgement latency and event rate. The configured batch size and batch time interval of
+   * the GatewaySender are the largest values used.
+   */
+  protected static final boolean ADAPTIVE_BATCHING =
+      Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.ADAPTIVE_BATCHING");
+
+  /**
+   * The smallest batch size used by adaptive batching.
+   */
+  protected static final int ADAPTIVE_MIN_BATCH_SIZE = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.ADAPTIVE_MIN_BATCH_SIZE", 1);
+
+  /**
+   * The shortest batch time interval, in milliseconds, used by adaptive batching.
+   */
+  protected static final int ADAPTIVE_MIN_BATCH_TIME_INTERVAL = Integer.getInteger(
+      DistributionConfig.GEMFIRE_PREFIX + "GatewaySender.ADAPTIVE_MIN_BATCH_TIME_INTERVAL", 10);
+
   public boolean skipFailureLogging(Integer batchId) {
     boolean skipLogging = false;
     // if map has become large then give up on new events but we don't expect
@@ -412,8 +534,8 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
     final boolean isDebugEnabled = logger.isDebugEnabled();
     final boolean isTraceEnabled = logger.isTraceEnabled();
 
-    final int batchTimeInterval = sender.getBatchTimeInterval();
     final GatewaySenderStats statistics = this.sender.getStatistics();
+    updateBatchStatistics();
 
     if (isDebugEnabled) {
       logger.debug("STARTED processQueue {}", this.getId());
@@ -464,6 +586,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
           // sleep a little bit, look for events
           boolean interrupted = Thread.interrupted();
           try {
+            waitForBatchesInFlight();
             if (resetLastPeekedEvents) {
               resetLastPeekedEvents();
               resetLastPeekedEvents = false;
@@ -492,7 +615,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
                * Thread.currentThread().interrupt(); } } }
                */
             }
-            events = this.queue.peek(this.batchSize, batchTimeInterval);
+            events = this.queue.peek(this.batchSize, getBatchTimeInterval());
           } catch (InterruptedException e) {
             interrupted = true;
             this.sender.getCancelCriterion().checkCancelInProgress(e);
@@ -502,6 +625,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
               Thread.currentThread().interrupt();
             }
           }
+          tuneBatch(events.size());
           if (events.isEmpty()) {
             continue; // nothing to do!
           }
@@ -617,7 +741,11 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
                   (List<GatewaySenderEventImpl>[]) new List[2];
               eventsArr[0] = events;
               eventsArr[1] = filteredList;
-              this.batchIdToEventsMap.put(getBatchId(), eventsArr);
+              synchronized (this.batchIdToEventsMap) {
+                if (this.batchIdToEventsMap.put(getBatchId(), eventsArr) == null) {
+                  statistics.incBatchesInFlight();
+                }
+              }
               // find out PDX event and append it in front of the list
               pdxEventsToBeDispatched = addPDXEvent();
               eventsToBeDispatched.addAll(pdxEventsToBeDispatched);
@@ -640,6 +768,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
                   conflatedEventsToBeDispatched);
             }
 
+            batchDispatched(getBatchId());
             boolean success = this.dispatcher.dispatchBatch(conflatedEventsToBeDispatched,
                 sender.isRemoveFromQueueOnException(), false);
             if (success) {
@@ -664,6 +793,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
             // If the batch is successfully processed, remove it from the queue.
             if (success) {
               if (this.dispatcher instanceof GatewaySenderEventCallbackDispatcher) {
+                batchAcknowledged(getBatchId());
                 handleSuccessfulBatchDispatch(conflatedEventsToBeDispatched, events);
               } else {
                 incrementBatchId();
@@ -922,7 +1052,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
   }
 
   private void resetLastPeekedEvents() {
-    this.batchIdToEventsMap.clear();
+    clearBatchesInFlight();
     // make sure that when there is problem while receiving ack, pdx gateway
     // sender events isDispatched is set to false so that same events will be
     // dispatched in next batch
@@ -1003,6 +1133,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
   }
 
   public void handleSuccessBatchAck(int batchId) {
+    batchAcknowledged(batchId);
     // this is to acknowledge PDX related events
     List<GatewaySenderEventImpl> pdxEvents = this.batchIdToPDXEventsMap.remove(batchId);
     if (pdxEvents != null) {
@@ -1011,7 +1142,14 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
       }
     }
 
-    List<GatewaySenderEventImpl>[] eventsArr = this.batchIdToEventsMap.remove(batchId);
+    List<GatewaySenderEventImpl>[] eventsArr;
+    synchronized (this.batchIdToEventsMap) {
+      eventsArr = this.batchIdToEventsMap.remove(batchId);
+      if (eventsArr != null) {
+        this.sender.getStatistics().decBatchesInFlight(1);
+        this.batchIdToEventsMap.notifyAll();
+      }
+    }
     if (eventsArr != null) {
       List<GatewaySenderEventImpl> filteredEvents = eventsArr[1];
       for (GatewayEventFilter filter : sender.getGatewayEventFilters()) {
@@ -1055,6 +1193,31 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
     }
   }
 
+  /**
+   * Waits while the maximum number of batches is in flight, unless this processor is stopped or
+   * paused or the batches in flight have to be sent again.
+   */
+  private void waitForBatchesInFlight() throws InterruptedException {
+    if (MAX_BATCHES_IN_FLIGHT <= 0) {
+      return;
+    }
+    synchronized (this.batchIdToEventsMap) {
+      while (this.batchIdToEventsMap.size() >= MAX_BATCHES_IN_FLIGHT && !stopped()
+          && !this.isPaused && !this.resetLastPeekedEvents) {
+        this.batchIdToEventsMap.wait(100);
+      }
+    }
+  }
+
+  private void clearBatchesInFlight() {
+    synchronized (this.batchIdToEventsMap) {
+      this.sender.getStatistics().decBatchesInFlight(this.batchIdToEventsMap.size());
+      this.batchIdToEventsMap.clear();
+      this.batchIdToEventsMap.notifyAll();
+    }
+    this.batchIdToDispatchTime.clear();
+  }
+
   public void handleUnSuccessBatchAck(int bId) {
     this.sender.getStatistics().incBatchesRedistributed();
     // Set posDup flag on each event in the batch
@@ -1220,7 +1383,7 @@ public abstract class AbstractGatewaySenderEventProcessor extends LoggingThread
           // the connections later
           // try to stop it again
           dispatcher.stop();
-          this.batchIdToEventsMap.clear();
+          clearBatchesInFlight();
         }
       } catch (InterruptedException ex) {
         Thread.currentThread().interrupt();
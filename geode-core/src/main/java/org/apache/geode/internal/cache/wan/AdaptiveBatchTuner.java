@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+/**
+ * Tunes the batch size and batch time interval of a gateway sender event processor from the
+ * observed acknowledgement latency and event rate, within configured bounds.
+ * <p>
+ * Whenever a full batch could be peeked from the queue, the queue is backed up and the batch size
+ * is doubled, since the sender then needs throughput rather than latency. When less than half a
+ * batch could be peeked, the batch size drops to the number of events expected to arrive while a
+ * batch is being acknowledged. The batch time interval is the time it takes to acknowledge a
+ * batch, so that a lightly loaded sender does not hold events back for much longer than a round
+ * trip to the receiver.
+ *
+ * @since Geode 1.10
+ */
+class AdaptiveBatchTuner {
+
+  /** The weight of a new observation in the moving averages */
+  private static final double WEIGHT = 0.25;
+
+  private final int minBatchSize;
+
+  private int maxBatchSize;
+
+  private final int minBatchTimeInterval;
+
+  private final int maxBatchTimeInterval;
+
+  private volatile int batchSize;
+
+  private volatile int batchTimeInterval;
+
+  /** The moving average of the acknowledgement latency in milliseconds, or -1 if unknown */
+  private double ackLatency = -1;
+
+  /** The moving average of the number of events peeked per millisecond, or -1 if unknown */
+  private double eventRate = -1;
+
+  private long lastPeekTime;
+
+  /**
+   * Creates a tuner that starts with the maximum batch size and batch time interval.
+   *
+   * @param minBatchSize the smallest batch size to use
+   * @param maxBatchSize the largest batch size to use
+   * @param minBatchTimeInterval the shortest batch time interval to use, in milliseconds
+   * @param maxBatchTimeInterval the longest batch time interval to use, in milliseconds
+   */
+  AdaptiveBatchTuner(int minBatchSize, int maxBatchSize, int minBatchTimeInterval,
+      int maxBatchTimeInterval) {
+    this.maxBatchSize = Math.max(maxBatchSize, 1);
+    this.minBatchSize = Math.max(Math.min(minBatchSize, this.maxBatchSize), 1);
+    this.maxBatchTimeInterval = maxBatchTimeInterval;
+    this.minBatchTimeInterval = Math.min(minBatchTimeInterval, maxBatchTimeInterval);
+    this.batchSize = this.maxBatchSize;
+    this.batchTimeInterval = maxBatchTimeInterval;
+  }
+
+  int getBatchSize() {
+    return this.batchSize;
+  }
+
+  int getBatchTimeInterval() {
+    return this.batchTimeInterval;
+  }
+
+  /**
+   * Lowers the largest batch size to use, for example after a batch was too large to be sent.
+   */
+  synchronized void setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = Math.max(maxBatchSize, 1);
+    this.batchSize = Math.min(this.batchSize, this.maxBatchSize);
+  }
+
+  /**
+   * Records the time it took a batch to be acknowledged after it was sent.
+   *
+   * @param latency the time in nanoseconds
+   */
+  synchronized void batchAcknowledged(long latency) {
+    double latencyMillis = latency / 1_000_000.0;
+    this.ackLatency = this.ackLatency < 0 ? latencyMillis : average(this.ackLatency, latencyMillis);
+  }
+
+  /**
+   * Records that events were peeked from the queue, and chooses the batch size and batch time
+   * interval of the next peek.
+   *
+   * @param events the number of events peeked
+   * @param now the current time in nanoseconds
+   */
+  synchronized void batchPeeked(int events, long now) {
+    if (this.lastPeekTime != 0) {
+      double elapsedMillis = Math.max(now - this.lastPeekTime, 1) / 1_000_000.0;
+      double rate = events / elapsedMillis;
+      this.eventRate = this.eventRate < 0 ? rate : average(this.eventRate, rate);
+    }
+    this.lastPeekTime = now;
+
+    if (events >= this.batchSize) {
+      this.batchSize = (int) Math.min((long) this.batchSize * 2, this.maxBatchSize);
+    } else if (events < this.batchSize / 2 && this.ackLatency >= 0 && this.eventRate >= 0) {
+      this.batchSize = bound((long) Math.ceil(this.eventRate * this.ackLatency),
+          this.minBatchSize, this.maxBatchSize);
+    }
+    if (this.ackLatency >= 0) {
+      this.batchTimeInterval = bound((long) Math.ceil(this.ackLatency),
+          this.minBatchTimeInterval, this.maxBatchTimeInterval);
+    }
+  }
+
+  private static double average(double average, double value) {
+    return average + WEIGHT * (value - average);
+  }
+
+  private static int bound(long value, int min, int max) {
+    return (int) Math.min(Math.max(value, min), max);
+  }
+}
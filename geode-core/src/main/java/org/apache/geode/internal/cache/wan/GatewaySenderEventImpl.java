@@ -46,6 +46,7 @@ import org.apache.geode.internal.cache.Token;
 import org.apache.geode.internal.cache.WrappedCallbackArgument;
 import org.apache.geode.internal.cache.tier.sockets.Message;
 import org.apache.geode.internal.lang.ObjectUtils;
+import org.apache.geode.internal.offheap.MemoryAllocator;
 import org.apache.geode.internal.offheap.OffHeapHelper;
 import org.apache.geode.internal.offheap.ReferenceCountHelper;
 import org.apache.geode.internal.offheap.Releasable;
@@ -128,6 +129,12 @@ public class GatewaySenderEventImpl
   protected transient Object valueObj;
   protected transient boolean valueObjReleased;
 
+  /**
+   * Whether the serialized value was moved off-heap by {@link #moveValueOffHeap}, in which case
+   * its heap form is never cached in {@link #value}.
+   */
+  private transient boolean valueMovedOffHeap;
+
   private transient boolean serializedValueNotAvailable;
 
   /**
@@ -647,7 +654,9 @@ public class GatewaySenderEventImpl
           if (result == null) {
             StoredObject so = (StoredObject) vo;
             result = so.getValueAsHeapByteArray();
-            this.value = result;
+            if (!this.valueMovedOffHeap) {
+              this.value = result;
+            }
           }
         }
       } else {
@@ -1115,8 +1124,10 @@ public class GatewaySenderEventImpl
     // The hardcoded value below was estimated using a NullDataOutputStream
     size += Sizeable.PER_OBJECT_OVERHEAD + 56;
 
-    // The value (a byte[])
-    size += getSerializedValueSize();
+    // The value (a byte[]), unless it was moved off-heap and so does not use the java heap
+    if (!this.valueMovedOffHeap) {
+      size += getSerializedValueSize();
+    }
 
     // The callback argument (a GatewayEventCallbackArgument wrapping an Object
     // which is the original callback argument)
@@ -1207,7 +1218,7 @@ public class GatewaySenderEventImpl
         && this.action == that.action
         && this.regionPath.equals(that.regionPath)
         && this.key.equals(that.key)
-        && Arrays.equals(this.value, that.value);
+        && Arrays.equals(getComparableValue(), that.getComparableValue());
   }
 
   public int hashCode() {
@@ -1218,10 +1229,22 @@ public class GatewaySenderEventImpl
     hashCode = 37 * hashCode + this.action;
     hashCode = 37 * hashCode + ObjectUtils.hashCode(this.regionPath);
     hashCode = 37 * hashCode + ObjectUtils.hashCode(this.key);
-    hashCode = 37 * hashCode + (this.value == null ? 0 : Arrays.hashCode(this.value));
+    byte[] comparableValue = getComparableValue();
+    hashCode = 37 * hashCode + (comparableValue == null ? 0 : Arrays.hashCode(comparableValue));
     return hashCode;
   }
 
+  /**
+   * Returns the serialized value compared by {@link #equals} and {@link #hashCode}. A value that
+   * was moved off-heap is read from there unless it has already been released.
+   */
+  private synchronized byte[] getComparableValue() {
+    if (this.valueMovedOffHeap && !this.valueObjReleased) {
+      return getSerializedValue();
+    }
+    return this.value;
+  }
+
   @Override
   public Version[] getSerializationVersions() {
     return new Version[] {Version.GEODE_1_9_0};
@@ -1265,6 +1288,45 @@ public class GatewaySenderEventImpl
     }
   }
 
+  /**
+   * Moves the serialized value of this event into off-heap memory so that only the rest of the
+   * event stays on the java heap while it waits in a queue. The off-heap value is freed by
+   * {@link #release()}, like a value shared with an off-heap region. The value stays on the heap if
+   * there is none, if it is a substitute value, if it is already off-heap, or if storing it would
+   * raise the used off-heap memory above the given limit or there is no free off-heap memory left
+   * for it.
+   *
+   * @param allocator the off-heap memory to store the value in
+   * @param maxUsedMemory the number of bytes of off-heap memory that may be in use afterwards
+   * @return true if the value was moved off-heap
+   */
+  @Retained(OffHeapIdentifier.GATEWAY_SENDER_EVENT_IMPL_VALUE)
+  public synchronized boolean moveValueOffHeap(MemoryAllocator allocator, long maxUsedMemory) {
+    byte[] heapValue = this.value;
+    if (heapValue == null || this.substituteValue != null || this.valueObj != null
+        || this.valueObjReleased) {
+      return false;
+    }
+    if (allocator.getUsedMemory() + heapValue.length > maxUsedMemory) {
+      return false;
+    }
+    @Retained(OffHeapIdentifier.GATEWAY_SENDER_EVENT_IMPL_VALUE)
+    StoredObject so;
+    ReferenceCountHelper.setReferenceCountOwner(this);
+    try {
+      so = allocator.tryAllocateAndInitialize(heapValue, this.valueIsObject != 0x00, false);
+    } finally {
+      ReferenceCountHelper.setReferenceCountOwner(null);
+    }
+    if (so == null) {
+      return false;
+    }
+    this.valueMovedOffHeap = true;
+    this.valueObj = so;
+    this.value = null;
+    return true;
+  }
+
   /**
    * Make a heap copy of this off-heap event and return it. A copy only needs to be made if the
    * event's value is stored off-heap. If it is already on the java heap then just return "this". If
@@ -44,6 +44,8 @@ public class GatewaySenderStats {
   protected static final String EVENTS_NOT_QUEUED_CONFLATED = "eventsNotQueuedConflated";
   /** Name of the events conflated from the batch statistic */
   protected static final String EVENTS_CONFLATED_FROM_BATCHES = "eventsConflatedFromBatches";
+  /** Name of the events conflated in place statistic */
+  protected static final String EVENTS_CONFLATED_IN_PLACE = "eventsConflatedInPlace";
   /** Name of the event queue time statistic */
   protected static final String EVENT_QUEUE_TIME = "eventQueueTime";
   /** Name of the event queue size statistic */
@@ -66,6 +68,16 @@ public class GatewaySenderStats {
   protected static final String BATCHES_REDISTRIBUTED = "batchesRedistributed";
   /** Name of the batches resized statistic */
   protected static final String BATCHES_RESIZED = "batchesResized";
+  /** Name of the batches in flight statistic */
+  protected static final String BATCHES_IN_FLIGHT = "batchesInFlight";
+  /** Name of the batch bytes sent statistic */
+  protected static final String BATCH_BYTES_SENT = "batchBytesSent";
+  /** Name of the batch bytes before compression statistic */
+  protected static final String BATCH_BYTES_UNCOMPRESSED = "batchBytesUncompressed";
+  /** Name of the current batch size statistic */
+  protected static final String CURRENT_BATCH_SIZE = "currentBatchSize";
+  /** Name of the current batch time interval statistic */
+  protected static final String CURRENT_BATCH_TIME_INTERVAL = "currentBatchTimeInterval";
   /** Name of the unprocessed events added by primary statistic */
   protected static final String UNPROCESSED_TOKENS_ADDED_BY_PRIMARY =
       "unprocessedTokensAddedByPrimary";
@@ -128,6 +140,16 @@ public class GatewaySenderStats {
   private static final int batchesRedistributedId;
   /** Id of the batches resized statistic */
   private static final int batchesResizedId;
+  /** Id of the batches in flight statistic */
+  private static final int batchesInFlightId;
+  /** Id of the batch bytes sent statistic */
+  private static final int batchBytesSentId;
+  /** Id of the batch bytes before compression statistic */
+  private static final int batchBytesUncompressedId;
+  /** Id of the current batch size statistic */
+  private static final int currentBatchSizeId;
+  /** Id of the current batch time interval statistic */
+  private static final int currentBatchTimeIntervalId;
   /** Id of the unprocessed events added by primary statistic */
   private static final int unprocessedTokensAddedByPrimaryId;
   /** Id of the unprocessed events added by secondary statistic */
@@ -151,6 +173,8 @@ public class GatewaySenderStats {
   private static final int eventsDroppedDueToPrimarySenderNotRunningId;
   /** Id of events conflated in batch */
   private static final int eventsConflatedFromBatchesId;
+  /** Id of events conflated in place */
+  private static final int eventsConflatedInPlaceId;
   /** Id of load balances completed */
   private static final int loadBalancesCompletedId;
   /** Id of load balances in progress */
@@ -186,6 +210,11 @@ public class GatewaySenderStats {
     batchesDistributedId = type.nameToId(BATCHES_DISTRIBUTED);
     batchesRedistributedId = type.nameToId(BATCHES_REDISTRIBUTED);
     batchesResizedId = type.nameToId(BATCHES_RESIZED);
+    batchesInFlightId = type.nameToId(BATCHES_IN_FLIGHT);
+    batchBytesSentId = type.nameToId(BATCH_BYTES_SENT);
+    batchBytesUncompressedId = type.nameToId(BATCH_BYTES_UNCOMPRESSED);
+    currentBatchSizeId = type.nameToId(CURRENT_BATCH_SIZE);
+    currentBatchTimeIntervalId = type.nameToId(CURRENT_BATCH_TIME_INTERVAL);
     unprocessedTokensAddedByPrimaryId = type.nameToId(UNPROCESSED_TOKENS_ADDED_BY_PRIMARY);
     unprocessedEventsAddedBySecondaryId = type.nameToId(UNPROCESSED_EVENTS_ADDED_BY_SECONDARY);
     unprocessedEventsRemovedByPrimaryId = type.nameToId(UNPROCESSED_EVENTS_REMOVED_BY_PRIMARY);
@@ -200,6 +229,7 @@ public class GatewaySenderStats {
         type.nameToId(EVENTS_DROPPED_DUE_TO_PRIMARY_SENDER_NOT_RUNNING);
     eventsFilteredId = type.nameToId(EVENTS_FILTERED);
     eventsConflatedFromBatchesId = type.nameToId(EVENTS_CONFLATED_FROM_BATCHES);
+    eventsConflatedInPlaceId = type.nameToId(EVENTS_CONFLATED_IN_PLACE);
     loadBalancesCompletedId = type.nameToId(LOAD_BALANCES_COMPLETED);
     loadBalancesInProgressId = type.nameToId(LOAD_BALANCES_IN_PROGRESS);
     loadBalanceTimeId = type.nameToId(LOAD_BALANCE_TIME);
@@ -230,6 +260,9 @@ public class GatewaySenderStats {
                 "operations"),
             f.createIntCounter(EVENTS_CONFLATED_FROM_BATCHES,
                 "Number of events conflated from batches.", "operations"),
+            f.createIntCounter(EVENTS_CONFLATED_IN_PLACE,
+                "Number of events peeked from the queue in the place of an earlier event for the same key that they conflated.",
+                "operations"),
             f.createIntCounter(EVENTS_DISTRIBUTED,
                 "Number of events removed from the event queue and sent.", "operations"),
             f.createIntCounter(EVENTS_EXCEEDING_ALERT_THRESHOLD,
@@ -244,6 +277,20 @@ public class GatewaySenderStats {
             f.createIntCounter(BATCHES_RESIZED,
                 "Number of batches that were resized because they were too large", "operations",
                 false),
+            f.createIntGauge(BATCHES_IN_FLIGHT,
+                "Number of batches sent to the receiver that have not been acknowledged yet.",
+                "operations", false),
+            f.createLongCounter(BATCH_BYTES_SENT,
+                "Number of bytes of batches sent to receivers, after compression.", "bytes"),
+            f.createLongCounter(BATCH_BYTES_UNCOMPRESSED,
+                "Number of bytes the batches sent to receivers would have taken without compression.",
+                "bytes"),
+            f.createIntGauge(CURRENT_BATCH_SIZE,
+                "Maximum number of events currently put into a batch, the largest one used by the dispatcher threads. This is the configured batch size unless the batch size was reduced or is tuned by adaptive batching.",
+                "events", false),
+            f.createIntGauge(CURRENT_BATCH_TIME_INTERVAL,
+                "Time currently waited for a batch to fill up, the longest one used by the dispatcher threads. This is the configured batch time interval unless it is tuned by adaptive batching.",
+                "milliseconds", false),
             f.createIntCounter(UNPROCESSED_TOKENS_ADDED_BY_PRIMARY,
                 "Number of tokens added to the secondary's unprocessed token map by the primary (though a listener).",
                 "tokens"),
@@ -492,6 +539,97 @@ public class GatewaySenderStats {
     this.stats.incInt(batchesResizedId, 1);
   }
 
+  /**
+   * Returns the current value of the "batchesInFlight" stat.
+   *
+   * @return the current value of the "batchesInFlight" stat
+   */
+  public int getBatchesInFlight() {
+    return this.stats.getInt(batchesInFlightId);
+  }
+
+  /**
+   * Increments the number of batches in flight by 1.
+   */
+  public void incBatchesInFlight() {
+    this.stats.incInt(batchesInFlightId, 1);
+  }
+
+  /**
+   * Decrements the number of batches in flight by the given number.
+   */
+  public void decBatchesInFlight(int delta) {
+    this.stats.incInt(batchesInFlightId, -delta);
+  }
+
+  /**
+   * Returns the current value of the "batchBytesSent" stat.
+   *
+   * @return the current value of the "batchBytesSent" stat
+   */
+  public long getBatchBytesSent() {
+    return this.stats.getLong(batchBytesSentId);
+  }
+
+  /**
+   * Returns the current value of the "batchBytesUncompressed" stat.
+   *
+   * @return the current value of the "batchBytesUncompressed" stat
+   */
+  public long getBatchBytesUncompressed() {
+    return this.stats.getLong(batchBytesUncompressedId);
+  }
+
+  /**
+   * Records the size of a batch sent to a receiver. The ratio of the "batchBytesSent" and
+   * "batchBytesUncompressed" stats is the compression ratio of the batches.
+   *
+   * @param bytesSent the number of bytes sent
+   * @param uncompressedBytes the number of bytes the batch would have taken without compression
+   */
+  public void incBatchBytes(long bytesSent, long uncompressedBytes) {
+    this.stats.incLong(batchBytesSentId, bytesSent);
+    this.stats.incLong(batchBytesUncompressedId, uncompressedBytes);
+  }
+
+  /**
+   * Returns the current value of the "currentBatchSize" stat.
+   *
+   * @return the current value of the "currentBatchSize" stat
+   */
+  public int getCurrentBatchSize() {
+    return this.stats.getInt(currentBatchSizeId);
+  }
+
+  /**
+   * Sets the "currentBatchSize" stat.
+   *
+   * @param batchSize The largest number of events currently put into a batch by a dispatcher
+   *        thread
+   */
+  public void setCurrentBatchSize(int batchSize) {
+    this.stats.setInt(currentBatchSizeId, batchSize);
+  }
+
+  /**
+   * Returns the current value of the "currentBatchTimeInterval" stat.
+   *
+   * @return the current value of the "currentBatchTimeInterval" stat
+   */
+  public int getCurrentBatchTimeInterval() {
+    return this.stats.getInt(currentBatchTimeIntervalId);
+  }
+
+  /**
+   * Sets the "currentBatchTimeInterval" stat.
+   *
+   * @param batchTimeInterval The longest time in milliseconds currently waited by a dispatcher
+   *        thread for a batch to fill up
+   */
+  public void setCurrentBatchTimeInterval(int batchTimeInterval) {
+    this.stats.setInt(currentBatchTimeIntervalId, batchTimeInterval);
+  }
+
   /**
    * Sets the "eventQueueSize" stat.
    *
@@ -648,6 +786,22 @@ public class GatewaySenderStats {
     this.stats.incInt(eventsConflatedFromBatchesId, numEvents);
   }
 
+  /**
+   * Returns the current value of the "eventsConflatedInPlace" stat.
+   *
+   * @return the current value of the "eventsConflatedInPlace" stat
+   */
+  public int getEventsConflatedInPlace() {
+    return this.stats.getInt(eventsConflatedInPlaceId);
+  }
+
+  /**
+   * Increments the number of events conflated in place by 1.
+   */
+  public void incEventsConflatedInPlace() {
+    this.stats.incInt(eventsConflatedInPlaceId, 1);
+  }
+
 
   /**
    * Returns the current value of the "unprocessedTokensAddedByPrimary" stat.
@@ -309,6 +309,24 @@ public class ConcurrentParallelGatewaySenderEventProcessor
     super.waitForResumption();
   }
 
+  @Override
+  public int getCurrentBatchSize() {
+    int batchSize = 0;
+    for (ParallelGatewaySenderEventProcessor processor : this.processors) {
+      batchSize = Math.max(batchSize, processor.getCurrentBatchSize());
+    }
+    return batchSize;
+  }
+
+  @Override
+  public int getCurrentBatchTimeInterval() {
+    int batchTimeInterval = 0;
+    for (ParallelGatewaySenderEventProcessor processor : this.processors) {
+      batchTimeInterval = Math.max(batchTimeInterval, processor.getCurrentBatchTimeInterval());
+    }
+    return batchTimeInterval;
+  }
+
   /**
    * Test only methods for verification purpose.
    */
@@ -346,6 +346,24 @@ public class ConcurrentSerialGatewaySenderEventProcessor
   /**
    * @return the queues
    */
+  @Override
+  public int getCurrentBatchSize() {
+    int batchSize = 0;
+    for (SerialGatewaySenderEventProcessor processor : this.processors) {
+      batchSize = Math.max(batchSize, processor.getCurrentBatchSize());
+    }
+    return batchSize;
+  }
+
+  @Override
+  public int getCurrentBatchTimeInterval() {
+    int batchTimeInterval = 0;
+    for (SerialGatewaySenderEventProcessor processor : this.processors) {
+      batchTimeInterval = Math.max(batchTimeInterval, processor.getCurrentBatchTimeInterval());
+    }
+    return batchTimeInterval;
+  }
+
   public Set<RegionQueue> getQueues() {
     return queues;
   }
@@ -1205,6 +1205,7 @@ public class SerialGatewaySenderQueue implements RegionQueue {
         Object expectedOldValue, boolean requireOldValue, long lastModified,
         boolean overwriteDestroyed) throws TimeoutException, CacheWriterException {
       try {
+        this.sender.moveQueuedValueOffHeap(event.getRawNewValue());
         boolean success = super.virtualPut(event, ifNew, ifOld, expectedOldValue, requireOldValue,
             lastModified, overwriteDestroyed);
         if (!success) {
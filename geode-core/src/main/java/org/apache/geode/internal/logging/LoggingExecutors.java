@@ -233,6 +233,18 @@ public class LoggingExecutors {
     return newFixedThreadPool(threadName, true, poolSize, keepAliveSeconds, feed);
   }
 
+  /**
+   * Creates a pool of at most poolSize daemon threads that are only started when needed and stop
+   * again after being idle for keepAliveSeconds. Tasks wait in an unbounded feed while all of the
+   * threads are busy.
+   */
+  public static ExecutorService newFixedThreadPoolWithIdleTimeout(String threadName,
+      int poolSize, long keepAliveSeconds) {
+    ThreadPoolExecutor executor = newFixedThreadPool(threadName, true, keepAliveSeconds, poolSize);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   public static ExecutorService newFixedThreadPoolWithFeedSize(String threadName,
       int poolSize, int feedSize) {
     LinkedBlockingQueue<Runnable> feed = new LinkedBlockingQueue<>(feedSize);
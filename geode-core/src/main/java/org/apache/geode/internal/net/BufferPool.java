@@ -14,14 +14,33 @@
  */
 package org.apache.geode.internal.net;
 
-import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
-import java.util.IdentityHashMap;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.geode.distributed.internal.DMStats;
-import org.apache.geode.internal.Assert;
 
+/**
+ * Pools the direct buffers used for socket I/O.
+ *
+ * Buffers are pooled by size class. A request is rounded up to the smallest class that can hold
+ * it, so a released buffer can be reused by any later request of a similar size instead of only by
+ * requests it happens to be large enough for. Classes are a quarter of a power of two apart, which
+ * bounds the space wasted by rounding to 25%.
+ *
+ * Each thread caches one buffer of each small class so that a thread that repeatedly acquires and
+ * releases the same size of buffer, as message senders do, does not touch the shared queues. A
+ * thread's cache holds at most {@link #MAX_THREAD_CACHED_BYTES} bytes so that pools used by many
+ * threads do not retain much more than the shared limit. The shared queues retain at most
+ * {@link #MAX_IDLE_BYTES} bytes; buffers released beyond that, and buffers larger than
+ * {@link #MAX_POOLED_BUFFER_SIZE}, are left to the garbage collector.
+ *
+ * Every acquired buffer must be released exactly once. The bufferPoolOutstanding statistic is the
+ * number of buffers that have been acquired and not yet released; if it keeps growing buffers are
+ * being leaked.
+ */
 public class BufferPool {
   private final DMStats stats;
 
@@ -35,21 +54,123 @@ public class BufferPool {
     UNTRACKED, TRACKED_SENDER, TRACKED_RECEIVER
   }
 
+  /**
+   * use direct ByteBuffers instead of heap ByteBuffers for NIO operations
+   */
+  public static final boolean useDirectBuffers = !Boolean.getBoolean("p2p.nodirectBuffers");
+
+  /**
+   * The largest buffer that is pooled. Larger buffers are allocated on demand and are not reused.
+   */
+  static final int MAX_POOLED_BUFFER_SIZE =
+      Integer.getInteger("p2p.bufferPoolMaxBufferSize", 8 * 1024 * 1024);
+
+  /**
+   * The maximum number of bytes of idle buffers kept in the shared queues of a pool.
+   */
+  static final long MAX_IDLE_BYTES =
+      Long.getLong("p2p.bufferPoolMaxIdleBytes", 64L * 1024 * 1024);
+
+  /**
+   * The largest buffer cached by each thread. Thread caches can be disabled by setting this to 0.
+   */
+  static final int MAX_THREAD_CACHED_BUFFER_SIZE =
+      Integer.getInteger("p2p.bufferPoolMaxThreadCachedBufferSize", 64 * 1024);
+
+  /**
+   * The maximum number of bytes of idle buffers cached by each thread.
+   */
+  static final int MAX_THREAD_CACHED_BYTES =
+      Integer.getInteger("p2p.bufferPoolMaxThreadCachedBytes", 128 * 1024);
+
+  private static final int MIN_CLASS_SHIFT = 10;
+
+  /** the size of the smallest class; smaller requests are rounded up to it */
+  static final int MIN_CLASS_SIZE = 1 << MIN_CLASS_SHIFT;
+
+  /** the number of classes between two powers of two */
+  private static final int CLASSES_PER_DOUBLING = 4;
+
+  private final int maxPooledBufferSize;
+
+  private final long maxIdleBytes;
+
+  private final int threadCachedClasses;
+
+  private final int maxThreadCachedBytes;
+
+  private final Queue<ByteBuffer>[] sharedQueues;
+
+  private final AtomicLong idleBytes = new AtomicLong();
+
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  private final ThreadLocal<ThreadCache> threadCache;
+
+  /**
+   * The idle buffers cached by one thread, one per size class.
+   */
+  private static class ThreadCache {
+    final ByteBuffer[] buffers;
+
+    /** the total capacity of {@link #buffers} */
+    int bytes;
+
+    ThreadCache(int classes) {
+      buffers = new ByteBuffer[classes];
+    }
+  }
 
   public BufferPool(DMStats stats) {
+    this(stats, MAX_POOLED_BUFFER_SIZE, MAX_IDLE_BYTES, MAX_THREAD_CACHED_BUFFER_SIZE,
+        MAX_THREAD_CACHED_BYTES);
+  }
+
+  @SuppressWarnings("unchecked")
+  BufferPool(DMStats stats, int maxPooledBufferSize, long maxIdleBytes,
+      int maxThreadCachedBufferSize, int maxThreadCachedBytes) {
     this.stats = stats;
+    this.maxPooledBufferSize = Math.max(MIN_CLASS_SIZE, maxPooledBufferSize);
+    this.maxIdleBytes = maxIdleBytes;
+    this.maxThreadCachedBytes = maxThreadCachedBytes;
+    this.sharedQueues = new Queue[sizeClass(this.maxPooledBufferSize) + 1];
+    for (int i = 0; i < sharedQueues.length; i++) {
+      sharedQueues[i] = new ConcurrentLinkedQueue<>();
+    }
+    if (maxThreadCachedBufferSize >= MIN_CLASS_SIZE) {
+      this.threadCachedClasses =
+          Math.min(sizeClass(maxThreadCachedBufferSize) + 1, sharedQueues.length);
+      this.threadCache = ThreadLocal.withInitial(() -> new ThreadCache(threadCachedClasses));
+    } else {
+      this.threadCachedClasses = 0;
+      this.threadCache = null;
+    }
   }
 
   /**
-   * A list of soft references to byte buffers.
+   * Returns the index of the smallest size class that can hold {@code size} bytes.
    */
-  private final ConcurrentLinkedQueue<BBSoftReference> bufferQueue =
-      new ConcurrentLinkedQueue<>();
+  static int sizeClass(int size) {
+    if (size <= MIN_CLASS_SIZE) {
+      return 0;
+    }
+    int shift = 31 - Integer.numberOfLeadingZeros(size - 1);
+    int step = 1 << (shift - 2);
+    int steps = ((size - (1 << shift)) + step - 1) / step;
+    return 1 + (shift - MIN_CLASS_SHIFT) * CLASSES_PER_DOUBLING + steps - 1;
+  }
 
   /**
-   * use direct ByteBuffers instead of heap ByteBuffers for NIO operations
+   * Returns the capacity of the buffers in the given size class.
    */
-  public static final boolean useDirectBuffers = !Boolean.getBoolean("p2p.nodirectBuffers");
+  static int classCapacity(int sizeClass) {
+    if (sizeClass == 0) {
+      return MIN_CLASS_SIZE;
+    }
+    int shift = MIN_CLASS_SHIFT + (sizeClass - 1) / CLASSES_PER_DOUBLING;
+    int steps = (sizeClass - 1) % CLASSES_PER_DOUBLING + 1;
+    return (1 << shift) + steps * (1 << (shift - 2));
+  }
 
   /**
    * Should only be called by threads that have currently acquired send permission.
@@ -64,53 +185,99 @@ public class BufferPool {
     return acquireBuffer(size, false);
   }
 
+  /**
+   * Acquires a direct buffer that is not accounted for as a p2p sender or receiver buffer, such as
+   * the comm buffers of client/server connections. The buffer must be released with
+   * {@link #releaseDirectBuffer(ByteBuffer)}.
+   *
+   * @return a buffer with a position of zero and a limit of {@code size}
+   */
+  public ByteBuffer acquireDirectBuffer(int size) {
+    ByteBuffer result = pollPooledBuffer(size);
+    if (result == null) {
+      result = allocatePooledBuffer(size);
+    }
+    outstanding.incrementAndGet();
+    stats.incBufferPoolOutstanding(1);
+    return result;
+  }
+
+  public void releaseDirectBuffer(ByteBuffer bb) {
+    outstanding.decrementAndGet();
+    stats.incBufferPoolOutstanding(-1);
+    retainPooledBuffer(bb);
+  }
+
   private ByteBuffer acquireBuffer(int size, boolean send) {
     ByteBuffer result;
     if (useDirectBuffers) {
-      IdentityHashMap<BBSoftReference, BBSoftReference> alreadySeen = null; // keys are used like a
-                                                                            // set
-      BBSoftReference ref = bufferQueue.poll();
-      while (ref != null) {
-        ByteBuffer bb = ref.getBB();
-        if (bb == null) {
-          // it was garbage collected
-          int refSize = ref.consumeSize();
-          if (refSize > 0) {
-            if (ref.getSend()) { // fix bug 46773
-              stats.incSenderBufferSize(-refSize, true);
-            } else {
-              stats.incReceiverBufferSize(-refSize, true);
-            }
-          }
-        } else if (bb.capacity() >= size) {
-          bb.rewind();
-          bb.limit(size);
-          return bb;
+      result = pollPooledBuffer(size);
+      if (result == null) {
+        result = allocatePooledBuffer(size);
+        if (send) {
+          stats.incSenderBufferSize(result.capacity(), true);
         } else {
-          // wasn't big enough so put it back in the queue
-          Assert.assertTrue(bufferQueue.offer(ref));
-          if (alreadySeen == null) {
-            alreadySeen = new IdentityHashMap<>();
-          }
-          if (alreadySeen.put(ref, ref) != null) {
-            // if it returns non-null then we have already seen this item
-            // so we have worked all the way through the queue once.
-            // So it is time to give up and allocate a new buffer.
-            break;
-          }
+          stats.incReceiverBufferSize(result.capacity(), true);
         }
-        ref = bufferQueue.poll();
       }
-      result = ByteBuffer.allocateDirect(size);
     } else {
       // if we are using heap buffers then don't bother with keeping them around
       result = ByteBuffer.allocate(size);
+      if (send) {
+        stats.incSenderBufferSize(size, false);
+      } else {
+        stats.incReceiverBufferSize(size, false);
+      }
     }
-    if (send) {
-      stats.incSenderBufferSize(size, useDirectBuffers);
-    } else {
-      stats.incReceiverBufferSize(size, useDirectBuffers);
+    outstanding.incrementAndGet();
+    stats.incBufferPoolOutstanding(1);
+    return result;
+  }
+
+  /**
+   * Takes an idle buffer that can hold {@code size} bytes from this thread's cache or from the
+   * shared queue of its size class.
+   *
+   * @return the buffer with a position of zero and a limit of {@code size}, or null if there is
+   *         no idle buffer of the right size class
+   */
+  private ByteBuffer pollPooledBuffer(int size) {
+    if (size > maxPooledBufferSize) {
+      return null;
+    }
+    int sizeClass = sizeClass(size);
+    ByteBuffer result = null;
+    if (sizeClass < threadCachedClasses) {
+      ThreadCache cache = threadCache.get();
+      result = cache.buffers[sizeClass];
+      if (result != null) {
+        cache.buffers[sizeClass] = null;
+        cache.bytes -= result.capacity();
+      }
+    }
+    if (result == null) {
+      result = sharedQueues[sizeClass].poll();
+      if (result == null) {
+        return null;
+      }
+      idleBytes.addAndGet(-result.capacity());
+      stats.incBufferPoolIdleBytes(-result.capacity());
     }
+    stats.incBufferPoolHits();
+    result.rewind();
+    result.limit(size);
+    return result;
+  }
+
+  /**
+   * Allocates a direct buffer with the capacity of the size class of {@code size}, or of exactly
+   * {@code size} if that is too large to be pooled.
+   */
+  private ByteBuffer allocatePooledBuffer(int size) {
+    stats.incBufferPoolMisses();
+    int capacity = size > maxPooledBufferSize ? size : classCapacity(sizeClass(size));
+    ByteBuffer result = ByteBuffer.allocateDirect(capacity);
+    result.limit(size);
     return result;
   }
 
@@ -184,14 +351,20 @@ public class BufferPool {
     throw new IllegalArgumentException("Unexpected buffer type " + type.toString());
   }
 
-
   /**
    * Releases a previously acquired buffer.
    */
   private void releaseBuffer(ByteBuffer bb, boolean send) {
+    outstanding.decrementAndGet();
+    stats.incBufferPoolOutstanding(-1);
     if (useDirectBuffers) {
-      BBSoftReference bbRef = new BBSoftReference(bb, send);
-      bufferQueue.offer(bbRef);
+      if (!retainPooledBuffer(bb)) {
+        if (send) {
+          stats.incSenderBufferSize(-bb.capacity(), true);
+        } else {
+          stats.incReceiverBufferSize(-bb.capacity(), true);
+        }
+      }
     } else {
       if (send) {
         stats.incSenderBufferSize(-bb.capacity(), false);
@@ -202,37 +375,63 @@ public class BufferPool {
   }
 
   /**
-   * A soft reference that remembers the size of the byte buffer it refers to. TODO Dan - I really
-   * think this should be a weak reference. The JVM doesn't seem to clear soft references if it is
-   * getting low on direct memory.
+   * Keeps a released buffer for reuse if it belongs to a size class and the idle limit has not
+   * been reached.
+   *
+   * @return false if the buffer was discarded
    */
-  private static class BBSoftReference extends SoftReference<ByteBuffer> {
-    private int size;
-    private final boolean send;
-
-    BBSoftReference(ByteBuffer bb, boolean send) {
-      super(bb);
-      this.size = bb.capacity();
-      this.send = send;
+  private boolean retainPooledBuffer(ByteBuffer bb) {
+    if (!bb.isDirect() || bb.capacity() > maxPooledBufferSize) {
+      return false;
     }
-
-    public int getSize() {
-      return this.size;
+    int sizeClass = sizeClass(bb.capacity());
+    if (classCapacity(sizeClass) != bb.capacity()) {
+      // not allocated by this pool
+      return false;
     }
-
-    synchronized int consumeSize() {
-      int result = this.size;
-      this.size = 0;
-      return result;
+    if (sizeClass < threadCachedClasses) {
+      ThreadCache cache = threadCache.get();
+      if (cache.buffers[sizeClass] == null
+          && cache.bytes + bb.capacity() <= maxThreadCachedBytes) {
+        cache.buffers[sizeClass] = bb;
+        cache.bytes += bb.capacity();
+        return true;
+      }
     }
-
-    public boolean getSend() {
-      return this.send;
+    if (idleBytes.addAndGet(bb.capacity()) > maxIdleBytes) {
+      idleBytes.addAndGet(-bb.capacity());
+      return false;
     }
+    stats.incBufferPoolIdleBytes(bb.capacity());
+    sharedQueues[sizeClass].offer(bb);
+    return true;
+  }
 
-    public ByteBuffer getBB() {
-      return super.get();
-    }
+  /**
+   * Returns the number of buffers that have been acquired and not released.
+   */
+  public int getOutstandingCount() {
+    return outstanding.get();
+  }
+
+  /**
+   * Returns the number of bytes of idle buffers in the shared queues. Buffers cached by threads
+   * are not included.
+   */
+  long getIdleBytes() {
+    return idleBytes.get();
   }
 
+  /**
+   * Discards the idle buffers in the shared queues so that their memory can be reclaimed.
+   */
+  public void clear() {
+    for (Queue<ByteBuffer> queue : sharedQueues) {
+      ByteBuffer bb;
+      while ((bb = queue.poll()) != null) {
+        idleBytes.addAndGet(-bb.capacity());
+        stats.incBufferPoolIdleBytes(-bb.capacity());
+      }
+    }
+  }
 }
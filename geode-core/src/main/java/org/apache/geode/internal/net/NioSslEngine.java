@@ -28,6 +28,8 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.TimeUnit;
 
@@ -52,6 +54,8 @@ import org.apache.geode.internal.net.BufferPool.BufferType;
 public class NioSslEngine implements NioFilter {
   private static final Logger logger = LogService.getLogger();
 
+  private static final long MAX_DATA_WAIT_MILLIS = 1000;
+
   private final BufferPool bufferPool;
 
   private volatile boolean closed;
@@ -73,14 +77,51 @@ public class NioSslEngine implements NioFilter {
    */
   ByteBuffer handshakeBuffer;
 
+  /**
+   * how long the TLS handshake took, in nanoseconds
+   */
+  private long handshakeNanos;
+
+  /**
+   * whether the TLS handshake resumed an earlier session
+   */
+  private boolean resumedSession;
+
+  /**
+   * recognizes a handshake that resumed an earlier session
+   */
+  private final TlsSessionTracker sessionTracker;
+
   NioSslEngine(SSLEngine engine, BufferPool bufferPool) {
+    this(engine, bufferPool, new TlsSessionTracker());
+  }
+
+  NioSslEngine(SSLEngine engine, BufferPool bufferPool, TlsSessionTracker sessionTracker) {
     SSLSession session = engine.getSession();
     int appBufferSize = session.getApplicationBufferSize();
     int packetBufferSize = engine.getSession().getPacketBufferSize();
-    this.myNetData = ByteBuffer.allocate(packetBufferSize);
-    this.peerAppData = ByteBuffer.allocate(appBufferSize);
     this.engine = engine;
     this.bufferPool = bufferPool;
+    this.sessionTracker = sessionTracker;
+    // these are returned to the pool on close, so take them from it too
+    this.myNetData = bufferPool.acquireSenderBuffer(packetBufferSize);
+    this.myNetData.clear();
+    this.peerAppData = bufferPool.acquireReceiveBuffer(appBufferSize);
+    this.peerAppData.clear();
+  }
+
+  /**
+   * Returns how long the handshake took, in nanoseconds
+   */
+  public long getHandshakeNanos() {
+    return handshakeNanos;
+  }
+
+  /**
+   * Returns true if the handshake resumed an earlier TLS session
+   */
+  public boolean isResumedSession() {
+    return resumedSession;
   }
 
   /**
@@ -109,99 +150,113 @@ public class NioSslEngine implements NioFilter {
           timeout);
     }
 
+    long handshakeStart = System.nanoTime();
     long timeoutNanos = -1;
     if (timeout > 0) {
-      timeoutNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+      timeoutNanos = handshakeStart + TimeUnit.MILLISECONDS.toNanos(timeout);
     }
 
     // Begin handshake
     engine.beginHandshake();
     SSLEngineResult.HandshakeStatus status = engine.getHandshakeStatus();
     SSLEngineResult engineResult = null;
+    Selector readSelector = null;
 
-    // Process handshaking message
-    while (status != FINISHED &&
-        status != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING) {
-      if (socketChannel.socket().isClosed()) {
-        logger.info("Handshake terminated because socket is closed");
-        throw new SocketException("handshake terminated - socket is closed");
-      }
-
-      if (timeoutNanos > 0) {
-        if (timeoutNanos < System.nanoTime()) {
-          logger.info("TLS handshake is timing out");
-          throw new SocketTimeoutException("handshake timed out");
+    try {
+      // Process handshaking message
+      while (status != FINISHED &&
+          status != SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING) {
+        if (socketChannel.socket().isClosed()) {
+          logger.info("Handshake terminated because socket is closed");
+          throw new SocketException("handshake terminated - socket is closed");
         }
-      }
-
-      switch (status) {
-        case NEED_UNWRAP:
-          // Receive handshaking data from peer
-          int dataRead = socketChannel.read(handshakeBuffer);
-
-          // Process incoming handshaking data
-          handshakeBuffer.flip();
-          engineResult = engine.unwrap(handshakeBuffer, peerAppData);
-          handshakeBuffer.compact();
-          status = engineResult.getHandshakeStatus();
-
-          // if we're not finished, there's nothing to process and no data was read let's hang out
-          // for a little
-          if (peerAppData.remaining() == 0 && dataRead == 0 && status == NEED_UNWRAP) {
-            Thread.sleep(10);
-          }
 
-          if (engineResult.getStatus() == BUFFER_OVERFLOW) {
-            peerAppData =
-                expandWriteBuffer(TRACKED_RECEIVER, peerAppData, peerAppData.capacity() * 2);
+        if (timeoutNanos > 0) {
+          if (timeoutNanos < System.nanoTime()) {
+            logger.info("TLS handshake is timing out");
+            throw new SocketTimeoutException("handshake timed out");
           }
-          break;
+        }
 
-        case NEED_WRAP:
-          // Empty the local network packet buffer.
-          myNetData.clear();
-
-          // Generate handshaking data
-          engineResult = engine.wrap(myAppData, myNetData);
-          status = engineResult.getHandshakeStatus();
-
-          // Check status
-          switch (engineResult.getStatus()) {
-            case BUFFER_OVERFLOW:
-              myNetData =
-                  expandWriteBuffer(TRACKED_SENDER, myNetData,
-                      myNetData.capacity() * 2);
-              break;
-            case OK:
-              myNetData.flip();
-              // Send the handshaking data to peer
-              while (myNetData.hasRemaining()) {
-                socketChannel.write(myNetData);
+        switch (status) {
+          case NEED_UNWRAP:
+            // Receive handshaking data from peer
+            int dataRead = socketChannel.read(handshakeBuffer);
+
+            // Process incoming handshaking data
+            handshakeBuffer.flip();
+            engineResult = engine.unwrap(handshakeBuffer, peerAppData);
+            handshakeBuffer.compact();
+            status = engineResult.getHandshakeStatus();
+
+            // if we're not finished and no data was read, wait for the peer to send some
+            if (dataRead == 0 && status == NEED_UNWRAP && engineResult.bytesConsumed() == 0
+                && engineResult.getStatus() != BUFFER_OVERFLOW) {
+              if (readSelector == null) {
+                readSelector = Selector.open();
+                socketChannel.register(readSelector, SelectionKey.OP_READ);
               }
-              break;
-            case CLOSED:
-              break;
-            default:
-              logger.info("handshake terminated with illegal state due to {}", status);
-              throw new IllegalStateException(
-                  "Unknown SSLEngineResult status: " + engineResult.getStatus());
-          }
-          break;
-        case NEED_TASK:
-          // Handle blocking tasks
-          handleBlockingTasks();
-          status = engine.getHandshakeStatus();
-          break;
-        default:
-          logger.info("handshake terminated with illegal state due to {}", status);
-          throw new IllegalStateException("Unknown SSL Handshake state: " + status);
+              waitForData(readSelector, timeoutNanos);
+            }
+
+            if (engineResult.getStatus() == BUFFER_OVERFLOW) {
+              peerAppData =
+                  expandWriteBuffer(TRACKED_RECEIVER, peerAppData, peerAppData.capacity() * 2);
+            }
+            break;
+
+          case NEED_WRAP:
+            // Empty the local network packet buffer.
+            myNetData.clear();
+
+            // Generate handshaking data
+            engineResult = engine.wrap(myAppData, myNetData);
+            status = engineResult.getHandshakeStatus();
+
+            // Check status
+            switch (engineResult.getStatus()) {
+              case BUFFER_OVERFLOW:
+                myNetData =
+                    expandWriteBuffer(TRACKED_SENDER, myNetData,
+                        myNetData.capacity() * 2);
+                break;
+              case OK:
+                myNetData.flip();
+                // Send the handshaking data to peer
+                while (myNetData.hasRemaining()) {
+                  socketChannel.write(myNetData);
+                }
+                break;
+              case CLOSED:
+                break;
+              default:
+                logger.info("handshake terminated with illegal state due to {}", status);
+                throw new IllegalStateException(
+                    "Unknown SSLEngineResult status: " + engineResult.getStatus());
+            }
+            break;
+          case NEED_TASK:
+            // Handle blocking tasks
+            handleBlockingTasks();
+            status = engine.getHandshakeStatus();
+            break;
+          default:
+            logger.info("handshake terminated with illegal state due to {}", status);
+            throw new IllegalStateException("Unknown SSL Handshake state: " + status);
+        }
+      }
+    } finally {
+      if (readSelector != null) {
+        // deregisters the channel so that it can be put back in blocking mode
+        readSelector.close();
       }
-      Thread.sleep(10);
     }
     if (status != FINISHED) {
       logger.info("handshake terminated with exception due to {}", status);
       throw new SSLHandshakeException("SSL Handshake terminated with status " + status);
     }
+    handshakeNanos = System.nanoTime() - handshakeStart;
+    resumedSession = sessionTracker.isResumed(engine.getSession(), engine.getUseClientMode());
     if (logger.isDebugEnabled()) {
       if (engineResult != null) {
         logger.debug("TLS handshake successful.  result={} and handshakeResult={}",
@@ -214,6 +269,21 @@ public class NioSslEngine implements NioFilter {
     return true;
   }
 
+  /**
+   * Waits until the channel registered with the selector is readable or the handshake times out,
+   * instead of polling it.
+   */
+  private void waitForData(Selector readSelector, long timeoutNanos) throws IOException {
+    // wake up now and then to notice a socket that was closed by another thread
+    long waitMillis = MAX_DATA_WAIT_MILLIS;
+    if (timeoutNanos > 0) {
+      waitMillis = Math.min(waitMillis,
+          Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos - System.nanoTime())));
+    }
+    readSelector.select(waitMillis);
+    readSelector.selectedKeys().clear();
+  }
+
   ByteBuffer expandWriteBuffer(BufferType type, ByteBuffer existing,
       int desiredCapacity) {
     return bufferPool.expandWriteBufferIfNeeded(type, existing, desiredCapacity);
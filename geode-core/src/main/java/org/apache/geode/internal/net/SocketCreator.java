@@ -36,8 +36,11 @@ import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
 import java.security.Principal;
 import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.Security;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
@@ -69,6 +72,7 @@ import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLProtocolException;
 import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
@@ -155,6 +159,27 @@ public class SocketCreator {
   public static final boolean FORCE_DNS_USE =
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "forceDnsUse");
 
+  /**
+   * The name of the security provider to take SSLContexts from, for instance one backed by
+   * OpenSSL, or the class name of a {@link Provider} to install for that purpose. The default
+   * provider is used if this is not set.
+   */
+  static final String SSL_PROVIDER_PROPERTY = DistributionConfig.GEMFIRE_PREFIX + "ssl.provider";
+
+  /**
+   * The number of TLS sessions each SSLContext keeps for resumption, 0 for no limit. The provider's
+   * default is kept if this is not set.
+   */
+  private static final int SSL_SESSION_CACHE_SIZE =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "ssl.sessionCacheSize", -1);
+
+  /**
+   * How long, in seconds, a TLS session can be resumed, 0 for no limit. The provider's default is
+   * kept if this is not set.
+   */
+  private static final int SSL_SESSION_TIMEOUT =
+      Integer.getInteger(DistributionConfig.GEMFIRE_PREFIX + "ssl.sessionTimeout", -1);
+
   /**
    * set this to false to inhibit host name lookup
    */
@@ -184,6 +209,12 @@ public class SocketCreator {
 
   private SSLConfig sslConfig;
 
+  /**
+   * recognizes handshakes that resumed a session negotiated by an earlier handshake
+   */
+  private final TlsSessionTracker sessionTracker = new TlsSessionTracker(
+      SSL_SESSION_CACHE_SIZE > 0 ? SSL_SESSION_CACHE_SIZE : TlsSessionTracker.DEFAULT_MAX_SESSIONS);
+
   static {
     InetAddress inetAddress = null;
     try {
@@ -386,13 +417,61 @@ public class SocketCreator {
     }
 
     SSLContext newSSLContext = SSLUtil.getSSLContextInstance(sslConfig);
+    String providerName = System.getProperty(SSL_PROVIDER_PROPERTY);
+    if (newSSLContext != null && StringUtils.isNotBlank(providerName)) {
+      newSSLContext =
+          SSLContext.getInstance(newSSLContext.getProtocol(), getSSLProvider(providerName.trim()));
+    }
     KeyManager[] keyManagers = getKeyManagers();
     TrustManager[] trustManagers = getTrustManagers();
 
     newSSLContext.init(keyManagers, trustManagers, null /* use the default secure random */);
+    configureSessionCaching(newSSLContext);
     return newSSLContext;
   }
 
+  /**
+   * Returns the installed security provider with the given name. If there is none the name is taken
+   * to be the class name of a provider, which is then installed.
+   *
+   * @throws NoSuchProviderException if no provider by that name is installed or can be created
+   */
+  static Provider getSSLProvider(String name) throws NoSuchProviderException {
+    Provider provider = Security.getProvider(name);
+    if (provider != null) {
+      return provider;
+    }
+    try {
+      provider = (Provider) ClassPathLoader.getLatest().forName(name).getDeclaredConstructor()
+          .newInstance();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new NoSuchProviderException(
+          "No security provider named " + name + " is installed or could be created: " + e);
+    }
+    Security.addProvider(provider);
+    return provider;
+  }
+
+  /**
+   * Sizes the session caches of the given context. Sessions are cached by peer host and port, so a
+   * reconnect to a server or peer resumes its session with an abbreviated handshake for as long as
+   * the session stays in the cache.
+   */
+  private static void configureSessionCaching(SSLContext context) {
+    for (SSLSessionContext sessionContext : new SSLSessionContext[] {
+        context.getClientSessionContext(), context.getServerSessionContext()}) {
+      if (sessionContext == null) {
+        continue;
+      }
+      if (SSL_SESSION_CACHE_SIZE >= 0) {
+        sessionContext.setSessionCacheSize(SSL_SESSION_CACHE_SIZE);
+      }
+      if (SSL_SESSION_TIMEOUT >= 0) {
+        sessionContext.setSessionTimeout(SSL_SESSION_TIMEOUT);
+      }
+    }
+  }
+
   /**
    * Used by SystemAdmin to read the properties from console
    *
@@ -811,6 +890,15 @@ public class SocketCreator {
     return connect(InetAddress.getByName(host), port, timeout, null, true, socketBufferSize);
   }
 
+  /**
+   * Return a client socket. This method is used by client/server clients that want to be told
+   * about the TLS handshake.
+   */
+  public Socket connectForClient(String host, int port, int timeout, int socketBufferSize,
+      ConnectionWatcher watcher) throws IOException {
+    return connect(InetAddress.getByName(host), port, timeout, watcher, true, socketBufferSize);
+  }
+
   /**
    * Return a client socket. This method is used by peers.
    */
@@ -874,7 +962,7 @@ public class SocketCreator {
           optionalWatcher.beforeConnect(socket);
         }
         socket.connect(sockaddr, Math.max(timeout, 0));
-        configureClientSSLSocket(socket, timeout);
+        configureClientSSLSocket(socket, timeout, optionalWatcher);
         return socket;
       } else {
         if (clientSide && this.clientSocketFactory != null) {
@@ -944,7 +1032,7 @@ public class SocketCreator {
       }
     }
 
-    NioSslEngine nioSslEngine = new NioSslEngine(engine, bufferPool);
+    NioSslEngine nioSslEngine = new NioSslEngine(engine, bufferPool, sessionTracker);
 
     boolean blocking = socketChannel.isBlocking();
     if (blocking) {
@@ -1045,7 +1133,8 @@ public class SocketCreator {
    * When a socket is accepted from a server socket, it should be passed to this method for SSL
    * configuration.
    */
-  private void configureClientSSLSocket(Socket socket, int timeout) throws IOException {
+  private void configureClientSSLSocket(Socket socket, int timeout,
+      ConnectionWatcher optionalWatcher) throws IOException {
     if (socket instanceof SSLSocket) {
       SSLSocket sslSocket = (SSLSocket) socket;
 
@@ -1080,7 +1169,12 @@ public class SocketCreator {
         if (timeout > 0) {
           sslSocket.setSoTimeout(timeout);
         }
+        long handshakeStart = System.nanoTime();
         sslSocket.startHandshake();
+        if (optionalWatcher != null) {
+          optionalWatcher.afterTlsHandshake(socket, System.nanoTime() - handshakeStart,
+              sessionTracker.isResumed(sslSocket.getSession(), sslSocket.getUseClientMode()));
+        }
       }
       // Pre jkd11, startHandshake is throwing SocketTimeoutException.
       // in jdk 11 it is throwing SSLProtocolException with a cause of SocketTimeoutException.
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Tells whether a TLS handshake resumed an earlier session.
+ *
+ * A resumed handshake ends with the session that an earlier handshake negotiated, so it is
+ * recognized by the id of its session having been seen before. Session creation times cannot be
+ * used for this because providers do not agree on what they are for TLS 1.3 sessions. Client and
+ * server handshakes are tracked separately since both ends of a connection in one JVM see the
+ * same session. If a provider gives a resumed session a new id the handshake is counted as a full
+ * one, so resumptions may be undercounted but are never overcounted.
+ */
+class TlsSessionTracker {
+
+  /**
+   * The number of session ids remembered for each mode, matching the default size of the JDK's
+   * session caches.
+   */
+  static final int DEFAULT_MAX_SESSIONS = 20480;
+
+  private final Map<ByteBuffer, Boolean> clientSessionIds;
+
+  private final Map<ByteBuffer, Boolean> serverSessionIds;
+
+  TlsSessionTracker() {
+    this(DEFAULT_MAX_SESSIONS);
+  }
+
+  TlsSessionTracker(int maxSessions) {
+    clientSessionIds = createSessionIdMap(maxSessions);
+    serverSessionIds = createSessionIdMap(maxSessions);
+  }
+
+  private static Map<ByteBuffer, Boolean> createSessionIdMap(int maxSessions) {
+    return Collections.synchronizedMap(new LinkedHashMap<ByteBuffer, Boolean>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+        return size() > maxSessions;
+      }
+    });
+  }
+
+  /**
+   * Returns true if the given session of a completed handshake was negotiated by an earlier
+   * handshake in the same mode, and remembers it for later handshakes otherwise.
+   */
+  boolean isResumed(SSLSession session, boolean clientMode) {
+    if (session == null) {
+      return false;
+    }
+    byte[] id = session.getId();
+    if (id == null || id.length == 0) {
+      return false;
+    }
+    Map<ByteBuffer, Boolean> sessionIds = clientMode ? clientSessionIds : serverSessionIds;
+    return sessionIds.put(ByteBuffer.wrap(id.clone()), Boolean.TRUE) != null;
+  }
+}
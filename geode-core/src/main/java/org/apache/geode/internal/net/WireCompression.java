@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.Logger;
+import org.iq80.snappy.CorruptionException;
+import org.iq80.snappy.Snappy;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+import org.apache.geode.internal.ClassPathLoader;
+import org.apache.geode.internal.logging.LogService;
+
+/**
+ * The compression negotiated for the messages sent over a connection. Both sides of a connection
+ * use a {@link Compressor} of the same class, which the connecting side names in its handshake.
+ * Only payloads of at least the threshold size are compressed, and only if that makes them smaller,
+ * so every compressed payload has to be flagged as such on the wire.
+ *
+ * The accepting side reads the compressor name before the connecting side is authenticated, so it
+ * only creates compressors from {@link #ACCEPTED_COMPRESSORS} or the one configured locally.
+ * Compressed payloads are prefixed with their uncompressed length so that it can be checked against
+ * the maximum message size before the payload is decompressed.
+ *
+ * Instances are immutable and can be shared by the connections that use the same compressor.
+ */
+public class WireCompression {
+  private static final Logger logger = LogService.getLogger();
+
+  /** the default size, in bytes, from which payloads are compressed */
+  public static final int DEFAULT_THRESHOLD = 1024;
+
+  /** the compressors that are accepted when the connecting side asks for them */
+  @Immutable
+  static final Set<String> ACCEPTED_COMPRESSORS =
+      Collections.singleton(SnappyCompressor.class.getName());
+
+  /** the size of the uncompressed length that prefixes every compressed payload */
+  private static final int LENGTH_BYTES = 4;
+
+  private final String compressorName;
+
+  private final Compressor compressor;
+
+  private final int threshold;
+
+  WireCompression(String compressorName, Compressor compressor, int threshold) {
+    this.compressorName = compressorName;
+    this.compressor = compressor;
+    this.threshold = Math.max(1, threshold);
+  }
+
+  /**
+   * Creates the compression that uses an instance of the named {@link Compressor} class.
+   *
+   * @return the compression, or null if no compressor is named or it can't be created
+   */
+  public static WireCompression create(String compressorName, int threshold) {
+    if (StringUtils.isBlank(compressorName)) {
+      return null;
+    }
+    compressorName = compressorName.trim();
+    try {
+      Compressor compressor =
+          (Compressor) ClassPathLoader.getLatest().forName(compressorName).newInstance();
+      return new WireCompression(compressorName, compressor, threshold);
+    } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+      logger.warn("Unable to create wire compressor {}. Messages will not be compressed.",
+          compressorName, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes a handshake request for the given compression, or for no compression if it is null.
+   */
+  public static void writeRequest(WireCompression compression, DataOutput out)
+      throws IOException {
+    DataSerializer.writeString(compression == null ? null : compression.compressorName, out);
+    out.writeInt(compression == null ? 0 : compression.threshold);
+  }
+
+  /**
+   * Reads a handshake request written by {@link #writeRequest(WireCompression, DataOutput)}.
+   * Requests for compressors other than the accepted ones are refused.
+   *
+   * @param accept false if compression is disabled on this side
+   * @param localCompressorName the compressor configured on this side, which is accepted in
+   *        addition to {@link #ACCEPTED_COMPRESSORS}, or null if there is none
+   * @return the compression to use for the connection, or null if it is not used
+   */
+  public static WireCompression readRequest(DataInput in, boolean accept,
+      String localCompressorName) throws IOException {
+    String compressorName = DataSerializer.readString(in);
+    int threshold = in.readInt();
+    if (!accept || StringUtils.isBlank(compressorName)) {
+      return null;
+    }
+    compressorName = compressorName.trim();
+    if (!ACCEPTED_COMPRESSORS.contains(compressorName)
+        && !compressorName.equals(StringUtils.trim(localCompressorName))) {
+      logger.warn("Refusing to compress messages with {} since it is not an accepted compressor.",
+          compressorName);
+      return null;
+    }
+    return create(compressorName, threshold);
+  }
+
+  public String getCompressorName() {
+    return compressorName;
+  }
+
+  public int getThreshold() {
+    return threshold;
+  }
+
+  /**
+   * Compresses the given payload and prefixes it with its uncompressed length.
+   *
+   * @return the compressed payload, or null if the payload is below the threshold or does not get
+   *         any smaller
+   */
+  public byte[] compress(byte[] payload) {
+    if (payload.length < threshold) {
+      return null;
+    }
+    byte[] compressed = compressor.compress(payload);
+    if (compressed.length + LENGTH_BYTES >= payload.length) {
+      return null;
+    }
+    byte[] result = new byte[LENGTH_BYTES + compressed.length];
+    result[0] = (byte) (payload.length >>> 24);
+    result[1] = (byte) (payload.length >>> 16);
+    result[2] = (byte) (payload.length >>> 8);
+    result[3] = (byte) payload.length;
+    System.arraycopy(compressed, 0, result, LENGTH_BYTES, compressed.length);
+    return result;
+  }
+
+  /**
+   * Decompresses a payload written by {@link #compress(byte[])}.
+   *
+   * @param maxLength the largest uncompressed length that is accepted
+   * @throws IOException if the payload is corrupt or would decompress to more than maxLength bytes
+   */
+  public byte[] decompress(byte[] compressed, int maxLength) throws IOException {
+    if (compressed.length < LENGTH_BYTES) {
+      throw new IOException("Compressed payload of " + compressed.length + " bytes is truncated");
+    }
+    int length = ((compressed[0] & 0xff) << 24) | ((compressed[1] & 0xff) << 16)
+        | ((compressed[2] & 0xff) << 8) | (compressed[3] & 0xff);
+    if (length < 0 || length > maxLength) {
+      throw new IOException("Compressed payload would decompress to " + length
+          + " bytes which exceeds the maximum of " + maxLength);
+    }
+    byte[] data = Arrays.copyOfRange(compressed, LENGTH_BYTES, compressed.length);
+    byte[] payload;
+    try {
+      if (compressor instanceof SnappyCompressor
+          && Snappy.getUncompressedLength(data, 0) != length) {
+        // snappy allocates the length in its own header, so don't trust that either
+        throw new IOException("Compressed payload does not match its length of " + length);
+      }
+      payload = compressor.decompress(data);
+    } catch (CorruptionException | CompressionException e) {
+      throw new IOException("Unable to decompress payload", e);
+    }
+    if (payload.length != length) {
+      throw new IOException("Compressed payload decompressed to " + payload.length
+          + " bytes instead of " + length);
+    }
+    return payload;
+  }
+
+  @Override
+  public String toString() {
+    return "WireCompression[" + compressorName + ", threshold=" + threshold + "]";
+  }
+}
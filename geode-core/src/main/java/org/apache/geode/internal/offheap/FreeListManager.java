@@ -192,9 +192,26 @@ public class FreeListManager {
    */
   @SuppressWarnings("synthetic-access")
   public OffHeapStoredObject allocate(int size) {
+    return allocate(size, true);
+  }
+
+  /**
+   * Like {@link #allocate(int)} but does not treat a lack of free memory as a failure.
+   *
+   * @param size minimum bytes the returned chunk must have.
+   * @return the allocated chunk or null if a chunk can not be allocated.
+   */
+  public OffHeapStoredObject tryAllocate(int size) {
+    return allocate(size, false);
+  }
+
+  private OffHeapStoredObject allocate(int size, boolean failIfOutOfMemory) {
     assert size > 0;
 
-    OffHeapStoredObject result = basicAllocate(size, true);
+    OffHeapStoredObject result = basicAllocate(size, true, failIfOutOfMemory);
+    if (result == null) {
+      return null;
+    }
 
     result.setDataSize(size);
     this.allocatedSize.addAndGet(result.getSize());
@@ -203,7 +220,8 @@ public class FreeListManager {
     return result;
   }
 
-  private OffHeapStoredObject basicAllocate(int size, boolean useSlabs) {
+  private OffHeapStoredObject basicAllocate(int size, boolean useSlabs,
+      boolean failIfOutOfMemory) {
     if (useSlabs) {
       // Every object stored off heap has a header so we need
       // to adjust the size so that the header gets allocated.
@@ -212,13 +230,13 @@ public class FreeListManager {
       size += OffHeapStoredObject.HEADER_SIZE;
     }
     if (size <= MAX_TINY) {
-      return allocateTiny(size, useSlabs);
+      return allocateTiny(size, useSlabs, failIfOutOfMemory);
     } else {
-      return allocateHuge(size, useSlabs);
+      return allocateHuge(size, useSlabs, failIfOutOfMemory);
     }
   }
 
-  private OffHeapStoredObject allocateFromFragments(int chunkSize) {
+  private OffHeapStoredObject allocateFromFragments(int chunkSize, boolean failIfOutOfMemory) {
     do {
       final int lastAllocationId = this.lastFragmentAllocation.get();
       for (int i = lastAllocationId; i < this.fragmentList.size(); i++) {
@@ -235,6 +253,9 @@ public class FreeListManager {
       }
     } while (defragment(chunkSize));
     // We tried all the fragments and didn't find any free memory.
+    if (!failIfOutOfMemory) {
+      return null;
+    }
     logOffHeapState(chunkSize);
     final OutOfOffHeapMemoryException failure = new OutOfOffHeapMemoryException(
         "Out of off-heap memory. Could not allocate size of " + chunkSize);
@@ -385,6 +406,30 @@ public class FreeListManager {
     }
   }
 
+  /**
+   * Defragments memory if at least thresholdPercentage of the free memory is held in the tiny and
+   * huge free lists instead of in fragments. Memory in a free list can only be reused by an
+   * allocation of about the same size, so with variable sized values it can accumulate until an
+   * allocation fails even though plenty of memory is free. This is called periodically by the
+   * background defragmenter so that the free chunks are coalesced before an allocation has to wait
+   * for it.
+   *
+   * @return true if memory was defragmented
+   */
+  boolean defragmentIfFragmented(int thresholdPercentage) {
+    final OffHeapMemoryStats stats = this.ma.getStats();
+    long freeListMemory = getFreeTinyMemory() + getFreeHugeMemory();
+    stats.setFreeListMemory(freeListMemory);
+    long freeMemory = getFreeMemory();
+    if (freeListMemory == 0 || freeListMemory * 100 < freeMemory * thresholdPercentage) {
+      return false;
+    }
+    defragment(0);
+    stats.incBackgroundDefragmentations();
+    stats.setFreeListMemory(getFreeTinyMemory() + getFreeHugeMemory());
+    return true;
+  }
+
   /**
    * Simple interface the represents a "stack" of primitive longs. Currently this interface only
    * allows supports poll but more could be added if needed in the future. This interface was
@@ -683,7 +728,7 @@ public class FreeListManager {
           checkDataIntegrity(result);
           return result;
         } else {
-          OffHeapStoredObject result = basicAllocate(chunkSize, false);
+          OffHeapStoredObject result = basicAllocate(chunkSize, false, false);
           if (result != null) {
             return result;
           }
@@ -698,13 +743,15 @@ public class FreeListManager {
     return (int) ((((long) value + (multiple - 1)) / multiple) * multiple);
   }
 
-  private OffHeapStoredObject allocateTiny(int size, boolean useFragments) {
+  private OffHeapStoredObject allocateTiny(int size, boolean useFragments,
+      boolean failIfOutOfMemory) {
     return basicAllocate(getNearestTinyMultiple(size), TINY_MULTIPLE, 0, this.tinyFreeLists,
-        useFragments);
+        useFragments, failIfOutOfMemory);
   }
 
   private OffHeapStoredObject basicAllocate(int idx, int multiple, int offset,
-      AtomicReferenceArray<OffHeapStoredObjectAddressStack> freeLists, boolean useFragments) {
+      AtomicReferenceArray<OffHeapStoredObjectAddressStack> freeLists, boolean useFragments,
+      boolean failIfOutOfMemory) {
     OffHeapStoredObjectAddressStack clq = freeLists.get(idx);
     if (clq != null) {
       long memAddr = clq.poll();
@@ -716,13 +763,14 @@ public class FreeListManager {
       }
     }
     if (useFragments) {
-      return allocateFromFragments(((idx + 1) * multiple) + offset);
+      return allocateFromFragments(((idx + 1) * multiple) + offset, failIfOutOfMemory);
     } else {
       return null;
     }
   }
 
-  private OffHeapStoredObject allocateHuge(int size, boolean useFragments) {
+  private OffHeapStoredObject allocateHuge(int size, boolean useFragments,
+      boolean failIfOutOfMemory) {
     // sizeHolder is a fake Chunk used to search our sorted hugeChunkSet.
     OffHeapStoredObject sizeHolder = new SearchMarker(size);
     NavigableSet<OffHeapStoredObject> ts = this.hugeChunkSet.tailSet(sizeHolder);
@@ -740,7 +788,7 @@ public class FreeListManager {
     if (useFragments) {
       // We round it up to the next multiple of TINY_MULTIPLE to make
       // sure we always have chunks allocated on an 8 byte boundary.
-      return allocateFromFragments(round(TINY_MULTIPLE, size));
+      return allocateFromFragments(round(TINY_MULTIPLE, size), failIfOutOfMemory);
     } else {
       return null;
     }
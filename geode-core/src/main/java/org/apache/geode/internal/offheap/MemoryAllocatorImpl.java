@@ -22,6 +22,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.Logger;
@@ -37,6 +39,7 @@ import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.PartitionedRegionDataStore;
 import org.apache.geode.internal.cache.RegionEntry;
 import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingExecutors;
 import org.apache.geode.internal.offheap.annotations.OffHeapIdentifier;
 import org.apache.geode.internal.offheap.annotations.Unretained;
 
@@ -57,6 +60,20 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
   public static final String FREE_OFF_HEAP_MEMORY_PROPERTY =
       DistributionConfig.GEMFIRE_PREFIX + "free-off-heap-memory";
 
+  /**
+   * The interval, in milliseconds, at which the background defragmenter checks whether free
+   * memory has become fragmented. Zero, the default, disables background defragmentation.
+   */
+  public static final String BACKGROUND_DEFRAGMENTATION_INTERVAL_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "OFF_HEAP_BACKGROUND_DEFRAGMENTATION_INTERVAL";
+
+  /**
+   * The percentage of free memory that must be held in free lists, rather than in fragments, for
+   * the background defragmenter to defragment.
+   */
+  public static final String BACKGROUND_DEFRAGMENTATION_THRESHOLD_PROPERTY =
+      DistributionConfig.GEMFIRE_PREFIX + "OFF_HEAP_BACKGROUND_DEFRAGMENTATION_THRESHOLD";
+
   private volatile OffHeapMemoryStats stats;
 
   private volatile OutOfOffHeapMemoryListener ooohml;
@@ -69,6 +86,8 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
 
   private MemoryInspector memoryInspector;
 
+  private volatile ScheduledExecutorService backgroundDefragmenter;
+
   private volatile MemoryUsageListener[] memoryUsageListeners = new MemoryUsageListener[0];
 
   @MakeNotStatic
@@ -204,6 +223,7 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     this.ooohml = oooml;
     newStats.initialize(this.stats);
     this.stats = newStats;
+    startBackgroundDefragmenter();
   }
 
   private MemoryAllocatorImpl(final OutOfOffHeapMemoryListener oooml,
@@ -223,6 +243,38 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
 
     this.stats.incMaxMemory(this.freeList.getTotalMemory());
     this.stats.incFreeMemory(this.freeList.getTotalMemory());
+
+    startBackgroundDefragmenter();
+  }
+
+  /**
+   * Starts a thread that periodically defragments free memory once too much of it is held in free
+   * lists. This keeps the cost of coalescing free chunks off the allocating threads, which would
+   * otherwise only defragment after an allocation has already failed.
+   */
+  private synchronized void startBackgroundDefragmenter() {
+    long interval = Long.getLong(BACKGROUND_DEFRAGMENTATION_INTERVAL_PROPERTY, 0L);
+    if (interval <= 0 || this.backgroundDefragmenter != null) {
+      return;
+    }
+    int threshold = Integer.getInteger(BACKGROUND_DEFRAGMENTATION_THRESHOLD_PROPERTY, 50);
+    ScheduledExecutorService executor =
+        LoggingExecutors.newSingleThreadScheduledExecutor("OffHeapBackgroundDefragmenter");
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        this.freeList.defragmentIfFragmented(threshold);
+      } catch (RuntimeException e) {
+        logger.warn("Background defragmentation of off-heap memory failed", e);
+      }
+    }, interval, interval, TimeUnit.MILLISECONDS);
+    this.backgroundDefragmenter = executor;
+  }
+
+  private synchronized void stopBackgroundDefragmenter() {
+    if (this.backgroundDefragmenter != null) {
+      this.backgroundDefragmenter.shutdownNow();
+      this.backgroundDefragmenter = null;
+    }
   }
 
   public List<OffHeapStoredObject> getLostChunks(InternalCache cache) {
@@ -294,7 +346,10 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
   }
 
   private OffHeapStoredObject allocateOffHeapStoredObject(int size) {
-    OffHeapStoredObject result = this.freeList.allocate(size);
+    return allocated(this.freeList.allocate(size));
+  }
+
+  private OffHeapStoredObject allocated(OffHeapStoredObject result) {
     int resultSize = result.getSize();
     stats.incObjects(1);
     stats.incUsedMemory(resultSize);
@@ -350,6 +405,24 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     return result;
   }
 
+  @Override
+  public StoredObject tryAllocateAndInitialize(byte[] v, boolean isSerialized,
+      boolean isCompressed) {
+    long addr = OffHeapRegionEntryHelper.encodeDataAsAddress(v, isSerialized, isCompressed);
+    if (addr != 0L) {
+      return new TinyStoredObject(addr);
+    }
+    OffHeapStoredObject result = this.freeList.tryAllocate(v.length);
+    if (result == null) {
+      return null;
+    }
+    result = allocated(result);
+    result.setSerializedValue(v);
+    result.setSerialized(isSerialized);
+    result.setCompressed(isCompressed);
+    return result;
+  }
+
   @Override
   public long getFreeMemory() {
     return this.freeList.getFreeMemory();
@@ -370,6 +443,7 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     try {
       LifecycleListener.invokeBeforeClose(this);
     } finally {
+      stopBackgroundDefragmenter();
       this.ooohml.close();
       if (Boolean.getBoolean(FREE_OFF_HEAP_MEMORY_PROPERTY)) {
         realClose();
@@ -387,6 +461,7 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
   private void realClose() {
     // Removing this memory immediately can lead to a SEGV. See 47885.
     if (setClosed()) {
+      stopBackgroundDefragmenter();
       this.freeList.freeSlabs();
       this.stats.close();
       singleton = null;
@@ -43,6 +43,10 @@ public interface OffHeapMemoryStats {
 
   void setFragmentation(int value);
 
+  void setFreeListMemory(long value);
+
+  void incBackgroundDefragmentations();
+
   long getFreeMemory();
 
   long getMaxMemory();
@@ -65,6 +69,10 @@ public interface OffHeapMemoryStats {
 
   long getDefragmentationTime();
 
+  long getFreeListMemory();
+
+  int getBackgroundDefragmentations();
+
   Statistics getStats();
 
   void close();
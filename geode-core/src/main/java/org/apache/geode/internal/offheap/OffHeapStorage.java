@@ -61,6 +61,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
   private static final int defragmentationTimeId;
   private static final int fragmentationId;
   private static final int defragmentationsInProgressId;
+  private static final int freeListMemoryId;
+  private static final int backgroundDefragmentationsId;
   // NOTE!!!! When adding new stats make sure and update the initialize method on this class
 
   // creates and registers the statistics type
@@ -85,6 +87,10 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objectsDesc = "The number of objects stored in off-heap memory.";
     final String readsDesc =
         "The total number of reads of off-heap memory. Only reads of a full object increment this statistic. If only a part of the object is read this statistic is not incremented.";
+    final String freeListMemoryDesc =
+        "The amount of free off-heap memory, in bytes, held in free lists of previously allocated chunks rather than in fragments. Updated every time the background defragmenter checks for fragmentation.";
+    final String backgroundDefragmentationsDesc =
+        "The total number of times off-heap memory has been defragmented by the background defragmenter instead of by a failed allocation.";
     final String maxMemoryDesc =
         "The maximum amount of off-heap memory, in bytes. This is the amount of memory allocated at startup and does not change.";
 
@@ -99,6 +105,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objects = "objects";
     final String reads = "reads";
     final String maxMemory = "maxMemory";
+    final String freeListMemory = "freeListMemory";
+    final String backgroundDefragmentations = "backgroundDefragmentations";
 
     statsType = f.createType(statsTypeName, statsTypeDescription,
         new StatisticDescriptor[] {f.createLongGauge(usedMemory, usedMemoryDesc, "bytes"),
@@ -112,7 +120,10 @@ public class OffHeapStorage implements OffHeapMemoryStats {
             f.createIntGauge(largestFragment, largestFragmentDesc, "bytes"),
             f.createIntGauge(objects, objectsDesc, "objects"),
             f.createLongCounter(reads, readsDesc, "operations"),
-            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),});
+            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),
+            f.createLongGauge(freeListMemory, freeListMemoryDesc, "bytes"),
+            f.createIntCounter(backgroundDefragmentations, backgroundDefragmentationsDesc,
+                "operations"),});
 
     usedMemoryId = statsType.nameToId(usedMemory);
     defragmentationId = statsType.nameToId(defragmentations);
@@ -125,6 +136,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     objectsId = statsType.nameToId(objects);
     readsId = statsType.nameToId(reads);
     maxMemoryId = statsType.nameToId(maxMemory);
+    freeListMemoryId = statsType.nameToId(freeListMemory);
+    backgroundDefragmentationsId = statsType.nameToId(backgroundDefragmentations);
   }
 
   public static long parseOffHeapMemorySize(String value) {
@@ -387,6 +400,26 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     return this.stats.getInt(fragmentationId);
   }
 
+  @Override
+  public void setFreeListMemory(long value) {
+    this.stats.setLong(freeListMemoryId, value);
+  }
+
+  @Override
+  public long getFreeListMemory() {
+    return this.stats.getLong(freeListMemoryId);
+  }
+
+  @Override
+  public void incBackgroundDefragmentations() {
+    this.stats.incInt(backgroundDefragmentationsId, 1);
+  }
+
+  @Override
+  public int getBackgroundDefragmentations() {
+    return this.stats.getInt(backgroundDefragmentationsId);
+  }
+
   @Override
   public Statistics getStats() {
     return this.stats;
@@ -410,6 +443,8 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     setLargestFragment(oldStats.getLargestFragment());
     setDefragmentationTime(oldStats.getDefragmentationTime());
     setFragmentation(oldStats.getFragmentation());
+    setFreeListMemory(oldStats.getFreeListMemory());
+    setBackgroundDefragmentations(oldStats.getBackgroundDefragmentations());
 
     oldStats.close();
   }
@@ -418,6 +453,10 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     stats.setLong(defragmentationTimeId, value);
   }
 
+  private void setBackgroundDefragmentations(int value) {
+    this.stats.setInt(backgroundDefragmentationsId, value);
+  }
+
   private void setDefragmentations(int value) {
     this.stats.setInt(defragmentationId, value);
   }
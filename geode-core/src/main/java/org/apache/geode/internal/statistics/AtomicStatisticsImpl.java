@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.geode.StatisticsType;
+
+/**
+ * Atomic statistics that keep their values in {@link AtomicLongArray}s. Doubles are stored as their
+ * raw long bits.
+ *
+ * These statistics need much less memory than {@link StripedStatisticsImpl} but all threads update
+ * the same values, so they are only used for compact types that have many rarely updated
+ * instances. See {@link StatisticsTypeFactoryImpl#createCompactType}.
+ */
+public class AtomicStatisticsImpl extends StatisticsImpl {
+
+  private final AtomicLongArray longValues;
+  private final AtomicLongArray doubleBits;
+  private final int longCount;
+
+  public AtomicStatisticsImpl(StatisticsType type, String textId, long numericId,
+      long uniqueId, StatisticsManager statisticsManager) {
+    super(type, textId, numericId, uniqueId, 0, statisticsManager);
+
+    StatisticsTypeImpl realType = (StatisticsTypeImpl) type;
+
+    this.longCount = realType.getLongStatCount();
+    this.longValues = new AtomicLongArray(realType.getLongStatCount());
+    // the raw bits of 0.0 are 0
+    this.doubleBits = new AtomicLongArray(realType.getDoubleStatCount());
+  }
+
+  @Override
+  public boolean isAtomic() {
+    return true;
+  }
+
+  private int getOffsetFromLongId(int id) {
+    return id;
+  }
+
+  private int getOffsetFromDoubleId(int id) {
+    return id - this.longCount;
+  }
+
+  @Override
+  protected void _setLong(int id, long value) {
+    this.longValues.set(getOffsetFromLongId(id), value);
+  }
+
+  @Override
+  protected void _setDouble(int id, double value) {
+    this.doubleBits.set(getOffsetFromDoubleId(id), Double.doubleToLongBits(value));
+  }
+
+  @Override
+  protected long _getLong(int id) {
+    return this.longValues.get(getOffsetFromLongId(id));
+  }
+
+  @Override
+  protected double _getDouble(int id) {
+    return Double.longBitsToDouble(this.doubleBits.get(getOffsetFromDoubleId(id)));
+  }
+
+  @Override
+  protected void _incLong(int id, long delta) {
+    this.longValues.getAndAdd(getOffsetFromLongId(id), delta);
+  }
+
+  @Override
+  protected void _incDouble(int id, double delta) {
+    int offset = getOffsetFromDoubleId(id);
+    while (true) {
+      long currentBits = this.doubleBits.get(offset);
+      long newBits = Double.doubleToLongBits(Double.longBitsToDouble(currentBits) + delta);
+      if (this.doubleBits.compareAndSet(offset, currentBits, newBits)) {
+        return;
+      }
+    }
+  }
+}
@@ -30,8 +30,7 @@ import org.apache.geode.annotations.Immutable;
 public class DummyStatisticsFactory implements StatisticsFactory {
 
   @Immutable
-  private static final StatisticsTypeFactoryImpl tf =
-      (StatisticsTypeFactoryImpl) StatisticsTypeFactoryImpl.singleton();
+  private static final StatisticsTypeFactoryImpl tf = StatisticsTypeFactoryImpl.singleton();
 
   /** Creates a new instance of DummyStatisticsFactory */
   public DummyStatisticsFactory() {}
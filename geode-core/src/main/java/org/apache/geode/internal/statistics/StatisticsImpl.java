@@ -89,10 +89,14 @@ public abstract class StatisticsImpl implements Statistics {
   private volatile boolean closed;
 
   /**
-   * factory method to create a class that implements Statistics
+   * factory method to create a class that implements Statistics. The statistics are striped
+   * unless their type is not striped.
    */
   static Statistics createAtomicNoOS(StatisticsType type, String textId, long numericId,
       long uniqueId, StatisticsManager statisticsManager) {
+    if (type instanceof StatisticsTypeImpl && !((StatisticsTypeImpl) type).isStriped()) {
+      return new AtomicStatisticsImpl(type, textId, numericId, uniqueId, statisticsManager);
+    }
     return new StripedStatisticsImpl(type, textId, numericId, uniqueId, statisticsManager);
   }
 
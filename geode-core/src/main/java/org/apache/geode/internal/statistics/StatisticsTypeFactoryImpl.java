@@ -42,7 +42,7 @@ public class StatisticsTypeFactoryImpl implements StatisticsTypeFactory {
   /**
    * Returns the single instance of this class.
    */
-  public static StatisticsTypeFactory singleton() {
+  public static StatisticsTypeFactoryImpl singleton() {
     return singleton;
   }
 
@@ -85,6 +85,16 @@ public class StatisticsTypeFactoryImpl implements StatisticsTypeFactory {
     return addType(new StatisticsTypeImpl(name, description, stats));
   }
 
+  /**
+   * Creates a type like {@link #createType(String, String, StatisticDescriptor[])} does, whose
+   * atomic statistics do not stripe their values across threads. Use it for types that have many
+   * instances whose statistics are rarely updated, where striping would cost memory for nothing.
+   */
+  public StatisticsType createCompactType(String name, String description,
+      StatisticDescriptor[] stats) {
+    return addType(new StatisticsTypeImpl(name, description, stats, false));
+  }
+
   @Override
   public StatisticsType findType(String name) {
     return (StatisticsType) this.statTypes.get(name);
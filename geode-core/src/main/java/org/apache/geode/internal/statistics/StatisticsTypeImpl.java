@@ -52,6 +52,9 @@ public class StatisticsTypeImpl implements StatisticsType {
   /** Contains the number of double statistics in this type. */
   private final int doubleStatCount;
 
+  /** True if atomic statistics of this type stripe their values across threads */
+  private final boolean striped;
+
   ///////////////////// Static Methods /////////////////////
 
   /**
@@ -76,6 +79,27 @@ public class StatisticsTypeImpl implements StatisticsType {
    *         <code>null</code>.
    */
   public StatisticsTypeImpl(String name, String description, StatisticDescriptor[] stats) {
+    this(name, description, stats, true);
+  }
+
+  /**
+   * Creates a new <code>StatisticsType</code> with the given name, description, and statistics.
+   *
+   * @param name The name of this statistics type (for example, <code>"DatabaseStatistics"</code>)
+   * @param description A description of this statistics type (for example, "Information about the
+   *        application's use of the database").
+   * @param stats Descriptions of the individual statistics grouped together in this statistics
+   *        type.
+   * @param striped True if atomic statistics of this type should stripe their values across
+   *        threads. Striping reduces the contention of statistics that many threads update
+   *        concurrently, at the cost of more memory per statistics instance. The
+   *        constructor without this parameter creates striped types.
+   *
+   * @throws NullPointerException If either <code>name</code> or <code>stats</code> is
+   *         <code>null</code>.
+   */
+  public StatisticsTypeImpl(String name, String description, StatisticDescriptor[] stats,
+      boolean striped) {
     if (name == null) {
       throw new NullPointerException(
           "Cannot have a null statistics type name.");
@@ -96,6 +120,7 @@ public class StatisticsTypeImpl implements StatisticsType {
     this.description = description;
     this.stats = stats;
     this.statsMap = new HashMap<>(stats.length * 2);
+    this.striped = striped;
 
     longStatCount = addTypedDescriptorToMap(StatisticDescriptorImpl.LONG, 0);
     doubleStatCount = addTypedDescriptorToMap(StatisticDescriptorImpl.DOUBLE, longStatCount);
@@ -172,6 +197,15 @@ public class StatisticsTypeImpl implements StatisticsType {
     return this.doubleStatCount;
   }
 
+  /**
+   * Returns true if atomic statistics of this type stripe their values across threads.
+   *
+   * @see StripedStatisticsImpl
+   */
+  public boolean isStriped() {
+    return this.striped;
+  }
+
   // @Override
   // public String toString() {
   // return "StatisticType with " + this.stats.length + " stats";
@@ -23,7 +23,8 @@ import org.apache.geode.StatisticsType;
 
 /**
  * Stripes statistic counters across threads to reduce contention using {@link LongAdder} and
- * {@link DoubleAdder}.
+ * {@link DoubleAdder}. Used for the atomic statistics of all types that are
+ * {@link StatisticsTypeImpl#isStriped() striped}, which is the default.
  */
 public class StripedStatisticsImpl extends StatisticsImpl {
 
@@ -28,6 +28,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,6 +38,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -80,7 +83,9 @@ import org.apache.geode.internal.logging.LoggingThread;
 import org.apache.geode.internal.net.BufferPool;
 import org.apache.geode.internal.net.NioFilter;
 import org.apache.geode.internal.net.NioPlainEngine;
+import org.apache.geode.internal.net.NioSslEngine;
 import org.apache.geode.internal.net.SocketCreator;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.internal.security.SecurableCommunicationChannel;
 import org.apache.geode.internal.tcp.MsgReader.Header;
 import org.apache.geode.internal.util.concurrent.ReentrantSemaphore;
@@ -104,6 +109,8 @@ public class Connection implements Runnable {
   static final int CHUNKED_MSG_TYPE = 0x4d; // a chunk of one logical msg
   static final int END_CHUNKED_MSG_TYPE = 0x4e; // last in a series of chunks
   static final int DIRECT_ACK_BIT = 0x20;
+  /** set in the message type of a message whose payload is compressed */
+  static final int COMPRESSED_BIT = 0x80;
 
   static final int MSG_HEADER_SIZE_OFFSET = 0;
   static final int MSG_HEADER_TYPE_OFFSET = 4;
@@ -228,6 +235,32 @@ public class Connection implements Runnable {
    */
   private Version remoteVersion;
 
+  /**
+   * The class name of the {@link org.apache.geode.compression.Compressor} that this member asks
+   * its peers to accept compressed messages from. Messages are not compressed if this is not set.
+   */
+  private static final String COMPRESSOR = System.getProperty("p2p.compressor");
+
+  /** the size, in bytes, from which messages to peers are compressed */
+  private static final int COMPRESSION_THRESHOLD =
+      Integer.getInteger("p2p.compressionThreshold", WireCompression.DEFAULT_THRESHOLD);
+
+  /** peers are refused compressed messages if this is set to false */
+  private static final boolean ACCEPT_COMPRESSION =
+      Boolean.parseBoolean(System.getProperty("p2p.acceptCompression", "true"));
+
+  @MakeNotStatic
+  private static WireCompression requestedCompression;
+
+  @MakeNotStatic
+  private static boolean requestedCompressionInitialized;
+
+  /**
+   * The compression negotiated during the handshake. Only messages from the sender to the receiver
+   * are compressed; replies sent back over a thread-owned receiver never are.
+   */
+  private volatile WireCompression wireCompression;
+
   /**
    * True if this connection was accepted by a listening socket. This makes it a receiver. False if
    * this connection was explicitly created by a connect call. This makes it a sender.
@@ -320,6 +353,12 @@ public class Connection implements Runnable {
   /** message reader thread */
   private volatile Thread readerThread;
 
+  /** true once the reading of this receiver has been handed over to a {@link ReaderEventLoop} */
+  private volatile boolean readByEventLoop;
+
+  /** the domino count received in the handshake of a receiver */
+  private int receiverDominoCount;
+
   /** whether the reader thread is, or should be, running */
   volatile boolean stopped = true;
 
@@ -397,6 +436,9 @@ public class Connection implements Runnable {
 
   private boolean directAck;
 
+  /** whether the payload of the message being received is compressed */
+  private boolean compressedMessage;
+
 
   /** is this connection used for serial message delivery? */
   boolean preserveOrder = false;
@@ -651,6 +693,8 @@ public class Connection implements Runnable {
       bb.putInt(cfg.getAsyncMaxQueueSize());
       // write own product version
       Version.writeOrdinal(bb, Version.CURRENT.ordinal(), true);
+      // tell the sender whether it may compress its messages
+      bb.put((byte) (this.wireCompression != null ? 1 : 0));
       // now set the msg length into position 0
       bb.putInt(0, calcHdrSize(bb.position() - MSG_HEADER_BYTES));
       my_okHandshakeBuf = bb;
@@ -850,6 +894,9 @@ public class Connection implements Runnable {
     // write the product version ordinal
     Version.CURRENT.writeOrdinal(connectHandshake, true);
     connectHandshake.writeInt(dominoCount.get() + 1);
+    // Receivers older than GEODE_1_10_0 ignore the compression request, so it is added without
+    // bumping HANDSHAKE_VERSION. Newer receivers reply whether they accept it.
+    WireCompression.writeRequest(getRequestedCompression(), connectHandshake);
     // this writes the sending member + thread name that is stored in senderName
     // on the receiver to show the cause of reader thread creation
     // if (dominoCount.get() > 0) {
@@ -1073,6 +1120,8 @@ public class Connection implements Runnable {
     }
     if (preserveOrder && BATCH_SENDS) {
       conn.createBatchSendBuffer();
+    } else if (preserveOrder && sharedResource && COALESCE_SENDS) {
+      conn.createSendCoalescer();
     }
     conn.finishedConnecting = true;
     return conn;
@@ -1211,6 +1260,24 @@ public class Connection implements Runnable {
     this.batchFlusher.start();
   }
 
+  /**
+   * Whether shared ordered connections coalesce the messages sent by different threads into fewer
+   * socket writes. Unlike batch sends this only holds a message back for a bounded number of
+   * microseconds, and not at all while another write is in progress.
+   */
+  private static final boolean COALESCE_SENDS = Boolean.getBoolean("p2p.coalesceSends");
+  /** how long, in microseconds, a sender waits for other messages to write along with its own */
+  private static final long COALESCE_WINDOW_MICROS = Long.getLong("p2p.coalesceWindowMicros", 20);
+  private static final int COALESCE_BUFFER_SIZE =
+      Integer.getInteger("p2p.coalesceBufferSize", 64 * 1024);
+  private SendCoalescer sendCoalescer;
+
+  private void createSendCoalescer() {
+    this.sendCoalescer = new SendCoalescer(COALESCE_BUFFER_SIZE,
+        TimeUnit.MICROSECONDS.toNanos(COALESCE_WINDOW_MICROS), BufferPool.useDirectBuffers,
+        (buffer, msg) -> writePreserialized(buffer, msg), owner.getConduit().getStats());
+  }
+
   void cleanUpOnIdleTaskCancel() {
     // Make sure receivers are removed from the connection table, this should always be a noop, but
     // is done here as a failsafe.
@@ -1333,6 +1400,9 @@ public class Connection implements Runnable {
     if (this.batchFlusher != null) {
       this.batchFlusher.close();
     }
+    if (this.sendCoalescer != null) {
+      this.sendCoalescer.close();
+    }
   }
 
   /**
@@ -1578,34 +1648,159 @@ public class Connection implements Runnable {
     try {
       readMessages();
     } finally {
-      // bug36060: do the socket close within a finally block
-      if (logger.isDebugEnabled()) {
-        logger.debug("Stopping {} for {}", p2pReaderName(), remoteAddr);
+      if (this.readByEventLoop) {
+        // the event loop reads this connection from now on and cleans up when it stops
+        this.readerThread.setName("unused p2p reader");
+        synchronized (this.stateLock) {
+          this.readerThread = null;
+        }
+      } else {
+        readerStopped();
       }
-      if (this.isReceiver) {
-        try {
-          initiateSuspicionIfSharedUnordered();
-        } catch (CancelException e) {
-          // shutting down
+    }
+  }
+
+  private void readerStopped() {
+    // bug36060: do the socket close within a finally block
+    if (logger.isDebugEnabled()) {
+      logger.debug("Stopping {} for {}", p2pReaderName(), remoteAddr);
+    }
+    if (this.isReceiver) {
+      try {
+        initiateSuspicionIfSharedUnordered();
+      } catch (CancelException e) {
+        // shutting down
+      }
+      if (!this.sharedResource) {
+        this.conduit.getStats().incThreadOwnedReceivers(-1L, this.receiverDominoCount);
+      }
+      asyncClose(false);
+      this.owner.removeAndCloseThreadOwnedSockets();
+    }
+    releaseInputBuffer();
+
+    // make sure that if the reader thread exits we notify a thread waiting
+    // for the handshake.
+    // see bug 37524 for an example of listeners hung in waitForHandshake
+    notifyHandshakeWaiter(false);
+    Thread thread = this.readerThread;
+    if (thread != null) {
+      thread.setName("unused p2p reader");
+    }
+    synchronized (this.stateLock) {
+      this.isRunning = false;
+      this.readerThread = null;
+    }
+  }
+
+  /**
+   * Hands the reading of this receiver over to the conduit's {@link ReaderEventLoop}, if it has
+   * one, so that the reader thread can be released. Connections using TLS are always read by
+   * their own thread.
+   *
+   * @return true if the event loop reads this connection from now on
+   */
+  private boolean handOffToEventLoop(SocketChannel channel) {
+    ReaderEventLoop eventLoop = this.owner.getReaderEventLoop();
+    if (eventLoop == null || getConduit().useSSL() || stopped) {
+      return false;
+    }
+    this.readByEventLoop = true;
+    try {
+      eventLoop.register(channel, new ReaderEventLoop.Reader() {
+        @Override
+        public boolean readAvailable() {
+          return readAvailableMessages(channel);
         }
-        if (!this.sharedResource) {
-          this.conduit.getStats().incThreadOwnedReceivers(-1L, dominoCount.get());
+
+        @Override
+        public void readerStopped() {
+          Connection.this.readerStopped();
         }
-        asyncClose(false);
-        this.owner.removeAndCloseThreadOwnedSockets();
+      });
+      return true;
+    } catch (IOException | RuntimeException e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Unable to hand {} over to the reader event loop", this, e);
+      }
+      this.readByEventLoop = false;
+      try {
+        channel.configureBlocking(true);
+      } catch (IOException | RuntimeException ignore) {
+        // the connection is being closed; the reader thread will notice
       }
-      releaseInputBuffer();
+      return false;
+    }
+  }
 
-      // make sure that if the reader thread exits we notify a thread waiting
-      // for the handshake.
-      // see bug 37524 for an example of listeners hung in waitForHandshake
-      notifyHandshakeWaiter(false);
-      this.readerThread.setName("unused p2p reader");
-      synchronized (this.stateLock) {
-        this.isRunning = false;
-        this.readerThread = null;
+  /**
+   * Reads and processes the messages available on the channel of a receiver read by a
+   * {@link ReaderEventLoop}, without blocking.
+   *
+   * @return false if the connection has been closed
+   */
+  private boolean readAvailableMessages(SocketChannel channel) {
+    // give the worker thread the same identity as a dedicated reader thread of this connection
+    makeReaderThread(true);
+    isDominoThread.set(Boolean.FALSE);
+    ConnectionTable.threadWantsSharedResources();
+    if (!this.sharedResource) {
+      dominoCount.set(this.receiverDominoCount);
+      if (!tipDomino()) {
+        ConnectionTable.threadWantsOwnResources();
       }
-    } // finally
+    } else {
+      dominoCount.set(0);
+    }
+    try {
+      for (;;) {
+        if (stopped || this.owner.getConduit().getCancelCriterion().isCancelInProgress()) {
+          return false;
+        }
+        synchronized (stateLock) {
+          connectionState = STATE_READING;
+        }
+        int amountRead = channel.read(getInputBuffer());
+        synchronized (stateLock) {
+          connectionState = STATE_IDLE;
+        }
+        if (amountRead == 0) {
+          return true;
+        }
+        if (amountRead < 0) {
+          this.readerShuttingDown = true;
+          requestClose("SocketChannel.read returned EOF");
+          return false;
+        }
+        processInputBuffer();
+      }
+    } catch (CancelException e) {
+      this.readerShuttingDown = true;
+      requestClose(String.format("CacheClosed in channel read: %s", e));
+      return false;
+    } catch (IOException e) {
+      if (logger.isDebugEnabled() && !isSocketClosed() && !isIgnorableIOException(e)) {
+        logger.debug("{} io exception for {}", p2pReaderName(), this, e);
+      }
+      this.readerShuttingDown = true;
+      requestClose(String.format("IOException in channel read: %s", e));
+      return false;
+    } catch (Exception e) {
+      if (!stopped && !isSocketClosed()
+          && !this.owner.getConduit().getCancelCriterion().isCancelInProgress()) {
+        logger.fatal(String.format("%s exception in channel read", p2pReaderName()), e);
+      }
+      this.readerShuttingDown = true;
+      requestClose(String.format("%s exception in channel read", e));
+      return false;
+    } finally {
+      synchronized (stateLock) {
+        connectionState = STATE_IDLE;
+      }
+      ConnectionTable.threadWantsSharedResources();
+      isDominoThread.set(Boolean.FALSE);
+      dominoCount.set(0);
+    }
   }
 
   private void releaseInputBuffer() {
@@ -1746,6 +1941,15 @@ public class Connection implements Runnable {
 
           processInputBuffer();
 
+          if (this.isReceiver && this.handshakeRead && handOffToEventLoop(channel)) {
+            if (logger.isDebugEnabled()) {
+              logger.debug("{} handed over to the reader event loop", this);
+            }
+            // the connection state now belongs to the event loop
+            isHandShakeReader = true;
+            break;
+          }
+
           if (!this.isReceiver && (this.handshakeRead || this.handshakeCancelled)) {
             if (logger.isDebugEnabled()) {
               if (this.handshakeRead) {
@@ -1854,9 +2058,12 @@ public class Connection implements Runnable {
       if (channel.socket().getSendBufferSize() < packetBufferSize) {
         channel.socket().setSendBufferSize(packetBufferSize);
       }
-      ioFilter = getConduit().getSocketCreator().handshakeSSLSocketChannel(channel, engine,
-          getConduit().idleConnectionTimeout, clientSocket, inputBuffer,
+      NioSslEngine sslEngine = getConduit().getSocketCreator().handshakeSSLSocketChannel(channel,
+          engine, getConduit().idleConnectionTimeout, clientSocket, inputBuffer,
           getBufferPool());
+      getConduit().getStats().endTlsHandshake(sslEngine.getHandshakeNanos(),
+          sslEngine.isResumedSession());
+      ioFilter = sslEngine;
     } else {
       ioFilter = new NioPlainEngine(getBufferPool());
     }
@@ -1975,10 +2182,57 @@ public class Connection implements Runnable {
       throw new ConnectionException(
           String.format("Not connected to %s", this.remoteAddr));
     }
+    if (this.wireCompression != null && !this.isReceiver) {
+      buffer = compressMessage(buffer, this.wireCompression);
+    }
     if (this.batchFlusher != null) {
       batchSend(buffer);
       return;
     }
+    if (this.sendCoalescer != null) {
+      this.sendCoalescer.send(buffer, msg);
+      if (cacheContentChanges) {
+        messagesSent++;
+      }
+      accessed();
+      return;
+    }
+    writePreserialized(buffer, msg);
+    if (cacheContentChanges) {
+      messagesSent++;
+    }
+  }
+
+  /**
+   * Returns a copy of the serialized message in buffer with its payload compressed, or buffer
+   * itself if the payload is below the compression threshold or does not get any smaller. The
+   * position of buffer is left unchanged.
+   */
+  static ByteBuffer compressMessage(ByteBuffer buffer, WireCompression compression) {
+    final int start = buffer.position();
+    final int payloadLength = buffer.remaining() - MSG_HEADER_BYTES;
+    if (payloadLength < compression.getThreshold()) {
+      return buffer;
+    }
+    byte[] payload = new byte[payloadLength];
+    ByteBuffer source = buffer.duplicate();
+    source.position(start + MSG_HEADER_BYTES);
+    source.get(payload);
+    byte[] compressed = compression.compress(payload);
+    if (compressed == null) {
+      return buffer;
+    }
+    ByteBuffer result = ByteBuffer.allocate(MSG_HEADER_BYTES + compressed.length);
+    result.putInt(calcHdrSize(compressed.length));
+    result.put((byte) (buffer.get(start + MSG_HEADER_TYPE_OFFSET) | COMPRESSED_BIT));
+    result.putShort(buffer.getShort(start + MSG_HEADER_ID_OFFSET));
+    result.put(compressed);
+    result.flip();
+    return result;
+  }
+
+  private void writePreserialized(ByteBuffer buffer, DistributionMessage msg)
+      throws IOException, ConnectionException {
     final boolean origSocketInUse = this.socketInUse;
     byte originalState;
     synchronized (stateLock) {
@@ -1989,9 +2243,6 @@ public class Connection implements Runnable {
     try {
       SocketChannel channel = getSocket().getChannel();
       writeFully(channel, buffer, false, msg);
-      if (cacheContentChanges) {
-        messagesSent++;
-      }
     } finally {
       accessed();
       this.socketInUse = origSocketInUse;
@@ -2740,6 +2991,9 @@ public class Connection implements Runnable {
           } finally {
             stats.endSocketWrite(true, start, amtWritten, 0);
           }
+          if (amtWritten == 0 && !channel.isBlocking()) {
+            waitUntilWritable(channel);
+          }
         }
 
       } // synchronized
@@ -2748,6 +3002,24 @@ public class Connection implements Runnable {
     }
   }
 
+  /**
+   * Waits until the peer has made room in its socket buffer. The channel of a receiver read by a
+   * {@link ReaderEventLoop} is non-blocking, so without waiting a synchronous write would spin
+   * while the buffer is full.
+   */
+  private void waitUntilWritable(SocketChannel channel) throws IOException {
+    try (Selector selector = Selector.open()) {
+      channel.register(selector, SelectionKey.OP_WRITE);
+      // wake up periodically to notice cancellation and closed channels
+      while (selector.select(1000) == 0) {
+        this.owner.getConduit().getCancelCriterion().checkCancelInProgress(null);
+        if (!channel.isOpen()) {
+          throw new ClosedChannelException();
+        }
+      }
+    }
+  }
+
   /** gets the buffer for receiving message length bytes */
   private ByteBuffer getInputBuffer() {
     if (inputBuffer == null) {
@@ -2924,7 +3196,11 @@ public class Connection implements Runnable {
 
           if (this.handshakeRead) {
             try {
-              readMessage(peerDataBuffer);
+              if (compressedMessage) {
+                readCompressedMessage(peerDataBuffer);
+              } else {
+                readMessage(peerDataBuffer);
+              }
             } catch (SerializationException e) {
               logger.info("input buffer startPos {} oldLimit {}", startPos, oldLimit);
               throw e;
@@ -2997,8 +3273,12 @@ public class Connection implements Runnable {
           dominoNumber = 0;
         }
         dominoCount.set(dominoNumber);
+        this.receiverDominoCount = dominoNumber;
         // this.senderName = dis.readUTF();
       }
+      if (negotiatesCompression()) {
+        this.wireCompression = WireCompression.readRequest(dis, ACCEPT_COMPRESSION, COMPRESSOR);
+      }
       if (!this.sharedResource) {
         if (tipDomino()) {
           logger.info(
@@ -3086,6 +3366,16 @@ public class Connection implements Runnable {
     if (directAck) {
       messageType &= ~DIRECT_ACK_BIT; // clear the ack bit
     }
+    compressedMessage = (messageType & COMPRESSED_BIT) != 0;
+    if (compressedMessage) {
+      messageType &= ~COMPRESSED_BIT;
+      if (this.wireCompression == null) {
+        logger.fatal("Received a compressed P2P message without having negotiated compression");
+        this.readerShuttingDown = true;
+        requestClose("Received a compressed P2P message without having negotiated compression");
+        return true;
+      }
+    }
     // Following validation fixes bug 31145
     if (!validMsgType(messageType)) {
       Integer nioMessageTypeInteger = (int) messageType;
@@ -3102,6 +3392,30 @@ public class Connection implements Runnable {
     return false;
   }
 
+  /**
+   * Decompresses the payload of the message in peerDataBuffer and reads the message from it.
+   */
+  private void readCompressedMessage(ByteBuffer peerDataBuffer) {
+    final int compressedLength = messageLength;
+    byte[] compressed = new byte[peerDataBuffer.remaining()];
+    peerDataBuffer.get(compressed);
+    byte[] payload;
+    try {
+      payload = this.wireCompression.decompress(compressed, MAX_MSG_SIZE);
+    } catch (IOException e) {
+      logger.fatal("Unable to decompress P2P message", e);
+      this.readerShuttingDown = true;
+      requestClose("Unable to decompress P2P message: " + e.getMessage());
+      return;
+    }
+    messageLength = payload.length;
+    try {
+      readMessage(ByteBuffer.wrap(payload));
+    } finally {
+      messageLength = compressedLength;
+    }
+  }
+
   private void readMessage(ByteBuffer peerDataBuffer) {
     if (messageType == NORMAL_MSG_TYPE) {
       this.owner.getConduit().getStats().incMessagesBeingReceived(true, messageLength);
@@ -3281,6 +3595,22 @@ public class Connection implements Runnable {
     }
   }
 
+  /**
+   * Compression is negotiated with members of the version that introduced it, or a later one.
+   */
+  private boolean negotiatesCompression() {
+    return this.remoteVersion == null
+        || this.remoteVersion.compareTo(Version.GEODE_1_10_0) >= 0;
+  }
+
+  private static synchronized WireCompression getRequestedCompression() {
+    if (!requestedCompressionInitialized) {
+      requestedCompression = WireCompression.create(COMPRESSOR, COMPRESSION_THRESHOLD);
+      requestedCompressionInitialized = true;
+    }
+    return requestedCompression;
+  }
+
   private void readHandshakeForSender(DataInputStream dis, ByteBuffer peerDataBuffer) {
     try {
       this.replyCode = dis.readUnsignedByte();
@@ -3304,6 +3634,9 @@ public class Connection implements Runnable {
           // read the product version ordinal for on-the-fly serialization
           // transformations (for rolling upgrades)
           this.remoteVersion = Version.readVersion(dis, true);
+          if (negotiatesCompression() && dis.readBoolean()) {
+            this.wireCompression = getRequestedCompression();
+          }
           ioFilter.doneReading(peerDataBuffer);
           notifyHandshakeWaiter(true);
           return;
@@ -143,6 +143,26 @@ public class ConnectionTable {
   private static final long READER_POOL_KEEP_ALIVE_TIME =
       Long.getLong("p2p.READER_POOL_KEEP_ALIVE_TIME", 120).longValue();
 
+  /**
+   * The number of selector threads used to read receiving connections. Zero, the default, gives
+   * each receiving connection a reader thread of its own.
+   */
+  private static final int READER_EVENT_LOOPS = Integer.getInteger("p2p.READER_EVENT_LOOPS", 0);
+
+  /**
+   * The maximum number of threads that read and process the messages of the connections read by
+   * the selector threads. Processing a message can block, so this is kept well above the number of
+   * connections expected to be busy at the same time.
+   */
+  private static final int READER_EVENT_LOOP_MAX_WORKERS =
+      Integer.getInteger("p2p.READER_EVENT_LOOP_MAX_WORKERS", 1000);
+
+  /**
+   * Reads receiving connections once their handshake has been read, or null if every receiver has
+   * its own reader thread.
+   */
+  private final ReaderEventLoop readerEventLoop;
+
   private final SocketCloser socketCloser;
 
   /**
@@ -201,6 +221,10 @@ public class ConnectionTable {
     this.threadConnMaps = new ArrayList();
     this.threadConnectionMap = new ConcurrentHashMap();
     this.p2pReaderThreadPool = createThreadPoolForIO(conduit.getDM().getSystem().isShareSockets());
+    this.readerEventLoop = READER_EVENT_LOOPS > 0
+        ? new ReaderEventLoop("P2P Reader Event Loop", READER_EVENT_LOOPS,
+            READER_EVENT_LOOP_MAX_WORKERS, READER_POOL_KEEP_ALIVE_TIME)
+        : null;
     this.socketCloser = new SocketCloser();
     this.bufferPool = new BufferPool(owner.getStats());
   }
@@ -709,6 +733,9 @@ public class ConnectionTable {
       }
     }
     closeReceivers(false);
+    if (this.readerEventLoop != null) {
+      this.readerEventLoop.close();
+    }
 
     Map m = (Map) this.threadOrderedConnMap.get();
     if (m != null) {
@@ -719,6 +746,10 @@ public class ConnectionTable {
     this.socketCloser.close();
   }
 
+  ReaderEventLoop getReaderEventLoop() {
+    return this.readerEventLoop;
+  }
+
   public void executeCommand(Runnable runnable) {
     Executor local = this.p2pReaderThreadPool;
     if (local != null) {
@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.internal.logging.LogService;
+import org.apache.geode.internal.logging.LoggingExecutors;
+import org.apache.geode.internal.logging.LoggingThread;
+
+/**
+ * Multiplexes the sockets of receiving connections over a small number of selector threads instead
+ * of dedicating a reader thread to each of them.
+ *
+ * A selector thread does no reading itself. When a registered channel becomes readable its read
+ * interest is turned off and a worker thread reads and processes everything that is available,
+ * after which the read interest is turned back on. A channel is therefore only ever read by one
+ * thread at a time, which preserves the order in which the messages of a connection are processed,
+ * and a thread is only needed while a connection actually has data to process. Workers come from
+ * a pool of at most maxWorkers threads, which are started as needed and stop after being idle for
+ * the keep alive time. Once all of them are busy, connections that become readable wait for a
+ * worker, so the bound should leave room for messages whose processing blocks.
+ */
+class ReaderEventLoop {
+  private static final Logger logger = LogService.getLogger();
+
+  /**
+   * How often, in milliseconds, each selector checks for channels that were closed by another
+   * thread. The key of a closed channel is cancelled without the channel ever becoming readable.
+   */
+  private static final long CLOSED_CHANNEL_CHECK_INTERVAL = 1000;
+
+  /**
+   * Reads and processes the data available on a channel registered with the event loop.
+   */
+  interface Reader {
+    /**
+     * Reads and processes everything currently available without blocking.
+     *
+     * @return false if the channel has been closed and should no longer be read
+     */
+    boolean readAvailable();
+
+    /**
+     * Invoked once when the channel will no longer be read, either because
+     * {@link #readAvailable()} returned false or because the event loop was closed.
+     */
+    void readerStopped();
+  }
+
+  private final Loop[] loops;
+
+  private final ExecutorService workers;
+
+  private final AtomicInteger nextLoop = new AtomicInteger();
+
+  private final AtomicInteger registered = new AtomicInteger();
+
+  private volatile boolean closed;
+
+  ReaderEventLoop(String name, int loopCount, int maxWorkers, long workerKeepAliveSeconds)
+      throws IOException {
+    this.workers = LoggingExecutors.newFixedThreadPoolWithIdleTimeout(name + " Worker",
+        Math.max(1, maxWorkers), Math.max(1, workerKeepAliveSeconds));
+    this.loops = new Loop[Math.max(1, loopCount)];
+    try {
+      for (int i = 0; i < loops.length; i++) {
+        loops[i] = new Loop(name + " Selector " + i);
+      }
+    } catch (IOException e) {
+      close();
+      throw e;
+    }
+    for (Loop loop : loops) {
+      loop.thread.start();
+    }
+  }
+
+  /**
+   * Hands the reading of {@code channel} over to the event loop. The channel is switched to
+   * non-blocking mode. The reader is invoked once right away so that any data that has already
+   * been read into its buffers is processed.
+   */
+  void register(SelectableChannel channel, Reader reader) throws IOException {
+    if (closed) {
+      throw new IOException("Reader event loop is closed");
+    }
+    channel.configureBlocking(false);
+    Loop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+    registered.incrementAndGet();
+    loop.read(new Registration(loop, channel, reader));
+  }
+
+  /**
+   * Returns the number of channels currently read by the event loop.
+   */
+  int getRegisteredCount() {
+    return registered.get();
+  }
+
+  /**
+   * Returns the number of threads dedicated to selecting; worker threads are not included.
+   */
+  int getLoopCount() {
+    return loops.length;
+  }
+
+  void close() {
+    closed = true;
+    for (Loop loop : loops) {
+      if (loop != null) {
+        loop.close();
+      }
+    }
+    workers.shutdown();
+  }
+
+  private class Registration implements Runnable {
+    private final Loop loop;
+    private final SelectableChannel channel;
+    private final Reader reader;
+    private SelectionKey key;
+    private boolean stopped;
+
+    Registration(Loop loop, SelectableChannel channel, Reader reader) {
+      this.loop = loop;
+      this.channel = channel;
+      this.reader = reader;
+    }
+
+    /** reads on a worker thread */
+    @Override
+    public void run() {
+      boolean open = false;
+      try {
+        open = !closed && reader.readAvailable();
+      } catch (RuntimeException e) {
+        logger.warn("Unexpected exception reading {}", channel, e);
+      } finally {
+        if (open) {
+          loop.enableRead(this);
+        } else {
+          stop();
+        }
+      }
+    }
+
+    void stop() {
+      synchronized (this) {
+        if (stopped) {
+          return;
+        }
+        stopped = true;
+        if (key != null) {
+          key.cancel();
+        }
+      }
+      loop.registrations.remove(this);
+      registered.decrementAndGet();
+      try {
+        reader.readerStopped();
+      } catch (RuntimeException e) {
+        logger.warn("Unexpected exception stopping reader of {}", channel, e);
+      }
+    }
+  }
+
+  private class Loop implements Runnable {
+    private final Selector selector;
+    private final Thread thread;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final Set<Registration> registrations = ConcurrentHashMap.newKeySet();
+
+    Loop(String name) throws IOException {
+      this.selector = Selector.open();
+      this.thread = new LoggingThread(name, this);
+    }
+
+    void read(Registration registration) {
+      registrations.add(registration);
+      execute(workers, registration);
+    }
+
+    /**
+     * Turns the read interest of a registration back on. Selection keys are only changed by the
+     * selector thread since doing so from another thread can block until the current select
+     * returns.
+     */
+    void enableRead(Registration registration) {
+      pending.add(() -> {
+        synchronized (registration) {
+          if (registration.stopped) {
+            return;
+          }
+          try {
+            if (registration.key == null) {
+              registration.key =
+                  registration.channel.register(selector, SelectionKey.OP_READ, registration);
+              return;
+            } else if (registration.key.isValid()) {
+              registration.key.interestOps(SelectionKey.OP_READ);
+              return;
+            }
+          } catch (IOException | RuntimeException e) {
+            if (logger.isDebugEnabled()) {
+              logger.debug("Unable to register {} for reading", registration.channel, e);
+            }
+          }
+        }
+        registration.stop();
+      });
+      selector.wakeup();
+      if (closed) {
+        // the selector thread may already be gone
+        registration.stop();
+      }
+    }
+
+    private void execute(Executor executor, Registration registration) {
+      try {
+        executor.execute(registration);
+      } catch (RejectedExecutionException e) {
+        registration.stop();
+      }
+    }
+
+    @Override
+    public void run() {
+      long lastCheck = System.currentTimeMillis();
+      try {
+        while (!closed) {
+          selector.select(CLOSED_CHANNEL_CHECK_INTERVAL);
+          long now = System.currentTimeMillis();
+          if (now - lastCheck >= CLOSED_CHANNEL_CHECK_INTERVAL) {
+            lastCheck = now;
+            for (Registration registration : registrations) {
+              if (!registration.channel.isOpen()) {
+                registration.stop();
+              }
+            }
+          }
+          Runnable task;
+          while ((task = pending.poll()) != null) {
+            task.run();
+          }
+          Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+          while (selected.hasNext()) {
+            SelectionKey key = selected.next();
+            selected.remove();
+            try {
+              // no more selection until the worker has read what is available
+              key.interestOps(0);
+            } catch (CancelledKeyException e) {
+              continue;
+            }
+            execute(workers, (Registration) key.attachment());
+          }
+        }
+      } catch (IOException | ClosedSelectorException e) {
+        if (!closed) {
+          logger.warn("Reader event loop {} failed", thread.getName(), e);
+        }
+      } finally {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+          task.run();
+        }
+        for (Registration registration : registrations) {
+          registration.stop();
+        }
+        try {
+          selector.close();
+        } catch (IOException | ClosedSelectorException ignore) {
+          // closing anyway
+        }
+      }
+    }
+
+    void close() {
+      selector.wakeup();
+    }
+  }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionMessage;
+
+/**
+ * Coalesces the messages that several threads send over one connection into fewer socket writes.
+ *
+ * There is no flusher thread. The first thread to send a message while no write is in progress
+ * becomes the writer: it waits up to the coalescing window, or until half of the buffer has been
+ * filled, for other threads to add their messages and then writes everything in one go. Messages
+ * sent while a write is in progress are copied into the other buffer and are written by the same
+ * thread as soon as its current write completes, so under load batches form without any added
+ * delay. A message that is at least half the size of the buffer is written directly, without
+ * being copied, when no write is in progress.
+ *
+ * A send returns once the write that contains its message has completed, so every thread whose
+ * message was in a failed write sees the failure, not just the writing thread. Every send after a
+ * failure fails too so that the connection gets closed.
+ */
+class SendCoalescer {
+
+  /**
+   * Writes a buffer of coalesced messages to the connection.
+   */
+  interface Writer {
+    /**
+     * @param msg the message in the buffer if it holds exactly one, otherwise null
+     */
+    void write(ByteBuffer buffer, DistributionMessage msg) throws IOException;
+  }
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /** signalled when a write completes and buffer space is available again */
+  private final Condition written = lock.newCondition();
+
+  /** signalled when the fill buffer has reached the flush threshold */
+  private final Condition filled = lock.newCondition();
+
+  private final Writer writer;
+
+  private final DMStats stats;
+
+  private final long windowNanos;
+
+  private final int flushThreshold;
+
+  private ByteBuffer fillBuffer;
+
+  private ByteBuffer sendBuffer;
+
+  /** the number of messages in fillBuffer */
+  private int fillMessages;
+
+  /** the first message in fillBuffer */
+  private DistributionMessage fillMessage;
+
+  /** the sum of the times at which the messages in fillBuffer were added */
+  private long fillTimeSum;
+
+  /** the number of the write that will contain the messages in fillBuffer */
+  private long fillWrite = 1;
+
+  /** the number of the last write that completed successfully */
+  private long completedWrite;
+
+  /** true while a thread owns the writing; fillBuffer is always empty when this is false */
+  private boolean writing;
+
+  private boolean closed;
+
+  private Exception failure;
+
+  SendCoalescer(int bufferSize, long windowNanos, boolean direct, Writer writer, DMStats stats) {
+    this.fillBuffer = direct ? ByteBuffer.allocateDirect(bufferSize)
+        : ByteBuffer.allocate(bufferSize);
+    this.sendBuffer = direct ? ByteBuffer.allocateDirect(bufferSize)
+        : ByteBuffer.allocate(bufferSize);
+    this.flushThreshold = Math.max(1, bufferSize / 2);
+    this.windowNanos = windowNanos;
+    this.writer = writer;
+    this.stats = stats;
+  }
+
+  /**
+   * Sends the remaining bytes of {@code message}, returning once they have been written.
+   *
+   * @param msg the message serialized in {@code message}, passed on to the writer if it ends up
+   *        being written on its own
+   * @throws IOException if the write containing the message failed, or an earlier one did
+   */
+  void send(ByteBuffer message, DistributionMessage msg) throws IOException {
+    final int size = message.remaining();
+    lock.lock();
+    try {
+      for (;;) {
+        checkUsable();
+        if (!writing) {
+          writing = true;
+          if (size >= flushThreshold) {
+            writeDirectly(message, msg);
+            return;
+          }
+          long write = append(message, msg);
+          linger();
+          writeAll(write);
+          return;
+        }
+        if (fillBuffer.remaining() >= size) {
+          long write = append(message, msg);
+          if (fillBuffer.position() >= flushThreshold) {
+            filled.signal();
+          }
+          awaitCompletion(write);
+          return;
+        }
+        // no room until the writer swaps the buffers
+        written.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops coalescing. Messages that have already been added are still written by the thread that
+   * owns the writing, and any further send fails.
+   */
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      filled.signalAll();
+      written.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void checkUsable() throws IOException {
+    if (failure != null) {
+      throw new IOException("An earlier coalesced write failed", failure);
+    }
+    if (closed) {
+      throw new IOException("Send coalescer is closed");
+    }
+  }
+
+  /** adds a message to fillBuffer, with the lock held, and returns the number of its write */
+  private long append(ByteBuffer message, DistributionMessage msg) {
+    fillBuffer.put(message);
+    if (fillMessages++ == 0) {
+      fillMessage = msg;
+    }
+    fillTimeSum += System.nanoTime();
+    return fillWrite;
+  }
+
+  /** waits for the writing thread to complete the given write, with the lock held */
+  private void awaitCompletion(long write) throws IOException {
+    while (completedWrite < write) {
+      if (failure != null) {
+        throw new IOException("A coalesced write failed", failure);
+      }
+      written.awaitUninterruptibly();
+    }
+  }
+
+  /** waits for other threads to add their messages, with the lock held */
+  private void linger() {
+    long remaining = windowNanos;
+    while (remaining > 0 && fillBuffer.position() < flushThreshold && !closed) {
+      try {
+        remaining = filled.awaitNanos(remaining);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Writes fillBuffer until no more messages are added, with the lock held. A failure is only
+   * thrown if the given write, which contains the caller's own message, did not complete; the
+   * senders of the messages in later writes see it themselves.
+   */
+  private void writeAll(long ownWrite) throws IOException {
+    try {
+      while (fillBuffer.position() > 0) {
+        ByteBuffer buffer = fillBuffer;
+        fillBuffer = sendBuffer;
+        sendBuffer = buffer;
+        int messages = fillMessages;
+        DistributionMessage msg = messages == 1 ? fillMessage : null;
+        long timeSum = fillTimeSum;
+        long write = fillWrite++;
+        fillMessages = 0;
+        fillMessage = null;
+        fillTimeSum = 0;
+        written.signalAll();
+        long delay = messages * System.nanoTime() - timeSum;
+        lock.unlock();
+        try {
+          buffer.flip();
+          writer.write(buffer, msg);
+        } finally {
+          buffer.clear();
+          lock.lock();
+        }
+        completedWrite = write;
+        stats.endCoalescedWrite(messages, delay);
+      }
+    } catch (IOException | RuntimeException e) {
+      failure = e;
+      fillBuffer.clear();
+      fillMessages = 0;
+      fillMessage = null;
+      fillTimeSum = 0;
+      if (completedWrite < ownWrite) {
+        throw e;
+      }
+    } finally {
+      writing = false;
+      written.signalAll();
+    }
+  }
+
+  /** writes a message that is too large to be worth copying, with the lock held */
+  private void writeDirectly(ByteBuffer message, DistributionMessage msg) throws IOException {
+    Exception thrown = null;
+    lock.unlock();
+    try {
+      writer.write(message, msg);
+    } catch (IOException | RuntimeException e) {
+      thrown = e;
+      throw e;
+    } finally {
+      lock.lock();
+      if (thrown != null) {
+        // the messages added in the meantime will not be written
+        failure = thrown;
+        fillBuffer.clear();
+        fillMessages = 0;
+        fillMessage = null;
+        fillTimeSum = 0;
+        writing = false;
+        written.signalAll();
+      }
+    }
+    stats.endCoalescedWrite(1, 0);
+    // write the messages that other threads added in the meantime
+    writeAll(0);
+  }
+}
@@ -176,6 +176,20 @@ public interface GatewaySenderMXBean {
    */
   int getTotalBatchesRedistributed();
 
+  /**
+   * Returns the maximum number of events currently put into a batch, which is the largest one used
+   * by the dispatcher threads of this GatewaySender. This is the configured batch size unless the
+   * batch size was reduced because a batch was too large, or adaptive batching is enabled.
+   */
+  int getCurrentBatchSize();
+
+  /**
+   * Returns the time in milliseconds currently waited for a batch to fill up, which is the longest
+   * one used by the dispatcher threads of this GatewaySender. This is the configured batch time
+   * interval unless adaptive batching is enabled.
+   */
+  int getCurrentBatchTimeInterval();
+
   /**
    * Starts this GatewaySender. Once the GatewaySender is running its configuration cannot be
    * changed.
@@ -128,6 +128,16 @@ public class GatewaySenderMBean extends NotificationBroadcasterSupport
     return bridge.getTotalBatchesRedistributed();
   }
 
+  @Override
+  public int getCurrentBatchSize() {
+    return bridge.getCurrentBatchSize();
+  }
+
+  @Override
+  public int getCurrentBatchTimeInterval() {
+    return bridge.getCurrentBatchTimeInterval();
+  }
+
   @Override
   public int getTotalEventsConflated() {
     return bridge.getTotalEventsConflated();
@@ -240,6 +240,22 @@ public class GatewaySenderMBeanBridge {
     return getStatistic(StatsKey.GATEWAYSENDER_TOTAL_BATCHES_REDISTRIBUTED).intValue();
   }
 
+  public int getCurrentBatchSize() {
+    AbstractGatewaySenderEventProcessor eventProcessor = abstractSender.getEventProcessor();
+    if (eventProcessor == null) {
+      return sender.getBatchSize();
+    }
+    return eventProcessor.getCurrentBatchSize();
+  }
+
+  public int getCurrentBatchTimeInterval() {
+    AbstractGatewaySenderEventProcessor eventProcessor = abstractSender.getEventProcessor();
+    if (eventProcessor == null) {
+      return sender.getBatchTimeInterval();
+    }
+    return eventProcessor.getCurrentBatchTimeInterval();
+  }
+
   public int getTotalEventsConflated() {
     return getStatistic(StatsKey.GATEWAYSENDER_EVENTS_QUEUED_CONFLATED).intValue();
   }
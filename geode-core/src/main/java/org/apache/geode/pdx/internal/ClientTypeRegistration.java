@@ -274,7 +274,8 @@ public class ClientTypeRegistration implements TypeRegistration {
       try {
         types.putAll(GetPDXTypesOp.execute((ExecutablePool) p));
       } catch (Exception e) {
-        e.printStackTrace();
+        logger.debug("Received an exception getting pdx types from pool {}, {}", p,
+            e.getMessage(), e);
       }
     }
     return types;
@@ -166,7 +166,8 @@ public class LonerTypeRegistration implements TypeRegistration {
 
   @Override
   public boolean isClient() {
-    return delegate.isClient();
+    // not a client until the registry has been initialized with a pool
+    return delegate != null && delegate.isClient();
   }
 
   @Override
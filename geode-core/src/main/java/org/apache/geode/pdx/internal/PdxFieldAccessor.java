@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.apache.geode.pdx.internal.PdxReaderImpl.MAX_UNSIGNED_BYTE;
+import static org.apache.geode.pdx.internal.PdxReaderImpl.MAX_UNSIGNED_SHORT;
+
+import java.nio.ByteBuffer;
+
+import org.apache.geode.InternalGemFireException;
+import org.apache.geode.annotations.Immutable;
+import org.apache.geode.internal.DSCODE;
+import org.apache.geode.internal.offheap.StoredObject;
+
+/**
+ * Reads the fields of a serialized pdx value in place, without creating a {@link PdxInstanceImpl}
+ * or any of the streams it reads from. The serialized form can be a heap byte array, a
+ * {@link ByteBuffer} or an off-heap {@link StoredObject}; in each case it starts with the
+ * {@link DSCODE#PDX} header that {@link PdxWriterImpl} writes.
+ *
+ * An accessor is a flyweight: it is reset onto a value, reads some of its fields and is then reset
+ * onto the next value. It keeps no reference to a value once it has been {@link #clear() cleared}
+ * and it is not thread safe.
+ *
+ * Fixed width fields can be read from any form. String fields, and object fields that hold a
+ * string, are read as a {@link PdxString} that refers to the serialized bytes, just like
+ * {@link PdxReaderImpl#readRawField(String)} does, but only from a heap form. Any other field has
+ * to be read through a {@link PdxInstanceImpl}.
+ */
+public class PdxFieldAccessor {
+
+  /**
+   * Returned by {@link #readRawField(PdxField)} for a field that can not be read in place.
+   */
+  @Immutable
+  public static final Object NOT_READ = new Object();
+
+  private final TypeRegistry registry;
+
+  private byte[] bytes;
+
+  private ByteBuffer buffer;
+
+  private StoredObject storedObject;
+
+  private PdxType pdxType;
+
+  /** the position of the first field byte in the serialized form */
+  private int base;
+
+  /** the number of bytes of field data, including the offsets of the variable length fields */
+  private int size;
+
+  public PdxFieldAccessor(TypeRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * Resets this accessor onto a pdx value serialized at the start of the given array.
+   *
+   * @return false if the bytes are not a serialized pdx value
+   */
+  public boolean reset(byte[] serialized) {
+    return reset(serialized, 0);
+  }
+
+  /**
+   * Resets this accessor onto a pdx value serialized at the given offset of the given array.
+   *
+   * @return false if the bytes are not a serialized pdx value
+   */
+  public boolean reset(byte[] serialized, int offset) {
+    clear();
+    if (serialized.length - offset < PdxWriterImpl.HEADER_SIZE
+        || serialized[offset] != DSCODE.PDX.toByte()) {
+      return false;
+    }
+    this.bytes = serialized;
+    return readHeader(offset);
+  }
+
+  /**
+   * Resets this accessor onto a pdx value serialized at the position of the given buffer. The
+   * position of the buffer is not changed, and must not be changed while the value is read.
+   *
+   * @return false if the buffer does not hold a serialized pdx value
+   */
+  public boolean reset(ByteBuffer serialized) {
+    clear();
+    int position = serialized.position();
+    if (serialized.remaining() < PdxWriterImpl.HEADER_SIZE
+        || serialized.get(position) != DSCODE.PDX.toByte()) {
+      return false;
+    }
+    if (serialized.hasArray()) {
+      this.bytes = serialized.array();
+      return readHeader(serialized.arrayOffset() + position);
+    }
+    this.buffer = serialized;
+    return readHeader(position);
+  }
+
+  /**
+   * Resets this accessor onto a pdx value stored off-heap. The caller must keep the stored object
+   * retained until this accessor is cleared or reset onto another value.
+   *
+   * @return false if the object does not hold an uncompressed serialized pdx value
+   */
+  public boolean reset(StoredObject serialized) {
+    clear();
+    if (!serialized.isSerialized() || serialized.isCompressed()
+        || serialized.getDataSize() < PdxWriterImpl.HEADER_SIZE
+        || serialized.readDataByte(0) != DSCODE.PDX.toByte()) {
+      return false;
+    }
+    this.storedObject = serialized;
+    return readHeader(0);
+  }
+
+  private boolean readHeader(int offset) {
+    int length = getInt(offset + DataSize.BYTE_SIZE);
+    int typeId = getInt(offset + DataSize.BYTE_SIZE + DataSize.INTEGER_SIZE);
+    PdxType type = this.registry.getType(typeId);
+    if (type == null) {
+      clear();
+      return false;
+    }
+    this.pdxType = type;
+    this.base = offset + PdxWriterImpl.HEADER_SIZE;
+    this.size = length;
+    return true;
+  }
+
+  /**
+   * Drops the reference to the value this accessor was reset onto.
+   */
+  public void clear() {
+    this.bytes = null;
+    this.buffer = null;
+    this.storedObject = null;
+    this.pdxType = null;
+  }
+
+  /**
+   * @return the type of the current value
+   */
+  public PdxType getPdxType() {
+    return this.pdxType;
+  }
+
+  /**
+   * Reads a field of the current value the way {@link PdxReaderImpl#readRawField(String)} does.
+   * The field must belong to the type of the current value.
+   *
+   * @return the value of the field, or {@link #NOT_READ} if it can not be read in place
+   */
+  public Object readRawField(PdxField field) {
+    switch (field.getFieldType()) {
+      case BOOLEAN:
+        return readBoolean(field);
+      case BYTE:
+        return readByte(field);
+      case CHAR:
+        return readChar(field);
+      case SHORT:
+        return readShort(field);
+      case INT:
+        return readInt(field);
+      case LONG:
+        return readLong(field);
+      case FLOAT:
+        return readFloat(field);
+      case DOUBLE:
+        return readDouble(field);
+      case STRING:
+        return readPdxString(field, true);
+      case OBJECT:
+        return readPdxString(field, false);
+      default:
+        return NOT_READ;
+    }
+  }
+
+  public boolean readBoolean(PdxField field) {
+    return getByte(getPosition(field)) != 0;
+  }
+
+  public byte readByte(PdxField field) {
+    return getByte(getPosition(field));
+  }
+
+  public char readChar(PdxField field) {
+    return (char) getShort(getPosition(field));
+  }
+
+  public short readShort(PdxField field) {
+    return getShort(getPosition(field));
+  }
+
+  public int readInt(PdxField field) {
+    return getInt(getPosition(field));
+  }
+
+  public long readLong(PdxField field) {
+    return getLong(getPosition(field));
+  }
+
+  public float readFloat(PdxField field) {
+    return Float.intBitsToFloat(getInt(getPosition(field)));
+  }
+
+  public double readDouble(PdxField field) {
+    return Double.longBitsToDouble(getLong(getPosition(field)));
+  }
+
+  /**
+   * @param stringField true for a field of type STRING, false for a field of type OBJECT
+   * @return a PdxString for a string, null for a null STRING field, or NOT_READ
+   */
+  private Object readPdxString(PdxField field, boolean stringField) {
+    if (this.bytes == null) {
+      return NOT_READ;
+    }
+    int offset = getPosition(field);
+    byte dsCode = this.bytes[offset];
+    if (stringField) {
+      if (dsCode == DSCODE.NULL.toByte() || dsCode == DSCODE.NULL_STRING.toByte()) {
+        return null;
+      }
+      return new PdxString(this.bytes, offset);
+    }
+    if (dsCode == DSCODE.STRING.toByte() || dsCode == DSCODE.STRING_BYTES.toByte()
+        || dsCode == DSCODE.HUGE_STRING.toByte() || dsCode == DSCODE.HUGE_STRING_BYTES.toByte()) {
+      return new PdxString(this.bytes, offset);
+    }
+    return NOT_READ;
+  }
+
+  /**
+   * Returns the position of a field in the serialized form. This is the position
+   * PdxReaderImpl.getAbsolutePosition computes, moved by the position of the field data.
+   */
+  private int getPosition(PdxField field) {
+    int idx0 = field.getRelativeOffset();
+    int idx1 = field.getVlfOffsetIndex();
+    int pos;
+    if (field.isVariableLengthType()) {
+      if (idx1 != -1) {
+        pos = getVlfOffset(idx1);
+      } else {
+        pos = idx0;
+      }
+    } else {
+      if (idx0 >= 0) {
+        pos = idx0;
+      } else if (idx1 > 0) {
+        pos = getVlfOffset(idx1) + idx0;
+      } else if (idx1 == -1) {
+        pos = getOffsetToVlfTable() + idx0;
+      } else {
+        throw new InternalGemFireException("idx0=" + idx0 + " idx1=" + idx1);
+      }
+    }
+    return this.base + pos;
+  }
+
+  /**
+   * @param idx of the variable length field
+   * @return the offset to the variable length field, relative to the field data
+   */
+  private int getVlfOffset(int idx) {
+    int end = this.base + this.size;
+    if (this.size <= MAX_UNSIGNED_BYTE) {
+      return getByte(end - idx * DataSize.BYTE_SIZE) & MAX_UNSIGNED_BYTE;
+    } else if (this.size <= MAX_UNSIGNED_SHORT) {
+      return getShort(end - idx * DataSize.SHORT_SIZE) & MAX_UNSIGNED_SHORT;
+    } else {
+      return getInt(end - idx * DataSize.INTEGER_SIZE);
+    }
+  }
+
+  private int getOffsetToVlfTable() {
+    int sizeOfOffset;
+    if (this.size <= MAX_UNSIGNED_BYTE) {
+      sizeOfOffset = DataSize.BYTE_SIZE;
+    } else if (this.size <= MAX_UNSIGNED_SHORT) {
+      sizeOfOffset = DataSize.SHORT_SIZE;
+    } else {
+      sizeOfOffset = DataSize.INTEGER_SIZE;
+    }
+    return this.size - this.pdxType.getVariableLengthFieldCount() * sizeOfOffset;
+  }
+
+  private byte getByte(int pos) {
+    if (this.bytes != null) {
+      return this.bytes[pos];
+    } else if (this.buffer != null) {
+      return this.buffer.get(pos);
+    } else {
+      return this.storedObject.readDataByte(pos);
+    }
+  }
+
+  private short getShort(int pos) {
+    return (short) ((getByte(pos) << 8) | (getByte(pos + 1) & 0xff));
+  }
+
+  private int getInt(int pos) {
+    return (getByte(pos) << 24) | ((getByte(pos + 1) & 0xff) << 16)
+        | ((getByte(pos + 2) & 0xff) << 8) | (getByte(pos + 3) & 0xff);
+  }
+
+  private long getLong(int pos) {
+    return ((long) getInt(pos) << 32) | (getInt(pos + 4) & 0xffffffffL);
+  }
+}
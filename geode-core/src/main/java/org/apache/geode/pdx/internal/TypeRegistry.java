@@ -16,6 +16,7 @@ package org.apache.geode.pdx.internal;
 
 import static java.lang.Integer.valueOf;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -30,6 +31,7 @@ import org.apache.geode.cache.wan.GatewaySender;
 import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.InternalDataSerializer;
+import org.apache.geode.internal.cache.CachePerfStats;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.logging.LogService;
 import org.apache.geode.internal.util.concurrent.CopyOnWriteHashMap;
@@ -44,6 +46,9 @@ public class TypeRegistry {
   private static final boolean DISABLE_TYPE_REGISTRY =
       Boolean.getBoolean(DistributionConfig.GEMFIRE_PREFIX + "TypeRegistry.DISABLE_PDX_REGISTRY");
 
+  private static final boolean DISABLE_TYPE_PREFETCH = Boolean.getBoolean(
+      DistributionConfig.GEMFIRE_PREFIX + "TypeRegistry.DISABLE_PDX_TYPE_PREFETCH");
+
   private final Map<Integer, PdxType> idToType = new CopyOnWriteHashMap<>();
 
   private final Map<PdxType, Integer> typeToId = new CopyOnWriteHashMap<>();
@@ -69,6 +74,12 @@ public class TypeRegistry {
   private final ThreadLocal<Boolean> pdxReadSerializedOverride =
       ThreadLocal.withInitial(() -> Boolean.FALSE);
 
+  /**
+   * True once a client has fetched all of the types and enums of its servers. It is reset when a
+   * pool is created or the registry is cleared so that the next unknown id fetches them again.
+   */
+  private volatile boolean prefetched;
+
   public TypeRegistry(InternalCache cache, boolean disableTypeRegistry) {
     this.cache = cache;
 
@@ -131,7 +142,21 @@ public class TypeRegistry {
     }
 
     synchronized (this) {
+      // another thread may have looked it up while this one waited
+      pdxType = this.idToType.get(typeId);
+      if (pdxType != null) {
+        return pdxType;
+      }
+      if (prefetch()) {
+        pdxType = this.idToType.get(typeId);
+        if (pdxType != null) {
+          return pdxType;
+        }
+      }
+      CachePerfStats stats = getStats();
+      long start = stats.startPdxTypeLookup();
       pdxType = this.distributedTypeRegistry.getType(typeId);
+      stats.endPdxTypeLookup(start);
       if (pdxType != null) {
         this.idToType.put(typeId, pdxType);
         this.typeToId.put(pdxType, typeId);
@@ -274,6 +299,8 @@ public class TypeRegistry {
 
   public void creatingPool() {
     this.distributedTypeRegistry.creatingPool();
+    // the new pool may connect to servers with types this client has not seen
+    this.prefetched = false;
   }
 
   // test hook
@@ -430,8 +457,14 @@ public class TypeRegistry {
     }
 
     EnumInfo ei = this.idToEnum.get(enumId);
+    if (ei == null && prefetch()) {
+      ei = this.idToEnum.get(enumId);
+    }
     if (ei == null) {
+      CachePerfStats stats = getStats();
+      long start = stats.startPdxTypeLookup();
       ei = this.distributedTypeRegistry.getEnumById(enumId);
+      stats.endPdxTypeLookup(start);
       if (ei != null) {
         this.idToEnum.put(enumId, ei);
         this.enumInfoToId.put(ei, enumId);
@@ -440,6 +473,64 @@ public class TypeRegistry {
     return ei;
   }
 
+  /**
+   * Fetches all of the types and enums of a client's servers, in one request per pool, the first
+   * time the client looks up an id it does not know. A client that reads many different types,
+   * for example in a query result, would otherwise do a round trip for each of them. Peers look
+   * ids up in their local replica of the type registry region, so they do not prefetch.
+   *
+   * @return true if this call did the prefetch
+   */
+  private synchronized boolean prefetch() {
+    if (this.prefetched || DISABLE_TYPE_PREFETCH || !this.distributedTypeRegistry.isClient()) {
+      return false;
+    }
+    this.prefetched = true;
+    CachePerfStats stats = getStats();
+    long start = stats.startPdxTypeLookup();
+    Map<Integer, PdxType> types;
+    Map<Integer, EnumInfo> enums;
+    try {
+      types = this.distributedTypeRegistry.types();
+      enums = this.distributedTypeRegistry.enums();
+    } catch (RuntimeException e) {
+      logger.debug("Unable to prefetch pdx types, they will be looked up one at a time", e);
+      return false;
+    }
+
+    // the registry maps are copy on write so the new entries are added all at once
+    Map<Integer, PdxType> newIdToType = new HashMap<>();
+    Map<PdxType, Integer> newTypeToId = new HashMap<>();
+    for (Map.Entry<Integer, PdxType> entry : types.entrySet()) {
+      if (!this.idToType.containsKey(entry.getKey())) {
+        newIdToType.put(entry.getKey(), entry.getValue());
+        newTypeToId.put(entry.getValue(), entry.getKey());
+      }
+    }
+    Map<Integer, EnumInfo> newIdToEnum = new HashMap<>();
+    Map<EnumInfo, Integer> newEnumInfoToId = new HashMap<>();
+    for (Map.Entry<Integer, EnumInfo> entry : enums.entrySet()) {
+      if (!this.idToEnum.containsKey(entry.getKey())) {
+        newIdToEnum.put(entry.getKey(), entry.getValue());
+        newEnumInfoToId.put(entry.getValue(), entry.getKey());
+      }
+    }
+    this.idToType.putAll(newIdToType);
+    this.typeToId.putAll(newTypeToId);
+    this.idToEnum.putAll(newIdToEnum);
+    this.enumInfoToId.putAll(newEnumInfoToId);
+    stats.endPdxTypePrefetch(start, newIdToType.size() + newIdToEnum.size());
+    if (logger.isDebugEnabled()) {
+      logger.debug("Prefetched {} pdx types and {} pdx enums", newIdToType.size(),
+          newIdToEnum.size());
+    }
+    return true;
+  }
+
+  private CachePerfStats getStats() {
+    return this.cache.getCachePerfStats();
+  }
+
   /**
    * Clear all of the cached PDX types in this registry. This method is used on a client when the
    * server side distributed system is cycled
@@ -454,6 +545,7 @@ public class TypeRegistry {
       this.idToEnum.clear();
       this.enumInfoToId.clear();
       this.localEnumIds.clear();
+      this.prefetched = false;
       AutoSerializableManager autoSerializer = getAutoSerializableManager();
       if (autoSerializer != null) {
         autoSerializer.resetCachedTypes();
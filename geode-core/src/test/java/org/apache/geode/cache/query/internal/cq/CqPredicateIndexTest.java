@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.cq;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.NameNotFoundException;
+import org.apache.geode.cache.query.internal.CompiledSelect;
+import org.apache.geode.cache.query.internal.DefaultQuery;
+import org.apache.geode.cache.query.internal.QCompiler;
+import org.apache.geode.cache.query.internal.cq.CqPredicateIndex.AttributeReader;
+import org.apache.geode.cache.query.internal.cq.CqPredicateIndex.Candidates;
+
+public class CqPredicateIndexTest {
+
+  private final List<ServerCQ> cqs = new ArrayList<>();
+  private final Map<ServerCQ, String> queries = new HashMap<>();
+
+  private final AttributeReader reader = (target, attribute) -> {
+    Map<?, ?> map = (Map<?, ?>) target;
+    if (!map.containsKey(attribute)) {
+      throw new NameNotFoundException(attribute);
+    }
+    return map.get(attribute);
+  };
+
+  @Test
+  public void findsCqsWhoseRangeContainsTheValue() {
+    ServerCQ cheap = createCq("SELECT * FROM /region r WHERE r.price < 10");
+    ServerCQ middle = createCq("SELECT * FROM /region r WHERE r.price >= 10 AND r.price <= 20");
+    ServerCQ exact = createCq("SELECT * FROM /region r WHERE r.price = 15");
+    ServerCQ expensive = createCq("SELECT * FROM /region r WHERE 20 < r.price");
+    CqPredicateIndex index = new CqPredicateIndex(asList(cheap, middle, exact, expensive));
+
+    assertThat(index.getIndexedCqCount()).isEqualTo(4);
+    assertMayMatch(index.getCandidates(value("price", 5), reader), cheap);
+    assertMayMatch(index.getCandidates(value("price", 15.0), reader), middle, exact);
+    // the bounds of strict comparisons are candidates too
+    assertMayMatch(index.getCandidates(value("price", 10), reader), cheap, middle);
+    assertMayMatch(index.getCandidates(value("price", 20L), reader), middle, expensive);
+    assertMayMatch(index.getCandidates(value("price", 21), reader), expensive);
+  }
+
+  @Test
+  public void findsCqsByStringEquality() {
+    ServerCQ active = createCq("SELECT * FROM /region WHERE status = 'active' AND id > 3");
+    ServerCQ inactive = createCq("SELECT * FROM /region p WHERE p.status = 'inactive'");
+    CqPredicateIndex index = new CqPredicateIndex(asList(active, inactive));
+
+    assertMayMatch(index.getCandidates(value("status", "active"), reader), active);
+    assertMayMatch(index.getCandidates(value("status", "other"), reader));
+  }
+
+  @Test
+  public void findsCqsOnNestedFields() {
+    ServerCQ london = createCq("SELECT * FROM /region p WHERE p.address.city = 'London'");
+    CqPredicateIndex index = new CqPredicateIndex(asList(london));
+
+    assertMayMatch(index.getCandidates(value("address", value("city", "London")), reader), london);
+    assertMayMatch(index.getCandidates(value("address", value("city", "Paris")), reader));
+  }
+
+  @Test
+  public void cqsThatCannotBeIndexedAreAlwaysCandidates() {
+    ServerCQ disjunction = createCq("SELECT * FROM /region r WHERE r.price < 10 OR r.price > 20");
+    ServerCQ notEqual = createCq("SELECT * FROM /region r WHERE r.price <> 10");
+    ServerCQ noWhereClause = createCq("SELECT * FROM /region r");
+    ServerCQ method = createCq("SELECT * FROM /region r WHERE r.price.intValue() = 10");
+    CqPredicateIndex index =
+        new CqPredicateIndex(asList(disjunction, notEqual, noWhereClause, method));
+
+    assertThat(index.getIndexedCqCount()).isEqualTo(0);
+    assertMayMatch(index.getCandidates(value("price", 15), reader), disjunction, notEqual,
+        noWhereClause, method);
+  }
+
+  @Test
+  public void likeCqsAreCandidatesForMatchingValues() {
+    ServerCQ like = createCq("SELECT * FROM /region r WHERE r.name LIKE 'abc%'");
+    ServerCQ likeAndRange =
+        createCq("SELECT * FROM /region r WHERE r.name LIKE 'abc%' AND r.price > 10");
+    CqPredicateIndex index = new CqPredicateIndex(asList(like, likeAndRange));
+
+    assertThat(index.getIndexedCqCount()).isEqualTo(1);
+    Map<String, Object> value = new HashMap<>();
+    value.put("name", "abcdef");
+    value.put("price", 15);
+    assertMayMatch(index.getCandidates(value, reader), like, likeAndRange);
+    assertMayMatch(index.getCandidates(value("price", 5), reader), like);
+  }
+
+  @Test
+  public void cqsAreCandidatesForValuesOfOtherTypes() {
+    ServerCQ range = createCq("SELECT * FROM /region r WHERE r.price > 10");
+    ServerCQ string = createCq("SELECT * FROM /region r WHERE r.name = 'a'");
+    CqPredicateIndex index = new CqPredicateIndex(asList(range, string));
+
+    Map<String, Object> value = new HashMap<>();
+    value.put("price", "expensive");
+    value.put("name", 1);
+    assertMayMatch(index.getCandidates(value, reader), range, string);
+    assertMayMatch(index.getCandidates(value("price", Double.NaN), reader), range, string);
+  }
+
+  @Test
+  public void unsatisfiableRangesMatchNothing() {
+    ServerCQ empty = createCq("SELECT * FROM /region r WHERE r.price > 20 AND r.price < 10");
+    CqPredicateIndex index = new CqPredicateIndex(asList(empty));
+
+    assertMayMatch(index.getCandidates(value("price", 15), reader));
+    assertMayMatch(index.getCandidates(value("name", "a"), reader), empty);
+  }
+
+  @Test
+  public void findsCqsAmongManyRanges() {
+    for (int i = 0; i < 100; i++) {
+      createCq("SELECT * FROM /region r WHERE r.price >= " + i + " AND r.price < " + (i + 10));
+    }
+    CqPredicateIndex index = new CqPredicateIndex(this.cqs);
+
+    Candidates candidates = index.getCandidates(value("price", 50), reader);
+    for (int i = 0; i < 100; i++) {
+      assertThat(candidates.mayMatch(this.cqs.get(i))).as("cq " + i)
+          .isEqualTo(i >= 40 && i <= 50);
+    }
+  }
+
+  private ServerCQ createCq(String queryString) {
+    DefaultQuery query = mock(DefaultQuery.class);
+    when(query.getSimpleSelect())
+        .thenReturn((CompiledSelect) new QCompiler().compileQuery(queryString));
+    ServerCQ cq = mock(ServerCQ.class);
+    when(cq.getQuery()).thenReturn(query);
+    this.cqs.add(cq);
+    this.queries.put(cq, queryString);
+    return cq;
+  }
+
+  private static Map<String, Object> value(String field, Object fieldValue) {
+    Map<String, Object> value = new HashMap<>();
+    value.put(field, fieldValue);
+    return value;
+  }
+
+  private void assertMayMatch(Candidates candidates, ServerCQ... expected) {
+    List<ServerCQ> expectedCqs = asList(expected);
+    for (ServerCQ cq : this.cqs) {
+      assertThat(candidates.mayMatch(cq)).as(this.queries.get(cq))
+          .isEqualTo(expectedCqs.contains(cq));
+    }
+  }
+}
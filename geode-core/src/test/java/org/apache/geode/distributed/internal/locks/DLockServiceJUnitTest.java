@@ -18,10 +18,13 @@ import static org.apache.geode.internal.cache.tier.sockets.ClientProxyMembership
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 
 import org.apache.geode.distributed.ConfigurationProperties;
 import org.apache.geode.distributed.DistributedLockService;
@@ -33,6 +36,9 @@ public class DLockServiceJUnitTest {
   DistributedSystem system;
   DistributedLockService lockService;
 
+  @Rule
+  public RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
   @Before
   public void setup() {
     Properties properties = new Properties();
@@ -57,4 +63,113 @@ public class DLockServiceJUnitTest {
     lockService.unlock("MyLock");
     assertThat(lockService.isHeldByCurrentThread("MyLock")).isFalse();
   }
+
+  @Test
+  public void reentrantLockWithInfiniteLeaseIsGrantedLocally() {
+    System.setProperty(DLockService.CACHE_LEASES_PROPERTY, "true");
+    DLockService service =
+        (DLockService) DistributedLockService.create("Caching Lock Service", system);
+    long localLockGrants = service.getStats().getLocalLockGrants();
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+
+    assertThat(service.getStats().getLocalLockGrants()).isEqualTo(localLockGrants + 1);
+    service.unlock("MyLock");
+    assertThat(service.isHeldByCurrentThread("MyLock")).isTrue();
+    service.unlock("MyLock");
+    assertThat(service.isHeldByCurrentThread("MyLock")).isFalse();
+  }
+
+  @Test
+  public void reentrantLockIsNotGrantedLocallyWithoutLeaseCaching() {
+    DLockService service = (DLockService) lockService;
+    long localLockGrants = service.getStats().getLocalLockGrants();
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+
+    assertThat(service.getStats().getLocalLockGrants()).isEqualTo(localLockGrants);
+    service.unlock("MyLock");
+    service.unlock("MyLock");
+    assertThat(service.isHeldByCurrentThread("MyLock")).isFalse();
+  }
+
+  @Test
+  public void cachedLeaseIsGrantedToAnotherThread() throws Exception {
+    System.setProperty(DLockService.CACHE_LEASES_PROPERTY, "true");
+    DLockService service =
+        (DLockService) DistributedLockService.create("Caching Lock Service", system);
+    long localLockGrants = service.getStats().getLocalLockGrants();
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    int leaseId = service.getToken("MyLock").getLeaseId();
+    service.unlock("MyLock");
+    assertThat(service.isHeldByCurrentThread("MyLock")).isFalse();
+
+    CompletableFuture.runAsync(() -> {
+      assertThat(service.lock("MyLock", 0, -1)).isTrue();
+      assertThat(service.getToken("MyLock").getLeaseId()).isEqualTo(leaseId);
+      service.unlock("MyLock");
+    }).get();
+
+    assertThat(service.getStats().getLocalLockGrants()).isEqualTo(localLockGrants + 1);
+  }
+
+  @Test
+  public void revokedCachedLeaseIsReleased() {
+    System.setProperty(DLockService.CACHE_LEASES_PROPERTY, "true");
+    DLockService service =
+        (DLockService) DistributedLockService.create("Caching Lock Service", system);
+    long cachedLeaseRevokes = service.getStats().getCachedLeaseRevokes();
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    int leaseId = service.getToken("MyLock").getLeaseId();
+    service.unlock("MyLock");
+
+    service.revokeCachedLease("MyLock", leaseId,
+        service.getLockGrantorId().getLockGrantorMember());
+
+    assertThat(service.getStats().getCachedLeaseRevokes()).isEqualTo(cachedLeaseRevokes + 1);
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    assertThat(service.getToken("MyLock").getLeaseId()).isNotEqualTo(leaseId);
+    service.unlock("MyLock");
+  }
+
+  @Test
+  public void cachedLeaseIsDiscardedForGrantorRecovery() {
+    System.setProperty(DLockService.CACHE_LEASES_PROPERTY, "true");
+    DLockService service =
+        (DLockService) DistributedLockService.create("Caching Lock Service", system);
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    service.unlock("MyLock");
+    DLockToken token = service.getToken("MyLock");
+    synchronized (token) {
+      assertThat(token.getCachedLeaseGrantor()).isNotNull();
+    }
+
+    assertThat(service.getLockTokensForRecovery(service.getLockGrantorId())).isEmpty();
+
+    synchronized (token) {
+      assertThat(token.getCachedLeaseGrantor()).isNull();
+    }
+  }
+
+  @Test
+  public void leaseHeldDuringGrantorRecoveryIsNotCached() {
+    System.setProperty(DLockService.CACHE_LEASES_PROPERTY, "true");
+    DLockService service =
+        (DLockService) DistributedLockService.create("Caching Lock Service", system);
+
+    assertThat(service.lock("MyLock", 0, -1)).isTrue();
+    assertThat(service.getLockTokensForRecovery(service.getLockGrantorId())).hasSize(1);
+    service.unlock("MyLock");
+
+    DLockToken token = service.getToken("MyLock");
+    synchronized (token) {
+      assertThat(token.getCachedLeaseGrantor()).isNull();
+      assertThat(token.isLeaseHeld()).isFalse();
+    }
+  }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.distributed.internal.locks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
+
+import org.apache.geode.distributed.ConfigurationProperties;
+import org.apache.geode.distributed.DistributedLockService;
+import org.apache.geode.distributed.DistributedSystem;
+
+public class ShardedDLockServiceJUnitTest {
+
+  private static final String SERVICE_NAME = "Sharded Lock Service";
+
+  @Rule
+  public RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
+  private DistributedSystem system;
+  private ShardedDLockService lockService;
+
+  @Before
+  public void setup() {
+    System.setProperty(ShardedDLockService.GRANTOR_SHARDS_PROPERTY, "4");
+    Properties properties = new Properties();
+    properties.put(ConfigurationProperties.LOCATORS, "");
+    properties.put(ConfigurationProperties.MCAST_PORT, "0");
+    system = DistributedSystem.connect(properties);
+    lockService = (ShardedDLockService) DistributedLockService.create(SERVICE_NAME, system);
+  }
+
+  @After
+  public void teardown() {
+    if (system != null) {
+      system.disconnect();
+    }
+  }
+
+  @Test
+  public void lockIsGrantedByTheShardOfItsName() {
+    assertThat(lockService.getShardCount()).isEqualTo(4);
+
+    assertThat(lockService.lock("MyLock", 0, -1)).isTrue();
+
+    assertThat(lockService.isHeldByCurrentThread("MyLock")).isTrue();
+    assertThat(lockService.getShard("MyLock").isHeldByCurrentThread("MyLock")).isTrue();
+    lockService.unlock("MyLock");
+    assertThat(lockService.isHeldByCurrentThread("MyLock")).isFalse();
+  }
+
+  @Test
+  public void onlyMemberIsGrantorOfEveryShard() {
+    for (int i = 0; i < lockService.getShardCount(); i++) {
+      DLockService shard = (DLockService) DistributedLockService
+          .getServiceNamed(ShardedDLockService.getShardName(SERVICE_NAME, i));
+      assertThat(shard.isLockGrantor()).isTrue();
+    }
+    assertThat(DistributedLockService.isLockGrantor(SERVICE_NAME)).isTrue();
+  }
+
+  @Test
+  public void suspendLockingSuspendsEveryShard() throws Exception {
+    assertThat(lockService.suspendLocking(0)).isTrue();
+    assertThat(lockService.isLockingSuspendedByCurrentThread()).isTrue();
+
+    boolean lockedByOtherThread =
+        CompletableFuture.supplyAsync(() -> lockService.lock("MyLock", 0, -1)).get();
+    assertThat(lockedByOtherThread).isFalse();
+
+    lockService.resumeLocking();
+    assertThat(lockService.isLockingSuspendedByCurrentThread()).isFalse();
+    assertThat(lockService.lock("MyLock", 0, -1)).isTrue();
+    lockService.unlock("MyLock");
+  }
+
+  @Test
+  public void serviceIsFoundByNameUntilDestroyed() {
+    assertThat(DistributedLockService.getServiceNamed(SERVICE_NAME)).isSameAs(lockService);
+
+    DistributedLockService.destroy(SERVICE_NAME);
+
+    assertThat(DistributedLockService.getServiceNamed(SERVICE_NAME)).isNull();
+    assertThat(DistributedLockService
+        .getServiceNamed(ShardedDLockService.getShardName(SERVICE_NAME, 0))).isNull();
+  }
+}
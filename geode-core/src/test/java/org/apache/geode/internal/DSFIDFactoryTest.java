@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.apache.geode.distributed.internal.ReplyMessage;
+
+public class DSFIDFactoryTest {
+
+  private static final int FACTORY_ID = 66100;
+  private static final int CONSTRUCTOR_ID = 66101;
+  private static final int FAILING_FACTORY_ID = 66102;
+
+  @Test
+  public void coreTypesAreCreatedWithTheirFactory() throws Exception {
+    ReplyMessage message = new ReplyMessage();
+    message.setProcessorId(42);
+
+    Object read = roundTrip(message);
+
+    assertThat(read).isInstanceOf(ReplyMessage.class);
+    assertThat(read.toString()).contains("processorId=42");
+  }
+
+  @Test
+  public void typeRegisteredWithFactoryIsCreatedByIt() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    DSFIDFactory.registerDSFID(FACTORY_ID, Dummy.class, () -> {
+      created.incrementAndGet();
+      return new Dummy(FACTORY_ID);
+    });
+
+    Object read = roundTrip(new Dummy(FACTORY_ID));
+
+    assertThat(read).isInstanceOf(Dummy.class);
+    assertThat(created.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void typeRegisteredAgainWithoutFactoryIsCreatedWithItsConstructor() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    DSFIDFactory.registerDSFID(CONSTRUCTOR_ID, Dummy.class, () -> {
+      created.incrementAndGet();
+      return new Dummy(CONSTRUCTOR_ID);
+    });
+    DSFIDFactory.registerDSFID(CONSTRUCTOR_ID, Dummy.class);
+
+    Object read = roundTrip(new Dummy(CONSTRUCTOR_ID));
+
+    assertThat(read).isInstanceOf(Dummy.class);
+    assertThat(created.get()).isZero();
+  }
+
+  @Test
+  public void factoryFailureIsThrownAsIOException() throws Exception {
+    IllegalStateException failure = new IllegalStateException("construction failed");
+    DSFIDFactory.registerDSFID(FAILING_FACTORY_ID, Dummy.class, () -> {
+      throw failure;
+    });
+
+    assertThatThrownBy(() -> roundTrip(new Dummy(FAILING_FACTORY_ID)))
+        .isInstanceOf(IOException.class).hasCause(failure);
+  }
+
+  private Object roundTrip(DataSerializableFixedID object)
+      throws IOException, ClassNotFoundException {
+    HeapDataOutputStream out = new HeapDataOutputStream(Version.CURRENT);
+    InternalDataSerializer.writeDSFID(object, out);
+    ByteArrayDataInput in = new ByteArrayDataInput();
+    in.initialize(out.toByteArray(), Version.CURRENT);
+    return InternalDataSerializer.readDSFID(in);
+  }
+
+  public static class Dummy implements DataSerializableFixedID {
+    private int dsfid;
+
+    public Dummy() {}
+
+    Dummy(int dsfid) {
+      this.dsfid = dsfid;
+    }
+
+    @Override
+    public int getDSFID() {
+      return dsfid;
+    }
+
+    @Override
+    public void toData(DataOutput out) throws IOException {}
+
+    @Override
+    public void fromData(DataInput in) throws IOException, ClassNotFoundException {}
+
+    @Override
+    public Version[] getSerializationVersions() {
+      return null;
+    }
+  }
+}
@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal.cache;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -120,4 +121,60 @@ public class BucketRegionQueueJUnitTest {
     // Invoke basicDestroy
     this.bucketRegionQueue.basicDestroy(event, true, null, false);
   }
+
+  @Test
+  public void conflatingEventIsPeekedInThePlaceOfTheEventsItConflated() {
+    makePrimary();
+    this.bucketRegionQueue.conflateInPlace(1L, 5L);
+    this.bucketRegionQueue.conflateInPlace(5L, 9L);
+
+    assertThat(this.bucketRegionQueue.getConflatedKeysCount()).isEqualTo(1);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(1L)).isEqualTo(9L);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(5L)).isEqualTo(5L);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(9L)).isNull();
+    assertThat(this.bucketRegionQueue.getKeyToPeek(12L)).isEqualTo(12L);
+  }
+
+  @Test
+  public void peekedEventIsNotConflatedInPlace() {
+    makePrimary();
+    assertThat(this.bucketRegionQueue.getKeyToPeek(1L)).isEqualTo(1L);
+
+    this.bucketRegionQueue.conflateInPlace(1L, 5L);
+
+    assertThat(this.bucketRegionQueue.getKeyToPeek(5L)).isEqualTo(5L);
+  }
+
+  @Test
+  public void conflatingEventIsNotPeekedAgainInThePlaceOfTheEventItConflated() {
+    makePrimary();
+    this.bucketRegionQueue.conflateInPlace(1L, 5L);
+
+    assertThat(this.bucketRegionQueue.getKeyToPeek(5L)).isEqualTo(5L);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(1L)).isNull();
+  }
+
+  @Test
+  public void secondaryDoesNotConflateInPlace() {
+    this.bucketRegionQueue.conflateInPlace(1L, 5L);
+
+    assertThat(this.bucketRegionQueue.getConflatedKeysCount()).isEqualTo(0);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(1L)).isEqualTo(1L);
+  }
+
+  @Test
+  public void conflatedKeysDoNotGrowWhileTheSameKeyIsUpdated() {
+    makePrimary();
+    for (long key = 1; key < 100; key++) {
+      this.bucketRegionQueue.conflateInPlace(key, key + 1);
+    }
+
+    assertThat(this.bucketRegionQueue.getConflatedKeysCount()).isEqualTo(1);
+    assertThat(this.bucketRegionQueue.getKeyToPeek(1L)).isEqualTo(100L);
+    assertThat(this.bucketRegionQueue.getConflatedKeysCount()).isEqualTo(0);
+  }
+
+  private void makePrimary() {
+    when(this.bucketRegionQueue.getBucketAdvisor().isPrimary()).thenReturn(true);
+  }
 }
@@ -28,6 +28,9 @@ import static org.apache.geode.internal.cache.CachePerfStats.deltasSentId;
 import static org.apache.geode.internal.cache.CachePerfStats.destroysId;
 import static org.apache.geode.internal.cache.CachePerfStats.evictorJobsCompletedId;
 import static org.apache.geode.internal.cache.CachePerfStats.evictorJobsStartedId;
+import static org.apache.geode.internal.cache.CachePerfStats.getInitialImageBytesSentId;
+import static org.apache.geode.internal.cache.CachePerfStats.getInitialImageChunksInProgressId;
+import static org.apache.geode.internal.cache.CachePerfStats.getInitialImageChunksReceivedId;
 import static org.apache.geode.internal.cache.CachePerfStats.getInitialImagesCompletedId;
 import static org.apache.geode.internal.cache.CachePerfStats.getTimeId;
 import static org.apache.geode.internal.cache.CachePerfStats.getsId;
@@ -631,6 +634,32 @@ public class CachePerfStatsTest {
     assertThat(cachePerfStats.getGetInitialImagesCompleted()).isNegative();
   }
 
+  @Test
+  public void endGetInitialImageChunkIncrementsGetInitialImageChunksReceived() {
+    long start = cachePerfStats.startGetInitialImageChunk();
+
+    assertThat(statistics.getInt(getInitialImageChunksInProgressId)).isEqualTo(1);
+
+    cachePerfStats.endGetInitialImageChunk(start);
+
+    assertThat(statistics.getInt(getInitialImageChunksInProgressId)).isZero();
+    assertThat(cachePerfStats.getGetInitialImageChunksReceived()).isEqualTo(1L);
+  }
+
+  @Test
+  public void getGetInitialImageChunksReceivedDelegatesToStatistics() {
+    statistics.incLong(getInitialImageChunksReceivedId, Long.MAX_VALUE);
+
+    assertThat(cachePerfStats.getGetInitialImageChunksReceived()).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void incGetInitialImageBytesSentIncrementsGetInitialImageBytesSent() {
+    cachePerfStats.incGetInitialImageBytesSent(1024);
+
+    assertThat(statistics.getLong(getInitialImageBytesSentId)).isEqualTo(1024L);
+  }
+
   @Test
   public void getDeltaGetInitialImagesCompletedDelegatesToStatistics() {
     statistics.incInt(deltaGetInitialImagesCompletedId, Integer.MAX_VALUE);
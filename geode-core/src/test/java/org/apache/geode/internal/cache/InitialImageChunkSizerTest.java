@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.internal.cache.InitialImageChunkSizer.SAMPLE_CHUNKS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+
+public class InitialImageChunkSizerTest {
+
+  private static final int KB = 1024;
+
+  private long now;
+
+  @Test
+  public void fixedSizerNeverChangesChunkSize() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(false, 500 * KB, 64 * KB, 8192 * KB);
+    sizer.start(now);
+
+    sendSample(sizer, 500 * KB, 1000);
+    sendSample(sizer, 500 * KB, 10);
+
+    assertThat(sizer.getChunkSize()).isEqualTo(500 * KB);
+  }
+
+  @Test
+  public void growsWhileThroughputImproves() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(true, 128 * KB, 64 * KB, 8192 * KB);
+    sizer.start(now);
+
+    sendSample(sizer, sizer.getChunkSize(), 1000);
+    assertThat(sizer.getChunkSize()).isEqualTo(256 * KB);
+
+    // twice the bytes in the same time
+    sendSample(sizer, sizer.getChunkSize(), 1000);
+    assertThat(sizer.getChunkSize()).isEqualTo(512 * KB);
+  }
+
+  @Test
+  public void reversesDirectionWhenThroughputDrops() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(true, 128 * KB, 64 * KB, 8192 * KB);
+    sizer.start(now);
+
+    sendSample(sizer, sizer.getChunkSize(), 1000);
+    assertThat(sizer.getChunkSize()).isEqualTo(256 * KB);
+
+    // twice the bytes but four times the time: throughput halved
+    sendSample(sizer, sizer.getChunkSize(), 4000);
+    assertThat(sizer.getChunkSize()).isEqualTo(128 * KB);
+  }
+
+  @Test
+  public void holdsChunkSizeWhenThroughputIsStable() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(true, 128 * KB, 64 * KB, 8192 * KB);
+    sizer.start(now);
+
+    sendSample(sizer, sizer.getChunkSize(), 1000);
+    sendSample(sizer, sizer.getChunkSize(), 2000);
+
+    assertThat(sizer.getChunkSize()).isEqualTo(256 * KB);
+  }
+
+  @Test
+  public void staysWithinBounds() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(true, 4096 * KB, 64 * KB, 8192 * KB);
+    sizer.start(now);
+
+    long sampleTime = 1000;
+    for (int i = 0; i < 10; i++) {
+      sendSample(sizer, sizer.getChunkSize(), sampleTime);
+      sampleTime /= 2;
+    }
+
+    assertThat(sizer.getChunkSize()).isEqualTo(8192 * KB);
+  }
+
+  @Test
+  public void initialChunkSizeIsClampedWhenAdaptive() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(true, KB, 64 * KB, 8192 * KB);
+
+    assertThat(sizer.getChunkSize()).isEqualTo(64 * KB);
+  }
+
+  @Test
+  public void rejectsInvalidBounds() {
+    assertThatThrownBy(() -> new InitialImageChunkSizer(true, 500 * KB, 8192 * KB, 64 * KB))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void ignoresInvalidBoundsWhenNotAdaptive() {
+    InitialImageChunkSizer sizer = new InitialImageChunkSizer(false, 500 * KB, 8192 * KB, 64 * KB);
+
+    assertThat(sizer.getChunkSize()).isEqualTo(500 * KB);
+  }
+
+  private void sendSample(InitialImageChunkSizer sizer, int chunkSize, long sampleTime) {
+    for (int i = 0; i < SAMPLE_CHUNKS; i++) {
+      now += sampleTime / SAMPLE_CHUNKS;
+      sizer.chunkSent(chunkSize, now);
+    }
+  }
+}
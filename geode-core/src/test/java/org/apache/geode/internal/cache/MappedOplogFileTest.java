@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedOplogFileTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private RandomAccessFile raf;
+  private FileChannel channel;
+
+  @Before
+  public void setUp() throws Exception {
+    File file = temporaryFolder.newFile("OVERFLOWtest_1.crf");
+    raf = new RandomAccessFile(file, "rw");
+    raf.write(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+    channel = raf.getChannel();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    channel.close();
+    raf.close();
+  }
+
+  @Test
+  public void readReturnsBytesAtOffset() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(channel, 10);
+
+    assertThat(mapped.size()).isEqualTo(10);
+    assertThat(mapped.read(3, 4)).containsExactly(3, 4, 5, 6);
+    assertThat(mapped.read(0, 10)).hasSize(10);
+
+    mapped.unmap();
+  }
+
+  @Test
+  public void readOutsideOfMappingReturnsNull() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(channel, 8);
+
+    assertThat(mapped.read(6, 4)).isNull();
+    assertThat(mapped.read(-1, 2)).isNull();
+
+    mapped.unmap();
+  }
+
+  @Test
+  public void readAfterUnmapReturnsNull() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(channel, 10);
+
+    mapped.unmap();
+
+    assertThat(mapped.isUnmapped()).isTrue();
+    assertThat(mapped.read(0, 1)).isNull();
+  }
+
+  @Test
+  public void unmapIsIdempotent() throws Exception {
+    MappedOplogFile mapped = MappedOplogFile.map(channel, 10);
+
+    mapped.unmap();
+    mapped.unmap();
+
+    assertThat(mapped.isUnmapped()).isTrue();
+  }
+
+  @Test
+  public void emptyFileIsNotMapped() throws Exception {
+    assertThat(MappedOplogFile.map(channel, 0)).isNull();
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.backup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class OplogTransferTest {
+
+  @Rule
+  public TemporaryFolder tempDir = new TemporaryFolder();
+
+  private Path sourceDir;
+  private Path targetDir;
+
+  @Before
+  public void setup() throws IOException {
+    sourceDir = tempDir.newFolder("source").toPath();
+    targetDir = tempDir.newFolder("target").toPath();
+  }
+
+  @Test
+  public void executeMovesAllFiles() throws Exception {
+    OplogTransfer transfer = new OplogTransfer(3, 0);
+    for (int i = 0; i < 10; i++) {
+      Path source = Files.write(sourceDir.resolve("BACKUPds_" + i + ".crf"), new byte[] {1, 2});
+      transfer.add(source, targetDir.resolve(source.getFileName()));
+    }
+
+    transfer.execute();
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(targetDir.resolve("BACKUPds_" + i + ".crf")).exists();
+      assertThat(sourceDir.resolve("BACKUPds_" + i + ".crf")).doesNotExist();
+    }
+  }
+
+  @Test
+  public void executeWithNothingScheduledDoesNothing() throws Exception {
+    OplogTransfer transfer = new OplogTransfer(2, 0);
+
+    transfer.execute();
+    transfer.writeChecksums(targetDir);
+
+    assertThat(targetDir.resolve(OplogTransfer.CHECKSUMS_FILE)).doesNotExist();
+  }
+
+  @Test
+  public void executeRethrowsFailure() throws Exception {
+    OplogTransfer transfer = new OplogTransfer(2, 0);
+    Path source = Files.write(sourceDir.resolve("BACKUPds_1.crf"), new byte[] {1});
+    transfer.add(source, targetDir.resolve(source.getFileName()));
+    transfer.add(sourceDir.resolve("missing.crf"), targetDir.resolve("missing.crf"));
+
+    assertThatThrownBy(transfer::execute).isInstanceOf(NoSuchFileException.class);
+  }
+
+  @Test
+  public void copyComputesChecksum() throws Exception {
+    byte[] content = new byte[3 * 1024 * 1024 + 17];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    Path source = Files.write(sourceDir.resolve("BACKUPds_1.crf"), content);
+    CRC32 expected = new CRC32();
+    expected.update(content);
+
+    long checksum = new OplogTransfer(1, 0).copy(source, targetDir.resolve("BACKUPds_1.crf"));
+
+    assertThat(checksum).isEqualTo(expected.getValue());
+    assertThat(Files.readAllBytes(targetDir.resolve("BACKUPds_1.crf"))).isEqualTo(content);
+  }
+
+  @Test
+  public void failedCopyDeletesPartialDestination() throws Exception {
+    Path source = Files.write(sourceDir.resolve("BACKUPds_1.crf"), new byte[2 * 1024 * 1024]);
+    Path destination = targetDir.resolve("BACKUPds_1.crf");
+    OplogTransfer transfer = new OplogTransfer(1, 1);
+
+    // the copy fails after the destination was created, either reading or throttling
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(() -> transfer.copy(source, destination))
+          .isInstanceOf(IOException.class);
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertThat(destination).doesNotExist();
+    assertThat(source).exists();
+  }
+
+  @Test
+  public void throttleLimitsRate() throws Exception {
+    OplogTransfer.Throttle throttle = new OplogTransfer.Throttle(1024 * 1024);
+    long start = System.nanoTime();
+
+    throttle.acquire(256 * 1024);
+    throttle.acquire(256 * 1024);
+
+    // half a megabyte at one megabyte per second
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(450_000_000L);
+  }
+
+  @Test
+  public void unlimitedThrottleDoesNotWait() throws Exception {
+    OplogTransfer.Throttle throttle = new OplogTransfer.Throttle(0);
+    long start = System.nanoTime();
+
+    throttle.acquire(Integer.MAX_VALUE);
+
+    assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.geode.cache.CacheClosedException;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.snapshot.GFSnapshot.GFSnapshotImporter;
+import org.apache.geode.internal.cache.snapshot.GFSnapshot.SnapshotWriter;
+import org.apache.geode.internal.cache.snapshot.SnapshotPacket.SnapshotRecord;
+
+public class GFSnapshotTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private InternalCache cache;
+
+  @Before
+  public void setUp() {
+    cache = mock(InternalCache.class);
+    when(cache.getPdxRegistry()).thenThrow(new CacheClosedException());
+  }
+
+  @Test
+  public void uncompressedSnapshotRoundTrips() throws Exception {
+    File file = temporaryFolder.newFile("snapshot.gfd");
+
+    write(file, false, 100);
+
+    GFSnapshotImporter in = new GFSnapshotImporter(file, null);
+    try {
+      assertThat(in.getVersion()).isEqualTo((byte) GFSnapshot.SNAP_VER_2);
+      assertThat(in.isCompressed()).isFalse();
+      assertThat(in.getRegionName()).isEqualTo("/region");
+      verifyRecords(in, 100);
+    } finally {
+      in.close();
+    }
+  }
+
+  @Test
+  public void compressedSnapshotRoundTrips() throws Exception {
+    File file = temporaryFolder.newFile("snapshot.gfd");
+
+    write(file, true, 100);
+
+    GFSnapshotImporter in = new GFSnapshotImporter(file, null);
+    try {
+      assertThat(in.getVersion()).isEqualTo((byte) GFSnapshot.SNAP_VER_3);
+      assertThat(in.isCompressed()).isTrue();
+      assertThat(in.getRegionName()).isEqualTo("/region");
+      verifyRecords(in, 100);
+    } finally {
+      in.close();
+    }
+  }
+
+  @Test
+  public void compressedSnapshotIsSmaller() throws Exception {
+    File uncompressed = temporaryFolder.newFile("uncompressed.gfd");
+    File compressed = temporaryFolder.newFile("compressed.gfd");
+
+    write(uncompressed, false, 1000);
+    write(compressed, true, 1000);
+
+    assertThat(compressed.length()).isLessThan(uncompressed.length());
+  }
+
+  @Test
+  public void emptyCompressedSnapshotRoundTrips() throws Exception {
+    File file = temporaryFolder.newFile("snapshot.gfd");
+
+    write(file, true, 0);
+
+    GFSnapshotImporter in = new GFSnapshotImporter(file, null);
+    try {
+      assertThat(in.readSnapshotRecord()).isNull();
+    } finally {
+      in.close();
+    }
+  }
+
+  private void write(File file, boolean compressed, int count) throws Exception {
+    SnapshotWriter writer = GFSnapshot.create(file, "/region", cache, compressed);
+    try {
+      for (int i = 0; i < count; i++) {
+        writer.snapshotEntry(new SnapshotRecord(key(i), value(i)));
+      }
+    } finally {
+      writer.snapshotComplete();
+    }
+  }
+
+  private void verifyRecords(GFSnapshotImporter in, int count) throws Exception {
+    for (int i = 0; i < count; i++) {
+      SnapshotRecord record = in.readSnapshotRecord();
+      assertThat(record.getKey()).isEqualTo(key(i));
+      assertThat(record.getValue()).isEqualTo(value(i));
+    }
+    assertThat(in.readSnapshotRecord()).isNull();
+  }
+
+  private static byte[] key(int i) {
+    return ("key-" + i).getBytes();
+  }
+
+  private static byte[] value(int i) {
+    return ("value-value-value-value-" + i).getBytes();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.Version;
+import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.tier.sockets.ClientUpdateMessageImpl.SerializedParts;
+import org.apache.geode.internal.util.BlobHelper;
+import org.apache.geode.test.junit.categories.ClientSubscriptionTest;
+
+@Category({ClientSubscriptionTest.class})
+public class ClientUpdateMessageImplTest {
+
+  private LocalRegion region;
+  private CacheClientProxy proxy;
+  private EventID eventId;
+
+  @Before
+  public void setUp() {
+    region = mock(LocalRegion.class);
+    when(region.getFullPath()).thenReturn("/region");
+    proxy = mock(CacheClientProxy.class);
+    eventId = new EventID(new byte[] {1, 2, 3}, 4, 5);
+  }
+
+  @Test
+  public void serializesPartsOnceForAllClientsOfAVersion() throws Exception {
+    ClientUpdateMessageImpl message = createMessage(7);
+
+    SerializedParts parts = message.getSerializedParts(proxy, Version.CURRENT);
+
+    assertThat(message.getSerializedParts(proxy, Version.CURRENT)).isSameAs(parts);
+    assertThat(BlobHelper.deserializeBlob(parts.getKey())).isEqualTo(7);
+    assertThat(BlobHelper.deserializeBlob(parts.getEventIdentifier())).isEqualTo(eventId);
+  }
+
+  @Test
+  public void serializesPartsAgainForClientsOfAnotherVersion() throws Exception {
+    ClientUpdateMessageImpl message = createMessage(7);
+
+    SerializedParts parts = message.getSerializedParts(proxy, Version.CURRENT);
+
+    assertThat(message.getSerializedParts(proxy, Version.GFE_90)).isNotSameAs(parts);
+  }
+
+  @Test
+  public void keepsPartsOfEachClientVersion() throws Exception {
+    ClientUpdateMessageImpl message = createMessage(7);
+
+    SerializedParts parts = message.getSerializedParts(proxy, Version.CURRENT);
+    SerializedParts olderParts = message.getSerializedParts(proxy, Version.GFE_90);
+
+    assertThat(message.getSerializedParts(proxy, Version.CURRENT)).isSameAs(parts);
+    assertThat(message.getSerializedParts(proxy, Version.GFE_90)).isSameAs(olderParts);
+  }
+
+  @Test
+  public void sizeIncludesSerializedParts() throws Exception {
+    ClientUpdateMessageImpl message = createMessage(7);
+    int size = message.getSizeInBytes();
+
+    message.getSerializedParts(proxy, Version.CURRENT);
+    int sizeWithParts = message.getSizeInBytes();
+    message.getSerializedParts(proxy, Version.GFE_90);
+
+    assertThat(sizeWithParts).isGreaterThan(size);
+    assertThat(message.getSizeInBytes()).isGreaterThan(sizeWithParts);
+  }
+
+  @Test
+  public void doesNotSerializeStringKeys() throws Exception {
+    ClientUpdateMessageImpl message = createMessage("key");
+
+    assertThat(message.getSerializedParts(proxy, Version.CURRENT).getKey()).isNull();
+  }
+
+  private ClientUpdateMessageImpl createMessage(Object key) {
+    return new ClientUpdateMessageImpl(EnumListenerEvent.AFTER_CREATE, region, key,
+        new byte[] {1}, (byte) 0x01, "callback", null, eventId);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.cache.EnumListenerEvent;
+import org.apache.geode.internal.cache.EventID;
+import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.tier.sockets.CacheClientProxy.MessageDispatcher;
+import org.apache.geode.test.junit.categories.ClientSubscriptionTest;
+
+@Category({ClientSubscriptionTest.class})
+public class MessageDispatcherTest {
+
+  private LocalRegion region;
+  private ClientProxyMembershipID clientId;
+  private int sequenceId;
+
+  @Before
+  public void setUp() {
+    region = mock(LocalRegion.class);
+    when(region.getFullPath()).thenReturn("/region");
+    clientId = mock(ClientProxyMembershipID.class);
+  }
+
+  @Test
+  public void conflateKeepsTheLatestUpdateOfEachKey() {
+    ClientMessage first = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", null);
+    ClientMessage other = createMessage(EnumListenerEvent.AFTER_UPDATE, "b", null);
+    ClientMessage second = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", null);
+
+    assertThat(MessageDispatcher.conflate(asList(first, other, second), clientId))
+        .containsExactly(other, second);
+  }
+
+  @Test
+  public void conflateKeepsOtherOperations() {
+    ClientMessage create = createMessage(EnumListenerEvent.AFTER_CREATE, "a", null);
+    ClientMessage destroy = createMessage(EnumListenerEvent.AFTER_DESTROY, "a", null);
+    ClientMessage update = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", null);
+
+    assertThat(MessageDispatcher.conflate(asList(create, destroy, update), clientId))
+        .containsExactly(create, destroy, update);
+  }
+
+  @Test
+  public void conflateKeepsTheUpdatesThatADeltaIsBasedOn() {
+    ClientMessage update = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", null);
+    ClientMessage delta = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", new byte[] {1});
+    ClientMessage latest = createMessage(EnumListenerEvent.AFTER_UPDATE, "a", null);
+
+    assertThat(MessageDispatcher.conflate(asList(update, delta), clientId))
+        .containsExactly(update, delta);
+    assertThat(MessageDispatcher.conflate(asList(update, delta, latest), clientId))
+        .containsExactly(latest);
+  }
+
+  private ClientMessage createMessage(EnumListenerEvent operation, Object key, byte[] delta) {
+    return new ClientUpdateMessageImpl(operation, region, key, new byte[] {1}, delta, (byte) 0x01,
+        null, null, new EventID(new byte[] {1, 2, 3}, 4, sequenceId++), null);
+  }
+}
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -30,12 +31,15 @@ import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import org.apache.geode.compression.SnappyCompressor;
 import org.apache.geode.internal.Version;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
 @Category({ClientServerTest.class})
@@ -107,6 +111,55 @@ public class MessageJUnitTest {
     }
   }
 
+  @Test
+  public void batchedMessagesAreWrittenWhenTheBatchIsFlushed() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Socket mockSocket = mock(Socket.class);
+    when(mockSocket.getOutputStream()).thenReturn(output);
+    Message batchedMessage = new Message(1, Version.CURRENT);
+    batchedMessage.setComms(mockSocket, ByteBuffer.allocate(1000), mock(MessageStats.class));
+
+    batchedMessage.addStringPart("value");
+    batchedMessage.send();
+    int messageLength = output.size();
+    output.reset();
+
+    batchedMessage.addStringPart("value");
+    batchedMessage.sendBatched();
+    batchedMessage.addStringPart("value");
+    batchedMessage.sendBatched();
+    assertEquals(0, output.size());
+
+    batchedMessage.flushBatch();
+    assertEquals(2 * messageLength, output.size());
+  }
+
+  @Test
+  public void sentLengthsIncludeTheSavingsOfCompression() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Socket mockSocket = mock(Socket.class);
+    when(mockSocket.getOutputStream()).thenReturn(output);
+    Message compressedMessage = new Message(1, Version.CURRENT);
+    compressedMessage.setComms(mockSocket, ByteBuffer.allocate(1000), mock(MessageStats.class));
+    byte[] value = new byte[4096];
+    Arrays.fill(value, (byte) 7);
+
+    compressedMessage.addBytesPart(value);
+    compressedMessage.send();
+    assertEquals(output.size(), compressedMessage.getSentLength());
+    assertEquals(output.size(), compressedMessage.getUncompressedSentLength());
+    int uncompressedLength = output.size();
+    output.reset();
+
+    compressedMessage.setCompression(WireCompression.create(SnappyCompressor.class.getName(),
+        WireCompression.DEFAULT_THRESHOLD));
+    compressedMessage.addBytesPart(value);
+    compressedMessage.send();
+    assertEquals(output.size(), compressedMessage.getSentLength());
+    assertTrue(compressedMessage.getSentLength() < uncompressedLength);
+    assertEquals(uncompressedLength, compressedMessage.getUncompressedSentLength());
+  }
+
   /**
    * geode-1468: Message should clear the chunks in its Parts when performing cleanup.
    */
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.ClientServerTest;
+
+@Category({ClientServerTest.class})
+public class GatewayReceiverCommandTest {
+
+  private static final List<Integer> EVENTS = Arrays.asList(0, 1, 2, 3);
+
+  @Test
+  public void applyIsSequentialByDefault() {
+    assertThat(GatewayReceiverCommand.APPLY_THREADS).isEqualTo(1);
+  }
+
+  @Test
+  public void eventsOfDifferentThreadsAreSplitBySubBatch() {
+    int[] subBatches = {0, 1, 0, 1};
+    Object[] threads = {"t1", "t2", "t3", "t4"};
+
+    List<List<Integer>> result =
+        GatewayReceiverCommand.groupSubBatches(EVENTS, subBatches, threads, 4);
+
+    assertThat(result).containsExactly(Arrays.asList(0, 2), Arrays.asList(1, 3));
+  }
+
+  @Test
+  public void eventsOfOneThreadStayInOrderAcrossSubBatches() {
+    int[] subBatches = {0, 1, 2, 3};
+    Object[] threads = {"t1", "t2", "t1", "t3"};
+
+    List<List<Integer>> result =
+        GatewayReceiverCommand.groupSubBatches(EVENTS, subBatches, threads, 4);
+
+    assertThat(result).containsExactlyInAnyOrder(Arrays.asList(0, 2), Arrays.asList(1),
+        Arrays.asList(3));
+  }
+
+  @Test
+  public void serialSenderBatchFromOneThreadIsNotSplit() {
+    int[] subBatches = {3, 0, 2, 1};
+    Object[] threads = {"t1", "t1", "t1", "t1"};
+
+    List<List<Integer>> result =
+        GatewayReceiverCommand.groupSubBatches(EVENTS, subBatches, threads, 4);
+
+    assertThat(result).containsExactly(EVENTS);
+  }
+
+  @Test
+  public void eventsWithUnknownThreadAreSplitBySubBatch() {
+    int[] subBatches = {0, 1, 0, 1};
+    Object[] threads = {null, null, null, null};
+
+    List<List<Integer>> result =
+        GatewayReceiverCommand.groupSubBatches(EVENTS, subBatches, threads, 2);
+
+    assertThat(result).containsExactly(Arrays.asList(0, 2), Arrays.asList(1, 3));
+  }
+}
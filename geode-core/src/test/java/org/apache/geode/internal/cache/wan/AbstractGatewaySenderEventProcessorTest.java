@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.distributed.internal.InternalDistributedSystem;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.internal.cache.wan.parallel.ParallelGatewaySenderHelper;
+import org.apache.geode.test.fake.Fakes;
+
+public class AbstractGatewaySenderEventProcessorTest {
+
+  private AbstractGatewaySender sender;
+  private GatewaySenderStats statistics;
+
+  @Before
+  public void setUp() {
+    GemFireCacheImpl cache = Fakes.cache();
+    when(cache.getDistributedSystem()).thenReturn(mock(InternalDistributedSystem.class));
+    sender = ParallelGatewaySenderHelper.createGatewaySender(cache);
+    statistics = mock(GatewaySenderStats.class);
+    when(sender.getStatistics()).thenReturn(statistics);
+    when(sender.getBatchTimeInterval()).thenReturn(1000);
+  }
+
+  @Test
+  public void setBatchSizeUpdatesTheBatchStatistics() {
+    AbstractGatewaySenderEventProcessor processor =
+        ParallelGatewaySenderHelper.createParallelGatewaySenderEventProcessor(sender);
+    when(sender.getEventProcessor()).thenReturn(processor);
+
+    processor.setBatchSize(50);
+
+    verify(statistics).setCurrentBatchSize(50);
+    verify(statistics).setCurrentBatchTimeInterval(1000);
+  }
+
+  @Test
+  public void batchStatisticsAreTheValuesOfTheSendersEventProcessor() {
+    AbstractGatewaySenderEventProcessor processor =
+        ParallelGatewaySenderHelper.createParallelGatewaySenderEventProcessor(sender);
+    AbstractGatewaySenderEventProcessor senderProcessor =
+        mock(AbstractGatewaySenderEventProcessor.class);
+    when(senderProcessor.getCurrentBatchSize()).thenReturn(200);
+    when(senderProcessor.getCurrentBatchTimeInterval()).thenReturn(500);
+    when(sender.getEventProcessor()).thenReturn(senderProcessor);
+
+    processor.setBatchSize(50);
+
+    verify(statistics).setCurrentBatchSize(200);
+    verify(statistics).setCurrentBatchTimeInterval(500);
+  }
+}
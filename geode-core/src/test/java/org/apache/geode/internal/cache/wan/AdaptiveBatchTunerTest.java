@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.wan;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class AdaptiveBatchTunerTest {
+
+  @Test
+  public void startsWithTheMaximumBatchSizeAndBatchTimeInterval() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 100, 10, 1000);
+
+    assertThat(tuner.getBatchSize()).isEqualTo(100);
+    assertThat(tuner.getBatchTimeInterval()).isEqualTo(1000);
+  }
+
+  @Test
+  public void idleSenderShrinksTheBatchSizeAndBatchTimeIntervalToTheAckLatency() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 100, 10, 1000);
+    tuner.batchAcknowledged(MILLISECONDS.toNanos(50));
+
+    long now = MILLISECONDS.toNanos(1);
+    for (int i = 0; i < 20; i++) {
+      tuner.batchPeeked(0, now);
+      now += MILLISECONDS.toNanos(100);
+    }
+
+    assertThat(tuner.getBatchSize()).isEqualTo(1);
+    assertThat(tuner.getBatchTimeInterval()).isEqualTo(50);
+  }
+
+  @Test
+  public void batchSizeFollowsTheEventsArrivingDuringTheAckLatency() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 1000, 10, 1000);
+    tuner.batchAcknowledged(MILLISECONDS.toNanos(100));
+
+    // 10 events every 50 milliseconds
+    long now = MILLISECONDS.toNanos(1);
+    for (int i = 0; i < 50; i++) {
+      tuner.batchPeeked(10, now);
+      now += MILLISECONDS.toNanos(50);
+    }
+
+    assertThat(tuner.getBatchSize()).isEqualTo(20);
+    assertThat(tuner.getBatchTimeInterval()).isEqualTo(100);
+  }
+
+  @Test
+  public void fullBatchesGrowTheBatchSizeUpToTheMaximum() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 100, 10, 1000);
+    tuner.batchAcknowledged(MILLISECONDS.toNanos(50));
+    long now = MILLISECONDS.toNanos(1);
+    for (int i = 0; i < 20; i++) {
+      tuner.batchPeeked(0, now);
+      now += MILLISECONDS.toNanos(100);
+    }
+    assertThat(tuner.getBatchSize()).isEqualTo(1);
+
+    tuner.batchPeeked(1, now);
+    assertThat(tuner.getBatchSize()).isEqualTo(2);
+    tuner.batchPeeked(2, now + 1);
+    assertThat(tuner.getBatchSize()).isEqualTo(4);
+    for (int i = 0; i < 10; i++) {
+      tuner.batchPeeked(tuner.getBatchSize(), now + 2 + i);
+    }
+    assertThat(tuner.getBatchSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void batchTimeIntervalStaysWithinItsBounds() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 100, 10, 1000);
+
+    tuner.batchAcknowledged(MILLISECONDS.toNanos(1));
+    tuner.batchPeeked(0, 1);
+    assertThat(tuner.getBatchTimeInterval()).isEqualTo(10);
+
+    for (int i = 0; i < 50; i++) {
+      tuner.batchAcknowledged(MILLISECONDS.toNanos(5000));
+    }
+    tuner.batchPeeked(0, 2);
+    assertThat(tuner.getBatchTimeInterval()).isEqualTo(1000);
+  }
+
+  @Test
+  public void lowerMaxBatchSizeLimitsTheBatchSize() {
+    AdaptiveBatchTuner tuner = new AdaptiveBatchTuner(1, 100, 10, 1000);
+
+    tuner.setMaxBatchSize(30);
+    assertThat(tuner.getBatchSize()).isEqualTo(30);
+
+    tuner.batchPeeked(30, 1);
+    assertThat(tuner.getBatchSize()).isEqualTo(30);
+  }
+}
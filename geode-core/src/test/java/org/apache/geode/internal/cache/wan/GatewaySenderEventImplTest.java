@@ -15,9 +15,13 @@
 package org.apache.geode.internal.cache.wan;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -28,6 +32,11 @@ import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.apache.geode.internal.cache.LocalRegion;
 import org.apache.geode.internal.cache.wan.parallel.ParallelGatewaySenderHelper;
+import org.apache.geode.internal.offheap.MemoryAllocatorImpl;
+import org.apache.geode.internal.offheap.NullOffHeapMemoryStats;
+import org.apache.geode.internal.offheap.NullOutOfOffHeapMemoryListener;
+import org.apache.geode.internal.offheap.OutOfOffHeapMemoryListener;
+import org.apache.geode.internal.offheap.SlabImpl;
 import org.apache.geode.test.fake.Fakes;
 
 public class GatewaySenderEventImplTest {
@@ -49,6 +58,11 @@ public class GatewaySenderEventImplTest {
     when(cache.getDistributedSystem()).thenReturn(ids);
   }
 
+  @After
+  public void freeOffHeapMemory() {
+    MemoryAllocatorImpl.freeOffHeapMemory();
+  }
+
   @Test
   public void testEquality() throws Exception {
     LocalRegion region = mock(LocalRegion.class);
@@ -106,4 +120,82 @@ public class GatewaySenderEventImplTest {
             "key1", "value1", 0, 0);
     assertThat(event).isNotEqualTo(eventDifferentRegion);
   }
+
+  @Test
+  public void movedValueIsStoredOffHeapUntilReleased() throws Exception {
+    MemoryAllocatorImpl allocator = createOffHeapMemory();
+    String value = "a value too large to be encoded in an off-heap address";
+    GatewaySenderEventImpl event = createEvent(value);
+    byte[] serializedValue = event.getSerializedValue();
+    int heapSize = event.getSizeInBytes();
+
+    assertThat(event.moveValueOffHeap(allocator, Long.MAX_VALUE)).isTrue();
+
+    assertThat(allocator.getUsedMemory()).isGreaterThan(0);
+    assertThat(event.getSizeInBytes()).isLessThan(heapSize);
+    assertThat(event.getSerializedValue()).isEqualTo(serializedValue);
+    assertThat(event.getDeserializedValue()).isEqualTo(value);
+    assertThat(event.makeHeapCopyIfOffHeap().getSerializedValue()).isEqualTo(serializedValue);
+    assertThat(event.moveValueOffHeap(allocator, Long.MAX_VALUE)).isFalse();
+
+    event.release();
+
+    assertThat(allocator.getUsedMemory()).isEqualTo(0);
+  }
+
+  @Test
+  public void valueStaysOnHeapWhenOffHeapMemoryIsAboveTheLimit() throws Exception {
+    MemoryAllocatorImpl allocator = createOffHeapMemory();
+    GatewaySenderEventImpl event = createEvent("value1");
+
+    assertThat(event.moveValueOffHeap(allocator, 0)).isFalse();
+
+    assertThat(allocator.getUsedMemory()).isEqualTo(0);
+    assertThat(event.getDeserializedValue()).isEqualTo("value1");
+  }
+
+  @Test
+  public void valueStaysOnHeapWithoutNotifyingListenerWhenOffHeapMemoryIsFull() throws Exception {
+    OutOfOffHeapMemoryListener listener = mock(OutOfOffHeapMemoryListener.class);
+    MemoryAllocatorImpl allocator = MemoryAllocatorImpl.createForUnitTest(listener,
+        new NullOffHeapMemoryStats(), new SlabImpl[] {new SlabImpl(1024)});
+    String value = new String(new char[2048]).replace('\0', 'v');
+    GatewaySenderEventImpl event = createEvent(value);
+
+    assertThat(event.moveValueOffHeap(allocator, Long.MAX_VALUE)).isFalse();
+
+    verify(listener, never()).outOfOffHeapMemory(any());
+    assertThat(allocator.getUsedMemory()).isEqualTo(0);
+    assertThat(event.getDeserializedValue()).isEqualTo(value);
+  }
+
+  @Test
+  public void movedEventEqualsEventWithHeapValue() throws Exception {
+    MemoryAllocatorImpl allocator = createOffHeapMemory();
+    String value = "a value too large to be encoded in an off-heap address";
+    GatewaySenderEventImpl event = createEvent(value);
+    GatewaySenderEventImpl heapEvent = createEvent(value);
+
+    assertThat(event.moveValueOffHeap(allocator, Long.MAX_VALUE)).isTrue();
+
+    assertThat(event).isEqualTo(heapEvent);
+    assertThat(heapEvent).isEqualTo(event);
+    assertThat(event.hashCode()).isEqualTo(heapEvent.hashCode());
+    assertThat(event).isNotEqualTo(createEvent("another value too large to be encoded"));
+
+    event.release();
+  }
+
+  private MemoryAllocatorImpl createOffHeapMemory() {
+    return MemoryAllocatorImpl.createForUnitTest(new NullOutOfOffHeapMemoryListener(),
+        new NullOffHeapMemoryStats(), new SlabImpl[] {new SlabImpl(1024 * 1024)});
+  }
+
+  private GatewaySenderEventImpl createEvent(Object value) throws Exception {
+    LocalRegion region = mock(LocalRegion.class);
+    when(region.getFullPath()).thenReturn(testName.getMethodName() + "_region");
+    when(region.getCache()).thenReturn(cache);
+    return ParallelGatewaySenderHelper.createGatewaySenderEvent(region, Operation.CREATE, "key1",
+        value, 0, 0, 0, 0);
+  }
 }
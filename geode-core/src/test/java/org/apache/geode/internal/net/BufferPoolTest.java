@@ -17,9 +17,14 @@ package org.apache.geode.internal.net;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -29,10 +34,12 @@ import org.apache.geode.distributed.internal.DMStats;
 public class BufferPoolTest {
 
   private BufferPool bufferPool;
+  private DMStats stats;
 
   @Before
   public void setup() {
-    bufferPool = new BufferPool(mock(DMStats.class));
+    stats = mock(DMStats.class);
+    bufferPool = new BufferPool(stats);
   }
 
   @Test
@@ -113,4 +120,114 @@ public class BufferPoolTest {
     assertThat(newBuffer.position()).isEqualTo(16384);
     assertThat(newBuffer.limit()).isEqualTo(newBuffer.capacity());
   }
+
+  @Test
+  public void sizeClassesRoundUpByAtMostAQuarter() {
+    assertThat(BufferPool.classCapacity(BufferPool.sizeClass(1))).isEqualTo(1024);
+    for (int size = 1000; size < 10 * 1024 * 1024; size += 997) {
+      int capacity = BufferPool.classCapacity(BufferPool.sizeClass(size));
+      assertThat(capacity).isGreaterThanOrEqualTo(size);
+      assertThat(capacity).isLessThanOrEqualTo(Math.max(1024, size + size / 4));
+      assertThat(BufferPool.sizeClass(capacity)).isEqualTo(BufferPool.sizeClass(size));
+    }
+  }
+
+  @Test
+  public void releasedBufferIsReusedForSimilarSize() {
+    assumeTrue(BufferPool.useDirectBuffers);
+    ByteBuffer buffer = bufferPool.acquireSenderBuffer(30000);
+    assertThat(buffer.limit()).isEqualTo(30000);
+    bufferPool.releaseSenderBuffer(buffer);
+
+    ByteBuffer reused = bufferPool.acquireReceiveBuffer(29000);
+
+    assertThat(reused).isSameAs(buffer);
+    assertThat(reused.position()).isZero();
+    assertThat(reused.limit()).isEqualTo(29000);
+    verify(stats, times(1)).incBufferPoolMisses();
+    verify(stats, times(1)).incBufferPoolHits();
+  }
+
+  @Test
+  public void bufferReleasedByAnotherThreadIsReused() throws Exception {
+    assumeTrue(BufferPool.useDirectBuffers);
+    ByteBuffer buffer = bufferPool.acquireSenderBuffer(30000);
+    ByteBuffer other = bufferPool.acquireSenderBuffer(30000);
+    bufferPool.releaseSenderBuffer(other);
+
+    // the releasing thread already caches one buffer of this class
+    CompletableFuture.runAsync(() -> {
+      bufferPool.releaseSenderBuffer(bufferPool.acquireSenderBuffer(30000));
+      bufferPool.releaseSenderBuffer(buffer);
+    }).get();
+
+    assertThat(bufferPool.acquireSenderBuffer(30000)).isSameAs(other);
+    assertThat(bufferPool.acquireSenderBuffer(30000)).isSameAs(buffer);
+  }
+
+  @Test
+  public void idleBuffersAreLimited() {
+    assumeTrue(BufferPool.useDirectBuffers);
+    bufferPool = new BufferPool(stats, 1024 * 1024, 100 * 1024, 0, 0);
+    ByteBuffer[] buffers = new ByteBuffer[10];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = bufferPool.acquireReceiveBuffer(32 * 1024);
+    }
+    for (ByteBuffer buffer : buffers) {
+      bufferPool.releaseReceiveBuffer(buffer);
+    }
+
+    assertThat(bufferPool.getIdleBytes()).isEqualTo(96 * 1024);
+    verify(stats, times(7)).incReceiverBufferSize(-32 * 1024, true);
+
+    bufferPool.clear();
+
+    assertThat(bufferPool.getIdleBytes()).isZero();
+  }
+
+  @Test
+  public void threadCachedBuffersAreLimited() {
+    assumeTrue(BufferPool.useDirectBuffers);
+    bufferPool = new BufferPool(stats, 1024 * 1024, 100 * 1024, 64 * 1024, 40 * 1024);
+    ByteBuffer large = bufferPool.acquireReceiveBuffer(32 * 1024);
+    ByteBuffer small = bufferPool.acquireReceiveBuffer(16 * 1024);
+
+    bufferPool.releaseReceiveBuffer(large);
+    bufferPool.releaseReceiveBuffer(small);
+
+    // only the first buffer fits in the thread's cache
+    assertThat(bufferPool.getIdleBytes()).isEqualTo(16 * 1024);
+    assertThat(bufferPool.acquireReceiveBuffer(32 * 1024)).isSameAs(large);
+    assertThat(bufferPool.getIdleBytes()).isEqualTo(16 * 1024);
+  }
+
+  @Test
+  public void largeBuffersAreNotPooled() {
+    assumeTrue(BufferPool.useDirectBuffers);
+    bufferPool = new BufferPool(stats, 1024 * 1024, 100 * 1024 * 1024, 0, 0);
+    ByteBuffer buffer = bufferPool.acquireReceiveBuffer(2 * 1024 * 1024);
+    assertThat(buffer.capacity()).isEqualTo(2 * 1024 * 1024);
+
+    bufferPool.releaseReceiveBuffer(buffer);
+
+    assertThat(bufferPool.getIdleBytes()).isZero();
+    assertThat(bufferPool.acquireReceiveBuffer(2 * 1024 * 1024)).isNotSameAs(buffer);
+    verify(stats, never()).incBufferPoolHits();
+  }
+
+  @Test
+  public void outstandingBuffersAreCounted() {
+    ByteBuffer sender = bufferPool.acquireSenderBuffer(1000);
+    ByteBuffer receiver = bufferPool.acquireReceiveBuffer(1000);
+    ByteBuffer direct = bufferPool.acquireDirectBuffer(1000);
+    assertThat(bufferPool.getOutstandingCount()).isEqualTo(3);
+
+    bufferPool.releaseSenderBuffer(sender);
+    bufferPool.releaseReceiveBuffer(receiver);
+    bufferPool.releaseDirectBuffer(direct);
+
+    assertThat(bufferPool.getOutstandingCount()).isZero();
+    verify(stats, times(3)).incBufferPoolOutstanding(1);
+    verify(stats, times(3)).incBufferPoolOutstanding(-1);
+  }
 }
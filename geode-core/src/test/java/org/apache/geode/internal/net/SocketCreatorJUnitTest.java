@@ -15,6 +15,7 @@
 package org.apache.geode.internal.net;
 
 import static org.apache.geode.test.util.ResourceUtils.createTempFileFromResource;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -24,6 +25,9 @@ import java.net.BindException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.security.NoSuchProviderException;
+import java.security.Provider;
+import java.security.Security;
 
 import javax.net.ssl.SSLSocket;
 
@@ -79,6 +83,20 @@ public class SocketCreatorJUnitTest {
     testBindExceptionMessageFormatting(null);
   }
 
+  @Test
+  public void getSSLProviderFindsInstalledProvider() throws Exception {
+    Provider installed = Security.getProviders()[0];
+
+    assertThat(SocketCreator.getSSLProvider(installed.getName())).isSameAs(installed);
+  }
+
+  @Test
+  public void getSSLProviderRejectsUnknownProvider() {
+    assertThatExceptionOfType(NoSuchProviderException.class)
+        .isThrownBy(() -> SocketCreator.getSSLProvider("no.such.Provider"))
+        .withMessageContaining("no.such.Provider");
+  }
+
   private void testBindExceptionMessageFormatting(InetAddress inetAddress) throws Exception {
     final SocketCreator socketCreator = new SocketCreator(mock(SSLConfig.class));
     final Socket socket = mock(Socket.class);
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.test.junit.categories.MembershipTest;
+
+@Category({MembershipTest.class})
+public class TlsSessionTrackerTest {
+
+  private final TlsSessionTracker tracker = new TlsSessionTracker(2);
+
+  @Test
+  public void sessionSeenBeforeIsResumed() {
+    SSLSession session = session(1);
+
+    assertThat(tracker.isResumed(session, true)).isFalse();
+    assertThat(tracker.isResumed(session, true)).isTrue();
+    assertThat(tracker.isResumed(session(1), true)).isTrue();
+  }
+
+  @Test
+  public void clientAndServerSessionsAreTrackedSeparately() {
+    assertThat(tracker.isResumed(session(1), true)).isFalse();
+
+    assertThat(tracker.isResumed(session(1), false)).isFalse();
+  }
+
+  @Test
+  public void sessionsWithoutIdsAreNotResumed() {
+    SSLSession session = mock(SSLSession.class);
+    when(session.getId()).thenReturn(new byte[0]);
+
+    assertThat(tracker.isResumed(session, true)).isFalse();
+    assertThat(tracker.isResumed(session, true)).isFalse();
+    assertThat(tracker.isResumed(null, true)).isFalse();
+  }
+
+  @Test
+  public void eldestSessionIsForgotten() {
+    tracker.isResumed(session(1), true);
+    tracker.isResumed(session(2), true);
+    tracker.isResumed(session(3), true);
+
+    assertThat(tracker.isResumed(session(1), true)).isFalse();
+    assertThat(tracker.isResumed(session(3), true)).isTrue();
+  }
+
+  private static SSLSession session(int id) {
+    SSLSession session = mock(SSLSession.class);
+    when(session.getId()).thenReturn(new byte[] {(byte) id, 42});
+    return session;
+  }
+}
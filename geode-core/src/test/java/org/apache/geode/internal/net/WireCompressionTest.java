@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+
+public class WireCompressionTest {
+
+  @Test
+  public void createReturnsNullWithoutCompressor() {
+    assertThat(WireCompression.create(null, 10)).isNull();
+    assertThat(WireCompression.create(" ", 10)).isNull();
+  }
+
+  @Test
+  public void createReturnsNullForUnknownCompressor() {
+    assertThat(WireCompression.create("org.apache.geode.NoSuchCompressor", 10)).isNull();
+    assertThat(WireCompression.create(String.class.getName(), 10)).isNull();
+  }
+
+  @Test
+  public void requestIsReadBack() throws IOException {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+
+    WireCompression read = readRequest(compression, true);
+
+    assertThat(read.getCompressorName()).isEqualTo(SnappyCompressor.class.getName());
+    assertThat(read.getThreshold()).isEqualTo(100);
+  }
+
+  @Test
+  public void requestIsRefusedIfNotAccepted() throws IOException {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+
+    assertThat(readRequest(compression, false)).isNull();
+  }
+
+  @Test
+  public void requestForNoCompressionIsReadBack() throws IOException {
+    assertThat(readRequest(null, true)).isNull();
+  }
+
+  @Test
+  public void requestForCompressorThatIsNotAcceptedIsRefused() throws IOException {
+    WireCompression compression =
+        new WireCompression(CopyingCompressor.class.getName(), new CopyingCompressor(), 100);
+
+    assertThat(readRequest(compression, true)).isNull();
+  }
+
+  @Test
+  public void requestForLocallyConfiguredCompressorIsAccepted() throws IOException {
+    WireCompression compression =
+        new WireCompression(CopyingCompressor.class.getName(), new CopyingCompressor(), 100);
+
+    WireCompression read = readRequest(compression, true, CopyingCompressor.class.getName());
+
+    assertThat(read.getCompressorName()).isEqualTo(CopyingCompressor.class.getName());
+  }
+
+  @Test
+  public void payloadBelowThresholdIsNotCompressed() {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+
+    assertThat(compression.compress(new byte[99])).isNull();
+  }
+
+  @Test
+  public void payloadThatDoesNotShrinkIsNotCompressed() {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    byte[] random = new byte[1000];
+    new Random(1).nextBytes(random);
+
+    assertThat(compression.compress(random)).isNull();
+  }
+
+  @Test
+  public void compressedPayloadIsDecompressed() throws IOException {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    byte[] payload = new byte[1000];
+    Arrays.fill(payload, (byte) 7);
+
+    byte[] compressed = compression.compress(payload);
+
+    assertThat(compressed.length).isLessThan(payload.length);
+    assertThat(compression.decompress(compressed, payload.length)).isEqualTo(payload);
+  }
+
+  @Test
+  public void payloadLargerThanMaximumIsNotDecompressed() {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    byte[] payload = new byte[1000];
+
+    byte[] compressed = compression.compress(payload);
+
+    assertThatThrownBy(() -> compression.decompress(compressed, payload.length - 1))
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void payloadWithWrongLengthIsNotDecompressed() {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    byte[] compressed = compression.compress(new byte[1000]);
+    // claim a smaller uncompressed length than snappy's own header
+    compressed[2] = 0;
+    compressed[3] = 10;
+
+    assertThatThrownBy(() -> compression.decompress(compressed, 100))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> compression.decompress(new byte[2], 100))
+        .isInstanceOf(IOException.class);
+  }
+
+  private WireCompression readRequest(WireCompression compression, boolean accept)
+      throws IOException {
+    return readRequest(compression, accept, null);
+  }
+
+  private WireCompression readRequest(WireCompression compression, boolean accept,
+      String localCompressorName) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    WireCompression.writeRequest(compression, new DataOutputStream(bytes));
+    return WireCompression.readRequest(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), accept,
+        localCompressorName);
+  }
+
+  public static class CopyingCompressor implements Compressor {
+    @Override
+    public byte[] compress(byte[] input) {
+      return input.clone();
+    }
+
+    @Override
+    public byte[] decompress(byte[] input) {
+      return input.clone();
+    }
+  }
+}
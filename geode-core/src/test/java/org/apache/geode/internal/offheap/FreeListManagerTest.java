@@ -20,6 +20,7 @@ import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -453,6 +454,43 @@ public class FreeListManagerTest {
         .isEqualTo(originalFragment.getAddress() + (16 + 8));
   }
 
+  @Test
+  public void defragmentIfFragmentedDoesNothingWithoutFreedChunks() {
+    setUpSingleSlabManager();
+    freeListManager.allocate(16);
+
+    assertThat(this.freeListManager.defragmentIfFragmented(50)).isFalse();
+    verify(this.stats).setFreeListMemory(0);
+  }
+
+  @Test
+  public void defragmentIfFragmentedDoesNothingBelowThreshold() {
+    setUpSingleSlabManager();
+    OffHeapStoredObject c = freeListManager.allocate(16);
+    OffHeapStoredObject.release(c.getAddress(), this.freeListManager);
+
+    assertThat(this.freeListManager.defragmentIfFragmented(50)).isFalse();
+    verify(this.stats).setFreeListMemory(16 + 8);
+  }
+
+  @Test
+  public void defragmentIfFragmentedCoalescesFreeLists() {
+    int slabSize = 1024 * 3;
+    setUpSingleSlabManager(slabSize);
+    OffHeapStoredObject bigChunk1 = freeListManager.allocate(slabSize / 3 - 8);
+    OffHeapStoredObject bigChunk2 = freeListManager.allocate(slabSize / 3 - 8);
+    freeListManager.allocate(slabSize / 3 - 8);
+    OffHeapStoredObject.release(bigChunk1.getAddress(), freeListManager);
+    OffHeapStoredObject.release(bigChunk2.getAddress(), freeListManager);
+    this.freeListManager.firstDefragmentation = false;
+
+    assertThat(this.freeListManager.defragmentIfFragmented(50)).isTrue();
+
+    assertThat(this.freeListManager.getFreeTinyMemory()).isZero();
+    assertThat(this.freeListManager.getFreeFragmentMemory()).isEqualTo(slabSize / 3 * 2);
+    verify(this.stats).incBackgroundDefragmentations();
+  }
+
   @Test
   public void allocationsThatLeaveLessThanMinChunkSizeFreeInAFragment() {
     int SMALL_SLAB = 16;
@@ -489,6 +527,18 @@ public class FreeListManagerTest {
     verify(ooohml).outOfOffHeapMemory((OutOfOffHeapMemoryException) thrown);
   }
 
+  @Test
+  public void overMaxTryAllocationReturnsNullWithoutNotifyingListener() {
+    setUpSingleSlabManager();
+    OutOfOffHeapMemoryListener ooohml = mock(OutOfOffHeapMemoryListener.class);
+    when(this.ma.getOutOfOffHeapMemoryListener()).thenReturn(ooohml);
+
+    assertThat(this.freeListManager.tryAllocate(DEFAULT_SLAB_SIZE - 7)).isNull();
+
+    verifyZeroInteractions(ooohml);
+    assertThat(this.freeListManager.getUsedMemory()).isZero();
+  }
+
   @Test(expected = AssertionError.class)
   public void allocateNegativeThrowsAssertion() {
     setUpSingleSlabManager();
@@ -183,6 +183,8 @@ public class OffHeapStorageJUnitTest {
       assertEquals(1024 * 1024, stats.getLargestFragment());
       assertEquals(0, stats.getObjects());
       assertEquals(0, stats.getReads());
+      assertEquals(0, stats.getFreeListMemory());
+      assertEquals(0, stats.getBackgroundDefragmentations());
 
       stats.incFreeMemory(100);
       assertEquals(1024 * 1024 + 100, stats.getFreeMemory());
@@ -222,6 +224,12 @@ public class OffHeapStorageJUnitTest {
       stats.setLargestFragment(1024 * 1024);
       assertEquals(1024 * 1024, stats.getLargestFragment());
 
+      stats.setFreeListMemory(100);
+      assertEquals(100, stats.getFreeListMemory());
+
+      stats.incBackgroundDefragmentations();
+      assertEquals(1, stats.getBackgroundDefragmentations());
+
       boolean originalEnableClockStats = DistributionStats.enableClockStats;
       DistributionStats.enableClockStats = true;
       try {
@@ -254,6 +262,8 @@ public class OffHeapStorageJUnitTest {
       assertEquals(0, stats.getLargestFragment());
       assertEquals(0, stats.getObjects());
       assertEquals(0, stats.getReads());
+      assertEquals(0, stats.getFreeListMemory());
+      assertEquals(0, stats.getBackgroundDefragmentations());
 
       OutOfOffHeapMemoryException ex = null;
       try {
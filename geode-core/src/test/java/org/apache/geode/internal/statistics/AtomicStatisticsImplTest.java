@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.apache.geode.StatisticDescriptor;
+import org.apache.geode.Statistics;
+import org.apache.geode.StatisticsType;
+import org.apache.geode.StatisticsTypeFactory;
+
+public class AtomicStatisticsImplTest {
+
+  private final StatisticsManager statisticsManager = mock(StatisticsManager.class);
+  private final StatisticsTypeFactory statsFactory = StatisticsTypeFactoryImpl.singleton();
+  private final StatisticDescriptor[] stats = {
+      statsFactory.createIntCounter("intCount", "int counter", "ints"),
+      statsFactory.createLongGauge("longGauge", "long gauge", "longs"),
+      statsFactory.createDoubleCounter("doubleCount", "double counter", "doubles")
+  };
+
+  @Test
+  public void incrementsAndSetsValues() {
+    StatisticsType statisticsType = new StatisticsTypeImpl("abc", "mock stats", stats);
+    AtomicStatisticsImpl statistics =
+        new AtomicStatisticsImpl(statisticsType, "abc", 123L, 123L, statisticsManager);
+
+    statistics.incInt("intCount", 7);
+    statistics.incLong("longGauge", 15);
+    statistics.incLong("longGauge", -5);
+    statistics.incDouble("doubleCount", 3.14);
+    statistics.incDouble("doubleCount", 1.0);
+
+    assertThat(statistics.isAtomic()).isTrue();
+    assertThat(statistics.getInt("intCount")).isEqualTo(7);
+    assertThat(statistics.getLong("longGauge")).isEqualTo(10);
+    assertThat(statistics.getDouble("doubleCount")).isEqualTo(4.14);
+
+    statistics.setLong("longGauge", 42);
+    statistics.setDouble("doubleCount", 2.5);
+
+    assertThat(statistics.getLong("longGauge")).isEqualTo(42);
+    assertThat(statistics.getDouble("doubleCount")).isEqualTo(2.5);
+  }
+
+  @Test
+  public void concurrentIncrementsAreNotLost() throws Exception {
+    StatisticsType statisticsType = new StatisticsTypeImpl("abc", "mock stats", stats);
+    AtomicStatisticsImpl statistics =
+        new AtomicStatisticsImpl(statisticsType, "abc", 123L, 123L, statisticsManager);
+    int intId = statisticsType.nameToId("intCount");
+    int doubleId = statisticsType.nameToId("doubleCount");
+    int threads = 4;
+    int increments = 10000;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < increments; i++) {
+            statistics.incInt(intId, 1);
+            statistics.incDouble(doubleId, 1.0);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(statistics.getInt(intId)).isEqualTo(threads * increments);
+    assertThat(statistics.getDouble(doubleId)).isEqualTo(threads * increments);
+  }
+
+  @Test
+  public void atomicStatisticsAreStripedUnlessTypeIsCompact() {
+    StatisticsType type = new StatisticsTypeImpl("abc", "mock stats", stats);
+    StatisticsType compactType = new StatisticsTypeImpl("abc", "mock stats", stats, false);
+
+    Statistics statistics =
+        StatisticsImpl.createAtomicNoOS(type, "abc", 123L, 123L, statisticsManager);
+    Statistics compactStatistics =
+        StatisticsImpl.createAtomicNoOS(compactType, "abc", 123L, 124L, statisticsManager);
+
+    assertThat(statistics).isInstanceOf(StripedStatisticsImpl.class);
+    assertThat(compactStatistics).isInstanceOf(AtomicStatisticsImpl.class);
+  }
+}
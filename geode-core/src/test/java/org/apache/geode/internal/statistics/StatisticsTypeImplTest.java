@@ -90,4 +90,13 @@ public class StatisticsTypeImplTest {
     assertThat(statisticsType.isValidDoubleId(0)).isEqualTo(false);
 
   }
+
+  @Test
+  public void testIsStriped() {
+    StatisticsTypeImpl compactType = new StatisticsTypeImpl("abc", "mock stats", stats, false);
+
+    assertThat(statisticsType.isStriped()).isEqualTo(true);
+    assertThat(compactType.isStriped()).isEqualTo(false);
+    assertThat(compactType).isEqualTo(statisticsType);
+  }
 }
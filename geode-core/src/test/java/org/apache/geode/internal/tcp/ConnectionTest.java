@@ -14,17 +14,21 @@
  */
 package org.apache.geode.internal.tcp;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
 
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import org.apache.geode.compression.SnappyCompressor;
 import org.apache.geode.distributed.internal.DistributionMessage;
+import org.apache.geode.internal.net.WireCompression;
 import org.apache.geode.test.junit.categories.MembershipTest;
 
 @Category({MembershipTest.class})
@@ -43,4 +47,44 @@ public class ConnectionTest {
     verify(mockConnection, times(1)).writeFully(channel, buffer, forceAsync,
         mockDistributionMessage);
   }
+
+  @Test
+  public void compressMessageFlagsCompressedPayload() throws Exception {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    byte[] payload = new byte[1000];
+    Arrays.fill(payload, (byte) 7);
+    ByteBuffer message = message(payload);
+
+    ByteBuffer compressed = Connection.compressMessage(message, compression);
+
+    assertThat(message.position()).isZero();
+    assertThat(compressed.get(Connection.MSG_HEADER_TYPE_OFFSET))
+        .isEqualTo((byte) (Connection.NORMAL_MSG_TYPE | Connection.COMPRESSED_BIT));
+    assertThat(compressed.getShort(Connection.MSG_HEADER_ID_OFFSET)).isEqualTo((short) 3);
+    int length = Connection.calcMsgByteSize(compressed.getInt(0));
+    assertThat(length).isEqualTo(compressed.remaining() - Connection.MSG_HEADER_BYTES);
+    byte[] compressedPayload = new byte[length];
+    compressed.position(Connection.MSG_HEADER_BYTES);
+    compressed.get(compressedPayload);
+    assertThat(compression.decompress(compressedPayload, Connection.MAX_MSG_SIZE))
+        .isEqualTo(payload);
+  }
+
+  @Test
+  public void compressMessageLeavesSmallPayloadUncompressed() {
+    WireCompression compression = WireCompression.create(SnappyCompressor.class.getName(), 100);
+    ByteBuffer message = message(new byte[99]);
+
+    assertThat(Connection.compressMessage(message, compression)).isSameAs(message);
+  }
+
+  private ByteBuffer message(byte[] payload) {
+    ByteBuffer message = ByteBuffer.allocate(Connection.MSG_HEADER_BYTES + payload.length);
+    message.putInt(Connection.calcHdrSize(payload.length));
+    message.put((byte) Connection.NORMAL_MSG_TYPE);
+    message.putShort((short) 3);
+    message.put(payload);
+    message.flip();
+    return message;
+  }
 }
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import static org.apache.geode.test.awaitility.GeodeAwaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReaderEventLoopTest {
+
+  private ReaderEventLoop eventLoop;
+  private final List<Pipe> pipes = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    eventLoop = new ReaderEventLoop("test", 2, 4, 1);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    eventLoop.close();
+    for (Pipe pipe : pipes) {
+      pipe.sink().close();
+      pipe.source().close();
+    }
+  }
+
+  @Test
+  public void readsDataInOrder() throws Exception {
+    Pipe pipe = openPipe();
+    ByteCollector reader = new ByteCollector(pipe.source());
+    eventLoop.register(pipe.source(), reader);
+
+    for (int i = 0; i < 100; i++) {
+      pipe.sink().write(ByteBuffer.wrap(new byte[] {(byte) i}));
+    }
+
+    await().until(() -> reader.size() == 100);
+    List<Byte> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      expected.add((byte) i);
+    }
+    assertThat(reader.bytes()).containsExactlyElementsOf(expected);
+    assertThat(reader.concurrentReads.get()).isFalse();
+  }
+
+  @Test
+  public void readerStoppedAtEndOfStream() throws Exception {
+    Pipe pipe = openPipe();
+    ByteCollector reader = new ByteCollector(pipe.source());
+    eventLoop.register(pipe.source(), reader);
+    assertThat(eventLoop.getRegisteredCount()).isEqualTo(1);
+
+    pipe.sink().close();
+
+    reader.stopped.await();
+    assertThat(eventLoop.getRegisteredCount()).isZero();
+  }
+
+  @Test
+  public void readerStoppedWhenChannelClosedByAnotherThread() throws Exception {
+    Pipe pipe = openPipe();
+    ByteCollector reader = new ByteCollector(pipe.source());
+    eventLoop.register(pipe.source(), reader);
+    await().until(() -> reader.reads.get() > 0);
+
+    pipe.source().close();
+
+    reader.stopped.await();
+    assertThat(eventLoop.getRegisteredCount()).isZero();
+  }
+
+  @Test
+  public void closeStopsAllReaders() throws Exception {
+    List<ByteCollector> readers = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      Pipe pipe = openPipe();
+      ByteCollector reader = new ByteCollector(pipe.source());
+      eventLoop.register(pipe.source(), reader);
+      readers.add(reader);
+    }
+
+    eventLoop.close();
+
+    for (ByteCollector reader : readers) {
+      reader.stopped.await();
+    }
+    assertThat(eventLoop.getRegisteredCount()).isZero();
+  }
+
+  @Test
+  public void manyChannelsAreServedByFewSelectors() throws Exception {
+    List<ByteCollector> readers = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Pipe pipe = openPipe();
+      ByteCollector reader = new ByteCollector(pipe.source());
+      eventLoop.register(pipe.source(), reader);
+      readers.add(reader);
+      pipe.sink().write(ByteBuffer.wrap(new byte[] {(byte) i}));
+    }
+
+    for (ByteCollector reader : readers) {
+      await().until(() -> reader.size() == 1);
+    }
+    assertThat(eventLoop.getLoopCount()).isEqualTo(2);
+    assertThat(eventLoop.getRegisteredCount()).isEqualTo(50);
+  }
+
+  @Test
+  public void readableChannelsWaitForAWorkerWhenAllWorkersAreBusy() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger busyReaders = new AtomicInteger();
+    for (int i = 0; i < 4; i++) {
+      eventLoop.register(openPipe().source(), new ReaderEventLoop.Reader() {
+        @Override
+        public boolean readAvailable() {
+          busyReaders.incrementAndGet();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return true;
+        }
+
+        @Override
+        public void readerStopped() {}
+      });
+    }
+    await().until(() -> busyReaders.get() == 4);
+
+    Pipe pipe = openPipe();
+    ByteCollector reader = new ByteCollector(pipe.source());
+    eventLoop.register(pipe.source(), reader);
+    pipe.sink().write(ByteBuffer.wrap(new byte[] {1}));
+    Thread.sleep(200);
+    assertThat(reader.size()).isZero();
+
+    release.countDown();
+
+    await().until(() -> reader.size() == 1);
+  }
+
+  private Pipe openPipe() throws IOException {
+    Pipe pipe = Pipe.open();
+    pipes.add(pipe);
+    return pipe;
+  }
+
+  private static class ByteCollector implements ReaderEventLoop.Reader {
+    private final Pipe.SourceChannel channel;
+    private final List<Byte> bytes = new ArrayList<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicBoolean reading = new AtomicBoolean();
+    private final AtomicBoolean concurrentReads = new AtomicBoolean();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    ByteCollector(Pipe.SourceChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public boolean readAvailable() {
+      if (!reading.compareAndSet(false, true)) {
+        concurrentReads.set(true);
+      }
+      reads.incrementAndGet();
+      try {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        for (;;) {
+          buffer.clear();
+          int read = channel.read(buffer);
+          if (read < 0) {
+            return false;
+          }
+          if (read == 0) {
+            return true;
+          }
+          buffer.flip();
+          synchronized (bytes) {
+            while (buffer.hasRemaining()) {
+              bytes.add(buffer.get());
+            }
+          }
+        }
+      } catch (IOException e) {
+        if (!channel.isOpen()) {
+          return false;
+        }
+        throw new UncheckedIOException(e);
+      } finally {
+        reading.set(false);
+      }
+    }
+
+    @Override
+    public void readerStopped() {
+      stopped.countDown();
+    }
+
+    int size() {
+      synchronized (bytes) {
+        return bytes.size();
+      }
+    }
+
+    List<Byte> bytes() {
+      synchronized (bytes) {
+        return new ArrayList<>(bytes);
+      }
+    }
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.tcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.distributed.internal.DMStats;
+import org.apache.geode.distributed.internal.DistributionMessage;
+
+public class SendCoalescerTest {
+
+  private DMStats stats;
+  private RecordingWriter writer;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    stats = mock(DMStats.class);
+    writer = new RecordingWriter();
+    executor = Executors.newFixedThreadPool(8);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void singleMessageIsWritten() throws Exception {
+    SendCoalescer coalescer = new SendCoalescer(1024, 0, false, writer, stats);
+
+    coalescer.send(ByteBuffer.wrap(new byte[] {1, 2, 3}), null);
+
+    assertThat(writer.bytes()).containsExactly(1, 2, 3);
+    assertThat(writer.writes.get()).isEqualTo(1);
+    verify(stats).endCoalescedWrite(eq(1), anyLong());
+  }
+
+  @Test
+  public void messagesSentDuringWindowAreWrittenTogether() throws Exception {
+    SendCoalescer coalescer =
+        new SendCoalescer(1024, TimeUnit.MINUTES.toNanos(5), false, writer, stats);
+
+    // nothing is written until half of the buffer is used
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(executor.submit(() -> {
+        coalescer.send(ByteBuffer.wrap(new byte[100]), null);
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+
+    assertThat(writer.bytes()).hasSize(600);
+    assertThat(writer.writes.get()).isEqualTo(1);
+    verify(stats).endCoalescedWrite(eq(6), anyLong());
+  }
+
+  @Test
+  public void concurrentSendersKeepTheirOrder() throws Exception {
+    writer.delayMillis = 1;
+    SendCoalescer coalescer =
+        new SendCoalescer(256, TimeUnit.MICROSECONDS.toNanos(50), false, writer, stats);
+    int senders = 4;
+    int messagesPerSender = 200;
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int s = 0; s < senders; s++) {
+      byte sender = (byte) s;
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < messagesPerSender; i++) {
+          coalescer.send(ByteBuffer.wrap(new byte[] {sender, (byte) i}), null);
+        }
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+
+    byte[] bytes = writer.bytes();
+    assertThat(bytes).hasSize(senders * messagesPerSender * 2);
+    int[] next = new int[senders];
+    for (int i = 0; i < bytes.length; i += 2) {
+      assertThat(bytes[i + 1]).isEqualTo((byte) next[bytes[i]]++);
+    }
+    assertThat(writer.writes.get()).isLessThan(senders * messagesPerSender);
+  }
+
+  @Test
+  public void largeMessageIsWrittenWithoutCopying() throws Exception {
+    SendCoalescer coalescer = new SendCoalescer(16, 0, false, writer, stats);
+    ByteBuffer message = ByteBuffer.wrap(new byte[100]);
+
+    coalescer.send(message, null);
+
+    assertThat(writer.buffers).containsExactly(message);
+    verify(stats).endCoalescedWrite(1, 0);
+  }
+
+  @Test
+  public void messageWrittenOnItsOwnIsPassedToWriter() throws Exception {
+    SendCoalescer coalescer = new SendCoalescer(1024, 0, false, writer, stats);
+    DistributionMessage small = mock(DistributionMessage.class);
+    DistributionMessage large = mock(DistributionMessage.class);
+
+    coalescer.send(ByteBuffer.wrap(new byte[10]), small);
+    coalescer.send(ByteBuffer.wrap(new byte[600]), large);
+
+    assertThat(writer.messages).containsExactly(small, large);
+  }
+
+  @Test
+  public void coalescedMessagesAreNotPassedToWriter() throws Exception {
+    SendCoalescer coalescer =
+        new SendCoalescer(1024, TimeUnit.MINUTES.toNanos(5), false, writer, stats);
+    List<Future<?>> sends = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      DistributionMessage msg = mock(DistributionMessage.class);
+      sends.add(executor.submit(() -> {
+        coalescer.send(ByteBuffer.wrap(new byte[100]), msg);
+        return null;
+      }));
+    }
+    for (Future<?> send : sends) {
+      send.get();
+    }
+
+    assertThat(writer.messages).containsExactly((DistributionMessage) null);
+  }
+
+  @Test
+  public void sendFailsAfterWriteFailure() throws Exception {
+    writer.failure = new IOException("broken");
+    SendCoalescer coalescer = new SendCoalescer(1024, 0, false, writer, stats);
+
+    assertThatThrownBy(() -> coalescer.send(ByteBuffer.wrap(new byte[10]), null))
+        .isSameAs(writer.failure);
+    assertThatThrownBy(() -> coalescer.send(ByteBuffer.wrap(new byte[10]), null))
+        .isInstanceOf(IOException.class).hasCause(writer.failure);
+  }
+
+  @Test
+  public void messagesAddedDuringAFailedWriteFailToo() throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch failWrite = new CountDownLatch(1);
+    IOException failure = new IOException("broken");
+    SendCoalescer coalescer = new SendCoalescer(1024, 0, false, (buffer, msg) -> {
+      writeStarted.countDown();
+      try {
+        failWrite.await();
+      } catch (InterruptedException e) {
+        throw new IOException(e);
+      }
+      throw failure;
+    }, stats);
+
+    Future<?> writing = executor.submit(() -> {
+      coalescer.send(ByteBuffer.wrap(new byte[10]), null);
+      return null;
+    });
+    writeStarted.await();
+    Future<?> added = executor.submit(() -> {
+      coalescer.send(ByteBuffer.wrap(new byte[10]), null);
+      return null;
+    });
+    Thread.sleep(100);
+    assertThat(added.isDone()).isFalse();
+    failWrite.countDown();
+
+    assertThatThrownBy(writing::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+    assertThatThrownBy(added::get).isInstanceOf(ExecutionException.class)
+        .hasRootCause(failure);
+  }
+
+  @Test
+  public void messagesAddedDuringADirectWriteAreWritten() throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch finishWrite = new CountDownLatch(1);
+    SendCoalescer coalescer = new SendCoalescer(16, 0, false, (buffer, msg) -> {
+      if (writeStarted.getCount() > 0) {
+        writeStarted.countDown();
+        try {
+          finishWrite.await();
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      writer.write(buffer, msg);
+    }, stats);
+
+    Future<?> large = executor.submit(() -> {
+      coalescer.send(ByteBuffer.wrap(new byte[100]), null);
+      return null;
+    });
+    writeStarted.await();
+    Future<?> small = executor.submit(() -> {
+      coalescer.send(ByteBuffer.wrap(new byte[] {7}), null);
+      return null;
+    });
+    Thread.sleep(100);
+    finishWrite.countDown();
+    large.get();
+    small.get();
+
+    assertThat(writer.bytes()).hasSize(101);
+    assertThat(writer.bytes()[100]).isEqualTo((byte) 7);
+  }
+
+  @Test
+  public void sendFailsAfterClose() {
+    SendCoalescer coalescer = new SendCoalescer(1024, 0, false, writer, stats);
+
+    coalescer.close();
+
+    assertThatThrownBy(() -> coalescer.send(ByteBuffer.wrap(new byte[10]), null))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static class RecordingWriter implements SendCoalescer.Writer {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final List<DistributionMessage> messages = new ArrayList<>();
+    private final AtomicInteger writes = new AtomicInteger();
+    private volatile long delayMillis;
+    private volatile IOException failure;
+
+    @Override
+    public void write(ByteBuffer buffer, DistributionMessage msg) throws IOException {
+      if (failure != null) {
+        throw failure;
+      }
+      if (delayMillis > 0) {
+        try {
+          Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      synchronized (out) {
+        buffers.add(buffer);
+        messages.add(msg);
+        while (buffer.hasRemaining()) {
+          out.write(buffer.get());
+        }
+      }
+      writes.incrementAndGet();
+    }
+
+    byte[] bytes() {
+      synchronized (out) {
+        return out.toByteArray();
+      }
+    }
+  }
+}
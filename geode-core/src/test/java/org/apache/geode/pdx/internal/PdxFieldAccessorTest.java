@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.pdx.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.internal.offheap.StoredObject;
+import org.apache.geode.test.junit.categories.SerializationTest;
+
+@Category({SerializationTest.class})
+public class PdxFieldAccessorTest {
+
+  private static final int TYPE_ID = 7;
+
+  private TypeRegistry registry;
+  private PdxType definedType;
+  private PdxFieldAccessor accessor;
+
+  @Before
+  public void setUp() {
+    registry = mock(TypeRegistry.class);
+    when(registry.defineLocalType(any(), any())).thenAnswer(invocation -> {
+      PdxType type = invocation.getArgument(1);
+      type.setTypeId(TYPE_ID);
+      definedType = type;
+      return type;
+    });
+    when(registry.getType(TYPE_ID)).thenAnswer(invocation -> definedType);
+    accessor = new PdxFieldAccessor(registry);
+  }
+
+  @Test
+  public void readsFieldsFromHeapBytes() {
+    PdxWriterImpl writer = writeValue("small");
+    PdxInstanceImpl instance = (PdxInstanceImpl) writer.makePdxInstance();
+
+    assertThat(accessor.reset(writer.toByteArray())).isTrue();
+
+    assertFieldsMatch(instance);
+    assertThat(readRawField("stringField")).isInstanceOf(PdxString.class)
+        .hasToString("small");
+    assertThat(readRawField("stringObjectField")).isInstanceOf(PdxString.class)
+        .hasToString("object");
+    assertThat(readRawField("nullStringField")).isNull();
+    assertThat(readRawField("intArrayField")).isSameAs(PdxFieldAccessor.NOT_READ);
+    assertThat(readRawField("arrayObjectField")).isSameAs(PdxFieldAccessor.NOT_READ);
+  }
+
+  @Test
+  public void readsFieldsOfLargeValues() {
+    // the offsets of the variable length fields are shorts for the first value and ints for the
+    // second
+    for (int length : new int[] {1000, 70000}) {
+      String string = StringUtils.repeat('x', length);
+      PdxWriterImpl writer = writeValue(string);
+      PdxInstanceImpl instance = (PdxInstanceImpl) writer.makePdxInstance();
+
+      assertThat(accessor.reset(writer.toByteArray())).isTrue();
+
+      assertFieldsMatch(instance);
+      assertThat(readRawField("stringField")).hasToString(string);
+    }
+  }
+
+  @Test
+  public void readsFieldsAtOffsetOfArray() {
+    PdxWriterImpl writer = writeValue("small");
+    PdxInstanceImpl instance = (PdxInstanceImpl) writer.makePdxInstance();
+    byte[] serialized = writer.toByteArray();
+    byte[] bytes = new byte[serialized.length + 3];
+    System.arraycopy(serialized, 0, bytes, 3, serialized.length);
+
+    assertThat(accessor.reset(bytes, 3)).isTrue();
+
+    assertFieldsMatch(instance);
+    assertThat(readRawField("stringField")).hasToString("small");
+  }
+
+  @Test
+  public void readsFixedWidthFieldsFromDirectBuffer() {
+    PdxWriterImpl writer = writeValue("small");
+    PdxInstanceImpl instance = (PdxInstanceImpl) writer.makePdxInstance();
+    byte[] serialized = writer.toByteArray();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(serialized.length + 2);
+    buffer.position(2);
+    buffer.put(serialized);
+    buffer.position(2);
+
+    assertThat(accessor.reset(buffer)).isTrue();
+
+    assertFieldsMatch(instance);
+    assertThat(readRawField("stringField")).isSameAs(PdxFieldAccessor.NOT_READ);
+    assertThat(buffer.position()).isEqualTo(2);
+  }
+
+  @Test
+  public void readsFixedWidthFieldsFromStoredObject() {
+    PdxWriterImpl writer = writeValue("small");
+    PdxInstanceImpl instance = (PdxInstanceImpl) writer.makePdxInstance();
+    byte[] serialized = writer.toByteArray();
+    StoredObject storedObject = mock(StoredObject.class);
+    when(storedObject.isSerialized()).thenReturn(true);
+    when(storedObject.getDataSize()).thenReturn(serialized.length);
+    when(storedObject.readDataByte(anyInt()))
+        .thenAnswer(invocation -> serialized[invocation.<Integer>getArgument(0)]);
+
+    assertThat(accessor.reset(storedObject)).isTrue();
+
+    assertFieldsMatch(instance);
+    assertThat(readRawField("stringField")).isSameAs(PdxFieldAccessor.NOT_READ);
+  }
+
+  @Test
+  public void doesNotResetOntoOtherValues() {
+    byte[] serialized = writeValue("small").toByteArray();
+
+    assertThat(accessor.reset(new byte[] {1, 2, 3})).isFalse();
+    serialized[0] = 0;
+    assertThat(accessor.reset(serialized)).isFalse();
+    assertThat(accessor.getPdxType()).isNull();
+  }
+
+  @Test
+  public void doesNotResetOntoUnknownType() {
+    byte[] serialized = writeValue("small").toByteArray();
+    when(registry.getType(TYPE_ID)).thenReturn(null);
+
+    assertThat(accessor.reset(serialized)).isFalse();
+  }
+
+  private PdxWriterImpl writeValue(String string) {
+    PdxWriterImpl writer = new PdxWriterImpl(new PdxType("PdxFieldAccessorTest.Value", false),
+        registry, new PdxOutputStream());
+    writer.writeInt("intField", 37);
+    writer.writeString("stringField", string);
+    writer.writeLong("longField", 42L);
+    writer.writeObject("stringObjectField", "object");
+    writer.writeString("nullStringField", null);
+    writer.writeDouble("doubleField", 3.1415);
+    writer.writeIntArray("intArrayField", new int[] {1, 2});
+    writer.writeBoolean("booleanField", true);
+    writer.writeChar("charField", 'c');
+    writer.writeObject("arrayObjectField", new int[] {3});
+    writer.writeShort("shortField", (short) -2);
+    writer.writeByte("byteField", (byte) -1);
+    writer.writeFloat("floatField", 2.5F);
+    writer.completeByteStreamGeneration();
+    return writer;
+  }
+
+  private Object readRawField(String fieldName) {
+    return accessor.readRawField(accessor.getPdxType().getPdxField(fieldName));
+  }
+
+  private void assertFieldsMatch(PdxInstanceImpl instance) {
+    for (PdxField field : accessor.getPdxType().getFields()) {
+      Object value = accessor.readRawField(field);
+      if (value != PdxFieldAccessor.NOT_READ) {
+        assertThat(String.valueOf(value))
+            .as(field.getFieldName())
+            .isEqualTo(String.valueOf(instance.getRawField(field.getFieldName())));
+      }
+    }
+    assertThat(readRawField("intField")).isEqualTo(37);
+    assertThat(readRawField("longField")).isEqualTo(42L);
+    assertThat(readRawField("doubleField")).isEqualTo(3.1415);
+    assertThat(readRawField("booleanField")).isEqualTo(true);
+    assertThat(readRawField("charField")).isEqualTo('c');
+    assertThat(readRawField("shortField")).isEqualTo((short) -2);
+    assertThat(readRawField("byteField")).isEqualTo((byte) -1);
+    assertThat(readRawField("floatField")).isEqualTo(2.5F);
+  }
+}
@@ -16,15 +16,24 @@ package org.apache.geode.pdx.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
+import org.apache.geode.internal.cache.CachePerfStats;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.test.junit.categories.SerializationTest;
 
@@ -37,8 +46,12 @@ public class TypeRegistryTest {
 
   private PdxType newType = mock(PdxType.class);
 
+  private CachePerfStats stats = mock(CachePerfStats.class);
+
   @Before
-  public void setUp() {}
+  public void setUp() {
+    when(internalCache.getCachePerfStats()).thenReturn(stats);
+  }
 
   @Test
   public void defineTypeGivenANewTypeStoresItWithTheCorrectIdAndReturnsIt() {
@@ -133,4 +146,67 @@ public class TypeRegistryTest {
 
     assertThat(result).isSameAs(existingType);
   }
+
+  @Test
+  public void getTypeOnClientPrefetchesAllTypesAndEnumsOnce() {
+    PdxType type1 = new PdxType("myClass1", true);
+    PdxType type2 = new PdxType("myClass2", true);
+    EnumInfo enumInfo = mock(EnumInfo.class);
+    Map<Integer, PdxType> types = new HashMap<>();
+    types.put(1, type1);
+    types.put(2, type2);
+    Map<Integer, EnumInfo> enums = new HashMap<>();
+    enums.put(3, enumInfo);
+    when(typeRegistration.isClient()).thenReturn(true);
+    when(typeRegistration.types()).thenReturn(types);
+    when(typeRegistration.enums()).thenReturn(enums);
+    when(typeRegistration.getType(4)).thenReturn(newType);
+
+    assertThat(typeRegistry.getType(2)).isSameAs(type2);
+    assertThat(typeRegistry.getType(1)).isSameAs(type1);
+    assertThat(typeRegistry.getEnumInfoById(3)).isSameAs(enumInfo);
+    assertThat(typeRegistry.getType(4)).isSameAs(newType);
+
+    verify(typeRegistration, times(1)).types();
+    verify(typeRegistration, times(1)).enums();
+    verify(typeRegistration, never()).getType(1);
+    verify(typeRegistration, never()).getType(2);
+    verify(typeRegistration, never()).getEnumById(anyInt());
+    assertThat(typeRegistry.getTypeToId().get(type1)).isEqualTo(1);
+    verify(stats).endPdxTypePrefetch(anyLong(), eq(3));
+    verify(stats, times(1)).endPdxTypeLookup(anyLong());
+  }
+
+  @Test
+  public void getTypeOnClientPrefetchesAgainAfterPoolIsCreated() {
+    when(typeRegistration.isClient()).thenReturn(true);
+    when(typeRegistration.types()).thenReturn(new HashMap<>());
+    when(typeRegistration.enums()).thenReturn(new HashMap<>());
+    when(typeRegistration.getType(anyInt())).thenReturn(newType);
+
+    typeRegistry.getType(1);
+    typeRegistry.creatingPool();
+    typeRegistry.getType(2);
+
+    verify(typeRegistration, times(2)).types();
+  }
+
+  @Test
+  public void getTypeOnClientLooksUpTypeWhenPrefetchFails() {
+    when(typeRegistration.isClient()).thenReturn(true);
+    when(typeRegistration.types()).thenThrow(new IllegalStateException("no pools"));
+    when(typeRegistration.getType(1)).thenReturn(newType);
+
+    assertThat(typeRegistry.getType(1)).isSameAs(newType);
+  }
+
+  @Test
+  public void getTypeOnPeerDoesNotPrefetch() {
+    when(typeRegistration.getType(1)).thenReturn(newType);
+
+    assertThat(typeRegistry.getType(1)).isSameAs(newType);
+
+    verify(typeRegistration, never()).types();
+    verify(stats).endPdxTypeLookup(anyLong());
+  }
 }
@@ -155,6 +155,22 @@ public class CQDistributedTest implements Serializable {
         .untilAsserted(() -> assertEquals(3, testListener.onEventCalls));
   }
 
+  @Test
+  public void cqUsingLikeShouldFireEventsWhenFilterCriteriaIsMet() throws Exception {
+    qs.newCq("Select * from /region r where r.status like 'act%'", cqa).execute();
+    server.invoke(() -> {
+      Region regionOnServer = ClusterStartupRule.getCache().getRegion("region");
+      regionOnServer.put(0, new Portfolio(0));
+      regionOnServer.put(1, new Portfolio(1));
+      regionOnServer.put(2, new Portfolio(2));
+      regionOnServer.put(3, new Portfolio(3));
+      regionOnServer.put(4, new Portfolio(4));
+    });
+
+    await()
+        .untilAsserted(() -> assertEquals(3, testListener.onEventCalls));
+  }
+
   @Test
   public void cqExecuteWithInitialResultsWithValuesMatchingPrimaryKeyShouldNotThrowClassCastException()
       throws Exception {
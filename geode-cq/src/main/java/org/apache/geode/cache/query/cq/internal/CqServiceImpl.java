@@ -61,7 +61,10 @@ import org.apache.geode.cache.query.internal.CqQueryVsdStats;
 import org.apache.geode.cache.query.internal.CqStateImpl;
 import org.apache.geode.cache.query.internal.DefaultQuery;
 import org.apache.geode.cache.query.internal.ExecutionContext;
+import org.apache.geode.cache.query.internal.PathUtils;
+import org.apache.geode.cache.query.internal.QueryExecutionContext;
 import org.apache.geode.cache.query.internal.cq.ClientCQ;
+import org.apache.geode.cache.query.internal.cq.CqPredicateIndex;
 import org.apache.geode.cache.query.internal.cq.CqService;
 import org.apache.geode.cache.query.internal.cq.InternalCqQuery;
 import org.apache.geode.cache.query.internal.cq.ServerCQ;
@@ -1275,7 +1278,6 @@ public class CqServiceImpl implements CqService {
         || (event.getOperation().isCreate() && isDupEvent));
 
     HashMap<String, Integer> matchedCqs = new HashMap<>();
-    long executionStartTime;
     for (int i = -1; i < profiles.length; i++) {
       CacheProfile cf;
       if (i < 0) {
@@ -1310,6 +1312,11 @@ public class CqServiceImpl implements CqService {
         }
       }
 
+      // The CQs that the new and old values may satisfy, found on first use
+      CqPredicateIndex predicateIndex = pf.getCqPredicateIndex();
+      CqPredicateIndex.Candidates newValueCandidates = null;
+      CqPredicateIndex.Candidates oldValueCandidates = null;
+
       HashMap<Long, Integer> cqInfo = new HashMap<>();
       Iterator cqIter = cqs.entrySet().iterator();
 
@@ -1352,11 +1359,12 @@ public class CqServiceImpl implements CqService {
               synchronized (cQuery) {
                 // Apply query on new value.
                 if (!cqUnfilteredEventsSet_newValue.isEmpty()) {
-                  executionStartTime = this.stats.startCqQueryExecution();
-
-                  b_cqResults_newValue =
-                      evaluateQuery(cQuery, new Object[] {cqUnfilteredEventsSet_newValue});
-                  this.stats.endCqQueryExecution(executionStartTime);
+                  if (newValueCandidates == null) {
+                    newValueCandidates =
+                        getCandidates(predicateIndex, cqUnfilteredEventsSet_newValue);
+                  }
+                  b_cqResults_newValue = evaluateQuery(cQuery, cqUnfilteredEventsSet_newValue,
+                      newValueCandidates);
                 }
               }
 
@@ -1395,10 +1403,12 @@ public class CqServiceImpl implements CqService {
                   synchronized (cQuery) {
                     // Apply query on old value.
                     if (!cqUnfilteredEventsSet_oldValue.isEmpty()) {
-                      executionStartTime = this.stats.startCqQueryExecution();
-                      b_cqResults_oldValue =
-                          evaluateQuery(cQuery, new Object[] {cqUnfilteredEventsSet_oldValue});
-                      this.stats.endCqQueryExecution(executionStartTime);
+                      if (oldValueCandidates == null) {
+                        oldValueCandidates =
+                            getCandidates(predicateIndex, cqUnfilteredEventsSet_oldValue);
+                      }
+                      b_cqResults_oldValue = evaluateQuery(cQuery,
+                          cqUnfilteredEventsSet_oldValue, oldValueCandidates);
                     } else {
                       if (isDebugEnabled) {
                         logger.debug(
@@ -1596,6 +1606,36 @@ public class CqServiceImpl implements CqService {
     return matchingCqMap;
   }
 
+  /**
+   * Returns the CQs of the index that the single value of the given event value set may satisfy.
+   */
+  private CqPredicateIndex.Candidates getCandidates(CqPredicateIndex predicateIndex,
+      Set<Object> eventValue) {
+    ExecutionContext context = new QueryExecutionContext(null, this.cache);
+    return predicateIndex.getCandidates(eventValue.iterator().next(),
+        (target, attribute) -> PathUtils.evaluateAttribute(context, target, attribute));
+  }
+
+  /**
+   * Applies the query on the event value, unless the CQ predicate index has ruled out that the
+   * value satisfies it.
+   */
+  private boolean evaluateQuery(ServerCQImpl cQuery, Set<Object> eventValue,
+      CqPredicateIndex.Candidates candidates) throws Exception {
+    if (!candidates.mayMatch(cQuery)) {
+      this.stats.incCqEventEvaluationsSkipped();
+      return false;
+    }
+    this.stats.incCqEventCandidates();
+    long executionStartTime = this.stats.startCqQueryExecution();
+    boolean status = evaluateQuery(cQuery, new Object[] {eventValue});
+    this.stats.endCqQueryExecution(executionStartTime);
+    if (status) {
+      this.stats.incCqEventMatches();
+    }
+    return status;
+  }
+
   /**
    * Applies the query on the event. This method takes care of the performance related changed done
    * to improve the CQ-query performance. When CQ-query is executed first time, it saves the query
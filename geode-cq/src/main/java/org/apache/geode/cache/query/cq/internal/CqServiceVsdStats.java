@@ -74,6 +74,15 @@ public class CqServiceVsdStats {
   /** Unique CQs, number of different CQ queries */
   private static final String UNIQUE_CQ_QUERY = "numUniqueCqQuery";
 
+  /** CQ query evaluations on event values that the CQ predicate index could not rule out */
+  private static final String CQ_EVENT_CANDIDATES = "cqEventCandidates";
+
+  /** CQ query evaluations on event values that the CQ predicate index ruled out */
+  private static final String CQ_EVENT_EVALUATIONS_SKIPPED = "cqEventEvaluationsSkipped";
+
+  /** CQ query evaluations on event values that matched */
+  private static final String CQ_EVENT_MATCHES = "cqEventMatches";
+
   /** Id of the CQs created statistic */
   private static final int _numCqsCreatedId;
 
@@ -104,6 +113,15 @@ public class CqServiceVsdStats {
   /** Id for unique CQs, difference in CQ queries */
   private static final int _numUniqueCqQuery;
 
+  /** Id for CQ query evaluations that the CQ predicate index could not rule out */
+  private static final int _cqEventCandidatesId;
+
+  /** Id for CQ query evaluations that the CQ predicate index ruled out */
+  private static final int _cqEventEvaluationsSkippedId;
+
+  /** Id for CQ query evaluations that matched */
+  private static final int _cqEventMatchesId;
+
   /*
    * Static initializer to create and initialize the <code>StatisticsType</code>
    */
@@ -126,6 +144,16 @@ public class CqServiceVsdStats {
             f.createIntGauge(CQ_QUERY_EXECUTION_IN_PROGRESS, "CQ Query Execution In Progress.",
                 "operations"),
             f.createIntGauge(UNIQUE_CQ_QUERY, "Number of Unique CQ Querys.", "Queries"),
+            f.createLongCounter(CQ_EVENT_CANDIDATES,
+                "Number of CQ query evaluations on event values that the CQ predicate index could"
+                    + " not rule out.",
+                "operations"),
+            f.createLongCounter(CQ_EVENT_EVALUATIONS_SKIPPED,
+                "Number of CQ query evaluations on event values that were skipped because the CQ"
+                    + " predicate index ruled them out.",
+                "operations"),
+            f.createLongCounter(CQ_EVENT_MATCHES,
+                "Number of CQ query evaluations on event values that matched.", "operations"),
 
         });
 
@@ -140,6 +168,9 @@ public class CqServiceVsdStats {
     _cqQueryExecutionsCompletedId = _type.nameToId(CQ_QUERY_EXECUTIONS_COMPLETED);
     _cqQueryExecutionInProgressId = _type.nameToId(CQ_QUERY_EXECUTION_IN_PROGRESS);
     _numUniqueCqQuery = _type.nameToId(UNIQUE_CQ_QUERY);
+    _cqEventCandidatesId = _type.nameToId(CQ_EVENT_CANDIDATES);
+    _cqEventEvaluationsSkippedId = _type.nameToId(CQ_EVENT_EVALUATIONS_SKIPPED);
+    _cqEventMatchesId = _type.nameToId(CQ_EVENT_MATCHES);
   }
 
   /** The <code>Statistics</code> instance to which most behavior is delegated */
@@ -329,6 +360,48 @@ public class CqServiceVsdStats {
     this._stats.incInt(_numUniqueCqQuery, -1);
   }
 
+  /**
+   * Increments the number of CQ query evaluations that the CQ predicate index could not rule out.
+   */
+  void incCqEventCandidates() {
+    this._stats.incLong(_cqEventCandidatesId, 1);
+  }
+
+  /**
+   * Returns the number of CQ query evaluations that the CQ predicate index could not rule out.
+   */
+  long getCqEventCandidates() {
+    return this._stats.getLong(_cqEventCandidatesId);
+  }
+
+  /**
+   * Increments the number of CQ query evaluations that the CQ predicate index ruled out.
+   */
+  void incCqEventEvaluationsSkipped() {
+    this._stats.incLong(_cqEventEvaluationsSkippedId, 1);
+  }
+
+  /**
+   * Returns the number of CQ query evaluations that the CQ predicate index ruled out.
+   */
+  long getCqEventEvaluationsSkipped() {
+    return this._stats.getLong(_cqEventEvaluationsSkippedId);
+  }
+
+  /**
+   * Increments the number of CQ query evaluations that matched.
+   */
+  void incCqEventMatches() {
+    this._stats.incLong(_cqEventMatchesId, 1);
+  }
+
+  /**
+   * Returns the number of CQ query evaluations that matched.
+   */
+  long getCqEventMatches() {
+    return this._stats.getLong(_cqEventMatchesId);
+  }
+
 
   /**
    * This is a test method. It silently ignores exceptions and should not be used outside of unit
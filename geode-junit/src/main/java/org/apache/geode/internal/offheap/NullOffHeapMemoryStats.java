@@ -111,6 +111,22 @@ public class NullOffHeapMemoryStats implements OffHeapMemoryStats {
     return 0;
   }
 
+  @Override
+  public void setFreeListMemory(long value) {}
+
+  @Override
+  public long getFreeListMemory() {
+    return 0;
+  }
+
+  @Override
+  public void incBackgroundDefragmentations() {}
+
+  @Override
+  public int getBackgroundDefragmentations() {
+    return 0;
+  }
+
   @Override
   public Statistics getStats() {
     return null;
@@ -602,37 +602,42 @@ public class LuceneServiceImpl implements InternalLuceneService {
   /** Public for test purposes */
   public static void registerDataSerializables() {
     DSFIDFactory.registerDSFID(CREATE_REGION_MESSAGE_LUCENE,
-        CreateRegionProcessorForLucene.CreateRegionMessage.class);
-    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_CHUNK_KEY, ChunkKey.class);
+        CreateRegionProcessorForLucene.CreateRegionMessage.class,
+        CreateRegionProcessorForLucene.CreateRegionMessage::new);
+    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_CHUNK_KEY, ChunkKey.class,
+        ChunkKey::new);
 
-    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_FILE, File.class);
+    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_FILE, File.class, File::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_FUNCTION_CONTEXT,
-        LuceneFunctionContext.class);
+        LuceneFunctionContext.class, LuceneFunctionContext::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_STRING_QUERY_PROVIDER,
-        StringQueryProvider.class);
+        StringQueryProvider.class, StringQueryProvider::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_TOP_ENTRIES_COLLECTOR_MANAGER,
-        TopEntriesCollectorManager.class);
+        TopEntriesCollectorManager.class, TopEntriesCollectorManager::new);
 
-    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_ENTRY_SCORE, EntryScore.class);
+    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_ENTRY_SCORE, EntryScore.class,
+        EntryScore::new);
 
-    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_TOP_ENTRIES, TopEntries.class);
+    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_TOP_ENTRIES, TopEntries.class,
+        TopEntries::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_TOP_ENTRIES_COLLECTOR,
-        TopEntriesCollector.class);
+        TopEntriesCollector.class, TopEntriesCollector::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.WAIT_UNTIL_FLUSHED_FUNCTION_CONTEXT,
-        WaitUntilFlushedFunctionContext.class);
+        WaitUntilFlushedFunctionContext.class, WaitUntilFlushedFunctionContext::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.DESTROY_LUCENE_INDEX_MESSAGE,
-        DestroyLuceneIndexMessage.class);
+        DestroyLuceneIndexMessage.class, DestroyLuceneIndexMessage::new);
 
-    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_PAGE_RESULTS, PageResults.class);
+    DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_PAGE_RESULTS, PageResults.class,
+        PageResults::new);
 
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LUCENE_RESULT_STRUCT,
-        LuceneResultStructImpl.class);
+        LuceneResultStructImpl.class, LuceneResultStructImpl::new);
   }
 
   public Collection<LuceneIndexCreationProfile> getAllDefinedIndexes() {
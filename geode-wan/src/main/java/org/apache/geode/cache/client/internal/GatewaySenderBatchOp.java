@@ -31,6 +31,7 @@ import org.apache.geode.internal.cache.tier.sockets.Part;
 import org.apache.geode.internal.cache.wan.BatchException70;
 import org.apache.geode.internal.cache.wan.GatewaySenderEventImpl;
 import org.apache.geode.internal.cache.wan.GatewaySenderEventRemoteDispatcher.GatewayAck;
+import org.apache.geode.internal.cache.wan.GatewaySenderStats;
 import org.apache.geode.internal.logging.LogService;
 
 @SuppressWarnings("unchecked")
@@ -48,20 +49,21 @@ public class GatewaySenderBatchOp {
    * @param batchId the ID of this batch
    * @param removeFromQueueOnException true if the events should be processed even after some
    *        exception
+   * @param statistics the stats of the sender to record the size of the batch in
    */
   public static void executeOn(Connection con, ExecutablePool pool, List events, int batchId,
-      boolean removeFromQueueOnException, boolean isRetry) {
+      boolean removeFromQueueOnException, boolean isRetry, GatewaySenderStats statistics) {
     AbstractOp op = null;
     // System.out.println("Version: "+con.getWanSiteVersion());
     // Is this check even needed anymore? It looks like we just create the same exact op impl with
     // the same parameters...
     if (Version.GFE_651.compareTo(con.getWanSiteVersion()) >= 0) {
       op = new GatewaySenderGFEBatchOpImpl(events, batchId, removeFromQueueOnException,
-          con.getDistributedSystemId(), isRetry);
+          con.getDistributedSystemId(), isRetry, statistics);
     } else {
       // Default should create a batch of server version (ACCEPTOR.VERSION)
       op = new GatewaySenderGFEBatchOpImpl(events, batchId, removeFromQueueOnException,
-          con.getDistributedSystemId(), isRetry);
+          con.getDistributedSystemId(), isRetry, statistics);
     }
     pool.executeOn(con, op, true/* timeoutFatal */);
   }
@@ -78,12 +80,15 @@ public class GatewaySenderBatchOp {
 
   static class GatewaySenderGFEBatchOpImpl extends AbstractOp {
 
+    private final GatewaySenderStats statistics;
+
     /**
      * @throws org.apache.geode.SerializationException if serialization fails
      */
     public GatewaySenderGFEBatchOpImpl(List events, int batchId, boolean removeFromQueueOnException,
-        int dsId, boolean isRetry) {
+        int dsId, boolean isRetry, GatewaySenderStats statistics) {
       super(MessageType.GATEWAY_RECEIVER_COMMAND, calcPartCount(events));
+      this.statistics = statistics;
       if (isRetry) {
         getMessage().setIsRetry();
       }
@@ -136,6 +141,7 @@ public class GatewaySenderBatchOp {
 
     public GatewaySenderGFEBatchOpImpl() {
       super(MessageType.GATEWAY_RECEIVER_COMMAND, 0);
+      this.statistics = null;
     }
 
     @Override
@@ -187,6 +193,7 @@ public class GatewaySenderBatchOp {
       if (msg != null) {
         msg.setComms(cnx.getSocket(), cnx.getInputStream(), cnx.getOutputStream(),
             ((ConnectionImpl) cnx).getCommBufferForAsyncRead(), cnx.getStats());
+        msg.setCompression(cnx.getWireCompression());
         if (msg instanceof ChunkedMessage) {
           try {
             return processResponse(msg, cnx);
@@ -229,6 +236,10 @@ public class GatewaySenderBatchOp {
     protected void sendMessage(Connection cnx) throws Exception {
       getMessage().clearMessageHasSecurePartFlag();
       getMessage().send(false);
+      if (this.statistics != null) {
+        this.statistics.incBatchBytes(getMessage().getSentLength(),
+            getMessage().getUncompressedSentLength());
+      }
     }
 
     @Override
@@ -16,6 +16,7 @@ package org.apache.geode.cache.client.internal;
 
 import java.util.List;
 
+import org.apache.geode.internal.cache.wan.GatewaySenderStats;
 
 /**
  * Used to send operations from a sender to a receiver.
@@ -28,9 +29,9 @@ public class SenderProxy extends ServerProxy {
   }
 
   public void dispatchBatch_NewWAN(Connection con, List events, int batchId,
-      boolean removeFromQueueOnException, boolean isRetry) {
+      boolean removeFromQueueOnException, boolean isRetry, GatewaySenderStats statistics) {
     GatewaySenderBatchOp.executeOn(con, this.pool, events, batchId, removeFromQueueOnException,
-        isRetry);
+        isRetry, statistics);
   }
 
   public Object receiveAckFromReceiver(Connection con) {
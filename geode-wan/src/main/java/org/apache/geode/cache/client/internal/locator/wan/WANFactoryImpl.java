@@ -29,19 +29,19 @@ public class WANFactoryImpl implements WANFactory {
   @Override
   public void initialize() {
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_JOIN_REQUEST,
-        RemoteLocatorJoinRequest.class);
+        RemoteLocatorJoinRequest.class, RemoteLocatorJoinRequest::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_JOIN_RESPONSE,
-        RemoteLocatorJoinResponse.class);
+        RemoteLocatorJoinResponse.class, RemoteLocatorJoinResponse::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_REQUEST,
-        RemoteLocatorRequest.class);
+        RemoteLocatorRequest.class, RemoteLocatorRequest::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.LOCATOR_JOIN_MESSAGE,
-        LocatorJoinMessage.class);
+        LocatorJoinMessage.class, LocatorJoinMessage::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_PING_REQUEST,
-        RemoteLocatorPingRequest.class);
+        RemoteLocatorPingRequest.class, RemoteLocatorPingRequest::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_PING_RESPONSE,
-        RemoteLocatorPingResponse.class);
+        RemoteLocatorPingResponse.class, RemoteLocatorPingResponse::new);
     DSFIDFactory.registerDSFID(DataSerializableFixedID.REMOTE_LOCATOR_RESPONSE,
-        RemoteLocatorResponse.class);
+        RemoteLocatorResponse.class, RemoteLocatorResponse::new);
   }
 
   @Override
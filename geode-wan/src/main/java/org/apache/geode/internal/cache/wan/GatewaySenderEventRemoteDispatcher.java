@@ -202,7 +202,7 @@ public class GatewaySenderEventRemoteDispatcher implements GatewaySenderEventDis
       try {
         if (connection != null) {
           sp.dispatchBatch_NewWAN(connection, events, currentBatchId,
-              sender.isRemoveFromQueueOnException(), isRetry);
+              sender.isRemoveFromQueueOnException(), isRetry, statistics);
           if (logger.isDebugEnabled()) {
             logger.debug(
                 "{} : Dispatched batch (id={}) of {} events, queue size: {} on connection {}",